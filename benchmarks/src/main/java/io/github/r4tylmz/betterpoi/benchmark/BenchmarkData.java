@@ -0,0 +1,119 @@
+package io.github.r4tylmz.betterpoi.benchmark;
+
+import io.github.r4tylmz.betterpoi.BPExporter;
+import io.github.r4tylmz.betterpoi.BPOptions;
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.enums.ExcelType;
+import io.github.r4tylmz.betterpoi.enums.ExportMode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Generates the data used by the benchmarks.
+ * Records are derived from their index, so every run sees the same values without keeping them in memory.
+ * Generated workbooks are cached in the temporary directory, since writing a million rows takes longer than
+ * most benchmark iterations.
+ */
+public final class BenchmarkData {
+    private static final LocalDate BASE_DATE = LocalDate.of(1970, 1, 1);
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates the record of the given row.
+     *
+     * @param index the index of the row
+     * @return the record, unique for every index
+     */
+    public static BenchmarkRecord record(int index) {
+        final BenchmarkRecord record = new BenchmarkRecord();
+        record.setId((long) index);
+        record.setName("Name " + index);
+        record.setEmail("user" + index + "@example.com");
+        record.setAge(18 + index % 60);
+        record.setSalary(BigDecimal.valueOf(30000 + index % 50000, 2));
+        record.setScore((index % 1000) / 10.0);
+        record.setActive(index % 2 == 0);
+        record.setBirthDate(BASE_DATE.plusDays(index % 15000));
+        record.setCreatedAt(BASE_DATE_TIME.plusSeconds(index));
+        return record;
+    }
+
+    /**
+     * Creates a list of records generated on access.
+     *
+     * @param rows the number of records
+     * @return the list of records
+     */
+    public static List<BenchmarkRecord> records(int rows) {
+        return new AbstractList<BenchmarkRecord>() {
+            @Override
+            public BenchmarkRecord get(int index) {
+                return record(index);
+            }
+
+            @Override
+            public int size() {
+                return rows;
+            }
+        };
+    }
+
+    /**
+     * Creates a workbook object holding the given number of generated records.
+     *
+     * @param rows the number of records
+     * @return the workbook object
+     */
+    public static BenchmarkWorkbook workbook(int rows) {
+        final BenchmarkWorkbook workbook = new BenchmarkWorkbook();
+        workbook.setRecords(records(rows));
+        return workbook;
+    }
+
+    /**
+     * Retrieves the XLSX file holding the given number of generated records, writing it on first use.
+     *
+     * @param rows the number of records
+     * @return the XLSX file
+     * @throws IOException if the file cannot be written
+     */
+    public static File xlsx(int rows) throws IOException {
+        final File file = new File(System.getProperty("java.io.tmpdir"), "better-poi-benchmark-" + rows + ".xlsx");
+        if (file.isFile()) {
+            return file;
+        }
+        final File partial = File.createTempFile("better-poi-benchmark-", ".xlsx");
+        try (OutputStream outputStream = Files.newOutputStream(partial.toPath())) {
+            final BPOptions options = BPOptions.builder().withExcelType(ExcelType.XLSX)
+                    .withExportMode(ExportMode.STREAMING).build();
+            new BPExporter(workbook(rows), options).exportExcel(outputStream);
+        }
+        Files.move(partial.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return file;
+    }
+
+    /**
+     * Retrieves the sheet metadata of the benchmark workbook.
+     *
+     * @return the BPSheet annotation of the records sheet
+     */
+    public static BPSheet sheet() {
+        try {
+            return BenchmarkWorkbook.class.getDeclaredField("records").getAnnotation(BPSheet.class);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
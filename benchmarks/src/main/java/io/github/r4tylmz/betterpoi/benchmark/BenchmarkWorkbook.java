@@ -0,0 +1,39 @@
+package io.github.r4tylmz.betterpoi.benchmark;
+
+import io.github.r4tylmz.betterpoi.annotation.BPColumn;
+import io.github.r4tylmz.betterpoi.annotation.BPExcelWorkbook;
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.annotation.BPWorkbook;
+import io.github.r4tylmz.betterpoi.validation.row.DuplicateRowConstraint;
+
+import java.util.List;
+
+/**
+ * Workbook used by every benchmark: a single validated sheet with one column per supported type,
+ * a required column, a pattern column and the duplicate row constraint.
+ */
+@BPWorkbook
+public class BenchmarkWorkbook implements BPExcelWorkbook {
+
+    @BPSheet(rowValidators = {DuplicateRowConstraint.class},
+            type = BenchmarkRecord.class, columns = {
+            @BPColumn(fieldName = "id", headerTitle = "ID", required = true),
+            @BPColumn(fieldName = "name", headerTitle = "Name"),
+            @BPColumn(fieldName = "email", headerTitle = "Email", pattern = "^[\\w.]+@[\\w.]+$"),
+            @BPColumn(fieldName = "age", headerTitle = "Age"),
+            @BPColumn(fieldName = "salary", headerTitle = "Salary"),
+            @BPColumn(fieldName = "score", headerTitle = "Score"),
+            @BPColumn(fieldName = "active", headerTitle = "Active"),
+            @BPColumn(fieldName = "birthDate", headerTitle = "Birth Date", datePattern = "yyyy-MM-dd"),
+            @BPColumn(fieldName = "createdAt", headerTitle = "Created At", datePattern = "yyyy-MM-dd HH:mm:ss"),
+    })
+    private List<BenchmarkRecord> records;
+
+    public List<BenchmarkRecord> getRecords() {
+        return records;
+    }
+
+    public void setRecords(List<BenchmarkRecord> records) {
+        this.records = records;
+    }
+}
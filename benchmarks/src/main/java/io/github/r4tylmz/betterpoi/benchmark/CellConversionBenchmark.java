@@ -0,0 +1,135 @@
+package io.github.r4tylmz.betterpoi.benchmark;
+
+import io.github.r4tylmz.betterpoi.decoder.CellDecoder;
+import io.github.r4tylmz.betterpoi.decoder.CellDecoders;
+import io.github.r4tylmz.betterpoi.utils.CellUtil;
+import io.github.r4tylmz.betterpoi.utils.DateParser;
+import io.github.r4tylmz.betterpoi.utils.NumberParser;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-cell conversions of {@link CellUtil}: reading typed values from numeric, text and
+ * date cells, and parsing dates from text with patterns early and late in {@link CellUtil#DATE_PATTERNS}.
+ * The same cells are also read with the per-column decoders used by the importer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CellConversionBenchmark {
+    private Workbook workbook;
+    private Cell numericCell;
+    private Cell textCell;
+    private Cell numericTextCell;
+    private Cell dateCell;
+    private CellDecoder doubleDecoder;
+    private CellDecoder integerDecoder;
+    private CellDecoder localDateDecoder;
+
+    @Setup
+    public void setUp() {
+        workbook = new XSSFWorkbook();
+        final Row row = workbook.createSheet().createRow(0);
+        numericCell = row.createCell(0);
+        numericCell.setCellValue(12345.67);
+        textCell = row.createCell(1);
+        textCell.setCellValue("Some text value");
+        numericTextCell = row.createCell(2);
+        numericTextCell.setCellValue("12345");
+        dateCell = row.createCell(3);
+        dateCell.setCellValue(LocalDate.of(2024, 3, 15));
+        final CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-MM-dd"));
+        dateCell.setCellStyle(dateStyle);
+        final DateParser dateParser = DateParser.defaults();
+        final NumberParser numberParser = NumberParser.forLocale(Locale.getDefault());
+        doubleDecoder = CellDecoders.forType(Double.class, dateParser, numberParser);
+        integerDecoder = CellDecoders.forType(Integer.class, dateParser, numberParser);
+        localDateDecoder = CellDecoders.forType(LocalDate.class, dateParser, numberParser);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        workbook.close();
+    }
+
+    @Benchmark
+    public Object numericToDouble() {
+        return CellUtil.getCellValue(numericCell, Double.class);
+    }
+
+    @Benchmark
+    public Object numericToBigDecimal() {
+        return CellUtil.getCellValue(numericCell, BigDecimal.class);
+    }
+
+    @Benchmark
+    public Object textToString() {
+        return CellUtil.getCellValue(textCell, String.class);
+    }
+
+    @Benchmark
+    public Object textToInteger() {
+        return CellUtil.getCellValue(numericTextCell, Integer.class);
+    }
+
+    @Benchmark
+    public Object dateToLocalDate() {
+        return CellUtil.getCellValue(dateCell, LocalDate.class);
+    }
+
+    @Benchmark
+    public Object decodeNumericToDouble() {
+        return doubleDecoder.decode(numericCell);
+    }
+
+    @Benchmark
+    public Object decodeTextToInteger() {
+        return integerDecoder.decode(numericTextCell);
+    }
+
+    @Benchmark
+    public Object decodeDateToLocalDate() {
+        return localDateDecoder.decode(dateCell);
+    }
+
+    @Benchmark
+    public Object parseDateFirstPattern() {
+        return CellUtil.parseDate("15.03.2024", Date.class);
+    }
+
+    @Benchmark
+    public Object parseDateIsoToLocalDate() {
+        return CellUtil.parseDate("2024-03-15", LocalDate.class);
+    }
+
+    @Benchmark
+    public Object parseDateLastPattern() {
+        return CellUtil.parseDate("15-03-2024", LocalDateTime.class);
+    }
+}
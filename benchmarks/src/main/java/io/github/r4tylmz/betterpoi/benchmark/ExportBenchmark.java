@@ -0,0 +1,68 @@
+package io.github.r4tylmz.betterpoi.benchmark;
+
+import io.github.r4tylmz.betterpoi.BPExporter;
+import io.github.r4tylmz.betterpoi.BPOptions;
+import io.github.r4tylmz.betterpoi.enums.ExcelType;
+import io.github.r4tylmz.betterpoi.enums.ExportMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BPExporter#exportExcel(OutputStream)} in every export mode.
+ * The workbook is written to a stream discarding its output, so only the library and POI are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class ExportBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"DOM", "STREAMING", "DIRECT"})
+    private ExportMode exportMode;
+
+    private BenchmarkWorkbook workbook;
+    private BPOptions options;
+
+    @Setup
+    public void setUp() {
+        workbook = BenchmarkData.workbook(rows);
+        options = BPOptions.builder().withExcelType(ExcelType.XLSX).withExportMode(exportMode).build();
+    }
+
+    @Benchmark
+    public void exportExcel() {
+        new BPExporter(workbook, options).exportExcel(NullOutputStream.INSTANCE);
+    }
+
+    /**
+     * Output stream discarding everything written to it.
+     */
+    private static final class NullOutputStream extends OutputStream {
+        private static final NullOutputStream INSTANCE = new NullOutputStream();
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.r4tylmz.betterpoi.benchmark;
+
+import io.github.r4tylmz.betterpoi.BPImporter;
+import io.github.r4tylmz.betterpoi.BPOptions;
+import io.github.r4tylmz.betterpoi.enums.ExcelType;
+import io.github.r4tylmz.betterpoi.enums.ImportMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BPImporter#importExcel(java.io.InputStream)} with validation enabled, in both import modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class ImportBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"DOM", "STREAMING"})
+    private ImportMode importMode;
+
+    private byte[] xlsx;
+    private BPOptions options;
+
+    @Setup
+    public void setUp() throws IOException {
+        xlsx = Files.readAllBytes(BenchmarkData.xlsx(rows).toPath());
+        options = BPOptions.builder().withExcelType(ExcelType.XLSX).withImportMode(importMode).build();
+    }
+
+    @Benchmark
+    public BenchmarkWorkbook importExcel() {
+        return new BPImporter<>(BenchmarkWorkbook.class, options).importExcel(new ByteArrayInputStream(xlsx));
+    }
+
+    @Benchmark
+    public void importExcelWithConsumer(Blackhole blackhole) {
+        new BPImporter<>(BenchmarkWorkbook.class, options)
+                .importExcel(new ByteArrayInputStream(xlsx), (bpSheet, bean) -> blackhole.consume(bean));
+    }
+}
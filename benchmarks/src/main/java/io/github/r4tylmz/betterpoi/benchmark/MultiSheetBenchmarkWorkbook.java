@@ -0,0 +1,164 @@
+package io.github.r4tylmz.betterpoi.benchmark;
+
+import io.github.r4tylmz.betterpoi.annotation.BPColumn;
+import io.github.r4tylmz.betterpoi.annotation.BPExcelWorkbook;
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.annotation.BPWorkbook;
+
+import java.util.List;
+
+/**
+ * Workbook used by the multi-sheet export benchmark: ten sheets with the same columns, like a report with one
+ * sheet per month.
+ */
+@BPWorkbook
+public class MultiSheetBenchmarkWorkbook implements BPExcelWorkbook {
+
+    @BPSheet(sheetName = "January", type = BenchmarkRecord.class, columns = {
+            @BPColumn(fieldName = "id", headerTitle = "ID"),
+            @BPColumn(fieldName = "name", headerTitle = "Name"),
+            @BPColumn(fieldName = "salary", headerTitle = "Salary"),
+            @BPColumn(fieldName = "score", headerTitle = "Score"),
+            @BPColumn(fieldName = "birthDate", headerTitle = "Birth Date", datePattern = "yyyy-MM-dd"),
+    })
+    private List<BenchmarkRecord> january;
+
+    @BPSheet(sheetName = "February", type = BenchmarkRecord.class, columns = {
+            @BPColumn(fieldName = "id", headerTitle = "ID"),
+            @BPColumn(fieldName = "name", headerTitle = "Name"),
+            @BPColumn(fieldName = "salary", headerTitle = "Salary"),
+            @BPColumn(fieldName = "score", headerTitle = "Score"),
+            @BPColumn(fieldName = "birthDate", headerTitle = "Birth Date", datePattern = "yyyy-MM-dd"),
+    })
+    private List<BenchmarkRecord> february;
+
+    @BPSheet(sheetName = "March", type = BenchmarkRecord.class, columns = {
+            @BPColumn(fieldName = "id", headerTitle = "ID"),
+            @BPColumn(fieldName = "name", headerTitle = "Name"),
+            @BPColumn(fieldName = "salary", headerTitle = "Salary"),
+            @BPColumn(fieldName = "score", headerTitle = "Score"),
+            @BPColumn(fieldName = "birthDate", headerTitle = "Birth Date", datePattern = "yyyy-MM-dd"),
+    })
+    private List<BenchmarkRecord> march;
+
+    @BPSheet(sheetName = "April", type = BenchmarkRecord.class, columns = {
+            @BPColumn(fieldName = "id", headerTitle = "ID"),
+            @BPColumn(fieldName = "name", headerTitle = "Name"),
+            @BPColumn(fieldName = "salary", headerTitle = "Salary"),
+            @BPColumn(fieldName = "score", headerTitle = "Score"),
+            @BPColumn(fieldName = "birthDate", headerTitle = "Birth Date", datePattern = "yyyy-MM-dd"),
+    })
+    private List<BenchmarkRecord> april;
+
+    @BPSheet(sheetName = "May", type = BenchmarkRecord.class, columns = {
+            @BPColumn(fieldName = "id", headerTitle = "ID"),
+            @BPColumn(fieldName = "name", headerTitle = "Name"),
+            @BPColumn(fieldName = "salary", headerTitle = "Salary"),
+            @BPColumn(fieldName = "score", headerTitle = "Score"),
+            @BPColumn(fieldName = "birthDate", headerTitle = "Birth Date", datePattern = "yyyy-MM-dd"),
+    })
+    private List<BenchmarkRecord> may;
+
+    @BPSheet(sheetName = "June", type = BenchmarkRecord.class, columns = {
+            @BPColumn(fieldName = "id", headerTitle = "ID"),
+            @BPColumn(fieldName = "name", headerTitle = "Name"),
+            @BPColumn(fieldName = "salary", headerTitle = "Salary"),
+            @BPColumn(fieldName = "score", headerTitle = "Score"),
+            @BPColumn(fieldName = "birthDate", headerTitle = "Birth Date", datePattern = "yyyy-MM-dd"),
+    })
+    private List<BenchmarkRecord> june;
+
+    @BPSheet(sheetName = "July", type = BenchmarkRecord.class, columns = {
+            @BPColumn(fieldName = "id", headerTitle = "ID"),
+            @BPColumn(fieldName = "name", headerTitle = "Name"),
+            @BPColumn(fieldName = "salary", headerTitle = "Salary"),
+            @BPColumn(fieldName = "score", headerTitle = "Score"),
+            @BPColumn(fieldName = "birthDate", headerTitle = "Birth Date", datePattern = "yyyy-MM-dd"),
+    })
+    private List<BenchmarkRecord> july;
+
+    @BPSheet(sheetName = "August", type = BenchmarkRecord.class, columns = {
+            @BPColumn(fieldName = "id", headerTitle = "ID"),
+            @BPColumn(fieldName = "name", headerTitle = "Name"),
+            @BPColumn(fieldName = "salary", headerTitle = "Salary"),
+            @BPColumn(fieldName = "score", headerTitle = "Score"),
+            @BPColumn(fieldName = "birthDate", headerTitle = "Birth Date", datePattern = "yyyy-MM-dd"),
+    })
+    private List<BenchmarkRecord> august;
+
+    @BPSheet(sheetName = "September", type = BenchmarkRecord.class, columns = {
+            @BPColumn(fieldName = "id", headerTitle = "ID"),
+            @BPColumn(fieldName = "name", headerTitle = "Name"),
+            @BPColumn(fieldName = "salary", headerTitle = "Salary"),
+            @BPColumn(fieldName = "score", headerTitle = "Score"),
+            @BPColumn(fieldName = "birthDate", headerTitle = "Birth Date", datePattern = "yyyy-MM-dd"),
+    })
+    private List<BenchmarkRecord> september;
+
+    @BPSheet(sheetName = "October", type = BenchmarkRecord.class, columns = {
+            @BPColumn(fieldName = "id", headerTitle = "ID"),
+            @BPColumn(fieldName = "name", headerTitle = "Name"),
+            @BPColumn(fieldName = "salary", headerTitle = "Salary"),
+            @BPColumn(fieldName = "score", headerTitle = "Score"),
+            @BPColumn(fieldName = "birthDate", headerTitle = "Birth Date", datePattern = "yyyy-MM-dd"),
+    })
+    private List<BenchmarkRecord> october;
+
+    /**
+     * Sets the same records on every sheet.
+     *
+     * @param records the records of each sheet
+     */
+    public void setRecords(List<BenchmarkRecord> records) {
+        this.january = records;
+        this.february = records;
+        this.march = records;
+        this.april = records;
+        this.may = records;
+        this.june = records;
+        this.july = records;
+        this.august = records;
+        this.september = records;
+        this.october = records;
+    }
+
+    public List<BenchmarkRecord> getJanuary() {
+        return january;
+    }
+
+    public List<BenchmarkRecord> getFebruary() {
+        return february;
+    }
+
+    public List<BenchmarkRecord> getMarch() {
+        return march;
+    }
+
+    public List<BenchmarkRecord> getApril() {
+        return april;
+    }
+
+    public List<BenchmarkRecord> getMay() {
+        return may;
+    }
+
+    public List<BenchmarkRecord> getJune() {
+        return june;
+    }
+
+    public List<BenchmarkRecord> getJuly() {
+        return july;
+    }
+
+    public List<BenchmarkRecord> getAugust() {
+        return august;
+    }
+
+    public List<BenchmarkRecord> getSeptember() {
+        return september;
+    }
+
+    public List<BenchmarkRecord> getOctober() {
+        return october;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.r4tylmz.betterpoi.benchmark;
+
+import io.github.r4tylmz.betterpoi.BPExportEngine;
+import io.github.r4tylmz.betterpoi.BPOptions;
+import io.github.r4tylmz.betterpoi.enums.ExcelType;
+import io.github.r4tylmz.betterpoi.enums.ExportMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the export of a ten sheet workbook with its sheets exported one at a time ({@code threads=0}) and in
+ * parallel on a fixed thread pool, read in parallel in DOM mode and also written in parallel in DIRECT mode. The
+ * workbook is written to a stream discarding its output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class MultiSheetExportBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rowsPerSheet;
+
+    @Param({"0", "2", "4", "10"})
+    private int threads;
+
+    @Param({"DOM", "DIRECT"})
+    private ExportMode exportMode;
+
+    private MultiSheetBenchmarkWorkbook workbook;
+    private ExecutorService executor;
+    private BPExportEngine engine;
+
+    @Setup
+    public void setUp() {
+        workbook = new MultiSheetBenchmarkWorkbook();
+        workbook.setRecords(BenchmarkData.records(rowsPerSheet));
+        executor = threads > 0 ? Executors.newFixedThreadPool(threads) : null;
+        engine = new BPExportEngine(BPOptions.builder()
+                .withExcelType(ExcelType.XLSX)
+                .withExportMode(exportMode)
+                .withExecutor(executor)
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void exportExcel() {
+        engine.exportExcel(workbook, NullOutputStream.INSTANCE);
+    }
+
+    /**
+     * Output stream discarding everything written to it.
+     */
+    private static final class NullOutputStream extends OutputStream {
+        private static final NullOutputStream INSTANCE = new NullOutputStream();
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.r4tylmz.betterpoi.benchmark;
+
+import io.github.r4tylmz.betterpoi.accessor.BeanAccessor;
+import io.github.r4tylmz.betterpoi.accessor.PropertyAccessor;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares binding a property through {@link PropertyUtils}, as the importer and exporter used to,
+ * with the cached accessors of {@link BeanAccessor}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyAccessBenchmark {
+    private final Record record = new Record();
+    private final String name = "Alice";
+    private final Integer age = 42;
+    private PropertyAccessor nameAccessor;
+    private PropertyAccessor ageAccessor;
+
+    @Setup
+    public void setUp() {
+        final BeanAccessor beanAccessor = BeanAccessor.of(Record.class);
+        nameAccessor = beanAccessor.getProperty("name");
+        ageAccessor = beanAccessor.getProperty("age");
+    }
+
+    @Benchmark
+    public Object propertyUtilsGet() throws Exception {
+        return PropertyUtils.getProperty(record, "name");
+    }
+
+    @Benchmark
+    public Object accessorGet() throws Exception {
+        return nameAccessor.get(record);
+    }
+
+    @Benchmark
+    public Object accessorGetByName() throws Exception {
+        return BeanAccessor.of(Record.class).get(record, "name");
+    }
+
+    @Benchmark
+    public Record propertyUtilsSet() throws Exception {
+        PropertyUtils.setProperty(record, "name", name);
+        PropertyUtils.setProperty(record, "age", age);
+        return record;
+    }
+
+    @Benchmark
+    public Record accessorSet() throws Exception {
+        nameAccessor.set(record, name);
+        ageAccessor.set(record, age);
+        return record;
+    }
+
+    @Benchmark
+    public Record accessorSetPrimitive() throws Exception {
+        nameAccessor.set(record, name);
+        ageAccessor.setInt(record, 42);
+        return record;
+    }
+
+    public static class Record {
+        private String name;
+        private int age;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.r4tylmz.betterpoi.benchmark;
+
+import io.github.r4tylmz.betterpoi.BPValidator;
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.validation.row.DuplicateRowConstraint;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sheet validation on an already loaded workbook: the whole of {@link BPValidator#validateSheet}
+ * and the {@link DuplicateRowConstraint} on its own.
+ * The generated rows are valid, so the sheet is not modified between invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class ValidationBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private Workbook workbook;
+    private Sheet sheet;
+    private BPSheet bpSheet;
+    private BPValidator validator;
+    private DuplicateRowConstraint duplicateRowConstraint;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream inputStream = Files.newInputStream(BenchmarkData.xlsx(rows).toPath())) {
+            workbook = new XSSFWorkbook(inputStream);
+        }
+        bpSheet = BenchmarkData.sheet();
+        sheet = workbook.getSheet(bpSheet.sheetName());
+        final MessageSourceService messageSourceService = MessageSourceService.createDefault();
+        validator = new BPValidator(new BenchmarkWorkbook(), messageSourceService);
+        duplicateRowConstraint = new DuplicateRowConstraint(messageSourceService);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        workbook.close();
+    }
+
+    @Benchmark
+    public List<String> validateSheet() {
+        return validator.validateSheet(sheet, bpSheet);
+    }
+
+    @Benchmark
+    public Map<Integer, String> duplicateRowConstraint() {
+        return duplicateRowConstraint.validate(sheet, bpSheet);
+    }
+}
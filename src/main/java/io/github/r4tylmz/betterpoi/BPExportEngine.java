@@ -0,0 +1,727 @@
+package io.github.r4tylmz.betterpoi;
+
+import io.github.r4tylmz.betterpoi.accessor.BeanAccessor;
+import io.github.r4tylmz.betterpoi.accessor.PropertyAccessor;
+import io.github.r4tylmz.betterpoi.annotation.BPColumn;
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.enums.ExportMode;
+import io.github.r4tylmz.betterpoi.exception.BPConfigurationException;
+import io.github.r4tylmz.betterpoi.exception.BPExportException;
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.metadata.ColumnMetadata;
+import io.github.r4tylmz.betterpoi.streaming.XlsxDirectWriter;
+import io.github.r4tylmz.betterpoi.utils.ColumnWidthTracker;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * BPExportEngine exports @BPWorkbook annotated objects to Excel files.
+ * An engine is immutable: the options and the message source are set up once, and every export builds its
+ * Apache POI workbook and formatter for itself. A single engine can therefore be shared and used by any number
+ * of threads at the same time, as long as each thread exports its own workbook object.
+ *
+ * <p>When the options define an executor, the values of the sheets of a DOM export are read in parallel, one task
+ * per sheet, while the cells are written to the workbook in sheet and row order on the calling thread. A DIRECT
+ * export writes each sheet in its own task, the styles of every sheet being added beforehand. Either way, the
+ * written file is the same as the one of a sequential export.</p>
+ */
+public final class BPExportEngine {
+    private static final Logger logger = LoggerFactory.getLogger(BPExportEngine.class);
+    private final BPOptions options;
+    private final MessageSourceService messageSourceService;
+
+    /**
+     * Constructs an engine exporting with the specified options.
+     *
+     * @param options the BPOptions containing configuration for export including i18n settings
+     */
+    public BPExportEngine(BPOptions options) {
+        this.options = options != null ? options : BPOptions.createDefault();
+        this.messageSourceService = new MessageSourceService(this.options);
+    }
+
+    public BPOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Exports the workbook to the specified file.
+     *
+     * @param bpWorkbook the @BPWorkbook annotated object containing the data to be exported
+     * @param file       the file to which the workbook will be written
+     * @return the result of the export
+     */
+    public BPExportResult exportExcel(Object bpWorkbook, File file) {
+        if (file == null) {
+            throw new BPExportException("File cannot be null");
+        }
+
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            return exportExcel(bpWorkbook, outputStream);
+        } catch (FileNotFoundException e) {
+            throw new BPExportException("Cannot create file: " + file.getAbsolutePath(), e);
+        } catch (IOException e) {
+            throw new BPExportException("Failed to close file: " + file.getAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Exports the workbook to an Excel file at the specified path.
+     *
+     * @param bpWorkbook the @BPWorkbook annotated object containing the data to be exported
+     * @param path       the path where the Excel file will be written
+     * @return the result of the export
+     */
+    public BPExportResult exportExcel(Object bpWorkbook, String path) {
+        if (path == null || path.trim().isEmpty()) {
+            throw new BPExportException("Path cannot be null or empty");
+        }
+
+        try {
+            return exportExcel(bpWorkbook, new File(path));
+        } catch (BPExportException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BPExportException("Failed to export to path: " + path, e);
+        }
+    }
+
+    /**
+     * Exports the workbook to an OutputStream. The stream is not closed.
+     *
+     * @param bpWorkbook   the @BPWorkbook annotated object containing the data to be exported
+     * @param outputStream the OutputStream to which the workbook will be written
+     * @return the result of the export
+     */
+    public BPExportResult exportExcel(Object bpWorkbook, OutputStream outputStream) {
+        if (outputStream == null) {
+            throw new BPExportException("Output stream cannot be null");
+        }
+        if (bpWorkbook == null) {
+            throw new BPConfigurationException("Workbook object cannot be null", "bpWorkbook", null);
+        }
+
+        Workbook workbook = null;
+        XlsxDirectWriter directWriter = null;
+        try {
+            final ExportContext context;
+            if (options.getExportMode() == ExportMode.DIRECT) {
+                directWriter = new XlsxDirectWriter(options.isCompressTempFiles());
+                context = new DirectExportContext(bpWorkbook, directWriter);
+            } else {
+                workbook = createWorkbook();
+                context = new WorkbookExportContext(bpWorkbook, workbook);
+            }
+            final List<BPSheet> bpSheets = context.metadataHandler.getSheets();
+
+            if (bpSheets.isEmpty()) {
+                throw new BPConfigurationException("No sheets found in workbook", "sheets", "0");
+            }
+
+            final Map<BPSheet, Integer> rowCounts = context.exportSheets(bpSheets);
+            context.write(outputStream);
+            return new BPExportResult(rowCounts, context.getStyleCount());
+        } catch (BPConfigurationException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new BPExportException("Failed to write workbook to output stream", e);
+        } catch (Exception e) {
+            throw new BPExportException("Unexpected error during export", e);
+        } finally {
+            if (directWriter != null) {
+                directWriter.close();
+            }
+            try {
+                if (workbook instanceof SXSSFWorkbook) {
+                    ((SXSSFWorkbook) workbook).dispose();
+                }
+                if (workbook != null) {
+                    workbook.close();
+                }
+            } catch (IOException e) {
+                logger.error("Failed to close workbook", e);
+            }
+        }
+    }
+
+    /**
+     * Creates the Apache POI workbook matching the configured export mode.
+     *
+     * @return an {@link SXSSFWorkbook} in streaming mode, an {@link XSSFWorkbook} otherwise
+     */
+    private Workbook createWorkbook() {
+        if (isStreaming()) {
+            return new SXSSFWorkbook(null, options.getRowAccessWindowSize(), options.isCompressTempFiles());
+        }
+        return new XSSFWorkbook();
+    }
+
+    /**
+     * Checks whether the streaming writer is used for the configured options.
+     *
+     * @return true if the export mode is streaming
+     */
+    private boolean isStreaming() {
+        return options.getExportMode() == ExportMode.STREAMING;
+    }
+
+    /**
+     * Checks whether the given sheets are exported in parallel.
+     * The streaming writer keeps only a window of rows in memory, which reading whole sheets ahead would defeat,
+     * so its sheets are always exported one at a time.
+     *
+     * @param bpSheets the sheets to export
+     * @return true if an executor is configured, the export mode is not streaming and there is more than one sheet
+     */
+    private boolean isParallel(List<BPSheet> bpSheets) {
+        return options.getExecutor() != null && !isStreaming() && bpSheets.size() > 1;
+    }
+
+    /**
+     * Waits until all the given tasks have completed, whether they succeeded or not.
+     * The data sources of the sheets are closed by their tasks, so none may still be running once the export returns.
+     *
+     * @param futures the tasks to wait for
+     */
+    private static void awaitAll(List<? extends CompletableFuture<?>> futures) {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).handle((ignored, e) -> null).join();
+    }
+
+    /**
+     * Retrieves the result of a task, rethrowing the error the task failed with.
+     *
+     * @param future the task
+     * @param <R>    the type of the result
+     * @return the result of the task
+     */
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the data source of a sheet if its iterator holds one, such as an open stream.
+     *
+     * @param values the iterator returned by the metadata handler
+     */
+    private void closeValues(Iterator<?> values) {
+        if (values instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) values).close();
+            } catch (Exception e) {
+                logger.error("Failed to close data source", e);
+            }
+        }
+    }
+
+    /**
+     * Estimates the number of characters needed to display the given value.
+     * Dates are displayed with the column's date pattern, so the pattern length is used when it is set.
+     *
+     * @param bpColumn the BPColumn annotation containing metadata for the cell
+     * @param value    the value written to the cell
+     * @return the estimated display length
+     */
+    private int getDisplayLength(BPColumn bpColumn, Object value) {
+        if (!bpColumn.datePattern().isEmpty() && !(value instanceof CharSequence) && !(value instanceof Number)) {
+            return bpColumn.datePattern().length();
+        }
+        return value.toString().length();
+    }
+
+    /**
+     * Resolves the property accessors of the given bean class for the columns of a sheet.
+     *
+     * @param beanClass the class of the exported values
+     * @param bpColumns the columns of the sheet
+     * @param accessors the array receiving the accessors, in column order
+     */
+    private void resolveAccessors(Class<?> beanClass, BPColumn[] bpColumns, PropertyAccessor[] accessors) {
+        final BeanAccessor beanAccessor = BeanAccessor.of(beanClass);
+        for (int i = 0; i < bpColumns.length; i++) {
+            accessors[i] = beanAccessor.getProperty(bpColumns[i].fieldName());
+        }
+    }
+
+    /**
+     * Retrieves the property value from the given bean based on the BPColumn annotation.
+     *
+     * @param bean the object from which the property value will be retrieved
+     * @param accessor the accessor of the property for the class of the bean
+     * @param bpColumn the BPColumn annotation containing metadata for the property
+     * @return the property value
+     */
+    private Object getProperty(Object bean, PropertyAccessor accessor, BPColumn bpColumn) {
+        try {
+            if (bean == null) {
+                throw new IllegalArgumentException("No bean specified");
+            }
+            return accessor.get(bean);
+        } catch (Exception e) {
+            logger.error("Failed to get property: " + bpColumn.fieldName(), e);
+            throw new BPExportException("Failed to get property: " + bpColumn.fieldName(),
+                                      null, bpColumn.fieldName(), e);
+        }
+    }
+
+    /**
+     * State of a single export: the exported object and the metadata of its sheets. Subclasses write the sheets
+     * with a specific writer. A context is confined to the thread running the export.
+     */
+    private abstract class ExportContext {
+        protected final Object bpWorkbook;
+        protected final BPMetadataHandler metadataHandler;
+
+        private ExportContext(Object bpWorkbook) {
+            this.bpWorkbook = bpWorkbook;
+            this.metadataHandler = new BPMetadataHandler(bpWorkbook);
+        }
+
+        /**
+         * Writes the given sheets to the workbook, in declaration order.
+         *
+         * @param bpSheets the sheets to export
+         * @return the number of rows written to each sheet, excluding the header row
+         */
+        private Map<BPSheet, Integer> exportSheets(List<BPSheet> bpSheets) throws IOException {
+            final Map<BPSheet, Integer> rowCounts = new LinkedHashMap<>();
+            if (!isParallel(bpSheets)) {
+                for (BPSheet bpSheet : bpSheets) {
+                    final Iterator<?> values = metadataHandler.getValueIterator(bpWorkbook, bpSheet);
+                    try {
+                        rowCounts.put(bpSheet, exportSheet(bpSheet, new RowValueIterator(bpSheet, values)));
+                    } finally {
+                        closeValues(values);
+                    }
+                }
+                return rowCounts;
+            }
+            exportSheetsInParallel(bpSheets, rowCounts);
+            return rowCounts;
+        }
+
+        /**
+         * Writes the given sheets to the workbook with the configured executor. The values of each sheet are read
+         * in their own task, and the sheets are written in declaration order on the calling thread.
+         *
+         * @param bpSheets  the sheets to export
+         * @param rowCounts the map receiving the number of rows written to each sheet, in declaration order
+         * @throws IOException if a sheet cannot be written
+         */
+        protected void exportSheetsInParallel(List<BPSheet> bpSheets, Map<BPSheet, Integer> rowCounts)
+                throws IOException {
+            final List<CompletableFuture<List<Object[]>>> futures = new ArrayList<>(bpSheets.size());
+            try {
+                for (final BPSheet bpSheet : bpSheets) {
+                    futures.add(CompletableFuture.supplyAsync(() -> readRows(bpSheet), options.getExecutor()));
+                }
+                for (int i = 0; i < bpSheets.size(); i++) {
+                    final BPSheet bpSheet = bpSheets.get(i);
+                    rowCounts.put(bpSheet, exportSheet(bpSheet, join(futures.get(i)).iterator()));
+                }
+            } finally {
+                awaitAll(futures);
+            }
+        }
+
+        /**
+         * Reads the cell values of every row of the given sheet. Runs in a task of the configured executor and
+         * does not touch the written workbook.
+         *
+         * @param bpSheet the BPSheet annotation containing metadata for the sheet
+         * @return the cell values of each row, in row order
+         */
+        private List<Object[]> readRows(BPSheet bpSheet) {
+            final Iterator<?> values = metadataHandler.getValueIterator(bpWorkbook, bpSheet);
+            try {
+                final List<Object[]> rows = new ArrayList<>();
+                for (Iterator<Object[]> iterator = new RowValueIterator(bpSheet, values); iterator.hasNext(); ) {
+                    rows.add(iterator.next());
+                }
+                return rows;
+            } finally {
+                closeValues(values);
+            }
+        }
+
+        /**
+         * Creates the sheet of the given annotation and writes its header and rows.
+         *
+         * @param bpSheet the BPSheet annotation containing metadata for the sheet
+         * @param rows    the cell values of each row, consumed one at a time
+         * @return the number of rows written, excluding the header row
+         * @throws IOException if the sheet cannot be written
+         */
+        protected abstract int exportSheet(BPSheet bpSheet, Iterator<Object[]> rows) throws IOException;
+
+        /**
+         * Writes the workbook, once all its sheets have been exported, to the given stream.
+         *
+         * @param outputStream the stream receiving the workbook, not closed
+         * @throws IOException if the workbook cannot be written
+         */
+        protected abstract void write(OutputStream outputStream) throws IOException;
+
+        /**
+         * Retrieves the number of cell styles created by the export.
+         *
+         * @return the number of cell styles
+         */
+        protected abstract int getStyleCount();
+    }
+
+    /**
+     * Export writing the sheets to an Apache POI workbook, formatted by a {@link BPFormatter}.
+     */
+    private final class WorkbookExportContext extends ExportContext {
+        private final Workbook workbook;
+        private final BPFormatter bpFormatter;
+
+        private WorkbookExportContext(Object bpWorkbook, Workbook workbook) {
+            super(bpWorkbook);
+            this.workbook = workbook;
+            this.bpFormatter = new BPFormatter(workbook);
+        }
+
+        @Override
+        protected void write(OutputStream outputStream) throws IOException {
+            workbook.write(outputStream);
+        }
+
+        @Override
+        protected int getStyleCount() {
+            return bpFormatter.getStylePool().size();
+        }
+
+        @Override
+        protected int exportSheet(BPSheet bpSheet, Iterator<Object[]> rows) {
+            final ColumnWidthTracker widthTracker = isStreaming() ? new ColumnWidthTracker(bpSheet.columns().length) : null;
+            final Sheet sheet = createSheet(bpSheet, widthTracker);
+            final int rowCount = createRows(sheet, bpSheet, rows, widthTracker);
+            if (widthTracker != null) {
+                widthTracker.apply(sheet);
+            }
+            return rowCount;
+        }
+
+        /**
+         * Creates a new sheet in the workbook and sets up the header row.
+         *
+         * @param bpSheet      the BPSheet annotation containing metadata for the sheet
+         * @param widthTracker the tracker recording the width of the headers, or null to auto-size the columns
+         * @return the created sheet
+         */
+        private Sheet createSheet(BPSheet bpSheet, ColumnWidthTracker widthTracker) {
+            Sheet sheet = workbook.createSheet(bpSheet.sheetName());
+            Row rowHeader = sheet.createRow(0);
+            final List<ColumnMetadata> columns = metadataHandler.getSheetMetadata(bpSheet).getColumns();
+            for (int i = 0; i < columns.size(); i++) {
+                final String headerTitle = columns.get(i).getHeaderTitle(messageSourceService);
+                rowHeader.createCell(i).setCellValue(headerTitle);
+                bpFormatter.formatHeader(rowHeader.getCell(i));
+                if (widthTracker != null) {
+                    widthTracker.track(i, headerTitle.length());
+                }
+            }
+            if (widthTracker == null) {
+                bpFormatter.setAutoResizing(sheet, bpSheet.columns().length);
+            }
+            return sheet;
+        }
+
+        /**
+         * Creates rows in the given sheet based on the provided cell values.
+         *
+         * @param sheet        the sheet where rows will be created
+         * @param bpSheet      the BPSheet annotation containing metadata for the sheet
+         * @param rows         the cell values of each row, in column order, consumed one at a time
+         * @param widthTracker the tracker recording the width of the written values, or null if widths are not tracked
+         * @return the number of rows created
+         */
+        private int createRows(Sheet sheet, BPSheet bpSheet, Iterator<Object[]> rows, ColumnWidthTracker widthTracker) {
+            Map<String, Field> fieldMap = metadataHandler.getDataFields(bpSheet);
+            final BPColumn[] bpColumns = bpSheet.columns();
+            int rowIndex = 0;
+            for (; rows.hasNext(); rowIndex++) {
+                Row row = sheet.createRow(rowIndex + 1);
+                final Object[] cellValues = rows.next();
+                for (int cellIndex = 0; cellIndex < bpColumns.length; cellIndex++) {
+                    BPColumn bpColumn = bpColumns[cellIndex];
+                    Object cellValue = cellValues[cellIndex];
+                    Cell cell = row.createCell(cellIndex);
+                    bpFormatter.formatCell(fieldMap.get(bpColumn.fieldName()), bpColumn, cell, cellValue);
+                    if (widthTracker != null && cellValue != null) {
+                        widthTracker.track(cellIndex, getDisplayLength(bpColumn, cellValue));
+                    }
+                }
+            }
+            return rowIndex;
+        }
+    }
+
+    /**
+     * Export writing the sheet XML directly with an {@link XlsxDirectWriter}. Cells are typed like
+     * {@link BPFormatter#formatCell} does and column widths are estimated like in the streaming export.
+     */
+    private final class DirectExportContext extends ExportContext {
+        private final XlsxDirectWriter writer;
+
+        private DirectExportContext(Object bpWorkbook, XlsxDirectWriter writer) {
+            super(bpWorkbook);
+            this.writer = writer;
+        }
+
+        @Override
+        protected void write(OutputStream outputStream) throws IOException {
+            writer.write(outputStream);
+        }
+
+        @Override
+        protected int getStyleCount() {
+            return writer.getStyleCount();
+        }
+
+        @Override
+        protected int exportSheet(BPSheet bpSheet, Iterator<Object[]> rows) throws IOException {
+            return new DirectSheet(bpSheet).writeRows(rows);
+        }
+
+        /**
+         * Writes each sheet in its own task, to its own sheet part of the writer. The sheet parts are created and
+         * the styles of every sheet are added on the calling thread, in declaration order, before any task starts,
+         * so the package is the same as the one of a sequential export.
+         *
+         * @param bpSheets  the sheets to export
+         * @param rowCounts the map receiving the number of rows written to each sheet, in declaration order
+         * @throws IOException if a sheet cannot be written
+         */
+        @Override
+        protected void exportSheetsInParallel(List<BPSheet> bpSheets, Map<BPSheet, Integer> rowCounts)
+                throws IOException {
+            final List<DirectSheet> sheets = new ArrayList<>(bpSheets.size());
+            for (BPSheet bpSheet : bpSheets) {
+                sheets.add(new DirectSheet(bpSheet));
+            }
+            writer.freezeStyles();
+            final List<CompletableFuture<Integer>> futures = new ArrayList<>(bpSheets.size());
+            try {
+                for (final DirectSheet sheet : sheets) {
+                    futures.add(CompletableFuture.supplyAsync(sheet::writeValues, options.getExecutor()));
+                }
+                for (int i = 0; i < bpSheets.size(); i++) {
+                    rowCounts.put(bpSheets.get(i), join(futures.get(i)));
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                awaitAll(futures);
+            }
+        }
+
+        /**
+         * A sheet of the direct export: its sheet part, with the header row written, and the types and styles of
+         * its columns. The rows can then be written by another thread than the one that created the sheet.
+         */
+        private final class DirectSheet {
+            private final BPSheet bpSheet;
+            private final XlsxDirectWriter.SheetPart part;
+            private final BPColumn[] bpColumns;
+            private final Field[] fields;
+            private final int[] dateStyles;
+            private final ColumnWidthTracker widthTracker;
+
+            /**
+             * Creates the sheet part of the given sheet, writes its header row and adds the styles of its columns.
+             *
+             * @param bpSheet the BPSheet annotation containing metadata for the sheet
+             * @throws IOException if the sheet cannot be created
+             */
+            private DirectSheet(BPSheet bpSheet) throws IOException {
+                this.bpSheet = bpSheet;
+                this.part = writer.newSheet(bpSheet.sheetName());
+                final List<ColumnMetadata> columns = metadataHandler.getSheetMetadata(bpSheet).getColumns();
+                this.widthTracker = new ColumnWidthTracker(columns.size());
+                part.startRow();
+                for (int i = 0; i < columns.size(); i++) {
+                    final String headerTitle = columns.get(i).getHeaderTitle(messageSourceService);
+                    part.writeString(i, headerTitle, XlsxDirectWriter.HEADER_STYLE);
+                    widthTracker.track(i, headerTitle.length());
+                }
+                part.endRow();
+
+                final Map<String, Field> fieldMap = metadataHandler.getDataFields(bpSheet);
+                this.bpColumns = bpSheet.columns();
+                this.fields = new Field[bpColumns.length];
+                this.dateStyles = new int[bpColumns.length];
+                for (int i = 0; i < bpColumns.length; i++) {
+                    fields[i] = fieldMap.get(bpColumns[i].fieldName());
+                    if (BPFormatter.isDate(fields[i])) {
+                        dateStyles[i] = writer.getDateStyle(bpColumns[i].datePattern());
+                    }
+                }
+            }
+
+            /**
+             * Reads the values of the sheet and writes their rows. Runs in a task of the configured executor.
+             *
+             * @return the number of rows written, excluding the header row
+             * @throws UncheckedIOException if the sheet cannot be written
+             */
+            private int writeValues() {
+                final Iterator<?> values = metadataHandler.getValueIterator(bpWorkbook, bpSheet);
+                try {
+                    return writeRows(new RowValueIterator(bpSheet, values));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    closeValues(values);
+                }
+            }
+
+            /**
+             * Writes the given rows after the header row, sets the column widths and closes the sheet part.
+             *
+             * @param rows the cell values of each row, consumed one at a time
+             * @return the number of rows written, excluding the header row
+             * @throws IOException if the sheet cannot be written
+             */
+            private int writeRows(Iterator<Object[]> rows) throws IOException {
+                int rowCount = 0;
+                for (; rows.hasNext(); rowCount++) {
+                    final Object[] cellValues = rows.next();
+                    part.startRow();
+                    for (int cellIndex = 0; cellIndex < bpColumns.length; cellIndex++) {
+                        final Object cellValue = cellValues[cellIndex];
+                        if (cellValue != null) {
+                            writeCell(cellIndex, fields[cellIndex], dateStyles[cellIndex], cellValue);
+                            widthTracker.track(cellIndex, getDisplayLength(bpColumns[cellIndex], cellValue));
+                        }
+                    }
+                    part.endRow();
+                }
+                for (int i = 0; i < widthTracker.getColumnCount(); i++) {
+                    if (widthTracker.getColumnWidth(i) > 0) {
+                        part.setColumnWidth(i, widthTracker.getColumnWidth(i));
+                    }
+                }
+                part.close();
+                return rowCount;
+            }
+
+            /**
+             * Writes a cell with the type matching its field.
+             *
+             * @param column    the 0-based column index
+             * @param field     the field of the column
+             * @param dateStyle the style of the column if the field is a date, 0 otherwise
+             * @param value     the value of the cell, not null
+             * @throws IOException if the cell cannot be written
+             */
+            private void writeCell(int column, Field field, int dateStyle, Object value) throws IOException {
+                final Class<?> type = field.getType();
+                if (type.isAssignableFrom(Boolean.class)) {
+                    part.writeBoolean(column, (boolean) value, 0);
+                } else if (BPFormatter.isNumeric(field)) {
+                    part.writeNumber(column, toDouble(value), 0);
+                } else if (dateStyle != 0) {
+                    if (type.isAssignableFrom(Date.class) || type.isAssignableFrom(java.sql.Date.class)) {
+                        part.writeNumber(column, DateUtil.getExcelDate((Date) value), dateStyle);
+                    } else if (type.isAssignableFrom(LocalDate.class)) {
+                        part.writeNumber(column, DateUtil.getExcelDate((LocalDate) value), dateStyle);
+                    } else if (type.isAssignableFrom(LocalDateTime.class)) {
+                        part.writeNumber(column, DateUtil.getExcelDate((LocalDateTime) value), dateStyle);
+                    } else {
+                        part.writeString(column, value.toString(), dateStyle);
+                    }
+                } else {
+                    part.writeString(column, value.toString(), 0);
+                }
+            }
+        }
+
+        /**
+         * Converts a numeric value to the double written to the cell. Values are parsed from their text like
+         * {@link BPFormatter#formatCell} does, except for the types whose conversion gives the same result.
+         *
+         * @param value the numeric value
+         * @return the value as a double
+         */
+        private double toDouble(Object value) {
+            if (value instanceof Double || value instanceof Integer || value instanceof Long || value instanceof Short) {
+                return ((Number) value).doubleValue();
+            }
+            return Double.parseDouble(value.toString());
+        }
+    }
+
+    /**
+     * Iterator reading the cell values of each exported value of a sheet, in column order.
+     * Property accessors are resolved again only when the class of the exported values changes.
+     */
+    private final class RowValueIterator implements Iterator<Object[]> {
+        private final BPColumn[] bpColumns;
+        private final Iterator<?> values;
+        private final PropertyAccessor[] accessors;
+        private Class<?> accessorClass;
+
+        private RowValueIterator(BPSheet bpSheet, Iterator<?> values) {
+            this.bpColumns = bpSheet.columns();
+            this.values = values;
+            this.accessors = new PropertyAccessor[bpColumns.length];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return values.hasNext();
+        }
+
+        @Override
+        public Object[] next() {
+            final Object value = values.next();
+            if (value != null && value.getClass() != accessorClass) {
+                accessorClass = value.getClass();
+                resolveAccessors(accessorClass, bpColumns, accessors);
+            }
+            final Object[] cellValues = new Object[bpColumns.length];
+            for (int i = 0; i < bpColumns.length; i++) {
+                cellValues[i] = getProperty(value, accessors[i], bpColumns[i]);
+            }
+            return cellValues;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.r4tylmz.betterpoi;
+
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of a single export: the number of rows written to each sheet and the number of cell styles of the
+ * written workbook.
+ */
+public final class BPExportResult {
+    private final Map<BPSheet, Integer> rowCounts;
+    private final int styleCount;
+
+    BPExportResult(Map<BPSheet, Integer> rowCounts, int styleCount) {
+        this.rowCounts = Collections.unmodifiableMap(new LinkedHashMap<>(rowCounts));
+        this.styleCount = styleCount;
+    }
+
+    /**
+     * Retrieves the number of cell styles created by the export. Styles are pooled by their attributes, so this
+     * number depends on the distinct formats of the exported columns, not on the number of rows.
+     *
+     * @return the number of cell styles
+     */
+    public int getStyleCount() {
+        return styleCount;
+    }
+
+    /**
+     * Retrieves the number of rows written to each sheet, excluding the header rows.
+     *
+     * @return the unmodifiable map of row counts by sheet, in export order
+     */
+    public Map<BPSheet, Integer> getRowCounts() {
+        return rowCounts;
+    }
+
+    /**
+     * Retrieves the number of rows written to the given sheet, excluding its header row.
+     *
+     * @param bpSheet the BPSheet annotation of the sheet
+     * @return the number of rows, or 0 if the sheet was not exported
+     */
+    public int getRowCount(BPSheet bpSheet) {
+        final Integer rowCount = rowCounts.get(bpSheet);
+        return rowCount != null ? rowCount : 0;
+    }
+
+    /**
+     * Retrieves the number of rows written to all sheets, excluding the header rows.
+     *
+     * @return the total number of rows
+     */
+    public int getTotalRowCount() {
+        int total = 0;
+        for (int rowCount : rowCounts.values()) {
+            total += rowCount;
+        }
+        return total;
+    }
+}
@@ -1,7 +1,7 @@
 package io.github.r4tylmz.betterpoi;
 
 import io.github.r4tylmz.betterpoi.annotation.BPColumn;
-import org.apache.poi.ss.usermodel.Font;
+import io.github.r4tylmz.betterpoi.utils.CellStylePool;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFColor;
 import org.slf4j.Logger;
@@ -13,6 +13,8 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * BPFormatter is responsible for formatting cells in an Excel workbook.
@@ -20,10 +22,14 @@ import java.util.Date;
  */
 public class BPFormatter {
     private static final Logger logger = LoggerFactory.getLogger(BPFormatter.class);
-    private final DataFormat dataFormat;
+    private static final CellStylePool.Key HEADER_STYLE = CellStylePool.Key.DEFAULT.withBold(true);
+    private static final CellStylePool.Key ERROR_STYLE = CellStylePool.Key.DEFAULT
+            .withFillColor(IndexedColors.RED)
+            .withFontColor(IndexedColors.WHITE);
+    private final CellStylePool stylePool;
     private final CellStyle defaultCellStyle;
     private final CellStyle errorStyle;
-    private final Workbook workbook;
+    private final Map<String, CellStyle> dateCellStyles = new HashMap<>();
 
     /**
      * Constructor for BPFormatter.
@@ -31,10 +37,9 @@ public class BPFormatter {
      * @param workbook the workbook to format
      */
     public BPFormatter(Workbook workbook) {
-        this.workbook = workbook;
-        defaultCellStyle = workbook.createCellStyle();
-        dataFormat = workbook.createDataFormat();
-        errorStyle = createErrorCellStyle();
+        stylePool = new CellStylePool(workbook);
+        defaultCellStyle = stylePool.getStyle(CellStylePool.Key.DEFAULT);
+        errorStyle = stylePool.getStyle(ERROR_STYLE);
     }
 
     /**
@@ -97,22 +102,6 @@ public class BPFormatter {
         addCommentCell(message, commentIndex, row);
     }
 
-    /**
-     * Creates a cell style for error messages.
-     *
-     * @return the created cell style
-     */
-    private CellStyle createErrorCellStyle() {
-        final CellStyle style = workbook.createCellStyle();
-        style.setFillForegroundColor(IndexedColors.RED.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        style.setFillBackgroundColor(IndexedColors.RED.getIndex());
-        final Font font = workbook.createFont();
-        font.setColor(IndexedColors.WHITE.getIndex());
-        style.setFont(font);
-        return style;
-    }
-
     /**
      * Formats a cell based on the field type.
      *
@@ -145,9 +134,7 @@ public class BPFormatter {
             }
 
             if (isDate(field)) {
-                final CellStyle dateCellStyle = workbook.createCellStyle();
-                dateCellStyle.setDataFormat(dataFormat.getFormat(bpColumn.datePattern()));
-                cell.setCellStyle(dateCellStyle);
+                cell.setCellStyle(getDateCellStyle(bpColumn.datePattern()));
             } else {
                 cell.setCellStyle(defaultCellStyle);
             }
@@ -155,16 +142,29 @@ public class BPFormatter {
     }
 
     /**
-     * Formats the header of a cell.
+     * Gets the pooled cell style for the given date pattern.
+     * Styles are shared by every date cell with the same pattern, so the number of styles in the workbook
+     * does not grow with the number of rows.
+     *
+     * @param datePattern the date pattern of the column
+     * @return the cell style for the date pattern
+     */
+    private CellStyle getDateCellStyle(String datePattern) {
+        CellStyle dateCellStyle = dateCellStyles.get(datePattern);
+        if (dateCellStyle == null) {
+            dateCellStyle = stylePool.getStyle(CellStylePool.Key.DEFAULT.withDataFormat(datePattern));
+            dateCellStyles.put(datePattern, dateCellStyle);
+        }
+        return dateCellStyle;
+    }
+
+    /**
+     * Formats the header of a cell with the pooled bold header style.
      *
      * @param cell the cell to format
      */
     public void formatHeader(final Cell cell) {
-        final CellStyle headerStyle = workbook.createCellStyle();
-        final Font font = workbook.createFont();
-        font.setBold(true);
-        headerStyle.setFont(font);
-        cell.setCellStyle(headerStyle);
+        cell.setCellStyle(stylePool.getStyle(HEADER_STYLE));
     }
 
     /**
@@ -179,7 +179,16 @@ public class BPFormatter {
     }
 
     public DataFormat getDataFormat() {
-        return dataFormat;
+        return stylePool.getDataFormat();
+    }
+
+    /**
+     * Gets the pool of the styles created by this formatter. Its size is the number of styles added to the workbook.
+     *
+     * @return the style pool
+     */
+    public CellStylePool getStylePool() {
+        return stylePool;
     }
 
     public CellStyle getDefaultCellStyle() {
@@ -192,7 +201,7 @@ public class BPFormatter {
      * @param field the field to check
      * @return true if the field is a date type, false otherwise
      */
-    private boolean isDate(Field field) {
+    static boolean isDate(Field field) {
         return field.getType().isAssignableFrom(Date.class) || field.getType().isAssignableFrom(LocalDate.class)
                 || field.getType().isAssignableFrom(java.sql.Date.class)
                 || field.getType().isAssignableFrom(LocalDateTime.class);
@@ -204,7 +213,7 @@ public class BPFormatter {
      * @param field the field to check
      * @return true if the field is a numeric type, false otherwise
      */
-    private boolean isNumeric(Field field) {
+    static boolean isNumeric(Field field) {
         return field.getType().isAssignableFrom(Double.class) || field.getType().isAssignableFrom(Integer.class)
                 || field.getType().isAssignableFrom(Long.class) || field.getType().isAssignableFrom(Float.class)
                 || field.getType().isAssignableFrom(Short.class) || field.getType().isAssignableFrom(BigDecimal.class);
@@ -0,0 +1,888 @@
+package io.github.r4tylmz.betterpoi;
+
+import io.github.r4tylmz.betterpoi.accessor.PropertyAccessor;
+import io.github.r4tylmz.betterpoi.annotation.BPExcelWorkbook;
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.constraint.ChunkedConstraint;
+import io.github.r4tylmz.betterpoi.decoder.CellDecoder;
+import io.github.r4tylmz.betterpoi.enums.ExcelType;
+import io.github.r4tylmz.betterpoi.enums.ImportMode;
+import io.github.r4tylmz.betterpoi.exception.BPConfigurationException;
+import io.github.r4tylmz.betterpoi.exception.BPImportException;
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.metadata.ColumnMetadata;
+import io.github.r4tylmz.betterpoi.streaming.XlsxStreamingReader;
+import io.github.r4tylmz.betterpoi.utils.ExcelUtils;
+import io.github.r4tylmz.betterpoi.utils.RowUtil;
+import io.github.r4tylmz.betterpoi.validation.SheetValidationPlan;
+import io.github.r4tylmz.betterpoi.validation.Violation;
+import io.github.r4tylmz.betterpoi.validation.ViolationBudget;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * BPImportEngine imports Excel files into instances of a workbook class.
+ * An engine is immutable: the options, the message source and the column bindings of each sheet are set up
+ * once, and every import keeps its state in its own {@link BPImportResult}. A single engine can therefore
+ * be shared and used by any number of threads at the same time.
+ *
+ * @param <T> class that extends BPExcelWorkbook
+ */
+public final class BPImportEngine<T extends BPExcelWorkbook> {
+    private static final Logger logger = LoggerFactory.getLogger(BPImportEngine.class);
+    private final Class<T> workbookClass;
+    private final ExcelType excelType;
+    private final ImportMode importMode;
+    private final Locale locale;
+    private final Executor executor;
+    private final int rowChunkSize;
+    private final ViolationBudget violationBudget;
+    private final MessageSourceService messageSourceService;
+    private final BPMetadataHandler metadataHandler;
+    private final Map<BPSheet, ColumnBinding[]> columnBindings = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an engine importing the given workbook class with the specified options.
+     *
+     * @param workbookClass the class that extends BPExcelWorkbook
+     * @param options       the options for the import, including Excel type and locale
+     * @throws BPConfigurationException if the workbook class is null
+     */
+    public BPImportEngine(Class<T> workbookClass, BPOptions options) {
+        if (workbookClass == null) {
+            throw new BPConfigurationException("Workbook class is not configured");
+        }
+        final BPOptions bpOptions = options != null ? options : BPOptions.createDefault();
+        this.workbookClass = workbookClass;
+        this.excelType = bpOptions.getExcelType();
+        this.importMode = bpOptions.getImportMode();
+        this.locale = bpOptions.getLocale() != null ? bpOptions.getLocale() : Locale.getDefault();
+        this.executor = bpOptions.getExecutor();
+        this.rowChunkSize = bpOptions.getRowChunkSize();
+        this.violationBudget = ViolationBudget.of(bpOptions);
+        this.messageSourceService = new MessageSourceService(bpOptions);
+        try {
+            this.metadataHandler = new BPMetadataHandler(workbookClass);
+        } catch (IllegalArgumentException e) {
+            throw new BPConfigurationException(e.getMessage(), "workbookClass", workbookClass.getName(), e);
+        }
+    }
+
+    /**
+     * Opens the specified file and passes its content to the given import.
+     *
+     * @param file   the file to import
+     * @param action the import reading the file
+     * @param <R>    the type of the import result
+     * @return the result of the import
+     */
+    static <R> R withFile(File file, Function<InputStream, R> action) {
+        if (file == null) {
+            throw new BPImportException("File cannot be null");
+        }
+        if (!file.exists()) {
+            throw new BPImportException("File does not exist: " + file.getAbsolutePath());
+        }
+        if (!file.canRead()) {
+            throw new BPImportException("File cannot be read: " + file.getAbsolutePath());
+        }
+
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            return action.apply(inputStream);
+        } catch (IOException e) {
+            throw new BPImportException("Failed to read file: " + file.getAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Opens the file at the specified path and passes its content to the given import.
+     *
+     * @param path   the path to the file to import
+     * @param action the import reading the file
+     * @param <R>    the type of the import result
+     * @return the result of the import
+     */
+    static <R> R withPath(String path, Function<InputStream, R> action) {
+        if (path == null || path.trim().isEmpty()) {
+            throw new BPImportException("Path cannot be null or empty");
+        }
+
+        try (InputStream inputStream = Files.newInputStream(Paths.get(path))) {
+            return action.apply(inputStream);
+        } catch (IOException e) {
+            throw new BPImportException("Failed to read file at path: " + path, e);
+        }
+    }
+
+    /**
+     * Decodes the specified base64 encoded string and passes its content to the given import.
+     *
+     * @param fileAsBase64 the base64 encoded string of the Excel file
+     * @param action       the import reading the file
+     * @param <R>          the type of the import result
+     * @return the result of the import
+     */
+    static <R> R withBase64(String fileAsBase64, Function<InputStream, R> action) {
+        if (fileAsBase64 == null || fileAsBase64.trim().isEmpty()) {
+            throw new BPImportException("Base64 string cannot be null or empty");
+        }
+
+        try {
+            byte[] fileAsByteArray = Base64.getDecoder().decode(fileAsBase64);
+            return action.apply(new ByteArrayInputStream(fileAsByteArray));
+        } catch (IllegalArgumentException e) {
+            throw new BPImportException("Invalid Base64 string format", e);
+        } catch (Exception e) {
+            throw new BPImportException("Failed to decode Base64 string", e);
+        }
+    }
+
+    public Class<T> getWorkbookClass() {
+        return workbookClass;
+    }
+
+    /**
+     * Imports the workbook from the specified file.
+     *
+     * @param file the file to import
+     * @return the result of the import
+     */
+    public BPImportResult<T> importExcel(File file) {
+        return withFile(file, this::importExcel);
+    }
+
+    /**
+     * Imports the workbook from the specified path.
+     *
+     * @param path the path to the file to import
+     * @return the result of the import
+     */
+    public BPImportResult<T> importExcel(String path) {
+        return withPath(path, this::importExcel);
+    }
+
+    /**
+     * Imports the workbook from the specified base64 encoded string.
+     *
+     * @param fileAsBase64 the base64 encoded string of the Excel file
+     * @return the result of the import
+     */
+    public BPImportResult<T> importExcelBase64(String fileAsBase64) {
+        return withBase64(fileAsBase64, this::importExcel);
+    }
+
+    /**
+     * Imports the workbook from the specified input stream.
+     *
+     * @param inputStream the input stream of the Excel file
+     * @return the result of the import
+     */
+    public BPImportResult<T> importExcel(InputStream inputStream) {
+        return importWorkbook(inputStream, null);
+    }
+
+    /**
+     * Imports the workbook from the specified input stream and passes each created object to the consumer
+     * instead of collecting them into the lists of the workbook object.
+     * Objects are handed out one at a time in row order and are not referenced by the engine afterwards,
+     * so combined with {@link ImportMode#STREAMING} a sheet of any size can be imported in constant memory.
+     *
+     * @param inputStream the input stream of the Excel file
+     * @param rowConsumer the consumer receiving the sheet metadata and the object created from each row
+     * @return the result of the import, whose workbook object has no rows
+     */
+    public BPImportResult<T> importExcel(InputStream inputStream, BiConsumer<BPSheet, Object> rowConsumer) {
+        if (rowConsumer == null) {
+            throw new BPImportException("Row consumer cannot be null");
+        }
+        return importWorkbook(inputStream, rowConsumer);
+    }
+
+    /**
+     * Imports the workbook from the specified input stream and passes the created objects to the consumer
+     * in batches of at most {@code batchSize} objects. A batch never spans more than one sheet; the last batch
+     * of each sheet may be smaller. The list passed to the consumer is not reused by the engine.
+     *
+     * @param inputStream   the input stream of the Excel file
+     * @param batchSize     the maximum number of objects in a batch
+     * @param batchConsumer the consumer receiving the sheet metadata and each batch of objects
+     * @return the result of the import, whose workbook object has no rows
+     */
+    public BPImportResult<T> importExcel(InputStream inputStream, int batchSize,
+                                         BiConsumer<BPSheet, List<Object>> batchConsumer) {
+        if (batchSize <= 0) {
+            throw new BPImportException("Batch size must be greater than zero");
+        }
+        if (batchConsumer == null) {
+            throw new BPImportException("Batch consumer cannot be null");
+        }
+        final BatchingConsumer batching = new BatchingConsumer(batchSize, batchConsumer);
+        final BPImportResult<T> result = importWorkbook(inputStream, batching);
+        batching.flush();
+        return result;
+    }
+
+    /**
+     * Imports the workbook from the specified input stream.
+     * If a row consumer is given, created objects are passed to it; otherwise they are collected and
+     * set on the workbook object.
+     *
+     * @param inputStream the input stream of the Excel file
+     * @param rowConsumer the consumer receiving each created object, or null to collect them
+     * @return the result of the import
+     */
+    private BPImportResult<T> importWorkbook(InputStream inputStream, BiConsumer<BPSheet, Object> rowConsumer) {
+        if (inputStream == null) {
+            throw new BPImportException("Input stream cannot be null");
+        }
+        if (isStreaming()) {
+            return importExcelStreaming(inputStream, rowConsumer);
+        }
+
+        Workbook workbook = null;
+        try {
+            final T bpWorkBook = workbookClass.newInstance();
+            workbook = getWorkbook(inputStream);
+            final Workbook poiWorkbook = workbook;
+            return importSheets(bpWorkBook, rowConsumer,
+                    (context, bpSheet, beanConsumer) -> context.createObjects(poiWorkbook, bpSheet, beanConsumer));
+        } catch (BPImportException e) {
+            throw e;
+        } catch (InstantiationException e) {
+            throw new BPConfigurationException("Failed to instantiate workbook class: " + workbookClass.getName(), e);
+        } catch (Exception e) {
+            throw new BPImportException("Unexpected error during import", e);
+        } finally {
+            try {
+                if (workbook != null) {
+                    workbook.close();
+                }
+            } catch (IOException e) {
+                logger.error("Failed to close workbook", e);
+            }
+        }
+    }
+
+    /**
+     * Imports the workbook from the specified input stream using the streaming reader.
+     * Rows are mapped to objects while the sheet is parsed, without building the whole workbook in memory.
+     *
+     * @param inputStream the input stream of the XLSX file
+     * @param rowConsumer the consumer receiving each created object, or null to collect them
+     * @return the result of the import
+     */
+    private BPImportResult<T> importExcelStreaming(InputStream inputStream, BiConsumer<BPSheet, Object> rowConsumer) {
+        try (XlsxStreamingReader reader = new XlsxStreamingReader(inputStream)) {
+            return importSheets(workbookClass.newInstance(), rowConsumer,
+                    (context, bpSheet, beanConsumer) -> context.createObjects(reader, bpSheet, beanConsumer));
+        } catch (BPImportException e) {
+            throw e;
+        } catch (InstantiationException e) {
+            throw new BPConfigurationException("Failed to instantiate workbook class: " + workbookClass.getName(), e);
+        } catch (Exception e) {
+            throw new BPImportException("Unexpected error during import", e);
+        }
+    }
+
+    /**
+     * Reads the sheets to import with the given reader, in declaration order.
+     * If a row consumer is given, created objects are passed to it; otherwise they are collected and
+     * set on the workbook object. Collected sheets are read in parallel when the options provide an executor and no
+     * violation limit; with a limit, the remaining sheets are skipped once it is reached.
+     *
+     * @param bpWorkBook  the workbook object receiving the created objects
+     * @param rowConsumer the consumer receiving each created object, or null to collect them
+     * @param sheetReader the reader creating the objects of a sheet
+     * @return the result of the import
+     */
+    private BPImportResult<T> importSheets(T bpWorkBook, BiConsumer<BPSheet, Object> rowConsumer,
+                                           SheetReader sheetReader) throws ReflectiveOperationException {
+        final List<BPSheet> bpSheets = new ArrayList<>();
+        for (final BPSheet bpSheet : metadataHandler.getSheets()) {
+            if (bpSheet.toImport()) {
+                bpSheets.add(bpSheet);
+            }
+        }
+        if (executor != null && rowConsumer == null && bpSheets.size() > 1 && violationBudget.isUnlimited()) {
+            return importSheetsInParallel(bpWorkBook, bpSheets, sheetReader);
+        }
+        final ImportContext context = new ImportContext(bpWorkBook, true);
+        for (final BPSheet bpSheet : bpSheets) {
+            if (context.validator.isValidationLimitReached()) {
+                break;
+            }
+            if (rowConsumer != null) {
+                sheetReader.read(context, bpSheet, bean -> rowConsumer.accept(bpSheet, bean));
+            } else {
+                final List<Object> beans = new ArrayList<>();
+                sheetReader.read(context, bpSheet, beans::add);
+                setBeans(bpWorkBook, bpSheet, beans);
+            }
+        }
+        return newResult(bpWorkBook, context.validator.getViolations(), context.validator.isAnyLimitReached());
+    }
+
+    /**
+     * Reads each of the given sheets in its own task on the configured executor, with its own validator.
+     * All tasks are completed before the objects are set on the workbook object and the validation errors are
+     * merged, both in sheet order, so the result does not depend on which sheet finished first.
+     * If sheets failed, the error of the first of them is thrown.
+     *
+     * @param bpWorkBook  the workbook object receiving the created objects
+     * @param bpSheets    the sheets to import, in declaration order
+     * @param sheetReader the reader creating the objects of a sheet
+     * @return the result of the import
+     */
+    private BPImportResult<T> importSheetsInParallel(T bpWorkBook, List<BPSheet> bpSheets,
+                                                     SheetReader sheetReader) throws ReflectiveOperationException {
+        final List<CompletableFuture<ImportedRows>> futures = new ArrayList<>(bpSheets.size());
+        try {
+            for (final BPSheet bpSheet : bpSheets) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    final ImportContext context = new ImportContext(bpWorkBook, false);
+                    final List<Object> beans = new ArrayList<>();
+                    sheetReader.read(context, bpSheet, beans::add);
+                    return new ImportedRows(beans, context.validator.getViolations());
+                }, executor));
+            }
+        } finally {
+            awaitAll(futures);
+        }
+        final List<Violation> violations = new ArrayList<>();
+        for (int i = 0; i < bpSheets.size(); i++) {
+            final ImportedRows sheetImport = join(futures.get(i));
+            setBeans(bpWorkBook, bpSheets.get(i), sheetImport.beans);
+            violations.addAll(sheetImport.violations);
+        }
+        return newResult(bpWorkBook, violations, false);
+    }
+
+    /**
+     * Waits until all the given tasks have completed, whether they succeeded or not.
+     * The workbook is closed once the import returns, so no task may still be reading it.
+     *
+     * @param futures the tasks to wait for
+     */
+    private static void awaitAll(List<? extends CompletableFuture<?>> futures) {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).handle((ignored, e) -> null).join();
+    }
+
+    /**
+     * Retrieves the result of a task, rethrowing the error the task failed with.
+     *
+     * @param future the task
+     * @param <R>    the type of the result
+     * @return the result of the task
+     */
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Sets the objects created from a sheet on the workbook object.
+     *
+     * @param bpWorkBook the workbook object
+     * @param bpSheet    the BPSheet annotation containing metadata for the sheet
+     * @param beans      the objects created from the rows of the sheet
+     */
+    private void setBeans(T bpWorkBook, BPSheet bpSheet, List<Object> beans) throws ReflectiveOperationException {
+        final Field field = metadataHandler.getField(bpSheet);
+        PropertyUtils.setProperty(bpWorkBook, field.getName(), beans);
+    }
+
+    /**
+     * Creates the result of an import and logs its validation errors, if any.
+     * Errors are not thrown; they are reported by the result. Their messages are only rendered for the log
+     * when debug logging is enabled.
+     *
+     * @param bpWorkBook the workbook object
+     * @param violations the validation errors, in sheet order
+     * @param violationLimitReached whether a violation limit stopped the import
+     * @return the result of the import
+     */
+    private BPImportResult<T> newResult(T bpWorkBook, List<Violation> violations, boolean violationLimitReached) {
+        final BPImportResult<T> result = new BPImportResult<>(bpWorkBook, violations, violationLimitReached);
+        if (result.hasValidationErrors()) {
+            logger.error("Errors found in the workbook: {} violation(s)", violations.size());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Validation errors: \n{}", String.join("\n", result.getErrorMessages()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Resolves how the cells of each column are read and bound to the sheet's bean type, so that binding
+     * a cell does not look up the header or the property by name nor dispatch on its type. The header titles,
+     * accessors and decoders come from the cached metadata of the sheet; each column has a decoder for the
+     * type of its field, whose date parser tries the column's date pattern first.
+     * Bindings only depend on the engine's options and are resolved once per sheet.
+     *
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return the bindings of the columns, in column order
+     */
+    private ColumnBinding[] getColumnBindings(BPSheet bpSheet) {
+        final ColumnBinding[] cached = columnBindings.get(bpSheet);
+        if (cached != null) {
+            return cached;
+        }
+        final List<ColumnMetadata> columns = metadataHandler.getSheetMetadata(bpSheet).getColumns();
+        final ColumnBinding[] bindings = new ColumnBinding[columns.size()];
+        for (int i = 0; i < bindings.length; i++) {
+            final ColumnMetadata column = columns.get(i);
+            bindings[i] = new ColumnBinding(column.getHeaderTitle(messageSourceService), column.getAccessor(),
+                    column.getDecoder(locale));
+        }
+        columnBindings.putIfAbsent(bpSheet, bindings);
+        return bindings;
+    }
+
+    /**
+     * Creates a new instance of the sheet's bean type.
+     *
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return the new instance, or null if it could not be instantiated
+     */
+    private Object newBean(BPSheet bpSheet) {
+        try {
+            return bpSheet.type().newInstance();
+        } catch (ReflectiveOperationException e) {
+            logger.error(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves the header map from the given first row.
+     *
+     * @param row the row to retrieve the header map from
+     * @return a map where the key is the header name and the value is the column index
+     */
+    private Map<String, Integer> getHeaderMap(Row row) {
+        final HashMap<String, Integer> headerMap = new HashMap<>();
+        for (int i = 0; i < row.getLastCellNum(); i++) {
+            final Cell cell = row.getCell(i);
+            if (cell != null) {
+                final String header = cell.getStringCellValue();
+                if (header != null) {
+                    headerMap.put(header, i);
+                }
+            }
+        }
+        return headerMap;
+    }
+
+    /**
+     * Reads the POI workbook from the given input stream.
+     *
+     * @param inputStream the input stream of the Excel file
+     * @return the POI workbook, converted to XLSX if the options declare an XLS file
+     */
+    private Workbook getWorkbook(InputStream inputStream) {
+        try {
+            if (excelType == null) {
+                throw new BPConfigurationException("ExcelType must not be null", "excelType", null);
+            }
+            if (excelType == ExcelType.XLS) {
+                logger.info("XLS file is not supported and will be converted to XLSX before processing");
+                return ExcelUtils.convertXlsToXlsx(inputStream);
+            }
+            if (excelType == ExcelType.XLSX) {
+                return new XSSFWorkbook(inputStream);
+            }
+            throw new BPConfigurationException("Unsupported Excel type: " + excelType, "excelType", excelType.name());
+        } catch (IOException e) {
+            throw new BPImportException("Failed to create workbook from input stream", e);
+        }
+    }
+
+    /**
+     * Checks whether the given sheet is visible. Hidden and very hidden sheets are imported but not validated.
+     *
+     * @param workbook the workbook containing the sheet
+     * @param sheet    the sheet to check
+     * @return true if the sheet is neither hidden nor very hidden
+     */
+    private boolean isSheetVisible(Workbook workbook, Sheet sheet) {
+        final int sheetIndex = workbook.getSheetIndex(sheet);
+        return !workbook.isSheetHidden(sheetIndex) && !workbook.isSheetVeryHidden(sheetIndex);
+    }
+
+    /**
+     * Checks whether the streaming reader should be used for the configured options.
+     *
+     * @return true if the import mode is streaming and the Excel type supports it
+     */
+    private boolean isStreaming() {
+        if (importMode != ImportMode.STREAMING) {
+            return false;
+        }
+        if (excelType != ExcelType.XLSX) {
+            logger.info("Streaming import is only supported for XLSX files, falling back to in-memory import");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * State of the rows read by one thread: the validator collecting their errors.
+     * A context is confined to the thread reading its rows.
+     */
+    private final class ImportContext {
+        private final T bpWorkBook;
+        private final BPValidator validator;
+        private final boolean splitRows;
+
+        /**
+         * @param bpWorkBook the workbook object being imported
+         * @param splitRows  whether large sheets may be split into row chunks read on the executor; false for
+         *                   contexts already running on the executor, which must not wait for tasks queued behind them
+         */
+        private ImportContext(T bpWorkBook, boolean splitRows) {
+            this.bpWorkBook = bpWorkBook;
+            this.validator = new BPValidator(bpWorkBook, messageSourceService, violationBudget.newBudget());
+            this.splitRows = splitRows;
+        }
+
+        /**
+         * Creates objects from the rows of the sheet with the given annotation and passes them to the consumer.
+         * The column and row constraints of the sheet run first if the sheet is validated and visible, unless the
+         * sheet is read in chunks, in which case they run while the chunks are read.
+         *
+         * @param workbook     the workbook containing the sheet
+         * @param bpSheet      the BPSheet annotation containing metadata for the sheet
+         * @param beanConsumer the consumer receiving each created object
+         */
+        private void createObjects(Workbook workbook, BPSheet bpSheet, Consumer<Object> beanConsumer) {
+            final Sheet sheet = workbook.getSheet(bpSheet.sheetName());
+            if (sheet == null) {
+                throw new BPImportException("Sheet not found: " + bpSheet.sheetName(),
+                                          bpSheet.sheetName(), null, null);
+            }
+            SheetValidationPlan validationPlan = null;
+            if (bpSheet.validate() && isSheetVisible(workbook, sheet)) {
+                if (!isReadInChunks(sheet)) {
+                    validator.validateSheetConstraints(sheet, bpSheet);
+                }
+                validationPlan = validator.getValidationPlan(bpSheet);
+            }
+            createObjects(sheet, bpSheet, validationPlan, beanConsumer);
+        }
+
+        /**
+         * Creates objects from the rows in the given sheet and passes them to the consumer one at a time.
+         * When a validation plan is given, each cell is validated while it is read for binding.
+         * Sheets with more rows than the configured chunk size are read in chunks on the executor, unless a violation
+         * limit is set.
+         *
+         * @param sheet          the sheet to read the rows from
+         * @param bpSheet        the BPSheet annotation containing metadata for the sheet
+         * @param validationPlan the validation plan of the sheet, or null if the sheet is not validated
+         * @param beanConsumer   the consumer receiving each created object
+         */
+        private void createObjects(Sheet sheet, BPSheet bpSheet, SheetValidationPlan validationPlan,
+                                   Consumer<Object> beanConsumer) {
+            final Map<String, Integer> headerMap = getHeaderMap(sheet.getRow(0));
+            final ColumnBinding[] bindings = getColumnBindings(bpSheet);
+            if (isReadInChunks(sheet)) {
+                createObjectsInChunks(sheet, bpSheet, validationPlan != null, headerMap, bindings, beanConsumer);
+            } else {
+                createObjects(sheet, 1, sheet.getLastRowNum(), bpSheet, headerMap, bindings, validationPlan,
+                        beanConsumer);
+            }
+        }
+
+        /**
+         * Checks whether the rows of the given sheet are split into chunks read in parallel.
+         *
+         * @param sheet the sheet to read the rows from
+         * @return true if the sheet has more rows than the chunk size and the rows can be read on the executor
+         */
+        private boolean isReadInChunks(Sheet sheet) {
+            return splitRows && executor != null && rowChunkSize > 0 && sheet.getLastRowNum() > rowChunkSize
+                    && violationBudget.isUnlimited();
+        }
+
+        /**
+         * Creates objects from a range of rows in the given sheet and passes them to the consumer one at a time.
+         * Reading stops after the row reaching a violation limit of the sheet.
+         *
+         * @param sheet          the sheet to read the rows from
+         * @param firstRow       the index of the first row to read
+         * @param lastRow        the index of the last row to read, inclusive
+         * @param bpSheet        the BPSheet annotation containing metadata for the sheet
+         * @param headerMap      a map where the key is the header name and the value is the column index
+         * @param bindings       the bindings of the columns, in column order
+         * @param validationPlan the validation plan of the sheet, or null if the sheet is not validated
+         * @param beanConsumer   the consumer receiving each created object
+         */
+        private void createObjects(Sheet sheet, int firstRow, int lastRow, BPSheet bpSheet,
+                                   Map<String, Integer> headerMap, ColumnBinding[] bindings,
+                                   SheetValidationPlan validationPlan, Consumer<Object> beanConsumer) {
+            for (int i = firstRow; i <= lastRow && !validator.isSheetLimitReached(bpSheet); i++) {
+                Row row = sheet.getRow(i);
+                if (RowUtil.isRowEmpty(row)) continue;
+                final Object bean = createObject(row, bpSheet, headerMap, bindings, validationPlan);
+                if (bean != null) {
+                    beanConsumer.accept(bean);
+                }
+            }
+        }
+
+        /**
+         * Splits the data rows of the given sheet into chunks of the configured size and reads each chunk in its
+         * own task on the executor, with its own validator. When the sheet is validated, each task also scans its
+         * rows for the {@linkplain ChunkedConstraint chunked} row constraints, while the other column and row
+         * constraints run on the whole sheet in the calling thread; the chunked constraints then merge the results
+         * of the chunks. Chunks are then taken in row order: their objects are passed to the consumer and their
+         * validation errors are appended to this context's errors, after the constraint errors, so the result is
+         * the same as reading the rows one by one. If chunks failed, the error of the first of them is thrown.
+         *
+         * @param sheet        the sheet to read the rows from
+         * @param bpSheet      the BPSheet annotation containing metadata for the sheet
+         * @param validate     whether the sheet is validated
+         * @param headerMap    a map where the key is the header name and the value is the column index
+         * @param bindings     the bindings of the columns, in column order
+         * @param beanConsumer the consumer receiving each created object
+         */
+        private void createObjectsInChunks(Sheet sheet, BPSheet bpSheet, boolean validate,
+                                           Map<String, Integer> headerMap, ColumnBinding[] bindings,
+                                           Consumer<Object> beanConsumer) {
+            final int lastRowNum = sheet.getLastRowNum();
+            final List<ChunkedConstraint<?>> constraints = validate
+                    ? validator.getChunkedConstraints(bpSheet) : Collections.emptyList();
+            final List<CompletableFuture<ImportedRows>> futures = new ArrayList<>();
+            try {
+                for (int first = 1; first <= lastRowNum; first += rowChunkSize) {
+                    final int firstRow = first;
+                    final int lastRow = Math.min(lastRowNum, first + rowChunkSize - 1);
+                    futures.add(CompletableFuture.supplyAsync(() -> {
+                        final ImportContext chunk = new ImportContext(bpWorkBook, false);
+                        final SheetValidationPlan chunkPlan = validate ? chunk.validator.getValidationPlan(bpSheet) : null;
+                        final List<Object> beans = new ArrayList<>();
+                        final List<Object> scans = new ArrayList<>(constraints.size());
+                        for (ChunkedConstraint<?> constraint : constraints) {
+                            scans.add(constraint.scan(sheet, firstRow, lastRow, bpSheet));
+                        }
+                        chunk.createObjects(sheet, firstRow, lastRow, bpSheet, headerMap, bindings, chunkPlan, beans::add);
+                        return new ImportedRows(beans, chunk.validator.getViolations(), scans);
+                    }, executor));
+                }
+                if (validate) {
+                    validator.validateSheetConstraints(sheet, bpSheet, constraint -> {
+                        final int index = constraints.indexOf(constraint);
+                        final List<Object> scans = new ArrayList<>(futures.size());
+                        for (CompletableFuture<ImportedRows> future : futures) {
+                            scans.add(join(future).scans.get(index));
+                        }
+                        return scans;
+                    });
+                }
+                for (CompletableFuture<ImportedRows> future : futures) {
+                    final ImportedRows rows = join(future);
+                    validator.addViolations(rows.violations);
+                    rows.beans.forEach(beanConsumer);
+                }
+            } finally {
+                awaitAll(futures);
+            }
+        }
+
+        /**
+         * Reads the given sheet with the streaming reader and creates objects from its rows.
+         * The first row is used as the header row. When the sheet is validated, cell validators run on each data row
+         * and the incremental column and row constraints are fed every row, their violations being recorded once the
+         * sheet has been read. Each object is passed to the consumer as soon as its row has been read. Parsing stops
+         * after the row reaching a violation limit of the sheet.
+         *
+         * @param reader       the streaming reader of the workbook
+         * @param bpSheet      the BPSheet annotation containing metadata for the sheet
+         * @param beanConsumer the consumer receiving each created object
+         */
+        private void createObjects(XlsxStreamingReader reader, BPSheet bpSheet, Consumer<Object> beanConsumer) {
+            final Map<String, Integer> headerMap = new HashMap<>();
+            final SheetValidationPlan validationPlan = bpSheet.validate() ? validator.getValidationPlan(bpSheet) : null;
+            final ColumnBinding[] bindings = getColumnBindings(bpSheet);
+            final boolean found = reader.readSheet(bpSheet.sheetName(), row -> {
+                if (row.getRowNum() == 0) {
+                    headerMap.putAll(getHeaderMap(row));
+                    if (validationPlan != null) {
+                        validator.startSheetConstraints(row, bpSheet);
+                    }
+                    return;
+                }
+                if (validationPlan != null) {
+                    validator.validateRowConstraints(row, bpSheet);
+                }
+                if (RowUtil.isRowEmpty(row)) return;
+                final Object bean = createObject(row, bpSheet, headerMap, bindings, validationPlan);
+                if (bean != null) {
+                    beanConsumer.accept(bean);
+                }
+            }, () -> validator.isSheetLimitReached(bpSheet));
+            if (!found) {
+                throw new BPImportException("Sheet not found: " + bpSheet.sheetName(),
+                                          bpSheet.sheetName(), null, null);
+            }
+            if (validationPlan != null) {
+                validator.completeSheetConstraints(bpSheet);
+            }
+        }
+
+        /**
+         * Creates an object from a single row based on the columns of the given sheet.
+         * Every cell is read once: it is validated against the validation plan, if any, then decoded and bound.
+         * Cells are still validated after the object failed to be populated, so that all violations are reported.
+         *
+         * @param row            the row to read the values from
+         * @param bpSheet        the BPSheet annotation containing metadata for the sheet
+         * @param headerMap      a map where the key is the header name and the value is the column index
+         * @param bindings       the bindings of the columns, in column order
+         * @param validationPlan the validation plan of the sheet, or null if the sheet is not validated
+         * @return the created object, or null if it could not be instantiated or populated
+         */
+        private Object createObject(Row row, BPSheet bpSheet, Map<String, Integer> headerMap,
+                                    ColumnBinding[] bindings, SheetValidationPlan validationPlan) {
+            Object bean = newBean(bpSheet);
+            for (int i = 0; i < bindings.length; i++) {
+                if (validationPlan != null) {
+                    validator.validateCell(row, validationPlan.getColumns().get(i));
+                }
+                if (bean == null) {
+                    continue;
+                }
+                final Cell cell = row.getCell(headerMap.get(bindings[i].header));
+                if (cell != null) {
+                    try {
+                        bindings[i].decoder.decodeInto(cell, bean, bindings[i].accessor);
+                    } catch (ReflectiveOperationException e) {
+                        logger.error(e.getMessage(), e);
+                        bean = null;
+                    }
+                }
+            }
+            return bean;
+        }
+    }
+
+    /**
+     * Reads the rows of a sheet, from a POI workbook or with the streaming reader.
+     */
+    @FunctionalInterface
+    private interface SheetReader {
+        void read(BPImportEngine<?>.ImportContext context, BPSheet bpSheet, Consumer<Object> beanConsumer);
+    }
+
+    /**
+     * Objects and validation errors of the rows read by a parallel task, with the results of the chunked row
+     * constraints that scanned them.
+     */
+    private static final class ImportedRows {
+        private final List<Object> beans;
+        private final List<Violation> violations;
+        private final List<Object> scans;
+
+        private ImportedRows(List<Object> beans, List<Violation> violations) {
+            this(beans, violations, Collections.emptyList());
+        }
+
+        private ImportedRows(List<Object> beans, List<Violation> violations, List<Object> scans) {
+            this.beans = beans;
+            this.violations = violations;
+            this.scans = scans;
+        }
+    }
+
+    /**
+     * Per-column state used to read and bind the cells of a column.
+     */
+    private static final class ColumnBinding {
+        private final String header;
+        private final PropertyAccessor accessor;
+        private final CellDecoder decoder;
+
+        private ColumnBinding(String header, PropertyAccessor accessor, CellDecoder decoder) {
+            this.header = header;
+            this.accessor = accessor;
+            this.decoder = decoder;
+        }
+    }
+
+    /**
+     * Row consumer that groups objects into batches of a fixed size and flushes a batch
+     * when it is full or when the import moves on to another sheet.
+     */
+    private static final class BatchingConsumer implements BiConsumer<BPSheet, Object> {
+        private final int batchSize;
+        private final BiConsumer<BPSheet, List<Object>> batchConsumer;
+        private BPSheet currentSheet;
+        private List<Object> batch;
+
+        private BatchingConsumer(int batchSize, BiConsumer<BPSheet, List<Object>> batchConsumer) {
+            this.batchSize = batchSize;
+            this.batchConsumer = batchConsumer;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void accept(BPSheet bpSheet, Object bean) {
+            if (currentSheet != bpSheet) {
+                flush();
+                currentSheet = bpSheet;
+            }
+            batch.add(bean);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * Passes the pending objects, if any, to the batch consumer and starts a new batch.
+         */
+        private void flush() {
+            if (!batch.isEmpty()) {
+                final List<Object> full = batch;
+                batch = new ArrayList<>(batchSize);
+                batchConsumer.accept(currentSheet, full);
+            }
+        }
+    }
+}
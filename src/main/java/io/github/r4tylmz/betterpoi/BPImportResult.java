@@ -0,0 +1,119 @@
+package io.github.r4tylmz.betterpoi;
+
+import io.github.r4tylmz.betterpoi.annotation.BPExcelWorkbook;
+import io.github.r4tylmz.betterpoi.exception.BPValidationException;
+import io.github.r4tylmz.betterpoi.validation.Violation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a single import: the workbook object created from the Excel file and the validation errors
+ * found while reading it. Validation errors do not fail an import; callers check them here, or call
+ * {@link #throwValidationExceptionIfErrors()} to handle them as an exception. Errors are kept as
+ * {@link Violation} records, and their messages are rendered the first time they are requested.
+ *
+ * @param <T> class that extends BPExcelWorkbook
+ */
+public final class BPImportResult<T extends BPExcelWorkbook> {
+    private final T workbook;
+    private final List<Violation> violations;
+    private final boolean violationLimitReached;
+    private volatile List<String> errorMessages;
+
+    BPImportResult(T workbook, List<Violation> violations) {
+        this(workbook, violations, false);
+    }
+
+    BPImportResult(T workbook, List<Violation> violations, boolean violationLimitReached) {
+        this.workbook = workbook;
+        this.violations = Collections.unmodifiableList(new ArrayList<>(violations));
+        this.violationLimitReached = violationLimitReached;
+    }
+
+    /**
+     * Retrieves the workbook object. When the rows were passed to a consumer, its sheet lists are not set.
+     *
+     * @return the workbook object
+     */
+    public T getWorkbook() {
+        return workbook;
+    }
+
+    /**
+     * Retrieves the validation error messages, in the order they were found.
+     *
+     * @return the unmodifiable list of error messages
+     */
+    public List<String> getErrorMessages() {
+        List<String> messages = errorMessages;
+        if (messages == null) {
+            messages = Collections.unmodifiableList(Violation.renderMessages(violations));
+            errorMessages = messages;
+        }
+        return messages;
+    }
+
+    /**
+     * Retrieves the validation errors with their sheet, row, column and rule, in the order they were found.
+     *
+     * @return the unmodifiable list of violations
+     */
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Checks if the import stopped reading or validating because of the fail-fast or maximum violation options.
+     * In that case the violations are not all the violations of the file, and the sheet lists of the workbook
+     * object may miss the rows following the violation that reached the limit.
+     *
+     * @return true if a violation limit was reached, false otherwise
+     */
+    public boolean isViolationLimitReached() {
+        return violationLimitReached;
+    }
+
+    /**
+     * Checks if the import had validation errors.
+     *
+     * @return true if there were validation errors, false otherwise
+     */
+    public boolean hasValidationErrors() {
+        return !violations.isEmpty();
+    }
+
+    /**
+     * Gets the validation status of the import.
+     *
+     * @return true if validation passed, false if there were validation errors
+     */
+    public boolean isValidationSuccessful() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Throws a BPValidationException if there are validation errors.
+     *
+     * @throws BPValidationException if there are validation errors
+     */
+    public void throwValidationExceptionIfErrors() {
+        if (hasValidationErrors()) {
+            throw new BPValidationException("Workbook validation failed", createValidationErrorList());
+        }
+    }
+
+    /**
+     * Creates a list of ValidationError objects from the violations, one per violation.
+     *
+     * @return list of ValidationError objects
+     */
+    private List<BPValidationException.ValidationError> createValidationErrorList() {
+        final List<BPValidationException.ValidationError> errors = new ArrayList<>(violations.size());
+        for (Violation violation : violations) {
+            errors.add(violation.toValidationError());
+        }
+        return errors;
+    }
+}
@@ -1,63 +1,36 @@
 package io.github.r4tylmz.betterpoi;
 
-import io.github.r4tylmz.betterpoi.annotation.BPColumn;
 import io.github.r4tylmz.betterpoi.annotation.BPExcelWorkbook;
 import io.github.r4tylmz.betterpoi.annotation.BPSheet;
-import io.github.r4tylmz.betterpoi.converters.LocalDateConverter;
-import io.github.r4tylmz.betterpoi.converters.LocalDateTimeConverter;
-import io.github.r4tylmz.betterpoi.enums.ExcelType;
-import io.github.r4tylmz.betterpoi.exception.BPImportException;
+import io.github.r4tylmz.betterpoi.enums.ImportMode;
 import io.github.r4tylmz.betterpoi.exception.BPConfigurationException;
+import io.github.r4tylmz.betterpoi.exception.BPImportException;
 import io.github.r4tylmz.betterpoi.exception.BPValidationException;
-import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
-import io.github.r4tylmz.betterpoi.utils.CellUtil;
-import io.github.r4tylmz.betterpoi.utils.ColUtil;
-import io.github.r4tylmz.betterpoi.utils.ExcelUtils;
-import io.github.r4tylmz.betterpoi.utils.RowUtil;
-import org.apache.commons.beanutils.ConvertUtilsBean2;
-import org.apache.commons.beanutils.PropertyUtils;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Field;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * BPImporter is responsible for importing data from an Excel file.
  * It uses Apache POI to read the Excel workbook and sheets.
+ * <p>
+ * An importer remembers the validation errors of its last import and is meant to be used by one thread at a time.
+ * To share the import setup between threads, use a {@link BPImportEngine}, which returns the validation errors
+ * of each import in its own {@link BPImportResult}.
  *
  * @param <T> class that extends BPExcelWorkbook
  */
 public class BPImporter<T extends BPExcelWorkbook> {
-    private static final Logger logger = LoggerFactory.getLogger(BPImporter.class);
-    private static final ConvertUtilsBean2 converter = new ConvertUtilsBean2();
-    private MessageSourceService messageSourceService;
-
-
-    static {
-        converter.register(new LocalDateConverter(), LocalDate.class);
-        converter.register(new LocalDateTimeConverter(), LocalDateTime.class);
-    }
-
+    private final BPOptions options;
     private Class<T> workbookClass;
-    private BPMetadataHandler metadataHandler;
-    private BPValidator bpValidator;
-    private Workbook workbook;
-    private ExcelType excelType = ExcelType.XLSX;
+    private BPImportEngine<T> engine;
+    private BPImportResult<T> lastResult;
 
     public BPImporter() {
+        this.options = BPOptions.createDefault();
     }
 
     /**
@@ -68,60 +41,35 @@ public class BPImporter<T extends BPExcelWorkbook> {
      */
     public BPImporter(Class<T> workbookClass, BPOptions options) {
         this.workbookClass = workbookClass;
-        this.excelType = options.getExcelType();
-        this.messageSourceService = new MessageSourceService(options);
+        this.options = options;
     }
 
-
     /**
-     * Creates objects from the rows in the given sheet based on the provided values.
+     * Retrieves the engine running the imports, creating it on first use for the configured workbook class.
      *
-     * @param sheet   the sheet where rows will be created
-     * @param bpSheet the BPSheet annotation containing metadata for the sheet
-     * @return a list of objects created from the rows in the sheet
+     * @return the import engine
+     * @throws BPConfigurationException if the workbook class is not configured
      */
-    private List<?> createObjects(Sheet sheet, BPSheet bpSheet) {
-        final Map<String, Class<?>> columnsTypes = metadataHandler.getColumnTypes(bpSheet);
-        final Map<String, Integer> headerMap = getHeaderMap(sheet.getRow(0));
-        final List<Object> beans = new ArrayList<>();
-        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-            Row row = sheet.getRow(i);
-            if (RowUtil.isRowEmpty(row)) continue;
-            try {
-                final Object bean = bpSheet.type().newInstance();
-                final BPColumn[] bpColumns = bpSheet.columns();
-                for (BPColumn bpColumn : bpColumns) {
-                    final String header = ColUtil.getHeaderTitle(bpColumn, messageSourceService);
-                    final Cell cell = row.getCell(headerMap.get(header));
-                    if (cell != null) {
-                        final Class<?> type = columnsTypes.get(bpColumn.fieldName());
-                        final Object value = CellUtil.getCellValue(cell, type);
-                        if(value == null && !bpColumn.required()){
-                            continue;
-                        }
-                        final Object converted = converter.convert(value, type);
-                        PropertyUtils.setProperty(bean, bpColumn.fieldName(), converted);
-                    }
-                }
-                beans.add(bean);
-            } catch (ReflectiveOperationException e) {
-                logger.error(e.getMessage(), e);
-            }
+    private BPImportEngine<T> getEngine() {
+        if (engine == null) {
+            engine = new BPImportEngine<>(workbookClass, options);
         }
-        return beans;
-    }
-
-    public List<String> getErrorMessageList() {
-        return bpValidator.getErrorMessages();
+        return engine;
     }
 
     /**
-     * Retrieves the formatted error message.
+     * Keeps the result of an import for the validation methods of this importer.
      *
-     * @return the formatted error message with new lines separating each error message
+     * @param result the result of the import
+     * @return the workbook object
      */
-    private String getFormattedErrorMessage() {
-        return String.join("\n", bpValidator.getErrorMessages());
+    private T remember(BPImportResult<T> result) {
+        lastResult = result;
+        return result.getWorkbook();
+    }
+
+    public List<String> getErrorMessageList() {
+        return lastResult != null ? lastResult.getErrorMessages() : Collections.<String>emptyList();
     }
 
     /**
@@ -130,7 +78,7 @@ public class BPImporter<T extends BPExcelWorkbook> {
      * @return true if there were validation errors, false otherwise
      */
     public boolean hasValidationErrors() {
-        return bpValidator != null && !bpValidator.getErrorMessages().isEmpty();
+        return lastResult != null && lastResult.hasValidationErrors();
     }
 
     /**
@@ -139,7 +87,7 @@ public class BPImporter<T extends BPExcelWorkbook> {
      * @return true if validation passed, false if there were validation errors
      */
     public boolean isValidationSuccessful() {
-        return bpValidator == null || bpValidator.getErrorMessages().isEmpty();
+        return lastResult == null || lastResult.isValidationSuccessful();
     }
 
     /**
@@ -150,74 +98,8 @@ public class BPImporter<T extends BPExcelWorkbook> {
      * @throws BPValidationException if there are validation errors
      */
     public void throwValidationExceptionIfErrors() {
-        if (hasValidationErrors()) {
-            throw new BPValidationException("Workbook validation failed", 
-                createValidationErrorList());
-        }
-    }
-
-    /**
-     * Creates a list of ValidationError objects from the current error messages.
-     * This is used internally by throwValidationExceptionIfErrors().
-     *
-     * @return list of ValidationError objects
-     */
-    private List<BPValidationException.ValidationError> createValidationErrorList() {
-        List<BPValidationException.ValidationError> errors = new ArrayList<>();
-        if (bpValidator != null) {
-            List<String> errorMessages = bpValidator.getErrorMessages();
-            for (String errorMessage : errorMessages) {
-                errors.add(new BPValidationException.ValidationError(
-                    null, null, null, null, errorMessage, "VALIDATION_ERROR"
-                ));
-            }
-        }
-        return errors;
-    }
-
-    /**
-     * Retrieves the header map from the given first row.
-     *
-     * @param row the row to retrieve the header map from
-     * @return a map where the key is the header name and the value is the column index
-     */
-    private Map<String, Integer> getHeaderMap(Row row) {
-        final HashMap<String, Integer> headerMap = new HashMap<>();
-        for (int i = 0; i < row.getLastCellNum(); i++) {
-            final Cell cell = row.getCell(i);
-            if (cell != null) {
-                final String header = cell.getStringCellValue();
-                if (header != null) {
-                    headerMap.put(header, i);
-                }
-            }
-        }
-        return headerMap;
-    }
-
-    /**
-     * Retrieves the workbook object as define in
-     * {@link BPImporter#(Class)}
-     *
-     * @param inputStream the input stream of the Excel file
-     * @return the workbook object as define in
-     * {@link BPImporter#(Class)}
-     */
-    private Workbook getWorkbook(InputStream inputStream) {
-        try {
-            if (excelType == null) {
-                throw new BPConfigurationException("ExcelType must not be null", "excelType", null);
-            }
-            if (excelType == ExcelType.XLS) {
-                logger.info("XLS file is not supported and will be converted to XLSX before processing");
-                return ExcelUtils.convertXlsToXlsx(inputStream);
-            }
-            if (excelType == ExcelType.XLSX) {
-                return new XSSFWorkbook(inputStream);
-            }
-            throw new BPConfigurationException("Unsupported Excel type: " + excelType, "excelType", excelType.name());
-        } catch (IOException e) {
-            throw new BPImportException("Failed to create workbook from input stream", e);
+        if (lastResult != null) {
+            lastResult.throwValidationExceptionIfErrors();
         }
     }
 
@@ -226,6 +108,9 @@ public class BPImporter<T extends BPExcelWorkbook> {
     }
 
     public void setWorkbookClass(Class<T> workbookClass) {
+        if (workbookClass != this.workbookClass) {
+            this.engine = null;
+        }
         this.workbookClass = workbookClass;
     }
 
@@ -236,21 +121,7 @@ public class BPImporter<T extends BPExcelWorkbook> {
      * @return the workbook object
      */
     public T importExcel(File file) {
-        if (file == null) {
-            throw new BPImportException("File cannot be null");
-        }
-        if (!file.exists()) {
-            throw new BPImportException("File does not exist: " + file.getAbsolutePath());
-        }
-        if (!file.canRead()) {
-            throw new BPImportException("File cannot be read: " + file.getAbsolutePath());
-        }
-        
-        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
-            return importExcel(inputStream);
-        } catch (IOException e) {
-            throw new BPImportException("Failed to read file: " + file.getAbsolutePath(), e);
-        }
+        return BPImportEngine.withFile(file, this::importExcel);
     }
 
     /**
@@ -260,15 +131,7 @@ public class BPImporter<T extends BPExcelWorkbook> {
      * @return the workbook object
      */
     public T importExcel(String path) {
-        if (path == null || path.trim().isEmpty()) {
-            throw new BPImportException("Path cannot be null or empty");
-        }
-        
-        try (InputStream inputStream = Files.newInputStream(Paths.get(path))) {
-            return importExcel(inputStream);
-        } catch (IOException e) {
-            throw new BPImportException("Failed to read file at path: " + path, e);
-        }
+        return BPImportEngine.withPath(path, this::importExcel);
     }
 
     /**
@@ -278,95 +141,64 @@ public class BPImporter<T extends BPExcelWorkbook> {
      * @return the workbook object
      */
     public T importExcel(InputStream inputStream) {
+        lastResult = null;
         if (inputStream == null) {
             throw new BPImportException("Input stream cannot be null");
         }
-        if (workbookClass == null) {
-            throw new BPConfigurationException("Workbook class is not configured");
-        }
-        
-        try {
-            final T bpWorkBook = workbookClass.newInstance();
-            workbook = getWorkbook(inputStream);
-            bpValidator = new BPValidator(bpWorkBook, this.messageSourceService);
-            metadataHandler = new BPMetadataHandler(bpWorkBook);
-            final List<BPSheet> bpSheets = metadataHandler.getSheets();
-            
-            for (final BPSheet bpSheet : bpSheets) {
-                if (bpSheet.toImport()) {
-                    if (bpSheet.validate()) {
-                        boolean isValid = bpValidator.validate(workbook, this.messageSourceService);
-                        if (!isValid) {
-                            logger.error("Errors found in the workbook: \n{}", getFormattedErrorMessage());
-                            // Don't throw exception - let users check validation status and handle errors
-                            // Users can call getErrorMessageList() to get validation errors
-                        }
-                    }
-                    final Sheet sheet = workbook.getSheet(bpSheet.sheetName());
-                    if (sheet == null) {
-                        throw new BPImportException("Sheet not found: " + bpSheet.sheetName(), 
-                                                  bpSheet.sheetName(), null, null);
-                    }
-                    final List<?> beans = createObjects(sheet, bpSheet);
-                    final Field field = metadataHandler.getField(bpSheet);
-                    PropertyUtils.setProperty(bpWorkBook, field.getName(), beans);
-                }
-            }
-            return bpWorkBook;
-        } catch (BPImportException e) {
-            throw e;
-        } catch (InstantiationException e) {
-            throw new BPConfigurationException("Failed to instantiate workbook class: " + workbookClass.getName(), e);
-        } catch (Exception e) {
-            throw new BPImportException("Unexpected error during import", e);
-        } finally {
-            try {
-                if (workbook != null) {
-                    workbook.close();
-                }
-            } catch (IOException e) {
-                logger.error("Failed to close workbook", e);
-            }
-        }
+        return remember(getEngine().importExcel(inputStream));
     }
 
     /**
-     * Imports the workbook from the specified base64 encoded string.
+     * Imports the workbook from the specified input stream and passes each created object to the consumer
+     * instead of collecting them into the lists of the workbook object.
+     * Objects are handed out one at a time in row order and are not referenced by the importer afterwards,
+     * so combined with {@link ImportMode#STREAMING} a sheet of any size can be imported in constant memory.
+     * Validation errors can be retrieved with {@link #getErrorMessageList()} once the import has finished.
      *
-     * @param fileAsBase64 the base64 encoded string of the Excel file
-     * @return the workbook object
+     * @param inputStream the input stream of the Excel file
+     * @param rowConsumer the consumer receiving the sheet metadata and the object created from each row
      */
-    public T importExcelBase64(String fileAsBase64) {
-        if (fileAsBase64 == null || fileAsBase64.trim().isEmpty()) {
-            throw new BPImportException("Base64 string cannot be null or empty");
+    public void importExcel(InputStream inputStream, BiConsumer<BPSheet, Object> rowConsumer) {
+        lastResult = null;
+        if (rowConsumer == null) {
+            throw new BPImportException("Row consumer cannot be null");
         }
-        
-        try {
-            byte[] fileAsByteArray = java.util.Base64.getDecoder().decode(fileAsBase64);
-            return importExcel(new java.io.ByteArrayInputStream(fileAsByteArray));
-        } catch (IllegalArgumentException e) {
-            throw new BPImportException("Invalid Base64 string format", e);
-        } catch (Exception e) {
-            throw new BPImportException("Failed to decode Base64 string", e);
+        if (inputStream == null) {
+            throw new BPImportException("Input stream cannot be null");
         }
+        remember(getEngine().importExcel(inputStream, rowConsumer));
     }
 
     /**
-     * Checks if a row is completely empty.
+     * Imports the workbook from the specified input stream and passes the created objects to the consumer
+     * in batches of at most {@code batchSize} objects. A batch never spans more than one sheet; the last batch
+     * of each sheet may be smaller. The list passed to the consumer is not reused by the importer.
      *
-     * @param row     the row to check
-     * @param colSize the number of columns in the row
-     * @return true if the row is completely empty, false otherwise
+     * @param inputStream   the input stream of the Excel file
+     * @param batchSize     the maximum number of objects in a batch
+     * @param batchConsumer the consumer receiving the sheet metadata and each batch of objects
      */
-    private boolean isRowCompletelyEmpty(Row row, int colSize) {
-        DataFormatter dataFormatter = new DataFormatter();
-        for (int i = 0; i < colSize; i++) {
-            Cell cell = row.getCell(i);
-            if (cell != null && !dataFormatter.formatCellValue(cell).trim().isEmpty()) {
-                return false;
-            }
+    public void importExcel(InputStream inputStream, int batchSize, BiConsumer<BPSheet, List<Object>> batchConsumer) {
+        lastResult = null;
+        if (batchSize <= 0) {
+            throw new BPImportException("Batch size must be greater than zero");
+        }
+        if (batchConsumer == null) {
+            throw new BPImportException("Batch consumer cannot be null");
         }
-        return true;
+        if (inputStream == null) {
+            throw new BPImportException("Input stream cannot be null");
+        }
+        remember(getEngine().importExcel(inputStream, batchSize, batchConsumer));
     }
 
+    /**
+     * Imports the workbook from the specified base64 encoded string.
+     *
+     * @param fileAsBase64 the base64 encoded string of the Excel file
+     * @return the workbook object
+     */
+    public T importExcelBase64(String fileAsBase64) {
+        return BPImportEngine.withBase64(fileAsBase64, this::importExcel);
+    }
 }
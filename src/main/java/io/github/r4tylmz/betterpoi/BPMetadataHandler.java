@@ -1,27 +1,27 @@
 package io.github.r4tylmz.betterpoi;
 
-import io.github.r4tylmz.betterpoi.annotation.BPColumn;
 import io.github.r4tylmz.betterpoi.annotation.BPSheet;
-import io.github.r4tylmz.betterpoi.annotation.BPWorkbook;
+import io.github.r4tylmz.betterpoi.metadata.ColumnMetadata;
+import io.github.r4tylmz.betterpoi.metadata.SheetMetadata;
+import io.github.r4tylmz.betterpoi.metadata.WorkbookMetadata;
 import org.apache.commons.beanutils.PropertyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * BPMetadataHandler is responsible for handling metadata for the workbook and its sheets.
- * It uses reflection to parse the workbook and its sheets, and provides methods to retrieve metadata.
+ * The metadata is read once per workbook class and shared through {@link WorkbookMetadata}, so creating a
+ * handler for every import or export does not reflect on the workbook again.
  */
 public class BPMetadataHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(BPMetadataHandler.class);
 
-    private final LinkedHashMap<BPSheet, Field> sheets = new LinkedHashMap<>();
-
-    private final Class<?> workbookClass;
-
+    private final WorkbookMetadata metadata;
 
     /**
      * @param workbookClass a class annotated with @BPWorkbook
@@ -30,9 +30,7 @@ public class BPMetadataHandler {
         if (workbookClass == null) {
             throw new IllegalArgumentException("workbookClass can't be null");
         }
-        this.workbookClass = workbookClass;
-        assertWorkbookAnnotation(workbookClass);
-        parseSheets();
+        this.metadata = WorkbookMetadata.of(workbookClass);
     }
 
     /**
@@ -42,18 +40,27 @@ public class BPMetadataHandler {
         if (workbook == null) {
             throw new IllegalArgumentException("workbook can't be null");
         }
-        workbookClass = workbook.getClass();
-        assertWorkbookAnnotation(workbookClass);
-        parseSheets();
+        this.metadata = WorkbookMetadata.of(workbook.getClass());
     }
 
     /**
-     * Check that object is correctly annotated.
+     * Retrieves the shared metadata of the workbook class.
+     *
+     * @return the workbook metadata
      */
-    private void assertWorkbookAnnotation(Class<?> workbookClass) {
-        if (workbookClass.getAnnotation(BPWorkbook.class) == null) {
-            throw new IllegalArgumentException("workbookClass must be annotated with @BPWorkbook");
-        }
+    public WorkbookMetadata getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Retrieves the metadata of the given sheet.
+     *
+     * @param bpSheet the sheet annotation
+     * @return the cached metadata if the sheet belongs to the workbook, otherwise metadata created for the call
+     */
+    public SheetMetadata getSheetMetadata(BPSheet bpSheet) {
+        final SheetMetadata sheet = metadata.getSheet(bpSheet);
+        return sheet != null ? sheet : SheetMetadata.of(bpSheet, null);
     }
 
     /**
@@ -63,11 +70,8 @@ public class BPMetadataHandler {
     public Map<String, Class<?>> getColumnTypes(BPSheet bpSheet) {
         try {
             final Map<String, Class<?>> columnTypes = new HashMap<>();
-            for (BPColumn bpColumn : bpSheet.columns()) {
-                final Class<?> beanClass = bpSheet.type();
-                final String fieldName = bpColumn.fieldName();
-                final Field field = beanClass.getDeclaredField(fieldName);
-                columnTypes.put(fieldName, field.getType());
+            for (ColumnMetadata column : getSheetMetadata(bpSheet).getColumns()) {
+                columnTypes.put(column.getFieldName(), requireField(column).getType());
             }
             return columnTypes;
         } catch (ReflectiveOperationException e) {
@@ -81,26 +85,28 @@ public class BPMetadataHandler {
      * @return a map of fieldName and their associated Field
      */
     public Map<String, Field> getDataFields(BPSheet bpSheet) {
-        final BPColumn[] bpColumns = bpSheet.columns();
-        final Class<?> beanClass = bpSheet.type();
-        final Map<String, Field> fields = new HashMap<>(bpColumns.length);
-        for (BPColumn bpColumn : bpColumns) {
-            final Field field = getField(beanClass, bpColumn);
-            fields.put(bpColumn.fieldName(), field);
+        final List<ColumnMetadata> columns = getSheetMetadata(bpSheet).getColumns();
+        final Map<String, Field> fields = new HashMap<>(columns.size());
+        for (ColumnMetadata column : columns) {
+            try {
+                fields.put(column.getFieldName(), requireField(column));
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
         }
         return fields;
     }
 
-    private Field getField(Class<?> beanClass, BPColumn bpColumn) {
-        try {
-            return beanClass.getDeclaredField(bpColumn.fieldName());
-        } catch (ReflectiveOperationException e) {
-            throw new RuntimeException(e);
+    private static Field requireField(ColumnMetadata column) throws NoSuchFieldException {
+        if (column.getField() == null) {
+            throw new NoSuchFieldException(column.getFieldName());
         }
+        return column.getField();
     }
 
     public Field getField(BPSheet bpSheet) {
-        return sheets.get(bpSheet);
+        final SheetMetadata sheet = metadata.getSheet(bpSheet);
+        return sheet != null ? sheet.getField() : null;
     }
 
     private Object getProperty(Object bean, Field field) {
@@ -113,7 +119,11 @@ public class BPMetadataHandler {
     }
 
     public List<BPSheet> getSheets() {
-        return new ArrayList<>(sheets.keySet());
+        final List<BPSheet> bpSheets = new ArrayList<>(metadata.getSheets().size());
+        for (SheetMetadata sheet : metadata.getSheets()) {
+            bpSheets.add(sheet.getBpSheet());
+        }
+        return bpSheets;
     }
 
     /***
@@ -132,14 +142,98 @@ public class BPMetadataHandler {
         throw new IllegalStateException(msg);
     }
 
-    private void parseSheets() {
-        final Field[] fields = workbookClass.getDeclaredFields();
-        for (final Field field : fields) {
-            final BPSheet annotation = field.getAnnotation(BPSheet.class);
-            if (annotation != null) {
-                sheets.put(annotation, field);
+    /**
+     * Retrieves an iterator over the beans of the given sheet.
+     * Unlike {@link #getValues(Object, BPSheet)}, the field may hold a {@link List}, any other {@link Iterable},
+     * an {@link Iterator}, a {@link Stream} or a {@link BPPageSupplier}, so the beans do not have to be loaded
+     * into memory before the export starts. The returned iterator implements {@link AutoCloseable} when the
+     * underlying source must be released, as for a {@link Stream}; callers should close it once done.
+     *
+     * @param workbook an object annotated with @BPWorkbook
+     * @param bpSheet  the associated sheet
+     * @return an iterator over the beans (db tuples)
+     */
+    public Iterator<?> getValueIterator(final Object workbook, BPSheet bpSheet) {
+        final Field field = getField(bpSheet);
+        final Object source = getProperty(workbook, field);
+        if (source instanceof Iterable<?>) {
+            return ((Iterable<?>) source).iterator();
+        }
+        if (source instanceof Iterator<?>) {
+            return (Iterator<?>) source;
+        }
+        if (source instanceof Stream<?>) {
+            return new StreamIterator((Stream<?>) source);
+        }
+        if (source instanceof BPPageSupplier<?>) {
+            return new PageIterator((BPPageSupplier<?>) source);
+        }
+        final String msg = "Expected " + Iterable.class.getCanonicalName() + ", " + Iterator.class.getCanonicalName()
+                + ", " + Stream.class.getCanonicalName() + " or " + BPPageSupplier.class.getCanonicalName() + " got "
+                + (source == null ? "null" : source.getClass().getCanonicalName());
+        throw new IllegalStateException(msg);
+    }
+
+    /**
+     * Iterator over a stream that closes the stream when it is closed.
+     */
+    private static final class StreamIterator implements Iterator<Object>, AutoCloseable {
+        private final Stream<?> stream;
+        private final Iterator<?> iterator;
+
+        private StreamIterator(Stream<?> stream) {
+            this.stream = stream;
+            this.iterator = stream.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void close() {
+            stream.close();
+        }
+    }
+
+    /**
+     * Iterator that requests the pages of a {@link BPPageSupplier} as the previous page is exhausted.
+     */
+    private static final class PageIterator implements Iterator<Object> {
+        private final BPPageSupplier<?> pageSupplier;
+        private Iterator<?> page = Collections.emptyIterator();
+        private int nextPageIndex;
+        private boolean exhausted;
+
+        private PageIterator(BPPageSupplier<?> pageSupplier) {
+            this.pageSupplier = pageSupplier;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && !exhausted) {
+                final List<?> rows = pageSupplier.getPage(nextPageIndex++);
+                if (rows == null || rows.isEmpty()) {
+                    exhausted = true;
+                } else {
+                    page = rows.iterator();
+                }
             }
+            return page.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
         }
     }
 }
-
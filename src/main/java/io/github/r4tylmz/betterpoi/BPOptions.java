@@ -1,18 +1,45 @@
 package io.github.r4tylmz.betterpoi;
 
 import io.github.r4tylmz.betterpoi.enums.ExcelType;
+import io.github.r4tylmz.betterpoi.enums.ExportMode;
+import io.github.r4tylmz.betterpoi.enums.ImportMode;
 
 import java.util.Locale;
+import java.util.concurrent.Executor;
 
 public final class BPOptions {
+    /**
+     * Default number of rows kept in memory by the streaming export.
+     */
+    public static final int DEFAULT_ROW_ACCESS_WINDOW_SIZE = 100;
     private final ExcelType excelType;
     private final Locale locale;
     private final String bundleName;
+    private final ImportMode importMode;
+    private final ExportMode exportMode;
+    private final int rowAccessWindowSize;
+    private final boolean compressTempFiles;
+    private final Executor executor;
+    private final int rowChunkSize;
+    private final boolean failFast;
+    private final int maxViolations;
+    private final int maxViolationsPerSheet;
+    private final int maxViolationsPerRule;
 
     private BPOptions(Builder builder) {
         this.excelType = builder.excelType;
         this.locale = builder.locale;
         this.bundleName = builder.bundleName;
+        this.importMode = builder.importMode;
+        this.exportMode = builder.exportMode;
+        this.rowAccessWindowSize = builder.rowAccessWindowSize;
+        this.compressTempFiles = builder.compressTempFiles;
+        this.executor = builder.executor;
+        this.rowChunkSize = builder.rowChunkSize;
+        this.failFast = builder.failFast;
+        this.maxViolations = builder.maxViolations;
+        this.maxViolationsPerSheet = builder.maxViolationsPerSheet;
+        this.maxViolationsPerRule = builder.maxViolationsPerRule;
     }
 
     public static Builder builder() {
@@ -50,6 +77,96 @@ public final class BPOptions {
         return excelType;
     }
 
+    /**
+     * Gets the strategy used to write Excel files during export.
+     *
+     * @return the export mode
+     */
+    public ExportMode getExportMode() {
+        return exportMode;
+    }
+
+    /**
+     * Gets the number of rows kept in memory by the streaming export before older rows are flushed.
+     *
+     * @return the row access window size
+     */
+    public int getRowAccessWindowSize() {
+        return rowAccessWindowSize;
+    }
+
+    /**
+     * Checks if the temporary files of the streaming export are compressed.
+     *
+     * @return true if temporary files are gzip compressed, false otherwise
+     */
+    public boolean isCompressTempFiles() {
+        return compressTempFiles;
+    }
+
+    /**
+     * Gets the executor used to import and export sheets in parallel.
+     *
+     * @return the executor, or null if sheets are processed one at a time
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets the number of rows read by each parallel task when a sheet is split into chunks.
+     *
+     * @return the row chunk size, or 0 if sheets are not split
+     */
+    public int getRowChunkSize() {
+        return rowChunkSize;
+    }
+
+    /**
+     * Checks if validation stops at the first violation.
+     *
+     * @return true if validation and import stop at the first violation, false otherwise
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Gets the number of violations after which validation and import stop.
+     *
+     * @return the maximum number of violations, or 0 if unlimited
+     */
+    public int getMaxViolations() {
+        return maxViolations;
+    }
+
+    /**
+     * Gets the number of violations after which the validation and import of a sheet stop.
+     *
+     * @return the maximum number of violations per sheet, or 0 if unlimited
+     */
+    public int getMaxViolationsPerSheet() {
+        return maxViolationsPerSheet;
+    }
+
+    /**
+     * Gets the number of violations after which a validator or constraint is no longer applied.
+     *
+     * @return the maximum number of violations per rule, or 0 if unlimited
+     */
+    public int getMaxViolationsPerRule() {
+        return maxViolationsPerRule;
+    }
+
+    /**
+     * Gets the strategy used to read Excel files during import.
+     *
+     * @return the import mode
+     */
+    public ImportMode getImportMode() {
+        return importMode;
+    }
+
     /**
      * Gets the locale for internationalization.
      * 
@@ -72,6 +189,16 @@ public final class BPOptions {
         private ExcelType excelType;
         private Locale locale;
         private String bundleName;
+        private ImportMode importMode;
+        private ExportMode exportMode;
+        private int rowAccessWindowSize = DEFAULT_ROW_ACCESS_WINDOW_SIZE;
+        private boolean compressTempFiles;
+        private Executor executor;
+        private int rowChunkSize;
+        private boolean failFast;
+        private int maxViolations;
+        private int maxViolationsPerSheet;
+        private int maxViolationsPerRule;
 
         private Builder() {
         }
@@ -89,6 +216,21 @@ public final class BPOptions {
             if (locale == null) {
                 locale = Locale.getDefault();
             }
+            if (importMode == null) {
+                importMode = ImportMode.DOM;
+            }
+            if (exportMode == null) {
+                exportMode = ExportMode.DOM;
+            }
+            if (rowAccessWindowSize <= 0) {
+                throw new IllegalArgumentException("Row access window size must be greater than zero");
+            }
+            if (rowChunkSize < 0) {
+                throw new IllegalArgumentException("Row chunk size must not be negative");
+            }
+            if (maxViolations < 0 || maxViolationsPerSheet < 0 || maxViolationsPerRule < 0) {
+                throw new IllegalArgumentException("Maximum number of violations must not be negative");
+            }
             // bundleName can be null (use library properties) or a valid name
             return new BPOptions(this);
         }
@@ -128,6 +270,165 @@ public final class BPOptions {
             return this;
         }
 
+        /**
+         * Sets whether the temporary files of the streaming export are gzip compressed.
+         * Compression reduces disk usage for large exports at the cost of some CPU time.
+         *
+         * @param compressTempFiles true to compress temporary files, defaults to false
+         * @return this builder for method chaining
+         */
+        public Builder withCompressTempFiles(boolean compressTempFiles) {
+            this.compressTempFiles = compressTempFiles;
+            return this;
+        }
+
+        /**
+         * Sets the strategy used to write Excel files during export.
+         *
+         * <p>{@link ExportMode#STREAMING} writes XLSX sheets with a sliding window of rows, so memory usage does not
+         * grow with the number of exported rows. Column widths are estimated from the written values instead of
+         * being measured with the sheet fonts.</p>
+         *
+         * <p>{@link ExportMode#DIRECT} writes XLSX sheets as XML straight from the exported values, without creating
+         * Apache POI rows and cells. Strings are written inline, header and date cells get their usual styles and
+         * column widths are estimated like in the streaming mode. The same values always produce the same file.</p>
+         *
+         * @param exportMode the export mode, defaults to {@link ExportMode#DOM}
+         * @return this builder for method chaining
+         */
+        public Builder withExportMode(ExportMode exportMode) {
+            this.exportMode = exportMode;
+            return this;
+        }
+
+        /**
+         * Sets the number of rows kept in memory by the streaming export.
+         * Rows outside of this window are flushed to a temporary file and can no longer be accessed.
+         *
+         * @param rowAccessWindowSize the window size, defaults to {@value BPOptions#DEFAULT_ROW_ACCESS_WINDOW_SIZE}
+         * @return this builder for method chaining
+         */
+        public Builder withRowAccessWindowSize(int rowAccessWindowSize) {
+            this.rowAccessWindowSize = rowAccessWindowSize;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to import and export the sheets of a workbook in parallel.
+         *
+         * <p>Each sheet to import is read, validated and bound in its own task, with its own validators. In
+         * {@link ImportMode#STREAMING} each task also parses the XML of its sheet. Objects and validation errors
+         * are merged in sheet order once every sheet has been read, so the result is the same as a sequential
+         * import. Imports passing objects to a row or batch consumer read their sheets one at a time.</p>
+         *
+         * <p>In {@link ExportMode#DOM} the values of each sheet to export are read in their own task, while the
+         * cells are written on the exporting thread in sheet and row order, so the written workbook is the same as
+         * the one of a sequential export. In {@link ExportMode#DIRECT} each sheet is read and written to its own
+         * sheet part in its own task, the styles of every sheet being added beforehand, and the package is
+         * assembled in sheet order, the same as a sequential export. {@link ExportMode#STREAMING} exports read
+         * their sheets one at a time, since reading a whole sheet ahead would keep all its values in memory.</p>
+         *
+         * <p>The executor is not shut down by the library.</p>
+         *
+         * @param executor the executor running the sheet tasks, or null to process sheets one at a time (default)
+         * @return this builder for method chaining
+         */
+        public Builder withExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the number of rows read by each task when the rows of a sheet are read in parallel.
+         *
+         * <p>With an {@linkplain #withExecutor(Executor) executor} and {@link ImportMode#DOM}, the data rows of a
+         * sheet with more rows than this size are split into chunks that are decoded, validated and bound in
+         * parallel, each with its own validators. Objects and validation errors are reassembled in row order.
+         * Row constraints implementing {@link io.github.r4tylmz.betterpoi.constraint.ChunkedConstraint}, such as
+         * duplicate row detection, scan each chunk in its task and merge the results of the chunks; the other
+         * column and row constraints run once on the whole sheet while the chunks are read. Sheets that are
+         * themselves read in parallel are not split.</p>
+         *
+         * @param rowChunkSize the number of rows per chunk, or 0 to read the rows of a sheet in order (default)
+         * @return this builder for method chaining
+         */
+        public Builder withRowChunkSize(int rowChunkSize) {
+            this.rowChunkSize = rowChunkSize;
+            return this;
+        }
+
+        /**
+         * Sets whether validation and import stop at the first violation.
+         * This is the same as a {@linkplain #withMaxViolations(int) maximum number of violations} of one: the rows
+         * and sheets following the first invalid cell, row or column are neither read nor validated.
+         *
+         * @param failFast true to stop at the first violation, defaults to false
+         * @return this builder for method chaining
+         */
+        public Builder withFailFast(boolean failFast) {
+            this.failFast = failFast;
+            return this;
+        }
+
+        /**
+         * Sets the number of violations after which validation and import stop.
+         *
+         * <p>The violation reaching the limit is recorded, then the remaining rows and sheets are neither read nor
+         * validated. Column and row constraints of a sheet report their violations together, so they are recorded
+         * up to the limit and the others are dropped. When a limit is set, the sheets and rows of an import are
+         * read in order, even with an {@linkplain #withExecutor(Executor) executor}, so that reading stops at the
+         * row reaching the limit.</p>
+         *
+         * @param maxViolations the maximum number of violations, or 0 for no limit (default)
+         * @return this builder for method chaining
+         */
+        public Builder withMaxViolations(int maxViolations) {
+            this.maxViolations = maxViolations;
+            return this;
+        }
+
+        /**
+         * Sets the number of violations after which the validation and import of a sheet stop.
+         * The remaining rows of the sheet are neither read nor validated, and the next sheet is read.
+         *
+         * @param maxViolationsPerSheet the maximum number of violations per sheet, or 0 for no limit (default)
+         * @return this builder for method chaining
+         */
+        public Builder withMaxViolationsPerSheet(int maxViolationsPerSheet) {
+            this.maxViolationsPerSheet = maxViolationsPerSheet;
+            return this;
+        }
+
+        /**
+         * Sets the number of violations reported by a single validator or constraint, identified by its class,
+         * after which it is no longer applied. Cell validators reaching the limit are skipped for the remaining
+         * cells, while the other validators keep running.
+         *
+         * @param maxViolationsPerRule the maximum number of violations per rule, or 0 for no limit (default)
+         * @return this builder for method chaining
+         */
+        public Builder withMaxViolationsPerRule(int maxViolationsPerRule) {
+            this.maxViolationsPerRule = maxViolationsPerRule;
+            return this;
+        }
+
+        /**
+         * Sets the strategy used to read Excel files during import.
+         *
+         * <p>{@link ImportMode#STREAMING} reads XLSX sheets with the event API, so memory usage depends on the
+         * width of a row instead of the size of the sheet. Cell validators are applied in this mode, and so are
+         * column and row constraints implementing {@link io.github.r4tylmz.betterpoi.constraint.IncrementalConstraint},
+         * such as the header mismatch and duplicate row constraints; other constraints need random access to the
+         * whole sheet and are not applied.</p>
+         *
+         * @param importMode the import mode, defaults to {@link ImportMode#DOM}
+         * @return this builder for method chaining
+         */
+        public Builder withImportMode(ImportMode importMode) {
+            this.importMode = importMode;
+            return this;
+        }
+
         /**
          * Sets the locale for internationalization.
          * 
@@ -0,0 +1,24 @@
+package io.github.r4tylmz.betterpoi;
+
+import java.util.List;
+
+/**
+ * BPPageSupplier provides the rows of a sheet one page at a time during export.
+ * A field annotated with {@link io.github.r4tylmz.betterpoi.annotation.BPSheet} may hold a BPPageSupplier instead of
+ * a list, so that rows can be fetched from a database or a remote service page by page while the workbook is written.
+ * Only the current page is referenced by the exporter.
+ *
+ * @param <T> the type of the rows
+ */
+@FunctionalInterface
+public interface BPPageSupplier<T> {
+
+    /**
+     * Retrieves the page with the given index.
+     * Pages are requested in order, starting from 0, until a null or empty page is returned.
+     *
+     * @param pageIndex the 0-based index of the page
+     * @return the rows of the page, or null or an empty list if there are no more rows
+     */
+    List<T> getPage(int pageIndex);
+}
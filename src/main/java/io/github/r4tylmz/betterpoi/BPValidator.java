@@ -1,13 +1,16 @@
 package io.github.r4tylmz.betterpoi;
 
-import io.github.r4tylmz.betterpoi.annotation.BPColumn;
 import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.constraint.ChunkedConstraint;
 import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
 import io.github.r4tylmz.betterpoi.utils.RowUtil;
 import io.github.r4tylmz.betterpoi.validation.CellValidatorManager;
 import io.github.r4tylmz.betterpoi.validation.ColValidatorManager;
 import io.github.r4tylmz.betterpoi.validation.RowValidatorManager;
-import org.apache.poi.ss.usermodel.Cell;
+import io.github.r4tylmz.betterpoi.validation.SheetValidationPlan;
+import io.github.r4tylmz.betterpoi.validation.ValidatorRegistry;
+import io.github.r4tylmz.betterpoi.validation.Violation;
+import io.github.r4tylmz.betterpoi.validation.ViolationBudget;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -17,11 +20,14 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * BPValidator is responsible for validating an Excel workbook.
@@ -30,11 +36,15 @@ public class BPValidator {
     private static final Logger logger = LoggerFactory.getLogger(BPValidator.class);
     private Class<?> workBookClass;
     private BPMetadataHandler bpMetadataHandler;
-    private final ArrayList<String> errorMessages = new ArrayList<>();
-    private final RowValidatorManager rowValidatorManager;
-    private final ColValidatorManager colValidatorManager;
+    private final List<Violation> violations = new ArrayList<>();
+    private RowValidatorManager rowValidatorManager;
+    private ColValidatorManager colValidatorManager;
     private MessageSourceService messageSourceService;
     private CellValidatorManager cellValidatorManager;
+    private ValidatorRegistry validatorRegistry;
+    private final Map<BPSheet, SheetValidationPlan> validationPlans = new HashMap<>();
+    private SheetValidationPlan lastValidationPlan;
+    private final ViolationBudget budget;
 
     /**
      * Constructor for BPValidator.
@@ -43,16 +53,56 @@ public class BPValidator {
      * @param messageSourceService the service for retrieving localized messages
      */
     public BPValidator(Object workbook, MessageSourceService messageSourceService) {
+        this(workbook, messageSourceService, ViolationBudget.unlimited());
+    }
+
+    /**
+     * Constructor for BPValidator stopping at the violation limits of the given options.
+     *
+     * @param workbook the workbook to validate
+     * @param messageSourceService the service for retrieving localized messages
+     * @param options the options holding the fail-fast and maximum violation settings
+     */
+    public BPValidator(Object workbook, MessageSourceService messageSourceService, BPOptions options) {
+        this(workbook, messageSourceService, ViolationBudget.of(options));
+    }
+
+    /**
+     * Constructor for BPValidator recording violations within the given budget.
+     *
+     * @param workbook the workbook to validate
+     * @param messageSourceService the service for retrieving localized messages
+     * @param budget the budget of the violations, owned by this validator
+     */
+    BPValidator(Object workbook, MessageSourceService messageSourceService, ViolationBudget budget) {
         if (workbook == null) {
             throw new IllegalArgumentException("workbook can't be null");
         }
         if (messageSourceService == null) {
             throw new IllegalArgumentException("messageSourceService must not be null");
         }
-        this.messageSourceService = messageSourceService;
         this.workBookClass = workbook.getClass();
-        this.rowValidatorManager = new RowValidatorManager(messageSourceService);
-        this.colValidatorManager = new ColValidatorManager(messageSourceService);
+        this.budget = budget;
+        useMessageSourceService(messageSourceService);
+    }
+
+    /**
+     * Sets the message source service and, if it changed, the validator registry and managers built on it.
+     * Validators are resolved once per registry, so every cell, column and sheet reuses the same instances.
+     *
+     * @param messageSourceService the service for retrieving localized messages
+     */
+    private void useMessageSourceService(MessageSourceService messageSourceService) {
+        if (this.messageSourceService == messageSourceService && validatorRegistry != null) {
+            return;
+        }
+        this.messageSourceService = messageSourceService;
+        this.validatorRegistry = new ValidatorRegistry(messageSourceService);
+        this.rowValidatorManager = new RowValidatorManager(validatorRegistry);
+        this.colValidatorManager = new ColValidatorManager(validatorRegistry);
+        this.cellValidatorManager = new CellValidatorManager(null, validatorRegistry);
+        validationPlans.clear();
+        lastValidationPlan = null;
     }
 
 
@@ -72,17 +122,82 @@ public class BPValidator {
     }
 
     /**
-     * Retrieves the error messages from the validation process.
+     * Retrieves the error messages from the validation process, rendered from the recorded violations.
      *
      * @return a list of error messages
      * @throws IllegalArgumentException if workBookClass is null
      */
     public List<String> getErrorMessages() {
+        return Violation.renderMessages(getViolations());
+    }
+
+    /**
+     * Retrieves the violations recorded by the validation process, in the order they were found.
+     * Their messages are not rendered until requested.
+     *
+     * @return an unmodifiable view of the violations
+     * @throws IllegalArgumentException if workBookClass is null
+     */
+    public List<Violation> getViolations() {
         if (workBookClass == null) {
             throw new IllegalArgumentException("WorkBookClass must not be null");
         }
 
-        return errorMessages;
+        return Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Records violations found by another validator, such as the validator of a chunk of rows.
+     *
+     * @param violations the violations to record
+     */
+    void addViolations(List<Violation> violations) {
+        record(violations, this.violations);
+    }
+
+    /**
+     * Adds the violations allowed by the budget to the given list.
+     *
+     * @param found the violations found
+     * @param target the list receiving the recorded violations
+     */
+    private void record(List<Violation> found, List<Violation> target) {
+        for (Violation violation : found) {
+            if (budget.accept(violation)) {
+                target.add(violation);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a violation limit of the options stopped the validation. Once it returns true, the remaining
+     * rows and sheets do not need to be read.
+     *
+     * @return true if fail-fast is enabled and a violation was found, or the maximum number of violations is reached
+     */
+    public boolean isValidationLimitReached() {
+        return budget.isExhausted();
+    }
+
+    /**
+     * Checks whether a violation limit of the options stopped the validation of the given sheet. Once it returns
+     * true, the remaining rows of the sheet do not need to be read.
+     *
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return true if the validation of the whole workbook or of the sheet stopped
+     */
+    public boolean isSheetLimitReached(BPSheet bpSheet) {
+        return budget.isSheetExhausted(bpSheet.sheetName());
+    }
+
+    /**
+     * Checks whether any violation limit of the options was reached, so that the recorded violations may not be
+     * all the violations of the workbook.
+     *
+     * @return true if a total, sheet or rule limit was reached
+     */
+    public boolean isAnyLimitReached() {
+        return budget.isAnyLimitReached();
     }
 
     /**
@@ -100,7 +215,8 @@ public class BPValidator {
             }
 
             if (sheet == null || (sheet.getSheetName() != null && !sheet.getSheetName().equals(bpSheet.sheetName()))) {
-                errorMessages.add(messageSourceService.getMessage("sheet.not.found.error", bpSheet.sheetName()));
+                record(Collections.singletonList(
+                        Violation.ofSheet(bpSheet.sheetName(), "sheet.not.found.error", messageSourceService)), violations);
                 return false;
             }
         }
@@ -109,6 +225,7 @@ public class BPValidator {
 
     /**
      * Validates the given Excel workbook.
+     * The workbook is owned by the caller and is not closed.
      *
      * @param workbook the workbook to validate
      * @param messageSourceService the service for retrieving localized messages
@@ -121,14 +238,15 @@ public class BPValidator {
             throw new IllegalArgumentException("WorkBookClass must not be null");
         }
 
-        final List<String> violations = new ArrayList<>();
+        final List<Violation> sheetViolations = new ArrayList<>();
         bpMetadataHandler = new BPMetadataHandler(workBookClass);
-        this.messageSourceService = messageSourceService;
+        useMessageSourceService(messageSourceService);
         try {
-            final BPFormatter bpFormatter = new BPFormatter(workbook);
-            cellValidatorManager = new CellValidatorManager(bpFormatter, messageSourceService);
             final List<BPSheet> bpSheets = bpMetadataHandler.getSheets();
             for (final BPSheet bpSheet : bpSheets) {
+                if (budget.isExhausted()) {
+                    break;
+                }
                 if (bpSheet.toImport()) {
                     final int sheetIndex = workbook.getSheetIndex(bpSheet.sheetName());
                     if (sheetIndex == -1 || workbook.isSheetHidden(sheetIndex) || workbook.isSheetVeryHidden(sheetIndex)) {
@@ -138,22 +256,14 @@ public class BPValidator {
                     if (!isSheetExist(workbook, bpSheet)) {
                         continue;
                     }
-                    violations.addAll(validateSheet(sheet, bpSheet));
+                    sheetViolations.addAll(getSheetViolations(sheet, bpSheet));
                 }
             }
         } catch (Exception e) {
             throw new RuntimeException(e);
-        } finally {
-            try {
-                if (workbook != null) {
-                    workbook.close();
-                }
-            } catch (IOException e) {
-                logger.error(e.getMessage(), e);
-            }
         }
-        errorMessages.addAll(violations);
-        return errorMessages.isEmpty();
+        violations.addAll(sheetViolations);
+        return violations.isEmpty();
     }
 
     /**
@@ -169,22 +279,23 @@ public class BPValidator {
             throw new IllegalArgumentException("WorkBookClass must not be null");
         }
 
-        final Set<String> violations = new HashSet<>();
+        final Set<String> errorMessages = new HashSet<>();
         bpMetadataHandler = new BPMetadataHandler(workBookClass);
         XSSFWorkbook workbook = null;
         try {
             workbook = new XSSFWorkbook(inputStream);
-            final BPFormatter bpFormatter = new BPFormatter(workbook);
-            this.cellValidatorManager = new CellValidatorManager(bpFormatter, this.messageSourceService);
             final List<BPSheet> bpSheets = bpMetadataHandler.getSheets();
             for (final BPSheet bpSheet : bpSheets) {
+                if (budget.isExhausted()) {
+                    break;
+                }
                 if (bpSheet.toImport()) {
                     final Sheet sheet = workbook.getSheet(bpSheet.sheetName());
                     if (!isSheetExist(workbook, bpSheet)) {
                         continue;
                     }
 
-                    violations.addAll(validateSheet(sheet, bpSheet));
+                    errorMessages.addAll(validateSheet(sheet, bpSheet));
                 }
             }
         } catch (IOException e) {
@@ -198,29 +309,40 @@ public class BPValidator {
                 logger.error(e.getMessage(), e);
             }
         }
-        return violations;
+        return errorMessages;
     }
 
     /**
-     * Validates the columns of the given sheet.
+     * Runs the column and row constraints of the given sheet.
      *
      * @param sheet the sheet to validate
      * @param bpSheet the BPSheet annotation containing metadata for the sheet
-     * @return a set of validation error messages
+     * @param chunkResults gives the chunk results of a chunked row constraint, or null to validate the whole sheet
+     * @return a list of violations
      */
-    private Set<String> validateCols(Sheet sheet, BPSheet bpSheet) {
-        return new HashSet<>(colValidatorManager.validate(sheet, bpSheet));
+    private List<Violation> getConstraintViolations(Sheet sheet, BPSheet bpSheet,
+                                                    Function<ChunkedConstraint<?>, List<?>> chunkResults) {
+        final List<Violation> sheetViolations = new ArrayList<>();
+        sheetViolations.addAll(colValidatorManager.getViolations(sheet, bpSheet));
+        sheetViolations.addAll(rowValidatorManager.getViolations(sheet, bpSheet, chunkResults));
+        return sheetViolations;
     }
 
     /**
-     * Validates the rows of the given sheet.
+     * Runs the column and row constraints of the given sheet and keeps the violations allowed by the budget.
      *
      * @param sheet the sheet to validate
      * @param bpSheet the BPSheet annotation containing metadata for the sheet
-     * @return a set of validation error messages
+     * @param chunkResults gives the chunk results of a chunked row constraint, or null to validate the whole sheet
+     * @return a list of the recorded violations
      */
-    private Set<String> validateRows(Sheet sheet, BPSheet bpSheet) {
-        return new HashSet<>(rowValidatorManager.validate(sheet, bpSheet));
+    private List<Violation> recordConstraintViolations(Sheet sheet, BPSheet bpSheet,
+                                                       Function<ChunkedConstraint<?>, List<?>> chunkResults) {
+        final List<Violation> sheetViolations = new ArrayList<>();
+        if (!budget.isSheetExhausted(bpSheet.sheetName())) {
+            record(getConstraintViolations(sheet, bpSheet, chunkResults), sheetViolations);
+        }
+        return sheetViolations;
     }
 
     /**
@@ -231,29 +353,180 @@ public class BPValidator {
      * @return a list of validation error messages
      */
     public List<String> validateSheet(Sheet sheet, BPSheet bpSheet) {
-        final List<String> sheetViolations = new ArrayList<>();
-        sheetViolations.addAll(validateCols(sheet, bpSheet));
-        sheetViolations.addAll(validateRows(sheet, bpSheet));
-        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+        return Violation.renderMessages(getSheetViolations(sheet, bpSheet));
+    }
+
+    /**
+     * Validates the given sheet without rendering the messages of its violations.
+     *
+     * @param sheet the sheet to validate
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return a list of violations
+     */
+    private List<Violation> getSheetViolations(Sheet sheet, BPSheet bpSheet) {
+        final List<Violation> sheetViolations = recordConstraintViolations(sheet, bpSheet, null);
+        final SheetValidationPlan validationPlan = getValidationPlan(bpSheet);
+        for (int i = 1; i <= sheet.getLastRowNum() && !budget.isSheetExhausted(bpSheet.sheetName()); i++) {
             Row row = sheet.getRow(i);
             if (RowUtil.isRowEmpty(row)) {
                 continue;
             }
-            final BPColumn[] bpColumns = bpSheet.columns();
-            for (int column = 0; column < bpColumns.length; column++) {
-                final BPColumn bpColumn = bpColumns[column];
-                Cell cell = row.getCell(column);
-                if (cell == null) {
-                    cell = row.createCell(column);
-                }
-                final Field field = bpMetadataHandler.getField(bpSheet);
-                CellValidatorManager cellValidatorManager = new CellValidatorManager(new BPFormatter(sheet.getWorkbook()), this.messageSourceService);
-                sheetViolations.addAll(cellValidatorManager.validate(cell, bpColumn, field));
-            }
+            addCellViolations(row, validationPlan, sheetViolations);
         }
         return sheetViolations;
     }
 
+    /**
+     * Validates the cells of a single data row and records the violations.
+     * This is used when rows are read one at a time and the whole sheet is not available.
+     *
+     * @param row the row to validate
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return true if the row is valid, false otherwise
+     */
+    public boolean validateRow(Row row, BPSheet bpSheet) {
+        if (RowUtil.isRowEmpty(row)) {
+            return true;
+        }
+        final int violationCount = violations.size();
+        addCellViolations(row, getValidationPlan(bpSheet), violations);
+        return violations.size() == violationCount;
+    }
+
+    /**
+     * Runs the column and row constraints of the given sheet and records the violations.
+     * Together with {@link #validateCell(Row, SheetValidationPlan.ColumnPlan)} this allows a sheet to be validated
+     * while its rows are being read, instead of in a separate pass.
+     *
+     * @param sheet the sheet to validate
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return true if the sheet satisfies its constraints, false otherwise
+     */
+    public boolean validateSheetConstraints(Sheet sheet, BPSheet bpSheet) {
+        return validateSheetConstraints(sheet, bpSheet, null);
+    }
+
+    /**
+     * Runs the column and row constraints of the given sheet and records the violations, the row constraints
+     * implementing {@link ChunkedConstraint} merging the results of the chunks the sheet was scanned in.
+     * Chunk results are requested in declaration order of the constraints, so the constraints before a chunked
+     * constraint run while the chunks are still being scanned.
+     *
+     * @param sheet the sheet to validate
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @param chunkResults gives the chunk results of a chunked row constraint, in row order, or null to validate
+     *                     the whole sheet with every constraint
+     * @return true if the sheet satisfies its constraints, false otherwise
+     */
+    public boolean validateSheetConstraints(Sheet sheet, BPSheet bpSheet,
+                                            Function<ChunkedConstraint<?>, List<?>> chunkResults) {
+        final List<Violation> sheetViolations = recordConstraintViolations(sheet, bpSheet, chunkResults);
+        violations.addAll(sheetViolations);
+        return sheetViolations.isEmpty();
+    }
+
+    /**
+     * Retrieves the row constraints of the given sheet that can validate it in chunks scanned at the same time.
+     *
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return the chunked row constraints, in declaration order
+     */
+    public List<ChunkedConstraint<?>> getChunkedConstraints(BPSheet bpSheet) {
+        return rowValidatorManager.getChunkedConstraints(bpSheet);
+    }
+
+    /**
+     * Starts the column and row constraints of the given sheet that can validate it one row at a time.
+     * Used with {@link #validateRowConstraints(Row, BPSheet)} and {@link #completeSheetConstraints(BPSheet)}
+     * when the whole sheet is not available, such as in the streaming import; the other constraints are skipped.
+     *
+     * @param headerRow the header row of the sheet
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     */
+    public void startSheetConstraints(Row headerRow, BPSheet bpSheet) {
+        colValidatorManager.onHeader(headerRow, bpSheet);
+        rowValidatorManager.onHeader(headerRow, bpSheet);
+    }
+
+    /**
+     * Passes a row following the header row to the incremental constraints of the given sheet.
+     *
+     * @param row the row, valid only during the call
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     */
+    public void validateRowConstraints(Row row, BPSheet bpSheet) {
+        colValidatorManager.onRow(row, bpSheet);
+        rowValidatorManager.onRow(row, bpSheet);
+    }
+
+    /**
+     * Completes the incremental constraints of the given sheet and records the violations.
+     *
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return true if the sheet satisfies its incremental constraints, false otherwise
+     */
+    public boolean completeSheetConstraints(BPSheet bpSheet) {
+        final List<Violation> sheetViolations = new ArrayList<>();
+        sheetViolations.addAll(colValidatorManager.onComplete(bpSheet));
+        sheetViolations.addAll(rowValidatorManager.onComplete(bpSheet));
+        record(sheetViolations, violations);
+        return sheetViolations.isEmpty();
+    }
+
+    /**
+     * Runs the cell validators of a single column on the given row and records the violations.
+     * A missing cell is validated as a blank cell without being added to the row. The cell is not validated once a
+     * violation limit stopped the validation of its sheet.
+     *
+     * @param row the row containing the cell
+     * @param column the compiled validation plan of the column
+     * @return true if the cell is valid, false otherwise
+     */
+    public boolean validateCell(Row row, SheetValidationPlan.ColumnPlan column) {
+        if (budget.isSheetExhausted(column.getSheetName())) {
+            return true;
+        }
+        final List<Violation> cellViolations = cellValidatorManager.getViolations(row, column, budget);
+        record(cellViolations, violations);
+        return cellViolations.isEmpty();
+    }
+
+    /**
+     * Retrieves the validation plan of the given sheet, compiling it on first use.
+     *
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return the validation plan of the sheet
+     */
+    public SheetValidationPlan getValidationPlan(BPSheet bpSheet) {
+        if (lastValidationPlan != null && lastValidationPlan.getBpSheet() == bpSheet) {
+            return lastValidationPlan;
+        }
+        SheetValidationPlan validationPlan = validationPlans.get(bpSheet);
+        if (validationPlan == null) {
+            validationPlan = SheetValidationPlan.compile(bpSheet, validatorRegistry);
+            validationPlans.put(bpSheet, validationPlan);
+        }
+        lastValidationPlan = validationPlan;
+        return validationPlan;
+    }
+
+    /**
+     * Runs the cell validators of every column on the given row, until a violation limit stops the validation of
+     * the sheet.
+     *
+     * @param row the row to validate
+     * @param validationPlan the compiled validation plan of the row's sheet
+     * @param rowViolations the list receiving the violations
+     */
+    private void addCellViolations(Row row, SheetValidationPlan validationPlan, List<Violation> rowViolations) {
+        for (SheetValidationPlan.ColumnPlan column : validationPlan.getColumns()) {
+            if (budget.isSheetExhausted(column.getSheetName())) {
+                return;
+            }
+            record(cellValidatorManager.getViolations(row, column, budget), rowViolations);
+        }
+    }
+
     public void setWorkBookClass(Class<?> workBookClass) {
         this.workBookClass = workBookClass;
     }
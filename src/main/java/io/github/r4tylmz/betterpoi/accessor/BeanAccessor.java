@@ -0,0 +1,120 @@
+package io.github.r4tylmz.betterpoi.accessor;
+
+import org.apache.commons.beanutils.MethodUtils;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Property accessors of a bean class, built once per class and shared.
+ * Properties are discovered with the same JavaBeans introspection as commons-beanutils, so a property can be read
+ * or written through this class exactly when {@link org.apache.commons.beanutils.PropertyUtils} could. Property
+ * expressions that are not simple property names, such as {@code "address.city"}, are delegated to
+ * {@link org.apache.commons.beanutils.PropertyUtils}.
+ * <p>
+ * Callers on hot paths should resolve a {@link PropertyAccessor} once with {@link #getProperty(String)} and
+ * reuse it for every bean.
+ */
+public final class BeanAccessor {
+    private static final ClassValue<BeanAccessor> ACCESSORS = new ClassValue<BeanAccessor>() {
+        @Override
+        protected BeanAccessor computeValue(Class<?> beanClass) {
+            return new BeanAccessor(beanClass);
+        }
+    };
+    private final Class<?> beanClass;
+    private final Map<String, PropertyAccessor> properties;
+
+    private BeanAccessor(Class<?> beanClass) {
+        this.beanClass = beanClass;
+        this.properties = Collections.unmodifiableMap(introspect(beanClass));
+    }
+
+    /**
+     * Retrieves the accessors of the given bean class, building them on first use.
+     *
+     * @param beanClass the bean class
+     * @return the accessors of the bean class
+     */
+    public static BeanAccessor of(Class<?> beanClass) {
+        if (beanClass == null) {
+            throw new IllegalArgumentException("Bean class cannot be null");
+        }
+        return ACCESSORS.get(beanClass);
+    }
+
+    private static Map<String, PropertyAccessor> introspect(Class<?> beanClass) {
+        if (Map.class.isAssignableFrom(beanClass)) {
+            // PropertyUtils reads map entries instead of bean properties
+            return new HashMap<>();
+        }
+        final BeanInfo beanInfo;
+        try {
+            beanInfo = Introspector.getBeanInfo(beanClass);
+        } catch (IntrospectionException e) {
+            throw new IllegalStateException("Failed to introspect bean class: " + beanClass.getName(), e);
+        }
+        final Map<String, PropertyAccessor> properties = new HashMap<>();
+        for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
+            if (descriptor.getPropertyType() == null) {
+                continue;
+            }
+            final Method readMethod = MethodUtils.getAccessibleMethod(beanClass, descriptor.getReadMethod());
+            final Method writeMethod = MethodUtils.getAccessibleMethod(beanClass, descriptor.getWriteMethod());
+            try {
+                properties.put(descriptor.getName(), PropertyAccessor.of(beanClass, descriptor.getName(),
+                        descriptor.getPropertyType(), readMethod, writeMethod));
+            } catch (IllegalAccessException e) {
+                properties.put(descriptor.getName(), PropertyAccessor.delegating(descriptor.getName()));
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Retrieves the accessor of the given property.
+     * Names that are not properties of the bean class get an accessor delegating to
+     * {@link org.apache.commons.beanutils.PropertyUtils}, which reports unknown properties when it is used.
+     *
+     * @param name the name of the property
+     * @return the property accessor
+     */
+    public PropertyAccessor getProperty(String name) {
+        final PropertyAccessor accessor = properties.get(name);
+        return accessor != null ? accessor : PropertyAccessor.delegating(name);
+    }
+
+    /**
+     * Reads the given property of the bean.
+     *
+     * @param bean the bean to read
+     * @param name the name of the property
+     * @return the value of the property
+     * @throws ReflectiveOperationException if the property is not readable or its getter failed
+     */
+    public Object get(Object bean, String name) throws ReflectiveOperationException {
+        return getProperty(name).get(bean);
+    }
+
+    /**
+     * Writes the given property of the bean.
+     *
+     * @param bean  the bean to write
+     * @param name  the name of the property
+     * @param value the new value
+     * @throws ReflectiveOperationException if the property is not writable or its setter failed
+     */
+    public void set(Object bean, String name, Object value) throws ReflectiveOperationException {
+        getProperty(name).set(bean, value);
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+}
@@ -0,0 +1,319 @@
+package io.github.r4tylmz.betterpoi.accessor;
+
+import org.apache.commons.beanutils.PropertyUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Reads and writes a single property of a bean class.
+ * The getter and setter are bound once, when the accessor is created: they are implemented by classes generated
+ * with {@link LambdaMetafactory} when the bean class is visible from this library, and by {@link MethodHandle}s
+ * otherwise. Each call is then a plain interface call that the JIT can inline, instead of the introspection and
+ * name lookups done by {@link PropertyUtils} on every call.
+ * <p>
+ * Properties of type {@code int}, {@code long} and {@code double} also get a setter taking the primitive value,
+ * so that numeric columns can be bound without boxing.
+ */
+public final class PropertyAccessor {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private final String name;
+    private final Class<?> type;
+    private final Getter getter;
+    private final Setter setter;
+    private final IntSetter intSetter;
+    private final LongSetter longSetter;
+    private final DoubleSetter doubleSetter;
+
+    private PropertyAccessor(String name, Class<?> type, Getter getter, Setter setter, IntSetter intSetter,
+                             LongSetter longSetter, DoubleSetter doubleSetter) {
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+        this.intSetter = intSetter;
+        this.longSetter = longSetter;
+        this.doubleSetter = doubleSetter;
+    }
+
+    /**
+     * Creates an accessor for a property exposed by the given accessor methods.
+     *
+     * @param beanClass   the class declaring the property
+     * @param name        the name of the property
+     * @param type        the type of the property
+     * @param readMethod  the accessible getter, or null if the property cannot be read
+     * @param writeMethod the accessible setter, or null if the property cannot be written
+     * @return the property accessor
+     * @throws IllegalAccessException if one of the methods cannot be accessed
+     */
+    static PropertyAccessor of(Class<?> beanClass, String name, Class<?> type, Method readMethod,
+                               Method writeMethod) throws IllegalAccessException {
+        final boolean generate = isVisible(beanClass) && isVisible(type);
+        final Getter getter = readMethod == null ? missingGetter(beanClass, name) : getter(readMethod, generate);
+        final Setter setter = writeMethod == null ? missingSetter(beanClass, name) : setter(writeMethod, generate);
+        IntSetter intSetter = null;
+        LongSetter longSetter = null;
+        DoubleSetter doubleSetter = null;
+        if (writeMethod != null && generate) {
+            final MethodHandle handle = LOOKUP.unreflect(writeMethod);
+            final MethodType samType = MethodType.methodType(void.class, Object.class, type);
+            if (type == int.class) {
+                intSetter = generate(IntSetter.class, "set", handle, samType);
+            } else if (type == long.class) {
+                longSetter = generate(LongSetter.class, "set", handle, samType);
+            } else if (type == double.class) {
+                doubleSetter = generate(DoubleSetter.class, "set", handle, samType);
+            }
+        }
+        return new PropertyAccessor(name, type, getter, setter, intSetter, longSetter, doubleSetter);
+    }
+
+    /**
+     * Creates an accessor that delegates to {@link PropertyUtils}, for property expressions that are not
+     * simple properties of the bean class, such as nested or mapped properties.
+     *
+     * @param name the property expression
+     * @return the property accessor
+     */
+    static PropertyAccessor delegating(String name) {
+        return new PropertyAccessor(name, Object.class,
+                bean -> PropertyUtils.getProperty(bean, name),
+                (bean, value) -> PropertyUtils.setProperty(bean, name, value),
+                null, null, null);
+    }
+
+    private static Getter getter(Method readMethod, boolean generate) throws IllegalAccessException {
+        final MethodHandle handle = LOOKUP.unreflect(readMethod);
+        if (generate) {
+            final Getter getter = generate(Getter.class, "get", handle,
+                    MethodType.methodType(Object.class, Object.class));
+            if (getter != null) {
+                return getter;
+            }
+        }
+        final MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return bean -> (Object) generic.invokeExact(bean);
+    }
+
+    private static Setter setter(Method writeMethod, boolean generate) throws IllegalAccessException {
+        final MethodHandle handle = LOOKUP.unreflect(writeMethod);
+        if (generate) {
+            final Setter setter = generate(Setter.class, "set", handle,
+                    MethodType.methodType(void.class, Object.class, Object.class));
+            if (setter != null) {
+                return setter;
+            }
+        }
+        final MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (bean, value) -> generic.invokeExact(bean, value);
+    }
+
+    /**
+     * Generates an implementation of the given functional interface that calls the method handle directly.
+     * Primitive values are boxed or unboxed between the interface method and the handle as needed.
+     *
+     * @param functionalInterface the interface to implement
+     * @param methodName          the name of the interface method
+     * @param handle              the getter or setter to call
+     * @param samType             the erased type of the interface method
+     * @return the generated implementation, or null if it could not be generated
+     */
+    private static <F> F generate(Class<F> functionalInterface, String methodName, MethodHandle handle,
+                                  MethodType samType) {
+        MethodType instantiatedType = handle.type();
+        for (int i = 1; i < instantiatedType.parameterCount(); i++) {
+            final Class<?> parameterType = instantiatedType.parameterType(i);
+            if (parameterType.isPrimitive() && !samType.parameterType(i).isPrimitive()) {
+                instantiatedType = instantiatedType.changeParameterType(i, box(parameterType));
+            }
+        }
+        if (instantiatedType.returnType().isPrimitive() && instantiatedType.returnType() != void.class) {
+            instantiatedType = instantiatedType.changeReturnType(box(instantiatedType.returnType()));
+        }
+        try {
+            final CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, methodName,
+                    MethodType.methodType(functionalInterface), samType, handle, instantiatedType);
+            return functionalInterface.cast(callSite.getTarget().invoke());
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static Class<?> box(Class<?> primitive) {
+        return MethodType.methodType(primitive).wrap().returnType();
+    }
+
+    private static Getter missingGetter(Class<?> beanClass, String name) {
+        return bean -> {
+            throw new NoSuchMethodException("Property '" + name + "' has no getter method in class '" + beanClass + "'");
+        };
+    }
+
+    private static Setter missingSetter(Class<?> beanClass, String name) {
+        return (bean, value) -> {
+            throw new NoSuchMethodException("Property '" + name + "' has no setter method in class '" + beanClass + "'");
+        };
+    }
+
+    /**
+     * Checks whether classes generated by this library can link against the given class.
+     * Generated classes are defined in the class loader of the library, which may not see classes loaded by a
+     * child class loader, such as the one of a web application.
+     *
+     * @param type the class to check
+     * @return true if the class resolves to itself from the class loader of the library
+     */
+    private static boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, PropertyAccessor.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Rethrows a failure of a getter or setter the way {@link PropertyUtils} reports it: reflective errors
+     * are passed through and exceptions thrown by the accessor method are wrapped.
+     */
+    private static ReflectiveOperationException wrap(Throwable e) {
+        if (e instanceof ReflectiveOperationException) {
+            return (ReflectiveOperationException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new InvocationTargetException(e);
+    }
+
+    /**
+     * Reads the property from the given bean.
+     *
+     * @param bean the bean to read
+     * @return the value of the property
+     * @throws ReflectiveOperationException if the property is not readable or its getter failed
+     */
+    public Object get(Object bean) throws ReflectiveOperationException {
+        try {
+            return getter.get(bean);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    /**
+     * Writes the property of the given bean.
+     *
+     * @param bean  the bean to write
+     * @param value the new value, which must be assignable to the property type
+     * @throws ReflectiveOperationException if the property is not writable or its setter failed
+     */
+    public void set(Object bean, Object value) throws ReflectiveOperationException {
+        try {
+            setter.set(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    /**
+     * Writes an {@code int} value, without boxing when the property is of type {@code int}.
+     *
+     * @param bean  the bean to write
+     * @param value the new value
+     * @throws ReflectiveOperationException if the property is not writable or its setter failed
+     */
+    public void setInt(Object bean, int value) throws ReflectiveOperationException {
+        if (intSetter == null) {
+            set(bean, value);
+            return;
+        }
+        try {
+            intSetter.set(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    /**
+     * Writes a {@code long} value, without boxing when the property is of type {@code long}.
+     *
+     * @param bean  the bean to write
+     * @param value the new value
+     * @throws ReflectiveOperationException if the property is not writable or its setter failed
+     */
+    public void setLong(Object bean, long value) throws ReflectiveOperationException {
+        if (longSetter == null) {
+            set(bean, value);
+            return;
+        }
+        try {
+            longSetter.set(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    /**
+     * Writes a {@code double} value, without boxing when the property is of type {@code double}.
+     *
+     * @param bean  the bean to write
+     * @param value the new value
+     * @throws ReflectiveOperationException if the property is not writable or its setter failed
+     */
+    public void setDouble(Object bean, double value) throws ReflectiveOperationException {
+        if (doubleSetter == null) {
+            set(bean, value);
+            return;
+        }
+        try {
+            doubleSetter.set(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    @FunctionalInterface
+    interface Getter {
+        Object get(Object bean) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Setter {
+        void set(Object bean, Object value) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface IntSetter {
+        void set(Object bean, int value) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface LongSetter {
+        void set(Object bean, long value) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface DoubleSetter {
+        void set(Object bean, double value) throws Throwable;
+    }
+}
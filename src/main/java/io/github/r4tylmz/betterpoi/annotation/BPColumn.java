@@ -26,6 +26,8 @@ public @interface BPColumn {
 
     /**
      * Specifies the date pattern to be used for the column.
+     * On export it is the format of the date cells; on import, dates stored as text are parsed with this
+     * pattern before the default patterns of {@link io.github.r4tylmz.betterpoi.utils.CellUtil#DATE_PATTERNS}.
      *
      * @return the date pattern as a string
      */
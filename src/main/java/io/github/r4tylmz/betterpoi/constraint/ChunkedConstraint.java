@@ -0,0 +1,43 @@
+package io.github.r4tylmz.betterpoi.constraint;
+
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Row constraint that validates a sheet in chunks of rows scanned at the same time, then merges the results of
+ * the chunks. A {@link RowConstraint} implementing this interface is applied this way when the rows of a sheet are
+ * read in parallel, see {@link io.github.r4tylmz.betterpoi.BPOptions.Builder#withRowChunkSize(int)}; otherwise
+ * {@link RowConstraint#validate(Sheet, BPSheet)} is called.
+ *
+ * <p>{@link #scan(Sheet, int, int, BPSheet)} is called once per chunk from the thread reading the chunk, and runs
+ * at the same time for several chunks: it must neither change the state of the constraint nor write to the sheet.
+ * {@link #merge(Sheet, List, BPSheet)} is then called once, with the results of all chunks in row order.</p>
+ *
+ * @param <P> the type of the result of a chunk
+ */
+public interface ChunkedConstraint<P> {
+
+    /**
+     * Scans a chunk of rows of the sheet.
+     *
+     * @param sheet    the Excel sheet being validated
+     * @param firstRow the index of the first row of the chunk
+     * @param lastRow  the index of the last row of the chunk, inclusive
+     * @param bpSheet  the BPSheet annotation containing validation rules
+     * @return the result of the chunk
+     */
+    P scan(Sheet sheet, int firstRow, int lastRow, BPSheet bpSheet);
+
+    /**
+     * Merges the results of the chunks covering the data rows of the sheet.
+     *
+     * @param sheet   the Excel sheet being validated
+     * @param chunks  the results of the chunks, in row order
+     * @param bpSheet the BPSheet annotation containing validation rules
+     * @return a map where the key is the row index and the value is the validation error message
+     */
+    Map<Integer, String> merge(Sheet sheet, List<P> chunks, BPSheet bpSheet);
+}
@@ -40,6 +40,18 @@ public class ConstraintFactory {
         return instance;
     }
 
+    /**
+     * Creates a new ConstraintFactory bound to the given message source service.
+     * Unlike {@link #getInstance(MessageSourceService)}, the returned factory is not shared, so the constraints it
+     * creates always use the given service.
+     *
+     * @param messageSourceService the service for retrieving localized messages
+     * @return a new ConstraintFactory
+     */
+    public static ConstraintFactory create(MessageSourceService messageSourceService) {
+        return new ConstraintFactory(messageSourceService);
+    }
+
     /**
      * Creates an instance of the specified cell validator class.
      *
@@ -0,0 +1,45 @@
+package io.github.r4tylmz.betterpoi.constraint;
+
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.util.Map;
+
+/**
+ * Constraint that validates a sheet one row at a time, while its rows are being read.
+ * A {@link RowConstraint} or {@link ColConstraint} implementing this interface is also applied by readers that
+ * have no random access to the whole sheet, such as the streaming import.
+ *
+ * <p>For each sheet, {@link #onHeader(Row, BPSheet)} is called with the header row, {@link #onRow(Row, BPSheet)}
+ * with each following row in order, then {@link #onComplete(BPSheet)} once all rows have been read. Rows passed to
+ * the callbacks hold the decoded cell values and may be reused by the reader, so they must not be kept after the
+ * call returns. One instance validates one sheet at a time, and its state is reset by {@code onHeader}.</p>
+ */
+public interface IncrementalConstraint {
+
+    /**
+     * Starts the validation of a sheet.
+     *
+     * @param headerRow the header row of the sheet
+     * @param bpSheet   the BPSheet annotation containing validation rules
+     */
+    void onHeader(Row headerRow, BPSheet bpSheet);
+
+    /**
+     * Validates a row following the header row.
+     *
+     * @param row     the row, valid only during the call
+     * @param bpSheet the BPSheet annotation containing validation rules
+     */
+    void onRow(Row row, BPSheet bpSheet);
+
+    /**
+     * Completes the validation of a sheet.
+     *
+     * @param bpSheet the BPSheet annotation containing validation rules
+     * @return a map where the key is the row index for a row constraint, or the column index for a column
+     * constraint, and the value is the validation error message
+     * @throws IllegalArgumentException if the sheet had no header row
+     */
+    Map<Integer, String> onComplete(BPSheet bpSheet);
+}
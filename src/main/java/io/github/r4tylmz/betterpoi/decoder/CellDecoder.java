@@ -0,0 +1,36 @@
+package io.github.r4tylmz.betterpoi.decoder;
+
+import io.github.r4tylmz.betterpoi.accessor.PropertyAccessor;
+import org.apache.poi.ss.usermodel.Cell;
+
+/**
+ * Reads cells as the type of the property they are bound to.
+ * Decoders are created once per column by {@link CellDecoders#forType}, so that reading a cell only depends on
+ * the type of the cell: the value is produced in the property type and needs no further conversion.
+ */
+public interface CellDecoder {
+
+    /**
+     * Reads the value of the given cell.
+     *
+     * @param cell the cell to read
+     * @return the value in the decoder's type, or null if the cell is null, blank or holds no value of that type
+     */
+    Object decode(Cell cell);
+
+    /**
+     * Reads the value of the given cell and writes it to a property of the bean.
+     * The property is left untouched when the cell holds no value.
+     *
+     * @param cell     the cell to read
+     * @param bean     the bean to write
+     * @param accessor the accessor of the property, of the decoder's type
+     * @throws ReflectiveOperationException if the property could not be written
+     */
+    default void decodeInto(Cell cell, Object bean, PropertyAccessor accessor) throws ReflectiveOperationException {
+        final Object value = decode(cell);
+        if (value != null) {
+            accessor.set(bean, value);
+        }
+    }
+}
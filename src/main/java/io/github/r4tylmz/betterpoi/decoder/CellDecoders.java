@@ -0,0 +1,349 @@
+package io.github.r4tylmz.betterpoi.decoder;
+
+import io.github.r4tylmz.betterpoi.accessor.PropertyAccessor;
+import io.github.r4tylmz.betterpoi.converters.LocalDateConverter;
+import io.github.r4tylmz.betterpoi.converters.LocalDateTimeConverter;
+import io.github.r4tylmz.betterpoi.utils.CellUtil;
+import io.github.r4tylmz.betterpoi.utils.DateParser;
+import io.github.r4tylmz.betterpoi.utils.NumberParser;
+import org.apache.commons.beanutils.ConvertUtilsBean2;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+
+/**
+ * Creates the {@link CellDecoder} of a column from the type of its property.
+ * <p>
+ * Strings, numbers, booleans, enums and dates are decoded directly, including the primitive types,
+ * {@link BigInteger}, {@link java.sql.Timestamp} and the {@code java.time} types:
+ * <ul>
+ *     <li>numeric cells are cast to the numeric types, truncating like a Java cast, and read as Excel dates by
+ *     the date types;</li>
+ *     <li>text cells are parsed with the column's {@link NumberParser} and {@link DateParser}, and enums match
+ *     the name or the string form of their constants;</li>
+ *     <li>boolean cells are read as 1 or 0 by the numeric types, and numeric cells as true when not zero by the
+ *     boolean types;</li>
+ *     <li>blank and error cells, and text that cannot be read, give null.</li>
+ * </ul>
+ * Other types are read with {@link CellUtil#getCellValue(Cell, Class, DateParser, NumberParser)} and converted
+ * with commons-beanutils.
+ */
+public final class CellDecoders {
+    private static final Logger logger = LoggerFactory.getLogger(CellDecoders.class);
+    private static final ConvertUtilsBean2 converter = new ConvertUtilsBean2();
+    private static final CellDecoder STRING = CellDecoders::decodeString;
+    private static final CellDecoder BOOLEAN = new BooleanDecoder();
+
+    static {
+        converter.register(new LocalDateConverter(), LocalDate.class);
+        converter.register(new LocalDateTimeConverter(), LocalDateTime.class);
+    }
+
+    private CellDecoders() {
+    }
+
+    /**
+     * Creates the decoder of cells bound to a property of the given type.
+     *
+     * @param type         the type of the property
+     * @param dateParser   the parser of dates stored as text
+     * @param numberParser the parser of numbers stored as text
+     * @return the decoder
+     */
+    public static CellDecoder forType(Class<?> type, DateParser dateParser, NumberParser numberParser) {
+        if (type == String.class) {
+            return STRING;
+        } else if (type == int.class || type == Integer.class) {
+            return new NumberDecoder(value -> (int) value, text -> CellUtil.parseNumber(text, Integer.class,
+                    numberParser), (accessor, bean, value) -> accessor.setInt(bean, (int) value));
+        } else if (type == long.class || type == Long.class) {
+            return new NumberDecoder(value -> (long) value, text -> CellUtil.parseNumber(text, Long.class,
+                    numberParser), (accessor, bean, value) -> accessor.setLong(bean, (long) value));
+        } else if (type == double.class || type == Double.class) {
+            return new NumberDecoder(value -> value, text -> CellUtil.parseNumber(text, Double.class,
+                    numberParser), PropertyAccessor::setDouble);
+        } else if (type == float.class || type == Float.class) {
+            return new NumberDecoder(value -> (float) value, text -> CellUtil.parseNumber(text, Float.class,
+                    numberParser), null);
+        } else if (type == short.class || type == Short.class) {
+            return new NumberDecoder(value -> (short) value, text -> {
+                final Integer value = (Integer) CellUtil.parseNumber(text, Integer.class, numberParser);
+                return value != null && value == value.shortValue() ? value.shortValue() : null;
+            }, null);
+        } else if (type == byte.class || type == Byte.class) {
+            return new NumberDecoder(value -> (byte) value, text -> {
+                final Integer value = (Integer) CellUtil.parseNumber(text, Integer.class, numberParser);
+                return value != null && value == value.byteValue() ? value.byteValue() : null;
+            }, null);
+        } else if (type == BigDecimal.class) {
+            return new NumberDecoder(BigDecimal::valueOf, text -> CellUtil.parseNumber(text, BigDecimal.class,
+                    numberParser), null);
+        } else if (type == BigInteger.class) {
+            return new NumberDecoder(value -> BigDecimal.valueOf(value).toBigInteger(), text -> {
+                final BigDecimal value = (BigDecimal) CellUtil.parseNumber(text, BigDecimal.class, numberParser);
+                return value != null ? value.toBigInteger() : null;
+            }, null);
+        } else if (type == boolean.class || type == Boolean.class) {
+            return BOOLEAN;
+        } else if (type.isEnum()) {
+            return new EnumDecoder(type);
+        } else if (type == Date.class) {
+            return DateDecoder.parsing(type, dateTime -> Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant()),
+                    dateParser);
+        } else if (type == java.sql.Date.class) {
+            return DateDecoder.parsing(type, dateTime -> new java.sql.Date(
+                    dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()), dateParser);
+        } else if (type == LocalDate.class) {
+            return DateDecoder.parsing(type, LocalDateTime::toLocalDate, dateParser);
+        } else if (type == LocalDateTime.class) {
+            return DateDecoder.parsing(type, dateTime -> dateTime, dateParser);
+        } else if (type == Timestamp.class) {
+            return DateDecoder.parsing(Timestamp::valueOf, dateParser);
+        } else if (type == LocalTime.class) {
+            return DateDecoder.parsing(LocalDateTime::toLocalTime, dateParser);
+        } else if (type == Instant.class) {
+            return DateDecoder.parsing(dateTime -> dateTime.atZone(ZoneId.systemDefault()).toInstant(), dateParser);
+        } else if (type == ZonedDateTime.class) {
+            return DateDecoder.parsing(dateTime -> dateTime.atZone(ZoneId.systemDefault()), dateParser);
+        } else if (type == OffsetDateTime.class) {
+            return DateDecoder.parsing(dateTime -> dateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime(),
+                    dateParser);
+        }
+        return new ConvertingDecoder(type, dateParser, numberParser);
+    }
+
+    /**
+     * Retrieves the type of the value of a cell, resolving formulas to the type of their cached result.
+     *
+     * @param cell the cell
+     * @return the type of the cell's value
+     */
+    private static CellType getCellType(Cell cell) {
+        final CellType cellType = cell.getCellType();
+        return cellType == CellType.FORMULA ? cell.getCachedFormulaResultType() : cellType;
+    }
+
+    private static Object decodeString(Cell cell) {
+        if (cell == null) {
+            return null;
+        }
+        final CellType cellType = getCellType(cell);
+        return cellType == CellType.STRING ? cell.getStringCellValue() : CellUtil.getCellValueAsString(cell, cellType);
+    }
+
+    /**
+     * Writes a numeric cell value to a property without boxing it.
+     */
+    @FunctionalInterface
+    private interface NumericSetter {
+        void set(PropertyAccessor accessor, Object bean, double value) throws ReflectiveOperationException;
+    }
+
+    /**
+     * Decoder dispatching on the type of the cell, with one method per type of value.
+     */
+    private abstract static class TypedDecoder implements CellDecoder {
+
+        @Override
+        public Object decode(Cell cell) {
+            if (cell == null) {
+                return null;
+            }
+            switch (getCellType(cell)) {
+                case NUMERIC:
+                    return fromNumeric(cell);
+                case STRING:
+                    return fromString(cell.getStringCellValue());
+                case BOOLEAN:
+                    return fromBoolean(cell.getBooleanCellValue());
+                case ERROR:
+                    logger.warn("Cell contains error: {}", cell.getErrorCellValue());
+                    return null;
+                default:
+                    return null;
+            }
+        }
+
+        abstract Object fromNumeric(Cell cell);
+
+        abstract Object fromString(String text);
+
+        Object fromBoolean(boolean value) {
+            return null;
+        }
+    }
+
+    private static final class NumberDecoder extends TypedDecoder {
+        private final DoubleFunction<Object> fromNumber;
+        private final Function<String, Object> fromText;
+        private final NumericSetter numericSetter;
+
+        private NumberDecoder(DoubleFunction<Object> fromNumber, Function<String, Object> fromText,
+                              NumericSetter numericSetter) {
+            this.fromNumber = fromNumber;
+            this.fromText = fromText;
+            this.numericSetter = numericSetter;
+        }
+
+        @Override
+        public void decodeInto(Cell cell, Object bean, PropertyAccessor accessor) throws ReflectiveOperationException {
+            if (numericSetter != null && cell != null && getCellType(cell) == CellType.NUMERIC) {
+                numericSetter.set(accessor, bean, cell.getNumericCellValue());
+                return;
+            }
+            super.decodeInto(cell, bean, accessor);
+        }
+
+        @Override
+        Object fromNumeric(Cell cell) {
+            return fromNumber.apply(cell.getNumericCellValue());
+        }
+
+        @Override
+        Object fromString(String text) {
+            return fromText.apply(text);
+        }
+
+        @Override
+        Object fromBoolean(boolean value) {
+            return fromNumber.apply(value ? 1 : 0);
+        }
+    }
+
+    private static final class BooleanDecoder extends TypedDecoder {
+
+        @Override
+        Object fromNumeric(Cell cell) {
+            return cell.getNumericCellValue() != 0;
+        }
+
+        @Override
+        Object fromString(String text) {
+            return Boolean.valueOf(text);
+        }
+
+        @Override
+        Object fromBoolean(boolean value) {
+            return value;
+        }
+    }
+
+    private static final class EnumDecoder extends TypedDecoder {
+        private final Map<String, Object> constants = new HashMap<>();
+
+        private EnumDecoder(Class<?> type) {
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(constant.toString(), constant);
+            }
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), constant);
+            }
+        }
+
+        @Override
+        Object fromNumeric(Cell cell) {
+            return null;
+        }
+
+        @Override
+        Object fromString(String text) {
+            Object constant = constants.get(text);
+            if (constant == null) {
+                constant = constants.get(text.trim());
+            }
+            if (constant == null) {
+                logger.debug("Failed to parse enum constant: {}", text);
+            }
+            return constant;
+        }
+    }
+
+    private static final class DateDecoder extends TypedDecoder {
+        private final Function<LocalDateTime, Object> fromDateTime;
+        private final Function<String, Object> fromText;
+
+        private DateDecoder(Function<LocalDateTime, Object> fromDateTime, Function<String, Object> fromText) {
+            this.fromDateTime = fromDateTime;
+            this.fromText = fromText;
+        }
+
+        /**
+         * Creates a decoder of a date type that {@link DateParser} produces. Text that no pattern matches gives no
+         * value, so the property is left unset and validation reports the cell.
+         */
+        static DateDecoder parsing(Class<?> type, Function<LocalDateTime, Object> fromDateTime,
+                                   DateParser dateParser) {
+            return new DateDecoder(fromDateTime, text -> {
+                final Object date = dateParser.parse(text, type);
+                if (date == null) {
+                    logger.debug("Failed to parse Date: {}", text);
+                }
+                return date;
+            });
+        }
+
+        /**
+         * Creates a decoder of a date type that {@link DateParser} does not produce, parsing text as a
+         * {@link LocalDateTime} first.
+         */
+        static DateDecoder parsing(Function<LocalDateTime, Object> fromDateTime, DateParser dateParser) {
+            return new DateDecoder(fromDateTime, text -> {
+                final LocalDateTime dateTime = (LocalDateTime) dateParser.parse(text, LocalDateTime.class);
+                if (dateTime == null) {
+                    logger.debug("Failed to parse Date: {}", text);
+                    return null;
+                }
+                return fromDateTime.apply(dateTime);
+            });
+        }
+
+        @Override
+        Object fromNumeric(Cell cell) {
+            final LocalDateTime dateTime = cell.getLocalDateTimeCellValue();
+            return dateTime != null ? fromDateTime.apply(dateTime) : null;
+        }
+
+        @Override
+        Object fromString(String text) {
+            return fromText.apply(text);
+        }
+    }
+
+    /**
+     * Decoder of the types without a dedicated decoder, converting the raw cell value with commons-beanutils.
+     */
+    private static final class ConvertingDecoder implements CellDecoder {
+        private final Class<?> type;
+        private final DateParser dateParser;
+        private final NumberParser numberParser;
+
+        private ConvertingDecoder(Class<?> type, DateParser dateParser, NumberParser numberParser) {
+            this.type = type;
+            this.dateParser = dateParser;
+            this.numberParser = numberParser;
+        }
+
+        @Override
+        public Object decode(Cell cell) {
+            final Object value = CellUtil.getCellValue(cell, type, dateParser, numberParser);
+            return value != null ? converter.convert(value, type) : null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.r4tylmz.betterpoi.enums;
+
+/**
+ * Enum representing the strategies used to write an Excel file during export.
+ * This enum provides constants for the in-memory (DOM) writer, the SXSSF based streaming writer and the direct
+ * XML writer.
+ */
+public enum ExportMode {
+    /**
+     * Constant for the default writer that keeps every row of the workbook in memory until it is written.
+     */
+    DOM,
+
+    /**
+     * Constant for the streaming writer that keeps only a window of recent rows in memory and flushes older rows
+     * to a temporary file. Only applicable to {@link ExcelType#XLSX} files.
+     */
+    STREAMING,
+
+    /**
+     * Constant for the writer that writes the sheet XML straight from the exported values, without the Apache POI
+     * usermodel, so no row or cell object is created. Strings are written inline and styles are limited to the
+     * bold header and the date formats. Only applicable to {@link ExcelType#XLSX} files.
+     */
+    DIRECT
+}
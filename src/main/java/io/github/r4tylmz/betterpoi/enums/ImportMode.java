@@ -0,0 +1,18 @@
+package io.github.r4tylmz.betterpoi.enums;
+
+/**
+ * Enum representing the strategies used to read an Excel file during import.
+ * This enum provides constants for the in-memory (DOM) reader and the event based streaming reader.
+ */
+public enum ImportMode {
+    /**
+     * Constant for the default reader that loads the whole workbook into memory before mapping rows.
+     */
+    DOM,
+
+    /**
+     * Constant for the streaming reader that parses XLSX sheets with the event API and maps rows one at a time.
+     * Only applicable to {@link ExcelType#XLSX} files.
+     */
+    STREAMING
+}
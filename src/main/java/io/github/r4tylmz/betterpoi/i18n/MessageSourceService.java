@@ -10,19 +10,30 @@ import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for handling internationalization (i18n) of messages.
  * This class is compatible with Java 1.8 and uses standard Java libraries.
+ *
+ * <p>The user and library bundles are flattened into one immutable map of patterns when the service is created,
+ * so a message is found with a single lookup. Each pattern is parsed once, on first use, and the parsed format is
+ * copied for every call instead of being parsed again. Instances are safe to share across threads.</p>
  */
 public class MessageSourceService {
     private static final String LIBRARY_BUNDLE_NAME = "bp_messages";
-    private final List<ResourceBundle> bundles = new ArrayList<>();
+    private final Map<String, String> messages;
+    private final Map<String, MessagePattern> patterns = new ConcurrentHashMap<>();
+    private final int bundleCount;
     private final Locale locale;
+    private final String bundleName;
 
     /**
      * Creates a new MessageSourceService for the specified locale.
@@ -43,7 +54,10 @@ public class MessageSourceService {
      */
     public MessageSourceService(Locale locale, String bundleName) {
         this.locale = locale;
-        initializeBundles(bundleName);
+        this.bundleName = bundleName;
+        final List<ResourceBundle> bundles = initializeBundles(bundleName);
+        this.messages = flatten(bundles);
+        this.bundleCount = bundles.size();
     }
 
     /**
@@ -54,8 +68,7 @@ public class MessageSourceService {
      * @param options the BPOptions containing bundle name and locale
      */
     public MessageSourceService(BPOptions options) {
-        this.locale = options.getLocale() != null ? options.getLocale() : Locale.getDefault();
-        initializeBundles(options.getBundleName());
+        this(options.getLocale() != null ? options.getLocale() : Locale.getDefault(), options.getBundleName());
     }
 
     /**
@@ -63,8 +76,10 @@ public class MessageSourceService {
      * First tries user-defined bundle, then falls back to library bundle.
      *
      * @param userBundleName the user-defined bundle name (can be null)
+     * @return the loaded bundles, in lookup order
      */
-    private void initializeBundles(String userBundleName) {
+    private List<ResourceBundle> initializeBundles(String userBundleName) {
+        final List<ResourceBundle> bundles = new ArrayList<>();
         if (userBundleName != null && !userBundleName.trim().isEmpty()) {
             try {
                 ResourceBundle userBundle = ResourceBundle.getBundle(userBundleName, locale, new Utf8Control());
@@ -87,6 +102,25 @@ public class MessageSourceService {
         if (bundles.isEmpty()) {
             throw new RuntimeException("No resource bundles could be loaded");
         }
+        return bundles;
+    }
+
+    /**
+     * Merges the patterns of the given bundles, and of their parent bundles, into one map.
+     * A key found in several bundles keeps the pattern of the first bundle.
+     *
+     * @param bundles the bundles, in lookup order
+     * @return an unmodifiable map from message keys to patterns
+     */
+    private static Map<String, String> flatten(List<ResourceBundle> bundles) {
+        final Map<String, String> messages = new HashMap<>();
+        for (int i = bundles.size() - 1; i >= 0; i--) {
+            final ResourceBundle bundle = bundles.get(i);
+            for (String key : bundle.keySet()) {
+                messages.put(key, bundle.getString(key));
+            }
+        }
+        return Collections.unmodifiableMap(messages);
     }
 
     /**
@@ -131,13 +165,22 @@ public class MessageSourceService {
         return locale;
     }
 
+    /**
+     * Gets the name of the user-defined resource bundle.
+     *
+     * @return the bundle name, or null if only the library properties are used
+     */
+    public String getBundleName() {
+        return bundleName;
+    }
+
     /**
      * Gets the number of resource bundles loaded.
      *
      * @return the number of bundles
      */
     public int getBundleCount() {
-        return bundles.size();
+        return bundleCount;
     }
 
     /**
@@ -176,35 +219,23 @@ public class MessageSourceService {
 
     /**
      * Gets a localized message with the given key and formats it with the provided arguments.
-     * Searches through bundles in order: user-defined first, then library properties.
+     * The user-defined pattern is used if there is one, then the library pattern. A key without a pattern, such as
+     * a header title read from a file, is formatted as its own pattern and is not cached.
      *
      * @param key  the message key in the resource bundle
      * @param args the arguments to format the message with
      * @return the formatted localized message
-     * @throws RuntimeException if the key is not found in any bundle
      */
     public String getMessage(String key, Object... args) {
-        String pattern = getMessagePattern(key);
-        return MessageFormat.format(pattern, args);
-    }
-
-    /**
-     * Gets a message pattern from the resource bundles.
-     * Searches through bundles in order until the key is found.
-     *
-     * @param key the message key
-     * @return the message pattern
-     * @throws RuntimeException if the key is not found in any bundle
-     */
-    private String getMessagePattern(String key) {
-        for (ResourceBundle bundle : bundles) {
-            if (bundle.containsKey(key)) {
-                return bundle.getString(key);
-            }
+        final String pattern = messages.get(key);
+        if (pattern == null) {
+            return new MessagePattern(key).format(args);
         }
-        
-        // Fallback to key itself if not found
-        return key;
+        MessagePattern messagePattern = patterns.get(key);
+        if (messagePattern == null) {
+            messagePattern = patterns.computeIfAbsent(key, k -> new MessagePattern(pattern));
+        }
+        return messagePattern.format(args);
     }
 
     /**
@@ -214,11 +245,32 @@ public class MessageSourceService {
      * @return true if the key exists, false otherwise
      */
     public boolean hasMessage(String key) {
-        for (ResourceBundle bundle : bundles) {
-            if (bundle.containsKey(key)) {
-                return true;
+        return messages.containsKey(key);
+    }
+
+    /**
+     * Message pattern parsed once. A pattern without arguments or quotes is returned as is; any other pattern
+     * is parsed into a {@link MessageFormat}, which is not thread-safe, so it is copied for every call.
+     */
+    private static final class MessagePattern {
+        private final String literal;
+        private final MessageFormat format;
+
+        private MessagePattern(String pattern) {
+            if (pattern.indexOf('{') < 0 && pattern.indexOf('\'') < 0) {
+                this.literal = pattern;
+                this.format = null;
+            } else {
+                this.literal = null;
+                this.format = new MessageFormat(pattern);
+            }
+        }
+
+        private String format(Object[] args) {
+            if (format == null) {
+                return literal;
             }
+            return ((MessageFormat) format.clone()).format(args, new StringBuffer(), null).toString();
         }
-        return false;
     }
-}
\ No newline at end of file
+}
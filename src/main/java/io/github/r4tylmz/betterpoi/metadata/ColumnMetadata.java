@@ -0,0 +1,104 @@
+package io.github.r4tylmz.betterpoi.metadata;
+
+import io.github.r4tylmz.betterpoi.accessor.PropertyAccessor;
+import io.github.r4tylmz.betterpoi.annotation.BPColumn;
+import io.github.r4tylmz.betterpoi.decoder.CellDecoder;
+import io.github.r4tylmz.betterpoi.decoder.CellDecoders;
+import io.github.r4tylmz.betterpoi.exception.BPConfigurationException;
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.utils.ColUtil;
+import io.github.r4tylmz.betterpoi.utils.DateParser;
+import io.github.r4tylmz.betterpoi.utils.NumberParser;
+
+import java.lang.reflect.Field;
+import java.util.AbstractMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable description of a column of a sheet: its {@link BPColumn} annotation, the field it is bound to and
+ * the accessor of the bean property. Header titles and cell decoders depend on the locale and are computed on
+ * first use, then kept for later imports and exports.
+ */
+public final class ColumnMetadata {
+    private static final Object NO_MESSAGE_SOURCE = new Object();
+    private final int index;
+    private final BPColumn bpColumn;
+    private final Field field;
+    private final PropertyAccessor accessor;
+    private final Map<Object, String> headerTitles = new ConcurrentHashMap<>();
+    private final Map<Locale, CellDecoder> decoders = new ConcurrentHashMap<>();
+
+    ColumnMetadata(int index, BPColumn bpColumn, Field field, PropertyAccessor accessor) {
+        this.index = index;
+        this.bpColumn = bpColumn;
+        this.field = field;
+        this.accessor = accessor;
+    }
+
+    /**
+     * Retrieves the position of the column in its sheet.
+     *
+     * @return the zero-based index of the column
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public BPColumn getBpColumn() {
+        return bpColumn;
+    }
+
+    public String getFieldName() {
+        return bpColumn.fieldName();
+    }
+
+    /**
+     * Retrieves the field declared by the bean class for this column.
+     *
+     * @return the field, or null if the bean class does not declare a field named after the column
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Retrieves the accessor of the bean property bound to this column.
+     *
+     * @return the property accessor
+     */
+    public PropertyAccessor getAccessor() {
+        return accessor;
+    }
+
+    /**
+     * Retrieves the header title of the column, localized with the given message source.
+     *
+     * @param messageSourceService the message source used to translate the header title, or null
+     * @return the header title
+     * @see ColUtil#getHeaderTitle(BPColumn, MessageSourceService)
+     */
+    public String getHeaderTitle(MessageSourceService messageSourceService) {
+        final Object key = messageSourceService == null ? NO_MESSAGE_SOURCE
+                : new AbstractMap.SimpleImmutableEntry<>(messageSourceService.getLocale(),
+                messageSourceService.getBundleName());
+        return headerTitles.computeIfAbsent(key, k -> ColUtil.getHeaderTitle(bpColumn, messageSourceService));
+    }
+
+    /**
+     * Retrieves the decoder of the cells of this column, parsing text with the conventions of the given locale.
+     *
+     * @param locale the locale of the parsed text
+     * @return the cell decoder
+     * @throws BPConfigurationException if the bean class does not declare the field of the column
+     */
+    public CellDecoder getDecoder(Locale locale) {
+        if (field == null) {
+            throw new BPConfigurationException("No field named " + bpColumn.fieldName() + " is declared for column",
+                    "fieldName", bpColumn.fieldName());
+        }
+        return decoders.computeIfAbsent(locale, key -> CellDecoders.forType(field.getType(),
+                DateParser.forPattern(bpColumn.datePattern(), key), NumberParser.forLocale(key)));
+    }
+}
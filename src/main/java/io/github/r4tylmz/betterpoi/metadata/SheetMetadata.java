@@ -0,0 +1,81 @@
+package io.github.r4tylmz.betterpoi.metadata;
+
+import io.github.r4tylmz.betterpoi.accessor.BeanAccessor;
+import io.github.r4tylmz.betterpoi.annotation.BPColumn;
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable description of a sheet of a workbook: its {@link BPSheet} annotation, the workbook field holding
+ * its rows and the metadata of its columns, in column order.
+ */
+public final class SheetMetadata {
+    private final BPSheet bpSheet;
+    private final Field field;
+    private final List<ColumnMetadata> columns;
+
+    private SheetMetadata(BPSheet bpSheet, Field field) {
+        this.bpSheet = bpSheet;
+        this.field = field;
+        final Class<?> beanClass = bpSheet.type();
+        final BeanAccessor beanAccessor = BeanAccessor.of(beanClass);
+        final BPColumn[] bpColumns = bpSheet.columns();
+        final List<ColumnMetadata> columnList = new ArrayList<>(bpColumns.length);
+        for (int i = 0; i < bpColumns.length; i++) {
+            columnList.add(new ColumnMetadata(i, bpColumns[i], findField(beanClass, bpColumns[i].fieldName()),
+                    beanAccessor.getProperty(bpColumns[i].fieldName())));
+        }
+        this.columns = Collections.unmodifiableList(columnList);
+    }
+
+    /**
+     * Creates the metadata of a sheet.
+     * Sheets of a workbook class should be retrieved through {@link WorkbookMetadata#getSheet(BPSheet)} instead,
+     * which returns cached metadata.
+     *
+     * @param bpSheet the annotation of the sheet
+     * @param field   the workbook field annotated with the sheet, or null if the sheet is not part of a workbook
+     * @return the sheet metadata
+     */
+    public static SheetMetadata of(BPSheet bpSheet, Field field) {
+        return new SheetMetadata(bpSheet, field);
+    }
+
+    private static Field findField(Class<?> beanClass, String fieldName) {
+        try {
+            return beanClass.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    public BPSheet getBpSheet() {
+        return bpSheet;
+    }
+
+    /**
+     * Retrieves the workbook field annotated with this sheet.
+     *
+     * @return the field, or null if the sheet is not part of a workbook
+     */
+    public Field getField() {
+        return field;
+    }
+
+    public Class<?> getBeanClass() {
+        return bpSheet.type();
+    }
+
+    /**
+     * Retrieves the metadata of the columns.
+     *
+     * @return the unmodifiable list of columns, in column order
+     */
+    public List<ColumnMetadata> getColumns() {
+        return columns;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.r4tylmz.betterpoi.metadata;
+
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.annotation.BPWorkbook;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable description of a class annotated with {@link BPWorkbook}: its sheets, in declaration order, and their
+ * columns. The annotations and fields of a workbook class are read once per process and shared by every import,
+ * export and validation, from any thread.
+ * <p>
+ * Metadata is attached to the workbook class itself, so it does not keep the class loader of the class reachable
+ * and is discarded with the class when an application is redeployed.
+ */
+public final class WorkbookMetadata {
+    private static final ClassValue<WorkbookMetadata> METADATA = new ClassValue<WorkbookMetadata>() {
+        @Override
+        protected WorkbookMetadata computeValue(Class<?> workbookClass) {
+            return new WorkbookMetadata(workbookClass);
+        }
+    };
+    private final Class<?> workbookClass;
+    private final List<SheetMetadata> sheets;
+    private final Map<BPSheet, SheetMetadata> sheetsByAnnotation;
+
+    private WorkbookMetadata(Class<?> workbookClass) {
+        this.workbookClass = workbookClass;
+        final List<SheetMetadata> sheetList = new ArrayList<>();
+        final Map<BPSheet, SheetMetadata> sheetMap = new HashMap<>();
+        for (final Field field : workbookClass.getDeclaredFields()) {
+            final BPSheet annotation = field.getAnnotation(BPSheet.class);
+            if (annotation != null) {
+                final SheetMetadata sheet = SheetMetadata.of(annotation, field);
+                final SheetMetadata previous = sheetMap.put(annotation, sheet);
+                if (previous != null) {
+                    // identical annotations describe the same sheet, bound to the last field declaring it
+                    sheetList.set(sheetList.indexOf(previous), sheet);
+                } else {
+                    sheetList.add(sheet);
+                }
+            }
+        }
+        this.sheets = Collections.unmodifiableList(sheetList);
+        this.sheetsByAnnotation = sheetMap;
+    }
+
+    /**
+     * Retrieves the metadata of the given workbook class, reading it on first use.
+     *
+     * @param workbookClass a class annotated with {@link BPWorkbook}
+     * @return the workbook metadata
+     * @throws IllegalArgumentException if the class is not annotated with {@link BPWorkbook}
+     */
+    public static WorkbookMetadata of(Class<?> workbookClass) {
+        if (workbookClass.getAnnotation(BPWorkbook.class) == null) {
+            throw new IllegalArgumentException("workbookClass must be annotated with @BPWorkbook");
+        }
+        return METADATA.get(workbookClass);
+    }
+
+    public Class<?> getWorkbookClass() {
+        return workbookClass;
+    }
+
+    /**
+     * Retrieves the metadata of the sheets.
+     *
+     * @return the unmodifiable list of sheets, in declaration order
+     */
+    public List<SheetMetadata> getSheets() {
+        return sheets;
+    }
+
+    /**
+     * Retrieves the metadata of the sheet with the given annotation.
+     *
+     * @param bpSheet the annotation of the sheet
+     * @return the sheet metadata, or null if no field of the workbook class is annotated with it
+     */
+    public SheetMetadata getSheet(BPSheet bpSheet) {
+        return sheetsByAnnotation.get(bpSheet);
+    }
+}
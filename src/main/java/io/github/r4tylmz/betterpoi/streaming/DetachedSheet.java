@@ -0,0 +1,59 @@
+package io.github.r4tylmz.betterpoi.streaming;
+
+import org.apache.poi.ss.usermodel.Date1904Support;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+/**
+ * Factory for the minimal {@link Sheet} returned by streaming rows and cells.
+ * Only the sheet name, the owning workbook and its date system are available; every other method throws
+ * {@link UnsupportedOperationException}. This is enough for {@link org.apache.poi.ss.usermodel.DataFormatter}
+ * and {@link org.apache.poi.ss.usermodel.DateUtil} to handle streaming cells.
+ */
+final class DetachedSheet {
+
+    private DetachedSheet() {
+    }
+
+    /**
+     * Creates a detached sheet.
+     *
+     * @param sheetName the name of the sheet
+     * @param date1904  whether the workbook uses the 1904 date system
+     * @return the detached sheet
+     */
+    static Sheet create(String sheetName, boolean date1904) {
+        final Workbook workbook = (Workbook) Proxy.newProxyInstance(DetachedSheet.class.getClassLoader(),
+                new Class<?>[]{Workbook.class, Date1904Support.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "isDate1904":
+                            return date1904;
+                        case "toString":
+                            return "StreamingWorkbook";
+                        default:
+                            throw unsupported(method.getName());
+                    }
+                });
+        final InvocationHandler sheetHandler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getSheetName":
+                    return sheetName;
+                case "getWorkbook":
+                    return workbook;
+                case "toString":
+                    return sheetName;
+                default:
+                    throw unsupported(method.getName());
+            }
+        };
+        return (Sheet) Proxy.newProxyInstance(DetachedSheet.class.getClassLoader(), new Class<?>[]{Sheet.class},
+                sheetHandler);
+    }
+
+    private static UnsupportedOperationException unsupported(String methodName) {
+        return new UnsupportedOperationException(methodName + " is not available in streaming mode");
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.r4tylmz.betterpoi.streaming;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * SAX handler that decodes the rows of a single {@code sheetN.xml} part into a reusable {@link StreamingRow}.
+ * Shared strings are resolved and cell styles are looked up once per style index.
+ */
+class SheetXmlHandler extends DefaultHandler {
+    private final SharedStrings sharedStrings;
+    private final StylesTable stylesTable;
+    private final boolean date1904;
+    private final StreamingRowHandler rowHandler;
+    private final BooleanSupplier stopCondition;
+    private final StreamingRow row;
+    private final CellStyle[] styles;
+    private final StringBuilder value = new StringBuilder();
+
+    private int nextRowNum;
+    private int nextColumnIndex;
+    private int columnIndex;
+    private String cellType;
+    private int styleIndex;
+    private boolean hasValue;
+    private boolean inValue;
+    private boolean inInlineString;
+    private boolean inPhoneticRun;
+
+    SheetXmlHandler(String sheetName, SharedStrings sharedStrings, StylesTable stylesTable, boolean date1904,
+                    StreamingRowHandler rowHandler, BooleanSupplier stopCondition) {
+        this.row = new StreamingRow(DetachedSheet.create(sheetName, date1904));
+        this.sharedStrings = sharedStrings;
+        this.stylesTable = stylesTable;
+        this.date1904 = date1904;
+        this.rowHandler = rowHandler;
+        this.stopCondition = stopCondition;
+        this.styles = new CellStyle[Math.max(stylesTable.getNumCellStyles(), 1)];
+    }
+
+    /**
+     * Converts the column letters of a cell reference such as {@code "AB12"} to a 0-based column index.
+     *
+     * @param reference the cell reference
+     * @return the column index
+     */
+    static int columnIndex(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length(); i++) {
+            final char c = reference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (localName) {
+            case "row":
+                final String r = attributes.getValue("r");
+                row.reset(r != null ? Integer.parseInt(r) - 1 : nextRowNum);
+                nextColumnIndex = 0;
+                break;
+            case "c":
+                final String reference = attributes.getValue("r");
+                columnIndex = reference != null ? columnIndex(reference) : nextColumnIndex;
+                cellType = attributes.getValue("t");
+                final String s = attributes.getValue("s");
+                styleIndex = s != null ? Integer.parseInt(s) : 0;
+                hasValue = false;
+                value.setLength(0);
+                break;
+            case "v":
+                inValue = true;
+                hasValue = true;
+                value.setLength(0);
+                break;
+            case "is":
+                inInlineString = true;
+                hasValue = true;
+                value.setLength(0);
+                break;
+            case "rPh":
+                inPhoneticRun = true;
+                break;
+            case "t":
+                if (inInlineString && !inPhoneticRun) {
+                    inValue = true;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+        switch (localName) {
+            case "v":
+            case "t":
+                inValue = false;
+                break;
+            case "rPh":
+                inPhoneticRun = false;
+                break;
+            case "is":
+                inInlineString = false;
+                break;
+            case "c":
+                populateCell(row.cellAt(columnIndex));
+                nextColumnIndex = columnIndex + 1;
+                break;
+            case "row":
+                rowHandler.handleRow(row);
+                nextRowNum = row.getRowNum() + 1;
+                if (stopCondition.getAsBoolean()) {
+                    throw new StopParsingException();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (inValue) {
+            value.append(ch, start, length);
+        }
+    }
+
+    private void populateCell(StreamingCell cell) {
+        final CellStyle style = getStyle(styleIndex);
+        if (!hasValue) {
+            cell.setBlank(style);
+            return;
+        }
+        final String text = value.toString();
+        if (cellType == null || "n".equals(cellType)) {
+            if (text.isEmpty()) {
+                cell.setBlank(style);
+            } else {
+                cell.setNumeric(Double.parseDouble(text), style, text, date1904);
+            }
+            return;
+        }
+        switch (cellType) {
+            case "s":
+                cell.setString(sharedStrings.getItemAt(Integer.parseInt(text.trim())).getString(), style);
+                break;
+            case "b":
+                cell.setBoolean("1".equals(text) || "true".equalsIgnoreCase(text), style, text);
+                break;
+            case "e":
+                cell.setError(toErrorCode(text), style, text);
+                break;
+            case "inlineStr":
+            case "str":
+            default:
+                cell.setString(text, style);
+                break;
+        }
+    }
+
+    private byte toErrorCode(String text) {
+        try {
+            return FormulaError.forString(text).getCode();
+        } catch (IllegalArgumentException e) {
+            return FormulaError.VALUE.getCode();
+        }
+    }
+
+    private CellStyle getStyle(int index) {
+        final int i = index < styles.length ? index : 0;
+        CellStyle style = styles[i];
+        if (style == null) {
+            style = stylesTable.getStyleAt(i);
+            styles[i] = style;
+        }
+        return style;
+    }
+
+    /**
+     * Thrown after a row once the stop condition holds, to end the parsing of the sheet without reading the
+     * remaining rows.
+     */
+    static final class StopParsingException extends SAXException {
+        StopParsingException() {
+            super("Sheet parsing stopped");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
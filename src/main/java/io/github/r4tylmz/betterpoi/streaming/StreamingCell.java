@@ -0,0 +1,320 @@
+package io.github.r4tylmz.betterpoi.streaming;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Read-only {@link Cell} view over a cell decoded by the {@link XlsxStreamingReader}.
+ * Instances are reused by their {@link StreamingRow} for every row of a sheet, so they must not be kept
+ * after the row has been handled.
+ */
+public final class StreamingCell implements Cell {
+    private final StreamingRow row;
+    private final int columnIndex;
+    private CellType cellType = CellType.BLANK;
+    private double numericValue;
+    private String stringValue;
+    private String rawValue;
+    private boolean booleanValue;
+    private byte errorValue;
+    private CellStyle cellStyle;
+    private boolean date1904;
+
+    StreamingCell(StreamingRow row, int columnIndex) {
+        this.row = row;
+        this.columnIndex = columnIndex;
+    }
+
+    void setBlank(CellStyle cellStyle) {
+        set(CellType.BLANK, cellStyle, null);
+    }
+
+    void setBoolean(boolean value, CellStyle cellStyle, String rawValue) {
+        set(CellType.BOOLEAN, cellStyle, rawValue);
+        this.booleanValue = value;
+    }
+
+    void setError(byte value, CellStyle cellStyle, String rawValue) {
+        set(CellType.ERROR, cellStyle, rawValue);
+        this.errorValue = value;
+    }
+
+    void setNumeric(double value, CellStyle cellStyle, String rawValue, boolean date1904) {
+        set(CellType.NUMERIC, cellStyle, rawValue);
+        this.numericValue = value;
+        this.date1904 = date1904;
+    }
+
+    void setString(String value, CellStyle cellStyle) {
+        set(CellType.STRING, cellStyle, value);
+        this.stringValue = value;
+    }
+
+    private void set(CellType cellType, CellStyle cellStyle, String rawValue) {
+        this.cellType = cellType;
+        this.cellStyle = cellStyle;
+        this.rawValue = rawValue;
+        this.stringValue = null;
+    }
+
+    private IllegalStateException typeMismatch(CellType expected) {
+        return new IllegalStateException("Cannot get a " + expected + " value from a " + cellType + " cell");
+    }
+
+    private UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Streaming cells are read-only");
+    }
+
+    @Override
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    @Override
+    public int getRowIndex() {
+        return row.getRowNum();
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return row.getSheet();
+    }
+
+    @Override
+    public StreamingRow getRow() {
+        return row;
+    }
+
+    /**
+     * Only conversion to {@link CellType#STRING} is supported; the cell then exposes the raw value
+     * stored in the file, the same way an XSSF cell does.
+     *
+     * @param cellType the target cell type
+     */
+    @Override
+    public void setCellType(CellType cellType) {
+        if (cellType == this.cellType) {
+            return;
+        }
+        if (cellType != CellType.STRING) {
+            throw readOnly();
+        }
+        final String value;
+        if (this.cellType == CellType.BOOLEAN) {
+            value = booleanValue ? "TRUE" : "FALSE";
+        } else {
+            value = rawValue == null ? "" : rawValue;
+        }
+        setString(value, cellStyle);
+    }
+
+    @Override
+    public void setBlank() {
+        throw readOnly();
+    }
+
+    @Override
+    public CellType getCellType() {
+        return cellType;
+    }
+
+    @Override
+    public CellType getCachedFormulaResultType() {
+        return cellType;
+    }
+
+    @Override
+    public void setCellValue(double value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(Date value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(LocalDateTime value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(Calendar value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(RichTextString value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(String value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellFormula(String formula) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeFormula() {
+        throw readOnly();
+    }
+
+    @Override
+    public String getCellFormula() {
+        throw new IllegalStateException("Formulas are not available in streaming mode");
+    }
+
+    @Override
+    public double getNumericCellValue() {
+        if (cellType == CellType.BLANK) {
+            return 0.0;
+        }
+        if (cellType != CellType.NUMERIC) {
+            throw typeMismatch(CellType.NUMERIC);
+        }
+        return numericValue;
+    }
+
+    @Override
+    public Date getDateCellValue() {
+        if (cellType == CellType.BLANK) {
+            return null;
+        }
+        return DateUtil.getJavaDate(getNumericCellValue(), date1904);
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTimeCellValue() {
+        if (cellType == CellType.BLANK) {
+            return null;
+        }
+        return DateUtil.getLocalDateTime(getNumericCellValue(), date1904);
+    }
+
+    @Override
+    public RichTextString getRichStringCellValue() {
+        return new XSSFRichTextString(getStringCellValue());
+    }
+
+    @Override
+    public String getStringCellValue() {
+        if (cellType == CellType.BLANK) {
+            return "";
+        }
+        if (cellType != CellType.STRING) {
+            throw typeMismatch(CellType.STRING);
+        }
+        return stringValue;
+    }
+
+    @Override
+    public void setCellValue(boolean value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellErrorValue(byte value) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean getBooleanCellValue() {
+        if (cellType == CellType.BLANK) {
+            return false;
+        }
+        if (cellType != CellType.BOOLEAN) {
+            throw typeMismatch(CellType.BOOLEAN);
+        }
+        return booleanValue;
+    }
+
+    @Override
+    public byte getErrorCellValue() {
+        if (cellType != CellType.ERROR) {
+            throw typeMismatch(CellType.ERROR);
+        }
+        return errorValue;
+    }
+
+    @Override
+    public void setCellStyle(CellStyle style) {
+        throw readOnly();
+    }
+
+    @Override
+    public CellStyle getCellStyle() {
+        return cellStyle;
+    }
+
+    @Override
+    public void setAsActiveCell() {
+        throw readOnly();
+    }
+
+    @Override
+    public CellAddress getAddress() {
+        return new CellAddress(getRowIndex(), columnIndex);
+    }
+
+    @Override
+    public void setCellComment(Comment comment) {
+        throw readOnly();
+    }
+
+    @Override
+    public Comment getCellComment() {
+        return null;
+    }
+
+    @Override
+    public void removeCellComment() {
+        throw readOnly();
+    }
+
+    @Override
+    public Hyperlink getHyperlink() {
+        return null;
+    }
+
+    @Override
+    public void setHyperlink(Hyperlink link) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeHyperlink() {
+        throw readOnly();
+    }
+
+    @Override
+    public CellRangeAddress getArrayFormulaRange() {
+        throw new IllegalStateException("Formulas are not available in streaming mode");
+    }
+
+    @Override
+    public boolean isPartOfArrayFormulaGroup() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getAddress() + "=" + (cellType == CellType.STRING ? stringValue : rawValue);
+    }
+}
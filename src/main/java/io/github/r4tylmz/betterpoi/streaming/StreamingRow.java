@@ -0,0 +1,259 @@
+package io.github.r4tylmz.betterpoi.streaming;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only {@link Row} view over the row currently decoded by the {@link XlsxStreamingReader}.
+ * A single instance and its cells are reused for every row of a sheet, so memory usage depends on
+ * the width of the widest row and not on the number of rows. Handlers must copy whatever they need
+ * before returning.
+ */
+public final class StreamingRow implements Row {
+    private final Sheet sheet;
+    private StreamingCell[] cells = new StreamingCell[16];
+    private boolean[] present = new boolean[16];
+    private int rowNum = -1;
+    private int firstCellNum = -1;
+    private int lastCellNum = -1;
+    private int physicalNumberOfCells;
+
+    StreamingRow(Sheet sheet) {
+        this.sheet = sheet;
+    }
+
+    /**
+     * Clears the cells of the previous row and moves the view to the given row.
+     *
+     * @param rowNum the 0-based index of the new row
+     */
+    void reset(int rowNum) {
+        if (lastCellNum > 0) {
+            Arrays.fill(present, 0, lastCellNum, false);
+        }
+        this.rowNum = rowNum;
+        this.firstCellNum = -1;
+        this.lastCellNum = -1;
+        this.physicalNumberOfCells = 0;
+    }
+
+    /**
+     * Marks the cell at the given column as present in the current row and returns it for population.
+     *
+     * @param columnIndex the 0-based column index
+     * @return the reusable cell of that column
+     */
+    StreamingCell cellAt(int columnIndex) {
+        if (columnIndex >= cells.length) {
+            final int capacity = Math.max(columnIndex + 1, cells.length * 2);
+            cells = Arrays.copyOf(cells, capacity);
+            present = Arrays.copyOf(present, capacity);
+        }
+        StreamingCell cell = cells[columnIndex];
+        if (cell == null) {
+            cell = new StreamingCell(this, columnIndex);
+            cells[columnIndex] = cell;
+        }
+        if (!present[columnIndex]) {
+            present[columnIndex] = true;
+            physicalNumberOfCells++;
+            if (firstCellNum < 0 || columnIndex < firstCellNum) {
+                firstCellNum = columnIndex;
+            }
+            if (columnIndex + 1 > lastCellNum) {
+                lastCellNum = columnIndex + 1;
+            }
+        }
+        return cell;
+    }
+
+    private UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Streaming rows are read-only");
+    }
+
+    /**
+     * Creates a blank cell at the given column if the current row has no cell there.
+     * Existing cells are returned untouched.
+     *
+     * @param column the 0-based column index
+     * @return the cell at that column
+     */
+    @Override
+    public Cell createCell(int column) {
+        return createCell(column, CellType.BLANK);
+    }
+
+    @Override
+    public Cell createCell(int column, CellType type) {
+        if (type != CellType.BLANK) {
+            throw readOnly();
+        }
+        final Cell existing = getCell(column);
+        if (existing != null) {
+            return existing;
+        }
+        final StreamingCell cell = cellAt(column);
+        cell.setBlank(null);
+        return cell;
+    }
+
+    @Override
+    public void removeCell(Cell cell) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setRowNum(int rowNum) {
+        throw readOnly();
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    @Override
+    public Cell getCell(int cellnum) {
+        if (cellnum < 0 || cellnum >= lastCellNum || !present[cellnum]) {
+            return null;
+        }
+        return cells[cellnum];
+    }
+
+    @Override
+    public Cell getCell(int cellnum, MissingCellPolicy policy) {
+        final Cell cell = getCell(cellnum);
+        switch (policy) {
+            case RETURN_NULL_AND_BLANK:
+                return cell;
+            case RETURN_BLANK_AS_NULL:
+                return cell == null || cell.getCellType() == CellType.BLANK ? null : cell;
+            case CREATE_NULL_AS_BLANK:
+                return cell == null ? createCell(cellnum) : cell;
+            default:
+                throw new IllegalArgumentException("Illegal policy " + policy);
+        }
+    }
+
+    @Override
+    public short getFirstCellNum() {
+        return (short) firstCellNum;
+    }
+
+    @Override
+    public short getLastCellNum() {
+        return (short) lastCellNum;
+    }
+
+    @Override
+    public int getPhysicalNumberOfCells() {
+        return physicalNumberOfCells;
+    }
+
+    @Override
+    public void setHeight(short height) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setZeroHeight(boolean zHeight) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean getZeroHeight() {
+        return false;
+    }
+
+    @Override
+    public void setHeightInPoints(float height) {
+        throw readOnly();
+    }
+
+    @Override
+    public short getHeight() {
+        return -1;
+    }
+
+    @Override
+    public float getHeightInPoints() {
+        return -1;
+    }
+
+    @Override
+    public boolean isFormatted() {
+        return false;
+    }
+
+    @Override
+    public CellStyle getRowStyle() {
+        return null;
+    }
+
+    @Override
+    public void setRowStyle(CellStyle style) {
+        throw readOnly();
+    }
+
+    @Override
+    public Iterator<Cell> cellIterator() {
+        return new Iterator<Cell>() {
+            private int next = advance(Math.max(firstCellNum, 0));
+
+            private int advance(int from) {
+                int i = from;
+                while (i < lastCellNum && !present[i]) {
+                    i++;
+                }
+                return i;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < lastCellNum;
+            }
+
+            @Override
+            public Cell next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Cell cell = cells[next];
+                next = advance(next + 1);
+                return cell;
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Cell> iterator() {
+        return cellIterator();
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return sheet;
+    }
+
+    @Override
+    public int getOutlineLevel() {
+        return 0;
+    }
+
+    @Override
+    public void shiftCellsRight(int firstShiftColumnIndex, int lastShiftColumnIndex, int step) {
+        throw readOnly();
+    }
+
+    @Override
+    public void shiftCellsLeft(int firstShiftColumnIndex, int lastShiftColumnIndex, int step) {
+        throw readOnly();
+    }
+}
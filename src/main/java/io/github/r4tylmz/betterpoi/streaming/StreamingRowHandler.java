@@ -0,0 +1,17 @@
+package io.github.r4tylmz.betterpoi.streaming;
+
+/**
+ * Callback invoked by the {@link XlsxStreamingReader} for every row found in a sheet, in document order.
+ * Rows that do not exist in the file are not reported.
+ */
+@FunctionalInterface
+public interface StreamingRowHandler {
+
+    /**
+     * Handles the row that has just been decoded.
+     * The row and its cells are reused for the next row, so they must not be kept after this method returns.
+     *
+     * @param row the decoded row
+     */
+    void handleRow(StreamingRow row);
+}
@@ -0,0 +1,621 @@
+package io.github.r4tylmz.betterpoi.streaming;
+
+import io.github.r4tylmz.betterpoi.exception.BPExportException;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * XlsxDirectWriter writes an XLSX file without the Apache POI usermodel.
+ * Cells are written as XML straight from their values, with inline strings and a fixed set of styles, so no
+ * row or cell object is created. The cells of each sheet are spooled to a temporary file, since the column
+ * widths are only known once every row has been written and must precede the rows in the sheet XML. The
+ * package is assembled once every sheet has been written, with fixed entry times, so the same values always
+ * produce the same bytes.
+ *
+ * <p>Sheets are either written one at a time, {@link #createSheet(String)} ending the sheet written before it,
+ * or each with its own {@link SheetPart} from {@link #newSheet(String)}. Sheet parts can be written at the same
+ * time by different threads, once the styles of every sheet have been added and {@linkplain #freezeStyles()
+ * frozen}: the package then lists the sheets in the order they were created and is the same as if they had been
+ * written one at a time.</p>
+ */
+public class XlsxDirectWriter implements Closeable {
+    /**
+     * Index of the style of header cells, with a bold font.
+     */
+    public static final int HEADER_STYLE = 1;
+    private static final Logger logger = LoggerFactory.getLogger(XlsxDirectWriter.class);
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String MAIN_NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String RELATIONSHIPS_NAMESPACE = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String PACKAGE_RELATIONSHIPS_NAMESPACE = "http://schemas.openxmlformats.org/package/2006/relationships";
+    private static final int FIRST_CUSTOM_FORMAT = 164;
+    private static final int FIRST_DATE_STYLE = 2;
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private static final int MAX_TEXT_LENGTH = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+    /**
+     * Time of every zip entry, the earliest time a zip file can store. Set in the default time zone, since zip
+     * files store local times.
+     */
+    private static final long ENTRY_TIME = new GregorianCalendar(1980, 0, 1).getTimeInMillis();
+    private final boolean compressTempFiles;
+    private final List<SheetPart> sheets = new ArrayList<>();
+    private final Map<String, Integer> dateStyles = new LinkedHashMap<>();
+    private final Map<String, Integer> numberFormats = new LinkedHashMap<>();
+    private SheetPart sheet;
+    private boolean stylesFrozen;
+
+    /**
+     * Constructs a writer with no sheet.
+     *
+     * @param compressTempFiles true to gzip the temporary files holding the cells of each sheet
+     */
+    public XlsxDirectWriter(boolean compressTempFiles) {
+        this.compressTempFiles = compressTempFiles;
+    }
+
+    /**
+     * Ends the current sheet, if any, and starts a new one.
+     *
+     * @param sheetName the name of the sheet
+     * @throws IOException if the temporary file of the sheet cannot be created
+     * @throws IllegalArgumentException if the name is not a valid sheet name or is already used by another sheet
+     */
+    public void createSheet(String sheetName) throws IOException {
+        endSheet();
+        sheet = newSheet(sheetName);
+    }
+
+    /**
+     * Adds a sheet after the sheets created so far and returns it, to be written on its own. The sheet must be
+     * {@linkplain SheetPart#close() closed} before the package is written.
+     *
+     * @param sheetName the name of the sheet
+     * @return the sheet to write the rows to
+     * @throws IOException if the temporary file of the sheet cannot be created
+     * @throws IllegalArgumentException if the name is not a valid sheet name or is already used by another sheet
+     */
+    public SheetPart newSheet(String sheetName) throws IOException {
+        WorkbookUtil.validateSheetName(sheetName);
+        for (SheetPart existing : sheets) {
+            if (existing.name.equalsIgnoreCase(sheetName)) {
+                throw new IllegalArgumentException("The workbook already contains a sheet named '" + sheetName + "'");
+            }
+        }
+        final File cells = Files.createTempFile("bp-export-", ".xml").toFile();
+        final SheetPart part;
+        try {
+            part = new SheetPart(sheetName, cells, compressTempFiles);
+        } catch (IOException e) {
+            if (!cells.delete()) {
+                logger.warn("Failed to delete temporary file {}", cells);
+            }
+            throw e;
+        }
+        sheets.add(part);
+        return part;
+    }
+
+    /**
+     * Starts the next row of the current sheet. The first row of a sheet is its first row in Excel.
+     *
+     * @throws IOException if the row cannot be written to the temporary file
+     */
+    public void startRow() throws IOException {
+        currentSheet().startRow();
+    }
+
+    /**
+     * Ends the current row.
+     *
+     * @throws IOException if the row cannot be written to the temporary file
+     */
+    public void endRow() throws IOException {
+        currentSheet().endRow();
+    }
+
+    /**
+     * Writes a text cell to the current row as an inline string.
+     *
+     * @param column the 0-based column index
+     * @param value  the text of the cell
+     * @param style  the index of the cell style, 0 for the default style
+     * @throws IOException if the cell cannot be written to the temporary file
+     */
+    public void writeString(int column, String value, int style) throws IOException {
+        currentSheet().writeString(column, value, style);
+    }
+
+    /**
+     * Writes a numeric cell to the current row. Values that are not finite are written as errors, like Apache POI
+     * does.
+     *
+     * @param column the 0-based column index
+     * @param value  the value of the cell
+     * @param style  the index of the cell style, 0 for the default style
+     * @throws IOException if the cell cannot be written to the temporary file
+     */
+    public void writeNumber(int column, double value, int style) throws IOException {
+        currentSheet().writeNumber(column, value, style);
+    }
+
+    /**
+     * Writes a boolean cell to the current row.
+     *
+     * @param column the 0-based column index
+     * @param value  the value of the cell
+     * @param style  the index of the cell style, 0 for the default style
+     * @throws IOException if the cell cannot be written to the temporary file
+     */
+    public void writeBoolean(int column, boolean value, int style) throws IOException {
+        currentSheet().writeBoolean(column, value, style);
+    }
+
+    /**
+     * Retrieves the style of date cells with the given pattern, adding it to the workbook on first use.
+     *
+     * @param datePattern the number format of the cells
+     * @return the index of the cell style
+     * @throws IllegalStateException if the pattern has no style yet and the styles are frozen
+     */
+    public int getDateStyle(String datePattern) {
+        Integer style = dateStyles.get(datePattern);
+        if (style == null) {
+            if (stylesFrozen) {
+                throw new IllegalStateException("No style can be added once the styles are frozen: " + datePattern);
+            }
+            style = FIRST_DATE_STYLE + dateStyles.size();
+            dateStyles.put(datePattern, style);
+            if (BuiltinFormats.getBuiltinFormat(datePattern) < 0) {
+                numberFormats.put(datePattern, FIRST_CUSTOM_FORMAT + numberFormats.size());
+            }
+        }
+        return style;
+    }
+
+    /**
+     * Freezes the styles of the workbook: from then on, {@link #getDateStyle(String)} only returns the styles
+     * already added. Sheets written at the same time must only use frozen styles, so that the style of each
+     * date pattern does not depend on the order the sheets are written in.
+     */
+    public void freezeStyles() {
+        stylesFrozen = true;
+    }
+
+    /**
+     * Retrieves the number of cell styles of the workbook: the default style, the header style and one style per
+     * date pattern.
+     *
+     * @return the number of cell styles
+     */
+    public int getStyleCount() {
+        return FIRST_DATE_STYLE + dateStyles.size();
+    }
+
+    /**
+     * Sets the width of a column of the current sheet.
+     *
+     * @param column the 0-based column index
+     * @param width  the width in characters
+     */
+    public void setColumnWidth(int column, int width) {
+        currentSheet().setColumnWidth(column, width);
+    }
+
+    /**
+     * Ends the current sheet and writes the package to the given stream, with the sheets in the order they were
+     * created. The stream is not closed.
+     *
+     * @param outputStream the stream receiving the XLSX file
+     * @throws IOException if the package cannot be written
+     * @throws IllegalStateException if a sheet created by {@link #newSheet(String)} has not been closed
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        endSheet();
+        for (SheetPart part : sheets) {
+            if (part.rowWriter != null) {
+                throw new IllegalStateException("Sheet '" + part.name + "' has not been closed");
+            }
+        }
+        final ZipOutputStream zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+        putEntry(zip, writer, "[Content_Types].xml", contentTypes());
+        putEntry(zip, writer, "_rels/.rels", XML_DECLARATION
+                + "<Relationships xmlns=\"" + PACKAGE_RELATIONSHIPS_NAMESPACE + "\">"
+                + "<Relationship Id=\"rId1\" Type=\"" + RELATIONSHIPS_NAMESPACE + "/officeDocument\""
+                + " Target=\"xl/workbook.xml\"/></Relationships>");
+        putEntry(zip, writer, "xl/workbook.xml", workbook());
+        putEntry(zip, writer, "xl/_rels/workbook.xml.rels", workbookRelationships());
+        putEntry(zip, writer, "xl/styles.xml", styles());
+        for (int i = 0; i < sheets.size(); i++) {
+            writeSheet(zip, writer, "xl/worksheets/sheet" + (i + 1) + ".xml", sheets.get(i));
+        }
+        zip.finish();
+    }
+
+    /**
+     * Deletes the temporary files of the sheets.
+     */
+    @Override
+    public void close() {
+        sheet = null;
+        for (SheetPart part : sheets) {
+            try {
+                part.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close temporary file of sheet {}", part.name, e);
+            }
+            if (part.cells.exists() && !part.cells.delete()) {
+                logger.warn("Failed to delete temporary file {}", part.cells);
+            }
+        }
+    }
+
+    private void endSheet() throws IOException {
+        if (sheet != null) {
+            sheet.close();
+            sheet = null;
+        }
+    }
+
+    private SheetPart currentSheet() {
+        if (sheet == null) {
+            throw new IllegalStateException("No sheet has been created");
+        }
+        return sheet;
+    }
+
+    private void writeSheet(ZipOutputStream zip, Writer writer, String name, SheetPart part) throws IOException {
+        zip.putNextEntry(newEntry(name));
+        writer.write(XML_DECLARATION);
+        writer.write("<worksheet xmlns=\"" + MAIN_NAMESPACE + "\" xmlns:r=\"" + RELATIONSHIPS_NAMESPACE + "\">");
+        if (!part.columnWidths.isEmpty()) {
+            writer.write("<cols>");
+            for (Map.Entry<Integer, Integer> width : part.columnWidths.entrySet()) {
+                final String index = Integer.toString(width.getKey() + 1);
+                writer.write("<col min=\"" + index + "\" max=\"" + index + "\" width=\"" + width.getValue()
+                        + "\" customWidth=\"1\"/>");
+            }
+            writer.write("</cols>");
+        }
+        writer.write("<sheetData>\n");
+        writer.flush();
+        try (InputStream cells = openCells(part)) {
+            final byte[] buffer = new byte[8192];
+            for (int read = cells.read(buffer); read > 0; read = cells.read(buffer)) {
+                zip.write(buffer, 0, read);
+            }
+        }
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private InputStream openCells(SheetPart part) throws IOException {
+        final InputStream fileStream = new FileInputStream(part.cells);
+        return compressTempFiles ? new GZIPInputStream(fileStream) : fileStream;
+    }
+
+    private static void putEntry(ZipOutputStream zip, Writer writer, String name, String content) throws IOException {
+        zip.putNextEntry(newEntry(name));
+        writer.write(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private static ZipEntry newEntry(String name) {
+        final ZipEntry entry = new ZipEntry(name);
+        entry.setTime(ENTRY_TIME);
+        return entry;
+    }
+
+    private String contentTypes() {
+        final StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+                .append("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+        for (int i = 1; i <= sheets.size(); i++) {
+            xml.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        return xml.append("</Types>").toString();
+    }
+
+    private String workbook() throws IOException {
+        final StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<workbook xmlns=\"").append(MAIN_NAMESPACE)
+                .append("\" xmlns:r=\"").append(RELATIONSHIPS_NAMESPACE).append("\"><sheets>");
+        for (int i = 1; i <= sheets.size(); i++) {
+            xml.append("<sheet name=\"").append(escape(sheets.get(i - 1).name))
+                    .append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+        }
+        return xml.append("</sheets></workbook>").toString();
+    }
+
+    private String workbookRelationships() {
+        final StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<Relationships xmlns=\"").append(PACKAGE_RELATIONSHIPS_NAMESPACE).append("\">");
+        for (int i = 1; i <= sheets.size(); i++) {
+            xml.append("<Relationship Id=\"rId").append(i).append("\" Type=\"").append(RELATIONSHIPS_NAMESPACE)
+                    .append("/worksheet\" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+        }
+        return xml.append("<Relationship Id=\"rId").append(sheets.size() + 1).append("\" Type=\"")
+                .append(RELATIONSHIPS_NAMESPACE).append("/styles\" Target=\"styles.xml\"/></Relationships>")
+                .toString();
+    }
+
+    private String styles() throws IOException {
+        final StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<styleSheet xmlns=\"").append(MAIN_NAMESPACE).append("\">");
+        if (!numberFormats.isEmpty()) {
+            xml.append("<numFmts count=\"").append(numberFormats.size()).append("\">");
+            for (Map.Entry<String, Integer> format : numberFormats.entrySet()) {
+                xml.append("<numFmt numFmtId=\"").append(format.getValue()).append("\" formatCode=\"")
+                        .append(escape(format.getKey())).append("\"/>");
+            }
+            xml.append("</numFmts>");
+        }
+        xml.append("<fonts count=\"2\">")
+                .append("<font><sz val=\"11\"/><name val=\"Calibri\"/><family val=\"2\"/></font>")
+                .append("<font><b/><sz val=\"11\"/><name val=\"Calibri\"/><family val=\"2\"/></font></fonts>")
+                .append("<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill>")
+                .append("<fill><patternFill patternType=\"gray125\"/></fill></fills>")
+                .append("<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>")
+                .append("<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>")
+                .append("<cellXfs count=\"").append(FIRST_DATE_STYLE + dateStyles.size()).append("\">")
+                .append("<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>")
+                .append("<xf numFmtId=\"0\" fontId=\"1\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyFont=\"1\"/>");
+        for (String datePattern : dateStyles.keySet()) {
+            final Integer custom = numberFormats.get(datePattern);
+            final int numberFormat = custom != null ? custom : BuiltinFormats.getBuiltinFormat(datePattern);
+            xml.append("<xf numFmtId=\"").append(numberFormat)
+                    .append("\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>");
+        }
+        return xml.append("</cellXfs>")
+                .append("<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>")
+                .append("</styleSheet>").toString();
+    }
+
+    private static boolean hasLeadingOrTrailingSpace(String value) {
+        return !value.isEmpty()
+                && (Character.isWhitespace(value.charAt(0)) || Character.isWhitespace(value.charAt(value.length() - 1)));
+    }
+
+    /**
+     * Writes the given text escaped for XML content and attributes. Characters that XML 1.0 cannot represent,
+     * the C0 controls other than tab, line feed and carriage return, U+FFFE, U+FFFF and unpaired surrogates, are
+     * replaced with '?'.
+     */
+    private static void writeEscaped(Writer out, String value) throws IOException {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            final String replacement;
+            switch (c) {
+                case '<':
+                    replacement = "&lt;";
+                    break;
+                case '>':
+                    replacement = "&gt;";
+                    break;
+                case '&':
+                    replacement = "&amp;";
+                    break;
+                case '"':
+                    replacement = "&quot;";
+                    break;
+                case '\n':
+                    replacement = "&#xa;";
+                    break;
+                case '\r':
+                    replacement = "&#xd;";
+                    break;
+                case '\t':
+                    replacement = "&#x9;";
+                    break;
+                default:
+                    if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                            && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        i++;
+                        replacement = null;
+                    } else {
+                        replacement = c < 0x20 || c == '\uFFFE' || c == '\uFFFF' || Character.isSurrogate(c)
+                                ? "?" : null;
+                    }
+            }
+            if (replacement != null) {
+                out.write(value, start, i - start);
+                out.write(replacement);
+                start = i + 1;
+            }
+        }
+        out.write(value, start, value.length() - start);
+    }
+
+    private static String escape(String value) throws IOException {
+        final StringWriter out = new StringWriter(value.length());
+        writeEscaped(out, value);
+        return out.toString();
+    }
+
+    /**
+     * A sheet of the workbook: its name, the temporary file holding its rows and the widths of its columns.
+     * A sheet part is written by a single thread, independently of the other sheets of the workbook.
+     */
+    public static final class SheetPart implements Closeable {
+        private final String name;
+        private final File cells;
+        private final Map<Integer, Integer> columnWidths = new TreeMap<>();
+        private final List<String> columnNames = new ArrayList<>();
+        private Writer rowWriter;
+        private String rowNumber;
+        private int rowCount;
+
+        private SheetPart(String name, File cells, boolean compressTempFiles) throws IOException {
+            this.name = name;
+            this.cells = cells;
+            final OutputStream fileStream = new FileOutputStream(cells);
+            this.rowWriter = new BufferedWriter(new OutputStreamWriter(
+                    compressTempFiles ? new GZIPOutputStream(fileStream) : fileStream, StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Starts the next row of the sheet. The first row of a sheet is its first row in Excel.
+         *
+         * @throws IOException if the row cannot be written to the temporary file
+         */
+        public void startRow() throws IOException {
+            if (rowWriter == null) {
+                throw new IllegalStateException("Sheet '" + name + "' has been closed");
+            }
+            if (rowCount == MAX_ROWS) {
+                throw new BPExportException("Sheet '" + name + "' exceeds the maximum of " + MAX_ROWS + " rows");
+            }
+            rowNumber = Integer.toString(++rowCount);
+            rowWriter.write("<row r=\"");
+            rowWriter.write(rowNumber);
+            rowWriter.write("\">");
+        }
+
+        /**
+         * Ends the current row.
+         *
+         * @throws IOException if the row cannot be written to the temporary file
+         */
+        public void endRow() throws IOException {
+            rowWriter.write("</row>\n");
+        }
+
+        /**
+         * Writes a text cell to the current row as an inline string.
+         *
+         * @param column the 0-based column index
+         * @param value  the text of the cell
+         * @param style  the index of the cell style, 0 for the default style
+         * @throws IOException if the cell cannot be written to the temporary file
+         */
+        public void writeString(int column, String value, int style) throws IOException {
+            if (value.length() > MAX_TEXT_LENGTH) {
+                throw new IllegalArgumentException("The maximum length of cell contents (text) is " + MAX_TEXT_LENGTH
+                        + " characters");
+            }
+            startCell(column, style, "inlineStr");
+            if (hasLeadingOrTrailingSpace(value)) {
+                rowWriter.write("<is><t xml:space=\"preserve\">");
+            } else {
+                rowWriter.write("<is><t>");
+            }
+            writeEscaped(rowWriter, value);
+            rowWriter.write("</t></is></c>");
+        }
+
+        /**
+         * Writes a numeric cell to the current row. Values that are not finite are written as errors, like
+         * Apache POI does.
+         *
+         * @param column the 0-based column index
+         * @param value  the value of the cell
+         * @param style  the index of the cell style, 0 for the default style
+         * @throws IOException if the cell cannot be written to the temporary file
+         */
+        public void writeNumber(int column, double value, int style) throws IOException {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                startCell(column, style, "e");
+                rowWriter.write(Double.isNaN(value) ? "<v>#NUM!</v></c>" : "<v>#DIV/0!</v></c>");
+                return;
+            }
+            startCell(column, style, null);
+            rowWriter.write("<v>");
+            rowWriter.write(Double.toString(value));
+            rowWriter.write("</v></c>");
+        }
+
+        /**
+         * Writes a boolean cell to the current row.
+         *
+         * @param column the 0-based column index
+         * @param value  the value of the cell
+         * @param style  the index of the cell style, 0 for the default style
+         * @throws IOException if the cell cannot be written to the temporary file
+         */
+        public void writeBoolean(int column, boolean value, int style) throws IOException {
+            startCell(column, style, "b");
+            rowWriter.write(value ? "<v>1</v></c>" : "<v>0</v></c>");
+        }
+
+        /**
+         * Sets the width of a column of the sheet.
+         *
+         * @param column the 0-based column index
+         * @param width  the width in characters
+         */
+        public void setColumnWidth(int column, int width) {
+            columnWidths.put(column, width);
+        }
+
+        /**
+         * Ends the sheet and closes its temporary file. Closing a closed sheet has no effect.
+         *
+         * @throws IOException if the temporary file cannot be closed
+         */
+        @Override
+        public void close() throws IOException {
+            if (rowWriter != null) {
+                final Writer writer = rowWriter;
+                rowWriter = null;
+                writer.close();
+            }
+        }
+
+        private void startCell(int column, int style, String type) throws IOException {
+            rowWriter.write("<c r=\"");
+            rowWriter.write(getColumnName(column));
+            rowWriter.write(rowNumber);
+            if (style != 0) {
+                rowWriter.write("\" s=\"");
+                rowWriter.write(Integer.toString(style));
+            }
+            if (type != null) {
+                rowWriter.write("\" t=\"");
+                rowWriter.write(type);
+            }
+            rowWriter.write("\">");
+        }
+
+        private String getColumnName(int column) {
+            while (columnNames.size() <= column) {
+                columnNames.add(CellReference.convertNumToColString(columnNames.size()));
+            }
+            return columnNames.get(column);
+        }
+    }
+}
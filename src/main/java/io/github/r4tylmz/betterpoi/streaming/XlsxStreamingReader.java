@@ -0,0 +1,187 @@
+package io.github.r4tylmz.betterpoi.streaming;
+
+import io.github.r4tylmz.betterpoi.exception.BPImportException;
+import org.apache.poi.ooxml.POIXMLTypeLoader;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.xmlbeans.XmlException;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbook;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.WorkbookDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * XlsxStreamingReader reads the sheets of an XLSX file with the Apache POI event API.
+ * Rows are decoded one at a time into a reusable {@link StreamingRow}, so the memory needed to read a sheet
+ * depends on the width of its rows rather than on its size. Only the shared strings table and the styles
+ * are kept in memory.
+ */
+public class XlsxStreamingReader implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(XlsxStreamingReader.class);
+    private final File tempFile;
+    private final OPCPackage opcPackage;
+    private final XSSFReader xssfReader;
+    private final SharedStrings sharedStrings;
+    private final StylesTable stylesTable;
+    private final boolean date1904;
+
+    /**
+     * Opens an XLSX file from the given input stream.
+     * The stream is spooled to a temporary file so that the zip entries can be read lazily.
+     *
+     * @param inputStream the input stream of the XLSX file, not closed by this reader
+     */
+    public XlsxStreamingReader(InputStream inputStream) {
+        if (inputStream == null) {
+            throw new BPImportException("Input stream cannot be null");
+        }
+        File spooled = null;
+        OPCPackage pkg = null;
+        try {
+            spooled = Files.createTempFile("bp-import-", ".xlsx").toFile();
+            Files.copy(inputStream, spooled.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            pkg = OPCPackage.open(spooled, PackageAccess.READ);
+            this.xssfReader = new XSSFReader(pkg);
+            this.sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            final StylesTable styles = xssfReader.getStylesTable();
+            this.stylesTable = styles != null ? styles : new StylesTable();
+            this.date1904 = isDate1904(xssfReader);
+        } catch (IOException | OpenXML4JException | SAXException | XmlException e) {
+            if (pkg != null) {
+                pkg.revert();
+            }
+            deleteQuietly(spooled);
+            throw new BPImportException("Failed to open XLSX file for streaming", e);
+        }
+        this.tempFile = spooled;
+        this.opcPackage = pkg;
+    }
+
+    private static boolean isDate1904(XSSFReader reader) throws IOException, OpenXML4JException, XmlException {
+        try (InputStream workbookData = reader.getWorkbookData()) {
+            final CTWorkbook workbook = WorkbookDocument.Factory
+                    .parse(workbookData, POIXMLTypeLoader.DEFAULT_XML_OPTIONS).getWorkbook();
+            return workbook.isSetWorkbookPr() && workbook.getWorkbookPr().getDate1904();
+        }
+    }
+
+    private static void deleteQuietly(File file) {
+        if (file != null && file.exists() && !file.delete()) {
+            logger.warn("Failed to delete temporary file {}", file.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Retrieves the names of all sheets in the workbook, in workbook order.
+     *
+     * @return the sheet names
+     */
+    public synchronized List<String> getSheetNames() {
+        final List<String> names = new ArrayList<>();
+        try {
+            final XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream ignored = sheets.next()) {
+                    names.add(sheets.getSheetName());
+                }
+            }
+        } catch (IOException | OpenXML4JException e) {
+            throw new BPImportException("Failed to read sheet names", e);
+        }
+        return names;
+    }
+
+    /**
+     * Reads every row of the sheet with the given name and passes it to the handler.
+     * Different sheets may be read at the same time from several threads; each sheet is parsed by its own
+     * XML parser, and only the lookup of the sheet part in the package is serialized.
+     *
+     * @param sheetName the name of the sheet to read
+     * @param handler   the handler receiving each row
+     * @return true if the sheet was found and read, false if the workbook has no sheet with that name
+     */
+    public boolean readSheet(String sheetName, StreamingRowHandler handler) {
+        return readSheet(sheetName, handler, () -> false);
+    }
+
+    /**
+     * Reads the rows of the sheet with the given name and passes them to the handler, until the stop condition
+     * holds. The condition is checked after each row; once it holds, the rest of the sheet is not parsed.
+     *
+     * @param sheetName     the name of the sheet to read
+     * @param handler       the handler receiving each row
+     * @param stopCondition the condition ending the read of the sheet
+     * @return true if the sheet was found and read, false if the workbook has no sheet with that name
+     */
+    public boolean readSheet(String sheetName, StreamingRowHandler handler, BooleanSupplier stopCondition) {
+        try (InputStream sheetData = openSheet(sheetName)) {
+            if (sheetData == null) {
+                return false;
+            }
+            parseSheet(sheetName, sheetData, handler, stopCondition);
+            return true;
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new BPImportException("Failed to read sheet: " + sheetName, sheetName, null, null, e);
+        }
+    }
+
+    /**
+     * Opens the XML part of the sheet with the given name.
+     *
+     * @param sheetName the name of the sheet
+     * @return the stream of the sheet part, or null if the workbook has no sheet with that name
+     */
+    private synchronized InputStream openSheet(String sheetName) throws IOException, OpenXML4JException {
+        final XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+        while (sheets.hasNext()) {
+            final InputStream sheetData = sheets.next();
+            if (sheets.getSheetName().equals(sheetName)) {
+                return sheetData;
+            }
+            sheetData.close();
+        }
+        return null;
+    }
+
+    private void parseSheet(String sheetName, InputStream sheetData, StreamingRowHandler handler,
+                            BooleanSupplier stopCondition)
+            throws IOException, SAXException, ParserConfigurationException {
+        final XMLReader parser = XMLHelper.newXMLReader();
+        parser.setContentHandler(new SheetXmlHandler(sheetName, sharedStrings, stylesTable, date1904, handler,
+                stopCondition));
+        try {
+            parser.parse(new InputSource(sheetData));
+        } catch (SheetXmlHandler.StopParsingException e) {
+            // the remaining rows are not needed
+        }
+    }
+
+    /**
+     * Releases the package and deletes the temporary copy of the file.
+     */
+    @Override
+    public void close() {
+        opcPackage.revert();
+        deleteQuietly(tempFile);
+    }
+}
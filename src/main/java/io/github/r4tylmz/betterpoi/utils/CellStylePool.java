@@ -0,0 +1,222 @@
+package io.github.r4tylmz.betterpoi.utils;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Pool of the cell styles of a workbook, keyed by their attributes.
+ * A style is created the first time its attributes are requested and shared by every later request, so the
+ * number of styles and fonts in the workbook depends on the number of distinct formats instead of the number
+ * of formatted cells. A workbook can hold at most 64000 styles.
+ */
+public class CellStylePool {
+    private final Workbook workbook;
+    private final DataFormat dataFormat;
+    private final Map<Key, CellStyle> styles = new HashMap<>();
+    private final Map<FontKey, Font> fonts = new HashMap<>();
+
+    /**
+     * Constructs an empty pool creating its styles in the given workbook.
+     *
+     * @param workbook the workbook owning the styles
+     */
+    public CellStylePool(Workbook workbook) {
+        this.workbook = workbook;
+        this.dataFormat = workbook.createDataFormat();
+    }
+
+    /**
+     * Retrieves the style with the given attributes, creating it on first use.
+     *
+     * @param key the attributes of the style
+     * @return the pooled style
+     */
+    public CellStyle getStyle(Key key) {
+        CellStyle style = styles.get(key);
+        if (style == null) {
+            style = createStyle(key);
+            styles.put(key, style);
+        }
+        return style;
+    }
+
+    /**
+     * Retrieves the data format of the workbook, used to resolve the number formats of the styles.
+     *
+     * @return the data format
+     */
+    public DataFormat getDataFormat() {
+        return dataFormat;
+    }
+
+    /**
+     * Retrieves the number of styles created by this pool.
+     *
+     * @return the number of pooled styles
+     */
+    public int size() {
+        return styles.size();
+    }
+
+    /**
+     * Retrieves the number of fonts created by this pool.
+     *
+     * @return the number of pooled fonts
+     */
+    public int getFontCount() {
+        return fonts.size();
+    }
+
+    private CellStyle createStyle(Key key) {
+        final CellStyle style = workbook.createCellStyle();
+        if (key.dataFormat != null) {
+            style.setDataFormat(dataFormat.getFormat(key.dataFormat));
+        }
+        if (key.fillColor != null) {
+            style.setFillForegroundColor(key.fillColor.getIndex());
+            style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            style.setFillBackgroundColor(key.fillColor.getIndex());
+        }
+        if (key.alignment != null) {
+            style.setAlignment(key.alignment);
+        }
+        if (key.bold || key.fontColor != null) {
+            style.setFont(getFont(new FontKey(key.bold, key.fontColor)));
+        }
+        return style;
+    }
+
+    private Font getFont(FontKey key) {
+        Font font = fonts.get(key);
+        if (font == null) {
+            font = workbook.createFont();
+            font.setBold(key.bold);
+            if (key.color != null) {
+                font.setColor(key.color.getIndex());
+            }
+            fonts.put(key, font);
+        }
+        return font;
+    }
+
+    /**
+     * Attributes of a pooled style. Keys are immutable: each {@code with} method returns a new key.
+     */
+    public static final class Key {
+        /**
+         * Key of the style with no attribute set: general number format, default font, no fill and general alignment.
+         */
+        public static final Key DEFAULT = new Key(null, false, null, null, null);
+        private final String dataFormat;
+        private final boolean bold;
+        private final IndexedColors fontColor;
+        private final IndexedColors fillColor;
+        private final HorizontalAlignment alignment;
+
+        private Key(String dataFormat, boolean bold, IndexedColors fontColor, IndexedColors fillColor,
+                    HorizontalAlignment alignment) {
+            this.dataFormat = dataFormat;
+            this.bold = bold;
+            this.fontColor = fontColor;
+            this.fillColor = fillColor;
+            this.alignment = alignment;
+        }
+
+        /**
+         * @param dataFormat the number format of the style, such as a date pattern, or null for the general format
+         * @return a key with the given number format
+         */
+        public Key withDataFormat(String dataFormat) {
+            return new Key(dataFormat, bold, fontColor, fillColor, alignment);
+        }
+
+        /**
+         * @param bold true for a bold font
+         * @return a key with the given font weight
+         */
+        public Key withBold(boolean bold) {
+            return new Key(dataFormat, bold, fontColor, fillColor, alignment);
+        }
+
+        /**
+         * @param fontColor the color of the font, or null for the default color
+         * @return a key with the given font color
+         */
+        public Key withFontColor(IndexedColors fontColor) {
+            return new Key(dataFormat, bold, fontColor, fillColor, alignment);
+        }
+
+        /**
+         * @param fillColor the color of a solid fill, or null for no fill
+         * @return a key with the given fill
+         */
+        public Key withFillColor(IndexedColors fillColor) {
+            return new Key(dataFormat, bold, fontColor, fillColor, alignment);
+        }
+
+        /**
+         * @param alignment the horizontal alignment, or null for the general alignment
+         * @return a key with the given alignment
+         */
+        public Key withAlignment(HorizontalAlignment alignment) {
+            return new Key(dataFormat, bold, fontColor, fillColor, alignment);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return bold == key.bold && Objects.equals(dataFormat, key.dataFormat) && fontColor == key.fontColor
+                    && fillColor == key.fillColor && alignment == key.alignment;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dataFormat, bold, fontColor, fillColor, alignment);
+        }
+    }
+
+    /**
+     * Attributes of a pooled font.
+     */
+    private static final class FontKey {
+        private final boolean bold;
+        private final IndexedColors color;
+
+        private FontKey(boolean bold, IndexedColors color) {
+            this.bold = bold;
+            this.color = color;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FontKey)) {
+                return false;
+            }
+            final FontKey fontKey = (FontKey) o;
+            return bold == fontKey.bold && color == fontKey.color;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bold, color);
+        }
+    }
+}
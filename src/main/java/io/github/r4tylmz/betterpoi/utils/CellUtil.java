@@ -1,5 +1,6 @@
 package io.github.r4tylmz.betterpoi.utils;
 
+import org.apache.commons.beanutils.ConversionException;
 import org.apache.commons.beanutils.ConvertUtilsBean2;
 import org.apache.commons.beanutils.converters.DateConverter;
 import org.apache.poi.ss.usermodel.*;
@@ -7,8 +8,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
-import java.text.NumberFormat;
-import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -22,7 +21,7 @@ import java.util.Locale;
  * Utility class for working with cells in Excel workbooks.
  */
 public class CellUtil {
-    // Static list holding commonly used date patterns worldwide
+    // Static list holding commonly used date patterns worldwide, read by DateParser when a parser is created
     public static final List<String> DATE_PATTERNS = new ArrayList<>();
     private static final Logger logger = LoggerFactory.getLogger(CellUtil.class);
     private static final ConvertUtilsBean2 converter = new ConvertUtilsBean2();
@@ -101,140 +100,111 @@ public class CellUtil {
 
 
     /**
-     * Parses an integer from a string. If the direct parsing fails, it attempts to parse the string
-     * using the default number format of the locale.
+     * Parses an integer from a string, in Java syntax or with the separators of the default locale.
      *
      * @param value the string to parse as an integer
      * @return the parsed integer value or null if parsing fails
+     * @see NumberParser
      */
     public static Integer parseInteger(String value) {
-        try {
-            return Integer.parseInt(value);
-        } catch (NumberFormatException e) {
-            try {
-                Number number = NumberFormat.getInstance(Locale.getDefault()).parse(value.trim());
-                return number.intValue();
-            } catch (ParseException parseException) {
-                logger.error("Failed to parse Integer: {}", value, parseException);
-                return null;
-            }
-        }
+        return (Integer) parseNumber(value, Integer.class, NumberParser.forLocale(Locale.getDefault()));
     }
 
     /**
-     * Parses a double from a string. If the direct parsing fails, it attempts to parse the string
-     * using the default number format of the locale.
+     * Parses a double from a string, in Java syntax or with the separators of the default locale.
      *
      * @param value the string to parse as a double
      * @return the parsed double value or null if parsing fails
+     * @see NumberParser
      */
     public static Double parseDouble(String value) {
-        try {
-            return Double.parseDouble(value);
-        } catch (NumberFormatException e) {
-            try {
-                Number number = NumberFormat.getInstance(Locale.getDefault()).parse(value.trim());
-                return number.doubleValue();
-            } catch (ParseException parseException) {
-                logger.error("Failed to parse Double: {}", value, parseException);
-                return null;
-            }
-        }
+        return (Double) parseNumber(value, Double.class, NumberParser.forLocale(Locale.getDefault()));
     }
 
     /**
-     * Parses a BigDecimal from a string. If the direct parsing fails, it attempts to parse the string
-     * using the default number format of the locale.
+     * Parses a BigDecimal from a string, in Java syntax or with the separators of the default locale.
      *
      * @param value the string to parse as a BigDecimal
      * @return the parsed BigDecimal value or null if parsing fails
+     * @see NumberParser
      */
     public static BigDecimal parseBigDecimal(String value) {
-        try {
-            return new BigDecimal(value);
-        } catch (NumberFormatException e) {
-            try {
-                Number number = NumberFormat.getInstance(Locale.getDefault()).parse(value.trim());
-                return BigDecimal.valueOf(number.doubleValue());
-            } catch (ParseException parseException) {
-                logger.error("Failed to parse BigDecimal: {}", value, parseException);
-                return null;
-            }
-        }
+        return (BigDecimal) parseNumber(value, BigDecimal.class, NumberParser.forLocale(Locale.getDefault()));
     }
 
     /**
-     * Parses a long from a string. If the direct parsing fails, it attempts to parse the string
-     * using the default number format of the locale.
+     * Parses a long from a string, in Java syntax or with the separators of the default locale.
      *
      * @param value the string to parse as a long
      * @return the parsed long value or null if parsing fails
+     * @see NumberParser
      */
     public static Long parseLong(String value) {
-        try {
-            return Long.parseLong(value);
-        } catch (NumberFormatException e) {
-            try {
-                Number number = NumberFormat.getInstance(Locale.getDefault()).parse(value.trim());
-                return number.longValue();
-            } catch (ParseException parseException) {
-                logger.error("Failed to parse Long: {}", value, parseException);
-                return null;
-            }
-        }
+        return (Long) parseNumber(value, Long.class, NumberParser.forLocale(Locale.getDefault()));
     }
 
     /**
-     * Parses a float from a string. If the direct parsing fails, it attempts to parse the string
-     * using the default number format of the locale.
+     * Parses a float from a string, in Java syntax or with the separators of the default locale.
      *
      * @param value the string to parse as a float
      * @return the parsed float value or null if parsing fails
+     * @see NumberParser
      */
     public static Float parseFloat(String value) {
-        try {
-            return Float.parseFloat(value);
-        } catch (NumberFormatException e) {
-            try {
-                Number number = NumberFormat.getInstance(Locale.getDefault()).parse(value.trim());
-                return number.floatValue();
-            } catch (ParseException parseException) {
-                logger.error("Failed to parse Float: {}", value, parseException);
-                return null;
-            }
+        return (Float) parseNumber(value, Float.class, NumberParser.forLocale(Locale.getDefault()));
+    }
+
+    /**
+     * Parses a number of the given type with the given parser. Values that are not numbers are logged
+     * at debug level and give null.
+     *
+     * @param value        the string to parse
+     * @param field        the numeric type to parse into
+     * @param numberParser the parser to use
+     * @return the parsed value or null if parsing fails
+     */
+    public static Object parseNumber(String value, Class<?> field, NumberParser numberParser) {
+        final Object number = numberParser.parse(value, field);
+        if (number == null) {
+            logger.debug("Failed to parse {}: {}", field.getSimpleName(), value);
         }
+        return number;
     }
 
     /**
-     * Parses a date from a string. If the direct parsing fails, it attempts to parse the string
-     * using the default date patterns.
+     * Parses a date from a string using the default date patterns.
+     * If none of the patterns matches, the value is passed to the commons-beanutils converter,
+     * which reports it as invalid.
      *
      * @param value the string to parse as a date
      * @param field the class of the field to parse the date into
      * @return the parsed date value or null if parsing fails
      */
     public static Object parseDate(String value, Class<?> field) {
-        for (String pattern : DATE_PATTERNS) {
-            try {
-                SimpleDateFormat dateFormat = new SimpleDateFormat(pattern);
-                dateFormat.setLenient(false);
-                Date date = dateFormat.parse(value.trim());
+        return parseDate(value, field, DateParser.defaults());
+    }
 
-                if (field.equals(Date.class)) {
-                    return date;
-                } else if (field.equals(LocalDate.class)) {
-                    return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-                } else if (field.equals(java.sql.Date.class)) {
-                    return new java.sql.Date(date.getTime());
-                } else if (field.equals(LocalDateTime.class)) {
-                    return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
-                }
-            } catch (ParseException ignored) {
-            }
+    /**
+     * Parses a date from a string with the given parser, typically the parser of the column being read.
+     * If none of the parser's patterns matches, the value is passed to the commons-beanutils converter,
+     * which reports it as invalid.
+     *
+     * @param value      the string to parse as a date
+     * @param field      the class of the field to parse the date into
+     * @param dateParser the parser to use
+     * @return the parsed date value or null if parsing fails
+     */
+    public static Object parseDate(String value, Class<?> field, DateParser dateParser) {
+        final Object date = dateParser.parse(value, field);
+        if (date != null) {
+            return date;
+        }
+        try {
+            return converter.convert(value, field);
+        } catch (ConversionException e) {
+            logger.error("Failed to parse Date: {}", value);
+            throw e;
         }
-
-        logger.error("Failed to parse Date: {}", value);
-        return converter.convert(value, field);
     }
 
     /**
@@ -285,6 +255,36 @@ public class CellUtil {
         return value;
     }
 
+    /**
+     * Retrieves the string representation of a cell, whatever its type.
+     * Date formatted numbers are written with the first of the {@link #DATE_PATTERNS}.
+     *
+     * @param cell     the cell to retrieve the value from
+     * @param cellType the type of the cell, with formulas resolved to the type of their cached result
+     * @return the string representation of the cell, empty for blank cells
+     */
+    public static String getCellValueAsString(final Cell cell, final CellType cellType) {
+        switch (cellType) {
+            case NUMERIC:
+                if (DateUtil.isCellDateFormatted(cell)) {
+                    SimpleDateFormat sdf = new SimpleDateFormat(DATE_PATTERNS.get(0));
+                    return sdf.format(cell.getDateCellValue());
+                }
+                cell.setCellType(CellType.STRING);
+                return cell.getStringCellValue();
+            case BOOLEAN:
+                cell.setCellType(CellType.STRING);
+                return cell.getStringCellValue();
+            case STRING:
+                return cell.getStringCellValue();
+            case ERROR:
+                return "ERROR: " + cell.getErrorCellValue();
+            case BLANK:
+            default:
+                return "";
+        }
+    }
+
     /**
      * Retrieves the value of a cell based on its type and the field type.
      *
@@ -293,6 +293,21 @@ public class CellUtil {
      * @return the value of the cell converted to the appropriate type
      */
     public static Object getCellValue(final Cell cell, final Class<?> field) {
+        return getCellValue(cell, field, DateParser.defaults(), NumberParser.forLocale(Locale.getDefault()));
+    }
+
+    /**
+     * Retrieves the value of a cell based on its type and the field type.
+     * Dates and numbers stored as text are parsed with the given parsers.
+     *
+     * @param cell         the cell to retrieve the value from
+     * @param field        the field type to convert the cell value to
+     * @param dateParser   the parser of dates stored as text
+     * @param numberParser the parser of numbers stored as text
+     * @return the value of the cell converted to the appropriate type
+     */
+    public static Object getCellValue(final Cell cell, final Class<?> field, final DateParser dateParser,
+                                      final NumberParser numberParser) {
         if (cell == null) {
             return null;
         }
@@ -305,25 +320,7 @@ public class CellUtil {
 
         // If target field is String, return string representation regardless of cell type
         if (field == String.class) {
-            switch (cellType) {
-                case NUMERIC:
-                    if (DateUtil.isCellDateFormatted(cell)) {
-                        SimpleDateFormat sdf = new SimpleDateFormat(DATE_PATTERNS.get(0));
-                        return sdf.format(cell.getDateCellValue());
-                    }
-                    cell.setCellType(CellType.STRING);
-                    return cell.getStringCellValue();
-                case BOOLEAN:
-                    cell.setCellType(CellType.STRING);
-                    return cell.getStringCellValue();
-                case STRING:
-                    return cell.getStringCellValue();
-                case ERROR:
-                    return "ERROR: " + cell.getErrorCellValue();
-                case BLANK:
-                default:
-                    return "";
-            }
+            return getCellValueAsString(cell, cellType);
         }
 
         // For non-String fields, handle based on cell type
@@ -362,18 +359,12 @@ public class CellUtil {
                 return cell.getBooleanCellValue();
             case STRING:
                 String stringValue = cell.getStringCellValue();
-                if (field == Integer.class || field == int.class) {
-                    return parseInteger(stringValue);
-                } else if (field == Double.class || field == double.class) {
-                    return parseDouble(stringValue);
-                } else if (field == Long.class || field == long.class) {
-                    return parseLong(stringValue);
-                } else if (field == Float.class || field == float.class) {
-                    return parseFloat(stringValue);
-                } else if (field == BigDecimal.class) {
-                    return parseBigDecimal(stringValue);
+                if (field == Integer.class || field == int.class || field == Double.class || field == double.class
+                        || field == Long.class || field == long.class || field == Float.class || field == float.class
+                        || field == BigDecimal.class) {
+                    return parseNumber(stringValue, field, numberParser);
                 } else if (isDate(field)) {
-                    return parseDate(stringValue, field);
+                    return parseDate(stringValue, field, dateParser);
                 } else if (field == Boolean.class || field == boolean.class) {
                     return Boolean.valueOf(stringValue);
                 }
@@ -0,0 +1,81 @@
+package io.github.r4tylmz.betterpoi.utils;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * Tracks the widest value written to each column of a sheet so that column widths can be set
+ * without {@link Sheet#autoSizeColumn(int)}, which needs every row of the sheet in memory.
+ * Widths are estimated from the number of characters of the displayed values.
+ */
+public class ColumnWidthTracker {
+    /**
+     * Maximum column width in characters accepted by Excel.
+     */
+    public static final int MAX_WIDTH = 255;
+    private static final int PADDING = 2;
+    private final int[] widths;
+
+    /**
+     * Constructs a tracker for the given number of columns.
+     *
+     * @param columnCount the number of columns to track
+     */
+    public ColumnWidthTracker(int columnCount) {
+        this.widths = new int[columnCount];
+    }
+
+    /**
+     * Records a value written to the given column.
+     *
+     * @param column the 0-based column index
+     * @param length the number of characters of the displayed value
+     */
+    public void track(int column, int length) {
+        if (length > widths[column]) {
+            widths[column] = length;
+        }
+    }
+
+    /**
+     * Retrieves the widest value recorded for the given column.
+     *
+     * @param column the 0-based column index
+     * @return the number of characters of the widest value
+     */
+    public int getWidth(int column) {
+        return widths[column];
+    }
+
+    /**
+     * Retrieves the width to set on the given column: the widest value plus a small padding, capped at
+     * {@link #MAX_WIDTH}.
+     *
+     * @param column the 0-based column index
+     * @return the column width in characters, or 0 if no value was recorded for the column
+     */
+    public int getColumnWidth(int column) {
+        return widths[column] > 0 ? Math.min(widths[column] + PADDING, MAX_WIDTH) : 0;
+    }
+
+    /**
+     * Retrieves the number of tracked columns.
+     *
+     * @return the number of columns
+     */
+    public int getColumnCount() {
+        return widths.length;
+    }
+
+    /**
+     * Applies the tracked widths, plus a small padding, to the columns of the given sheet.
+     *
+     * @param sheet the sheet to resize
+     */
+    public void apply(Sheet sheet) {
+        for (int i = 0; i < widths.length; i++) {
+            if (widths[i] > 0) {
+                sheet.setColumnWidth(i, getColumnWidth(i) * 256);
+            }
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package io.github.r4tylmz.betterpoi.utils;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parses dates from text with a list of candidate patterns.
+ * Patterns use the {@link java.text.SimpleDateFormat} syntax of {@link CellUtil#DATE_PATTERNS} and are compiled
+ * once into thread-safe {@link DateTimeFormatter}s shared by all parsers. Parsing is strict and does not throw:
+ * before a pattern is tried, the shape of the value is compared with the pattern, and a pattern is only tried
+ * in full when the value could match it. A pattern matching the whole value is preferred; as with
+ * {@link java.text.SimpleDateFormat#parse(String)}, a value that only starts with a date is accepted otherwise.
+ * <p>
+ * Each parser remembers the pattern that matched last and tries it first, since the values of a column
+ * almost always share a format. Parsers are therefore meant to be created per column, with
+ * {@link #forPattern(String, Locale)}. They are thread-safe; concurrent use only affects which pattern is
+ * tried first.
+ */
+public final class DateParser {
+    private static final Map<String, DatePattern> COMPILED = new ConcurrentHashMap<>();
+    private static volatile DateParser defaults;
+    private final List<DatePattern> patterns;
+    private int lastMatch;
+
+    private DateParser(List<DatePattern> patterns) {
+        this.patterns = patterns;
+    }
+
+    /**
+     * Retrieves the parser of {@link CellUtil#DATE_PATTERNS} in the default locale, creating it on first use.
+     * Patterns added to the list afterwards are not picked up by this parser.
+     *
+     * @return the shared default parser
+     */
+    public static DateParser defaults() {
+        DateParser parser = defaults;
+        if (parser == null) {
+            parser = forPattern(null, Locale.getDefault(Locale.Category.FORMAT));
+            defaults = parser;
+        }
+        return parser;
+    }
+
+    /**
+     * Creates a parser trying the given pattern first, then {@link CellUtil#DATE_PATTERNS}.
+     * A pattern that is empty or not a valid date pattern, such as an Excel-only number format, is ignored.
+     *
+     * @param datePattern the pattern declared for the column, see
+     *                    {@link io.github.r4tylmz.betterpoi.annotation.BPColumn#datePattern()}; may be null
+     * @param locale      the locale of month and day names
+     * @return the parser
+     */
+    public static DateParser forPattern(String datePattern, Locale locale) {
+        final List<DatePattern> patterns = new ArrayList<>();
+        if (datePattern != null && !datePattern.isEmpty()) {
+            addPattern(patterns, datePattern, locale);
+        }
+        for (String pattern : CellUtil.DATE_PATTERNS) {
+            addPattern(patterns, pattern, locale);
+        }
+        return new DateParser(Collections.unmodifiableList(patterns));
+    }
+
+    private static void addPattern(List<DatePattern> patterns, String pattern, Locale locale) {
+        final DatePattern datePattern = compile(pattern, locale);
+        if (datePattern != null && !patterns.contains(datePattern)) {
+            patterns.add(datePattern);
+        }
+    }
+
+    /**
+     * Compiles a pattern, or retrieves it if it has already been compiled for the locale.
+     *
+     * @return the compiled pattern, or null if the pattern is invalid
+     */
+    private static DatePattern compile(String pattern, Locale locale) {
+        final String key = locale.toLanguageTag() + '|' + pattern;
+        DatePattern datePattern = COMPILED.get(key);
+        if (datePattern == null) {
+            try {
+                datePattern = new DatePattern(pattern, locale);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            COMPILED.putIfAbsent(key, datePattern);
+        }
+        return datePattern;
+    }
+
+    /**
+     * Parses the given text into the given date type.
+     *
+     * @param value the text to parse; leading and trailing whitespace is ignored
+     * @param type  the target type: {@link Date}, {@link java.sql.Date}, {@link LocalDate} or {@link LocalDateTime}
+     * @return the parsed date, or null if no pattern matches the value or the type is not a date type
+     */
+    public Object parse(String value, Class<?> type) {
+        if (value == null || !CellUtil.isDate(type)) {
+            return null;
+        }
+        final String text = value.trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        final ValueShape shape = new ValueShape(text);
+        final ParsePosition position = new ParsePosition(0);
+        final int last = lastMatch;
+        TemporalAccessor parsed = patterns.get(last).parse(text, shape, position);
+        if (parsed != null && position.getIndex() == text.length()) {
+            return convert(parsed, type);
+        }
+        TemporalAccessor prefixMatch = parsed;
+        int prefixIndex = last;
+        for (int i = 0; i < patterns.size(); i++) {
+            if (i == last) {
+                continue;
+            }
+            position.setIndex(0);
+            parsed = patterns.get(i).parse(text, shape, position);
+            if (parsed == null) {
+                continue;
+            }
+            if (position.getIndex() == text.length()) {
+                lastMatch = i;
+                return convert(parsed, type);
+            }
+            if (prefixMatch == null) {
+                prefixMatch = parsed;
+                prefixIndex = i;
+            }
+        }
+        if (prefixMatch != null) {
+            // like SimpleDateFormat, accept a value that only starts with a date when nothing matches it in full
+            lastMatch = prefixIndex;
+            return convert(prefixMatch, type);
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the pattern that matched the last parsed value, or the first candidate if none matched yet.
+     *
+     * @return the pattern in {@link java.text.SimpleDateFormat} syntax
+     */
+    public String getLastPattern() {
+        return patterns.get(lastMatch).pattern;
+    }
+
+    /**
+     * Converts a parsed value to the target type. Values without a zone or offset are in the system zone,
+     * as with {@link java.text.SimpleDateFormat}.
+     */
+    private static Object convert(TemporalAccessor parsed, Class<?> type) {
+        final LocalDate date = parsed.query(TemporalQueries.localDate());
+        final LocalTime time = parsed.query(TemporalQueries.localTime());
+        final ZoneId zone = parsed.query(TemporalQueries.zone());
+        final LocalDateTime dateTime = LocalDateTime.of(date, time != null ? time : LocalTime.MIDNIGHT);
+        if (zone == null) {
+            if (type == LocalDate.class) {
+                return date;
+            }
+            if (type == LocalDateTime.class) {
+                return dateTime;
+            }
+        }
+        final Instant instant = dateTime.atZone(zone != null ? zone : ZoneId.systemDefault()).toInstant();
+        if (type == LocalDate.class) {
+            return instant.atZone(ZoneId.systemDefault()).toLocalDate();
+        }
+        if (type == LocalDateTime.class) {
+            return instant.atZone(ZoneId.systemDefault()).toLocalDateTime();
+        }
+        if (type == java.sql.Date.class) {
+            return new java.sql.Date(instant.toEpochMilli());
+        }
+        return Date.from(instant);
+    }
+
+    /**
+     * Character class of the first character of a value or pattern.
+     */
+    private enum Lead {
+        DIGIT, LETTER, OTHER;
+
+        static Lead of(char c) {
+            if (c >= '0' && c <= '9') {
+                return DIGIT;
+            }
+            return Character.isLetter(c) ? LETTER : OTHER;
+        }
+    }
+
+    /**
+     * Shape of a value: the class of its first character and the set of ASCII characters it contains.
+     */
+    private static final class ValueShape {
+        private final Lead lead;
+        private long low;
+        private long high;
+
+        private ValueShape(String text) {
+            lead = Lead.of(text.charAt(0));
+            for (int i = 0; i < text.length(); i++) {
+                final char c = text.charAt(i);
+                if (c < 64) {
+                    low |= 1L << c;
+                } else if (c < 128) {
+                    high |= 1L << (c - 64);
+                }
+            }
+        }
+    }
+
+    /**
+     * A compiled pattern, with the shape any matching value must have.
+     */
+    private static final class DatePattern {
+        private final String pattern;
+        private final DateTimeFormatter formatter;
+        private final Lead lead;
+        private long literalsLow;
+        private long literalsHigh;
+
+        private DatePattern(String pattern, Locale locale) {
+            this.pattern = pattern;
+            final boolean hasEra = hasLetter(pattern, 'G');
+            final StringBuilder translated = new StringBuilder(pattern.length());
+            Lead firstLead = null;
+            boolean hasDate = false;
+            boolean quoted = false;
+            boolean afterNumber = false;
+            int i = 0;
+            while (i < pattern.length()) {
+                final char c = pattern.charAt(i);
+                if (c == '\'') {
+                    if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                        addLiteral('\'');
+                        translated.append("''");
+                        i += 2;
+                        continue;
+                    }
+                    quoted = !quoted;
+                    afterNumber = false;
+                    translated.append(c);
+                    i++;
+                    continue;
+                }
+                if (quoted || !isPatternLetter(c)) {
+                    afterNumber = false;
+                    addLiteral(c);
+                    if (firstLead == null && c != ' ') {
+                        firstLead = Lead.of(c);
+                    }
+                    translated.append(c);
+                    i++;
+                    continue;
+                }
+                int count = 1;
+                while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                    count++;
+                }
+                if (firstLead == null) {
+                    firstLead = isTextField(c, count) ? Lead.LETTER : Lead.DIGIT;
+                }
+                hasDate |= c == 'y' || c == 'M' || c == 'd' || c == 'D';
+                final boolean abutting = afterNumber || isNumberAt(pattern, i + count);
+                appendField(translated, c, count, hasEra, abutting);
+                afterNumber = !isTextField(c, count);
+                i += count;
+            }
+            this.lead = firstLead;
+            final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder()
+                    .parseCaseInsensitive()
+                    .appendPattern(translated.toString());
+            if (!hasDate) {
+                // time-only patterns parse to 1 January 1970, as with SimpleDateFormat
+                builder.parseDefaulting(ChronoField.YEAR, 1970)
+                        .parseDefaulting(ChronoField.MONTH_OF_YEAR, 1)
+                        .parseDefaulting(ChronoField.DAY_OF_MONTH, 1);
+            }
+            this.formatter = builder.toFormatter(locale).withResolverStyle(ResolverStyle.STRICT);
+        }
+
+        private static boolean hasLetter(String pattern, char letter) {
+            boolean quoted = false;
+            for (int i = 0; i < pattern.length(); i++) {
+                final char c = pattern.charAt(i);
+                if (c == '\'') {
+                    quoted = !quoted;
+                } else if (!quoted && c == letter) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isPatternLetter(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+
+        private static boolean isTextField(char c, int count) {
+            return c == 'G' || c == 'E' || c == 'a' || c == 'z' || (c == 'M' && count >= 3);
+        }
+
+        /**
+         * Checks whether a numeric field starts at the given index of the pattern.
+         */
+        private static boolean isNumberAt(String pattern, int index) {
+            if (index >= pattern.length() || !isPatternLetter(pattern.charAt(index))) {
+                return false;
+            }
+            final char c = pattern.charAt(index);
+            int count = 1;
+            while (index + count < pattern.length() && pattern.charAt(index + count) == c) {
+                count++;
+            }
+            return !isTextField(c, count);
+        }
+
+        /**
+         * Appends a field in {@link DateTimeFormatter} syntax. Years use the proleptic year unless an era is
+         * parsed, as strict resolution requires, and text fields longer than four letters mean the full form,
+         * as in {@link java.text.SimpleDateFormat}. As with {@link java.text.SimpleDateFormat}, the month, day,
+         * hour, minute and second fields accept any number of digits, such as {@code 1.2.2024} for
+         * {@code dd.MM.yyyy}, unless they abut another numeric field, as in {@code yyyyMMdd}.
+         */
+        private static void appendField(StringBuilder translated, char c, int count, boolean hasEra,
+                                        boolean abutting) {
+            char letter = c;
+            int width = count;
+            if (c == 'y' && !hasEra) {
+                letter = 'u';
+            } else if ((c == 'M' || c == 'E') && count > 4) {
+                width = 4;
+            } else if (!abutting && isVariableWidth(c, count)) {
+                width = 1;
+            }
+            for (int k = 0; k < width; k++) {
+                translated.append(letter);
+            }
+        }
+
+        private static boolean isVariableWidth(char c, int count) {
+            return (c == 'M' && count <= 2) || c == 'd' || c == 'H' || c == 'h' || c == 'K' || c == 'k'
+                    || c == 'm' || c == 's';
+        }
+
+        private void addLiteral(char c) {
+            if (c < 64) {
+                literalsLow |= 1L << c;
+            } else if (c < 128) {
+                literalsHigh |= 1L << (c - 64);
+            }
+        }
+
+        /**
+         * Parses the beginning of the value if it has the shape of this pattern.
+         *
+         * @param position the position to start from, updated to the end of the parsed text
+         * @return the parsed and resolved value, or null if the value does not match
+         */
+        private TemporalAccessor parse(String text, ValueShape shape, ParsePosition position) {
+            if (lead != null && lead != shape.lead) {
+                return null;
+            }
+            if ((shape.low & literalsLow) != literalsLow || (shape.high & literalsHigh) != literalsHigh) {
+                return null;
+            }
+            if (formatter.parseUnresolved(text, position) == null) {
+                return null;
+            }
+            final TemporalAccessor parsed;
+            try {
+                // resolution only fails for values of the right shape that are not valid dates, such as 31.02.2024
+                parsed = formatter.parse(text.substring(0, position.getIndex()));
+            } catch (DateTimeException e) {
+                return null;
+            }
+            // patterns without a full date, such as a year alone, cannot be converted
+            return parsed.query(TemporalQueries.localDate()) != null ? parsed : null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DatePattern && pattern.equals(((DatePattern) o).pattern);
+        }
+
+        @Override
+        public int hashCode() {
+            return pattern.hashCode();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package io.github.r4tylmz.betterpoi.utils;
+
+import java.math.BigDecimal;
+
+/**
+ * Result of scanning a number with {@link NumberParser}.
+ * A valid result holds the exact decimal value that was read; conversions to the primitive types
+ * truncate the fraction, like {@link Number#intValue()}. An invalid result tells why and where the
+ * text stopped being a number, so callers can report dirty cells without catching exceptions.
+ */
+public final class NumberParseResult {
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long[] LONG_POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+    private final Status status;
+    private final String text;
+    private final int errorIndex;
+    private final long unscaled;
+    private final int scale;
+    private final BigDecimal big;
+
+    private NumberParseResult(Status status, String text, int errorIndex, long unscaled, int scale, BigDecimal big) {
+        this.status = status;
+        this.text = text;
+        this.errorIndex = errorIndex;
+        this.unscaled = unscaled;
+        this.scale = scale;
+        this.big = big;
+    }
+
+    static NumberParseResult valid(String text, long unscaled, int scale) {
+        return new NumberParseResult(Status.VALID, text, -1, unscaled, scale, null);
+    }
+
+    static NumberParseResult valid(String text, BigDecimal value) {
+        return new NumberParseResult(Status.VALID, text, -1, 0, 0, value);
+    }
+
+    static NumberParseResult failure(Status status, String text, int errorIndex) {
+        return new NumberParseResult(status, text, errorIndex, 0, 0, null);
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    /**
+     * Retrieves the text that was scanned.
+     *
+     * @return the text, or null if there was none
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Retrieves the index of the first character that could not be read.
+     *
+     * @return the index in the scanned text, or -1 if the result is valid or empty
+     */
+    public int getErrorIndex() {
+        return errorIndex;
+    }
+
+    /**
+     * Retrieves the exact value.
+     *
+     * @return the value
+     * @throws IllegalStateException if the result is not valid
+     */
+    public BigDecimal toBigDecimal() {
+        assertValid();
+        return big != null ? big : BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * Retrieves the value as the closest double.
+     *
+     * @return the value
+     * @throws IllegalStateException if the result is not valid
+     */
+    public double doubleValue() {
+        assertValid();
+        if (big == null) {
+            // both operands are exact, so the division rounds once, like Double.parseDouble
+            if (scale == 0 && Math.abs(unscaled) <= MAX_EXACT_DOUBLE) {
+                return unscaled;
+            }
+            if (scale > 0 && scale < POWERS_OF_TEN.length && Math.abs(unscaled) <= MAX_EXACT_DOUBLE) {
+                return unscaled / POWERS_OF_TEN[scale];
+            }
+        }
+        return toBigDecimal().doubleValue();
+    }
+
+    /**
+     * Retrieves the value as the closest float.
+     *
+     * @return the value
+     * @throws IllegalStateException if the result is not valid
+     */
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    /**
+     * Checks whether the integer part of the value fits in a long.
+     *
+     * @return true if {@link #longValue()} is exact up to the dropped fraction
+     */
+    public boolean fitsLong() {
+        if (!isValid()) {
+            return false;
+        }
+        if (big == null && scale >= 0) {
+            return true;
+        }
+        return toBigDecimal().abs().compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0;
+    }
+
+    /**
+     * Checks whether the integer part of the value fits in an int.
+     *
+     * @return true if {@link #intValue()} is exact up to the dropped fraction
+     */
+    public boolean fitsInt() {
+        if (!fitsLong()) {
+            return false;
+        }
+        final long value = longValue();
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Retrieves the integer part of the value as a long.
+     *
+     * @return the value, truncated toward zero
+     * @throws IllegalStateException if the result is not valid
+     */
+    public long longValue() {
+        assertValid();
+        if (big == null && scale >= 0) {
+            return scale < LONG_POWERS_OF_TEN.length ? unscaled / LONG_POWERS_OF_TEN[scale] : 0;
+        }
+        return toBigDecimal().longValue();
+    }
+
+    /**
+     * Retrieves the integer part of the value as an int.
+     *
+     * @return the value, truncated toward zero
+     * @throws IllegalStateException if the result is not valid
+     */
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    private void assertValid() {
+        if (status != Status.VALID) {
+            throw new IllegalStateException("Not a valid number: " + text);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? toBigDecimal().toPlainString() : status + " at " + errorIndex + ": " + text;
+    }
+
+    /**
+     * Outcome of a scan.
+     */
+    public enum Status {
+        /** The whole text is a number. */
+        VALID,
+        /** The text is null or blank. */
+        EMPTY,
+        /** The text is not a number; see {@link #getErrorIndex()}. */
+        INVALID
+    }
+}
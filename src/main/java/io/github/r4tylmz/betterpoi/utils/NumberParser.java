@@ -0,0 +1,221 @@
+package io.github.r4tylmz.betterpoi.utils;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scans numbers written as text, without exceptions and without {@link java.text.NumberFormat}.
+ * A value is first read in Java syntax, as by {@link Double#parseDouble(String)}, then with the grouping
+ * and decimal separators of the parser's locale, so {@code "1234.5"}, {@code "1,234.5"} in English and
+ * {@code "1.234,5"} in Turkish are all read as the same number. Grouping separators are accepted between
+ * the digits of the integer part, and an exponent may follow the digits.
+ * <p>
+ * Parsers are immutable, thread-safe and shared per locale; see {@link #forLocale(Locale)}.
+ */
+public final class NumberParser {
+    private static final Map<Locale, NumberParser> PARSERS = new ConcurrentHashMap<>();
+    private static final int MAX_DIGITS = 18;
+    private static final int MAX_EXPONENT = 9999;
+    private static final char NONE = '\uFFFF';
+    private final char decimalSeparator;
+    private final char groupingSeparator;
+    private final char minusSign;
+
+    private NumberParser(char decimalSeparator, char groupingSeparator, char minusSign) {
+        this.decimalSeparator = decimalSeparator;
+        this.groupingSeparator = groupingSeparator;
+        this.minusSign = minusSign;
+    }
+
+    /**
+     * Retrieves the parser of the given locale, creating it on first use.
+     *
+     * @param locale the locale of the separators
+     * @return the parser of the locale
+     */
+    public static NumberParser forLocale(Locale locale) {
+        return PARSERS.computeIfAbsent(locale, key -> {
+            final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(key);
+            return new NumberParser(symbols.getDecimalSeparator(), symbols.getGroupingSeparator(),
+                    symbols.getMinusSign());
+        });
+    }
+
+    /**
+     * Scans the given text.
+     *
+     * @param text the text to scan; leading and trailing whitespace is ignored
+     * @return the result of the scan, never null
+     */
+    public NumberParseResult parse(String text) {
+        return parse(text, false);
+    }
+
+    /**
+     * Scans the given text. For integral targets the Java syntax is that of {@link Long#parseLong(String)},
+     * so that {@code "1.234"} is read with the locale separators, as a thousand in Turkish for instance.
+     */
+    private NumberParseResult parse(String text, boolean integral) {
+        if (text == null) {
+            return NumberParseResult.failure(NumberParseResult.Status.EMPTY, null, -1);
+        }
+        int start = 0;
+        int end = text.length();
+        while (start < end && isSpace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && isSpace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return NumberParseResult.failure(NumberParseResult.Status.EMPTY, text, -1);
+        }
+        final NumberParseResult plain = integral
+                ? scan(text, start, end, NONE, NONE, '-', false)
+                : scan(text, start, end, '.', NONE, '-', true);
+        if (plain.isValid()) {
+            return plain;
+        }
+        final NumberParseResult localized = scan(text, start, end, decimalSeparator, groupingSeparator, minusSign,
+                true);
+        return localized.isValid() || localized.getErrorIndex() >= plain.getErrorIndex() ? localized : plain;
+    }
+
+    /**
+     * Scans the given text into the given numeric type.
+     * Integral types receive the integer part of the value, like {@link Number#intValue()}.
+     *
+     * @param text the text to scan
+     * @param type {@link Integer}, {@link Long}, {@link Double}, {@link Float} or {@link BigDecimal},
+     *             or the matching primitive type
+     * @return the value, or null if the text is not a number, does not fit the type, or the type is not supported
+     */
+    public Object parse(String text, Class<?> type) {
+        final boolean integral = type == Integer.class || type == int.class || type == Long.class
+                || type == long.class;
+        final NumberParseResult result = parse(text, integral);
+        if (!result.isValid()) {
+            return null;
+        }
+        if (type == Integer.class || type == int.class) {
+            return result.fitsInt() ? result.intValue() : null;
+        } else if (type == Long.class || type == long.class) {
+            return result.fitsLong() ? result.longValue() : null;
+        } else if (type == Double.class || type == double.class) {
+            return result.doubleValue();
+        } else if (type == Float.class || type == float.class) {
+            return result.floatValue();
+        } else if (type == BigDecimal.class) {
+            return result.toBigDecimal();
+        }
+        return null;
+    }
+
+    private NumberParseResult scan(String text, int start, int end, char decimal, char grouping, char minus,
+                                   boolean exponentAllowed) {
+        int i = start;
+        boolean negative = false;
+        final char sign = text.charAt(i);
+        if (sign == '-' || sign == minus) {
+            negative = true;
+            i++;
+        } else if (sign == '+') {
+            i++;
+        }
+        long unscaled = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int scale = 0;
+        int exponent = 0;
+        boolean big = false;
+        boolean fraction = false;
+        boolean afterGrouping = false;
+        for (; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (fraction) {
+                    scale++;
+                }
+                if (unscaled != 0 || c != '0') {
+                    if (++significantDigits > MAX_DIGITS) {
+                        big = true;
+                    } else {
+                        unscaled = unscaled * 10 + (c - '0');
+                    }
+                }
+                afterGrouping = false;
+            } else if (c == decimal && !fraction && !afterGrouping) {
+                fraction = true;
+            } else if (isGrouping(c, grouping) && !fraction && digits > 0 && !afterGrouping) {
+                afterGrouping = true;
+            } else if ((c == 'e' || c == 'E') && exponentAllowed && digits > 0 && !afterGrouping) {
+                break;
+            } else {
+                return NumberParseResult.failure(NumberParseResult.Status.INVALID, text, i);
+            }
+        }
+        if (digits == 0 || afterGrouping) {
+            return NumberParseResult.failure(NumberParseResult.Status.INVALID, text, i);
+        }
+        if (i < end) {
+            // exponent
+            int j = i + 1;
+            boolean negativeExponent = false;
+            if (j < end && (text.charAt(j) == '-' || text.charAt(j) == '+' || text.charAt(j) == minus)) {
+                negativeExponent = text.charAt(j) != '+';
+                j++;
+            }
+            if (j == end) {
+                return NumberParseResult.failure(NumberParseResult.Status.INVALID, text, j);
+            }
+            for (; j < end; j++) {
+                final char c = text.charAt(j);
+                if (c < '0' || c > '9' || exponent > MAX_EXPONENT) {
+                    return NumberParseResult.failure(NumberParseResult.Status.INVALID, text, j);
+                }
+                exponent = exponent * 10 + (c - '0');
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        if (big) {
+            return NumberParseResult.valid(text, toBigDecimal(text, start, end, decimal, grouping, minus));
+        }
+        return NumberParseResult.valid(text, negative ? -unscaled : unscaled, scale - exponent);
+    }
+
+    /**
+     * Converts already validated text with more significant digits than a long can hold.
+     */
+    private static BigDecimal toBigDecimal(String text, int start, int end, char decimal, char grouping, char minus) {
+        final StringBuilder sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c == decimal) {
+                sb.append('.');
+            } else if (c == minus) {
+                sb.append('-');
+            } else if (!isGrouping(c, grouping)) {
+                sb.append(c);
+            }
+        }
+        return new BigDecimal(sb.toString());
+    }
+
+    private static boolean isGrouping(char c, char grouping) {
+        if (grouping == NONE) {
+            return false;
+        }
+        // locales grouping with a no-break space are commonly typed with a plain space
+        return c == grouping || (isSpace(grouping) && isSpace(c));
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\u00A0' || c == '\u202F' || c == '\t';
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.r4tylmz.betterpoi.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Thread-safe, bounded cache of compiled regular expressions keyed by pattern and flags.
+ * Validation applies the same few patterns to every row of a sheet, so compiling them once avoids
+ * spending most of the validation time in {@link Pattern#compile(String, int)}.
+ * Hit and miss counters are kept so that the effectiveness of the cache can be monitored.
+ *
+ * <p>When the cache is full, the least recently used pattern is evicted, so the patterns applied to every row stay
+ * cached while one-off patterns are dropped. Lookups and evictions are serialized by a lock; patterns are compiled
+ * outside of it.</p>
+ */
+public class PatternCache {
+    /**
+     * Default maximum number of patterns kept by a cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 256;
+    private static final PatternCache SHARED = new PatternCache(DEFAULT_MAX_SIZE);
+    private final Map<Key, Pattern> patterns;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a cache holding at most the given number of patterns.
+     *
+     * @param maxSize the maximum number of patterns, must be greater than zero
+     */
+    public PatternCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than zero");
+        }
+        this.patterns = new LinkedHashMap<Key, Pattern>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Pattern> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the cache shared by the validators of the library.
+     *
+     * @return the shared pattern cache
+     */
+    public static PatternCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Retrieves the compiled form of the given pattern, compiling it on first use.
+     *
+     * @param regex the regular expression
+     * @param flags the match flags, as in {@link Pattern#compile(String, int)}
+     * @return the compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid; invalid expressions are not cached
+     */
+    public Pattern get(String regex, int flags) {
+        final Key key = new Key(regex, flags);
+        synchronized (patterns) {
+            final Pattern pattern = patterns.get(key);
+            if (pattern != null) {
+                hits.increment();
+                return pattern;
+            }
+        }
+        misses.increment();
+        final Pattern compiled = Pattern.compile(regex, flags);
+        synchronized (patterns) {
+            final Pattern pattern = patterns.putIfAbsent(key, compiled);
+            return pattern != null ? pattern : compiled;
+        }
+    }
+
+    /**
+     * Retrieves the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Retrieves the number of lookups that had to compile the pattern.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Retrieves the number of patterns currently cached.
+     *
+     * @return the number of cached patterns
+     */
+    public int size() {
+        synchronized (patterns) {
+            return patterns.size();
+        }
+    }
+
+    /**
+     * Removes every cached pattern and resets the counters.
+     */
+    public void clear() {
+        synchronized (patterns) {
+            patterns.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    private static final class Key {
+        private final String regex;
+        private final int flags;
+
+        private Key(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key key = (Key) o;
+            return flags == key.flags && regex.equals(key.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(regex, flags);
+        }
+    }
+}
@@ -2,18 +2,17 @@ package io.github.r4tylmz.betterpoi.validation;
 
 import io.github.r4tylmz.betterpoi.BPFormatter;
 import io.github.r4tylmz.betterpoi.annotation.BPColumn;
-import io.github.r4tylmz.betterpoi.constraint.ConstraintFactory;
 import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
 import io.github.r4tylmz.betterpoi.utils.ColUtil;
 import io.github.r4tylmz.betterpoi.validation.cell.CellHolder;
 import io.github.r4tylmz.betterpoi.validation.cell.CellValidator;
-import io.github.r4tylmz.betterpoi.validation.cell.PatternValidator;
-import io.github.r4tylmz.betterpoi.validation.cell.RequiredValidator;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -23,31 +22,41 @@ import java.util.Set;
  * This class aggregates multiple cell validators and applies them to cells to check for validation errors.
  */
 public class CellValidatorManager {
-    private final List<CellValidator> cellValidators = new ArrayList<>();
+    private final ValidatorRegistry validatorRegistry;
     private final BPFormatter formatter;
     private final MessageSourceService messageSourceService;
+    private final DataFormatter dataFormatter = new DataFormatter();
+
     /**
      * Constructor to initialize the CellValidatorManager with a formatter.
-     * Adds default validators to the list.
+     * Validators are resolved through a registry owned by this manager.
      *
      * @param formatter the formatter to use for cell value formatting
      * @param messageSourceService the service for retrieving localized messages
      */
     public CellValidatorManager(BPFormatter formatter, MessageSourceService messageSourceService) {
+        this(formatter, new ValidatorRegistry(messageSourceService));
+    }
+
+    /**
+     * Constructor to initialize the CellValidatorManager with a formatter and a shared validator registry.
+     *
+     * @param formatter the formatter to use for cell value formatting
+     * @param validatorRegistry the registry resolving the validators of each column
+     */
+    public CellValidatorManager(BPFormatter formatter, ValidatorRegistry validatorRegistry) {
         this.formatter = formatter;
-        this.messageSourceService = messageSourceService;
-        cellValidators.add(new RequiredValidator(messageSourceService));
-        cellValidators.add(new PatternValidator(messageSourceService));
+        this.validatorRegistry = validatorRegistry;
+        this.messageSourceService = validatorRegistry.getMessageSourceService();
     }
 
     /**
      * Retrieves the formatted value of a cell.
      *
-     * @param cell the cell to format
-     * @return the formatted cell value as a string
+     * @param cell the cell to format, or null for a missing cell
+     * @return the formatted cell value as a string, empty for a missing cell
      */
     public String getValue(Cell cell) {
-        final DataFormatter dataFormatter = new DataFormatter();
         return dataFormatter.formatCellValue(cell).trim();
     }
 
@@ -63,8 +72,7 @@ public class CellValidatorManager {
     public Set<String> validate(Cell cell, BPColumn bpColumn, Field field) {
         final Set<String> violations = new HashSet<>();
         final String value = getValue(cell);
-        this.cellValidators.addAll(ConstraintFactory.getInstance(messageSourceService).getCellValidators(bpColumn.cellValidators()));
-        for (CellValidator cellValidator : cellValidators) {
+        for (CellValidator cellValidator : validatorRegistry.getCellValidators(bpColumn)) {
             final CellHolder cellHolder = new CellHolder(cell, value, field, bpColumn);
             final String errorMessage = cellValidator.validate(cellHolder);
             if (errorMessage != null) {
@@ -74,4 +82,77 @@ public class CellValidatorManager {
         }
         return violations;
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs the validators of a compiled column plan on the specified cell.
+     * Collects and returns any validation error messages.
+     *
+     * @param cell   the cell to validate
+     * @param column the compiled validation plan of the cell's column
+     * @return a set of validation error messages, if any
+     */
+    public Set<String> validate(Cell cell, SheetValidationPlan.ColumnPlan column) {
+        return new HashSet<>(Violation.renderMessages(getViolations(cell, column)));
+    }
+
+    /**
+     * Runs the validators of a compiled column plan on the specified cell.
+     * Collects and returns any violations, without rendering their messages. A message reported by several
+     * validators of the cell, with the same key and arguments or the same text, is recorded once.
+     *
+     * @param cell   the cell to validate
+     * @param column the compiled validation plan of the cell's column
+     * @return a list of violations, empty if the cell is valid
+     */
+    public List<Violation> getViolations(Cell cell, SheetValidationPlan.ColumnPlan column) {
+        return getViolations(cell, cell.getRowIndex(), column, ViolationBudget.unlimited());
+    }
+
+    /**
+     * Runs the validators of a compiled column plan on the cell of the given row, skipping the validators that
+     * reached their limit in the given budget. The returned violations are not counted by the budget.
+     * A row without a cell in the column is validated as a blank cell: validators get a {@link CellHolder} without
+     * a cell and with an empty value, and the row is not modified, so that rows of a workbook read by several
+     * threads can be validated.
+     *
+     * @param row    the row containing the cell
+     * @param column the compiled validation plan of the cell's column
+     * @param budget the budget of the validation
+     * @return a list of violations, empty if the cell is valid
+     */
+    public List<Violation> getViolations(Row row, SheetValidationPlan.ColumnPlan column, ViolationBudget budget) {
+        return getViolations(row.getCell(column.getIndex()), row.getRowNum(), column, budget);
+    }
+
+    private List<Violation> getViolations(Cell cell, int rowIndex, SheetValidationPlan.ColumnPlan column,
+                                          ViolationBudget budget) {
+        List<Violation> violations = Collections.emptyList();
+        final String value = getValue(cell);
+        final CellHolder cellHolder = new CellHolder(cell, value, column.getField(), column.getBpColumn(),
+                column.getPattern(), column.getHeaderTitle());
+        for (CellValidator cellValidator : column.getValidators()) {
+            if (budget.isRuleExhausted(cellValidator)) {
+                continue;
+            }
+            final RuleMessage errorMessage = cellValidator.check(cellHolder);
+            if (errorMessage != null && !containsMessage(violations, errorMessage)) {
+                if (violations.isEmpty()) {
+                    violations = new ArrayList<>(2);
+                }
+                violations.add(Violation.ofCell(column.getSheetName(), rowIndex, column.getIndex(),
+                        column.getHeaderTitle(), column.getBpColumn().fieldName(), cellValidator, errorMessage,
+                        messageSourceService));
+            }
+        }
+        return violations;
+    }
+
+    private static boolean containsMessage(List<Violation> violations, RuleMessage errorMessage) {
+        for (Violation violation : violations) {
+            if (violation.ruleMessage().equals(errorMessage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
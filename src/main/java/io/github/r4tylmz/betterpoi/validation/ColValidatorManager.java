@@ -2,9 +2,9 @@ package io.github.r4tylmz.betterpoi.validation;
 
 import io.github.r4tylmz.betterpoi.annotation.BPSheet;
 import io.github.r4tylmz.betterpoi.constraint.ColConstraint;
-import io.github.r4tylmz.betterpoi.constraint.ConstraintFactory;
+import io.github.r4tylmz.betterpoi.constraint.IncrementalConstraint;
 import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
-import io.github.r4tylmz.betterpoi.validation.col.ColHeaderMismatchConstraint;
+import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 
 import java.util.ArrayList;
@@ -16,13 +16,21 @@ import java.util.Map;
  * This class aggregates multiple column validators and applies them to columns to check for validation errors.
  */
 public class ColValidatorManager implements ValidatorManager {
-    private final List<ColConstraint> colValidators;
+    private final ValidatorRegistry validatorRegistry;
     private final MessageSourceService messageSourceService;
 
     public ColValidatorManager(MessageSourceService messageSourceService) {
-        this.colValidators = new ArrayList<>();
-        this.messageSourceService = messageSourceService;
-        this.colValidators.add(new ColHeaderMismatchConstraint(messageSourceService));
+        this(new ValidatorRegistry(messageSourceService));
+    }
+
+    /**
+     * Constructs a ColValidatorManager resolving the column constraints through the given registry.
+     *
+     * @param validatorRegistry the registry resolving the column constraints of each sheet
+     */
+    public ColValidatorManager(ValidatorRegistry validatorRegistry) {
+        this.validatorRegistry = validatorRegistry;
+        this.messageSourceService = validatorRegistry.getMessageSourceService();
     }
 
     /**
@@ -44,7 +52,7 @@ public class ColValidatorManager implements ValidatorManager {
 
     /**
      * Runs all column validators on the specified sheet.
-     * Collects and returns any validation error messages.
+     * Collects and returns any validation error messages, one message per constraint.
      *
      * @param sheet   the sheet to validate
      * @param bpSheet the BPSheet annotation containing metadata for the sheet
@@ -52,14 +60,86 @@ public class ColValidatorManager implements ValidatorManager {
      */
     @Override
     public List<String> validate(Sheet sheet, BPSheet bpSheet) {
-        final List<String> violations = new ArrayList<>();
-        this.colValidators.addAll(ConstraintFactory.getInstance(messageSourceService).getColumnConstraints(bpSheet.colValidators()));
-        for (ColConstraint validator : colValidators) {
-            final Map<Integer, String> colViolations = validator.validate(sheet, bpSheet);
-            if (!colViolations.isEmpty()) {
-                violations.add(getErrorMessage(colViolations));
+        return Violation.renderMessages(getViolations(sheet, bpSheet));
+    }
+
+    /**
+     * Runs all column validators on the specified sheet.
+     * Collects and returns any violations, without rendering their messages.
+     *
+     * @param sheet   the sheet to validate
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return a list of violations, if any
+     */
+    public List<Violation> getViolations(Sheet sheet, BPSheet bpSheet) {
+        final List<Violation> violations = new ArrayList<>();
+        for (ColConstraint validator : validatorRegistry.getColConstraints(bpSheet)) {
+            addViolations(violations, validator, validator.validate(sheet, bpSheet), bpSheet);
+        }
+        return violations;
+    }
+
+    /**
+     * Starts the validation of a sheet read one row at a time by the column constraints implementing
+     * {@link IncrementalConstraint}. Other column constraints need the whole sheet and are skipped.
+     *
+     * @param headerRow the header row of the sheet
+     * @param bpSheet   the BPSheet annotation containing metadata for the sheet
+     */
+    public void onHeader(Row headerRow, BPSheet bpSheet) {
+        for (ColConstraint validator : validatorRegistry.getColConstraints(bpSheet)) {
+            if (validator instanceof IncrementalConstraint) {
+                ((IncrementalConstraint) validator).onHeader(headerRow, bpSheet);
+            }
+        }
+    }
+
+    /**
+     * Passes a row following the header row to the incremental column constraints of the sheet.
+     *
+     * @param row     the row, valid only during the call
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     */
+    public void onRow(Row row, BPSheet bpSheet) {
+        for (ColConstraint validator : validatorRegistry.getColConstraints(bpSheet)) {
+            if (validator instanceof IncrementalConstraint) {
+                ((IncrementalConstraint) validator).onRow(row, bpSheet);
+            }
+        }
+    }
+
+    /**
+     * Completes the validation of a sheet by the incremental column constraints.
+     * Collects and returns any violations, without rendering their messages.
+     *
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return a list of violations, if any
+     */
+    public List<Violation> onComplete(BPSheet bpSheet) {
+        final List<Violation> violations = new ArrayList<>();
+        for (ColConstraint validator : validatorRegistry.getColConstraints(bpSheet)) {
+            if (validator instanceof IncrementalConstraint) {
+                addViolations(violations, validator, ((IncrementalConstraint) validator).onComplete(bpSheet), bpSheet);
             }
         }
         return violations;
     }
+
+    /**
+     * Records the violations reported by one constraint, rendered as a single message.
+     *
+     * @param violations    the list receiving the violations
+     * @param validator     the constraint that reported the violations
+     * @param colViolations the map of column numbers to error messages
+     * @param bpSheet       the BPSheet annotation containing metadata for the sheet
+     */
+    private void addViolations(List<Violation> violations, ColConstraint validator, Map<Integer, String> colViolations,
+                               BPSheet bpSheet) {
+        boolean joined = false;
+        for (Map.Entry<Integer, String> entry : colViolations.entrySet()) {
+            violations.add(Violation.ofColumn(bpSheet.sheetName(), entry.getKey(), validator, entry.getValue(), joined,
+                    messageSourceService));
+            joined = true;
+        }
+    }
 }
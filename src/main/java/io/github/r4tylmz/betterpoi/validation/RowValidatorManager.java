@@ -1,14 +1,17 @@
 package io.github.r4tylmz.betterpoi.validation;
 
 import io.github.r4tylmz.betterpoi.annotation.BPSheet;
-import io.github.r4tylmz.betterpoi.constraint.ConstraintFactory;
+import io.github.r4tylmz.betterpoi.constraint.ChunkedConstraint;
+import io.github.r4tylmz.betterpoi.constraint.IncrementalConstraint;
 import io.github.r4tylmz.betterpoi.constraint.RowConstraint;
 import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Manager class to handle row validation.
@@ -16,10 +19,21 @@ import java.util.Map;
  */
 public class RowValidatorManager implements ValidatorManager {
 
+    private final ValidatorRegistry validatorRegistry;
     private final MessageSourceService messageSourceService;
 
     public RowValidatorManager(MessageSourceService messageSourceService) {
-        this.messageSourceService = messageSourceService;
+        this(new ValidatorRegistry(messageSourceService));
+    }
+
+    /**
+     * Constructs a RowValidatorManager resolving the row constraints through the given registry.
+     *
+     * @param validatorRegistry the registry resolving the row constraints of each sheet
+     */
+    public RowValidatorManager(ValidatorRegistry validatorRegistry) {
+        this.validatorRegistry = validatorRegistry;
+        this.messageSourceService = validatorRegistry.getMessageSourceService();
     }
 
     /**
@@ -39,7 +53,7 @@ public class RowValidatorManager implements ValidatorManager {
 
     /**
      * Runs all row validators on the specified sheet.
-     * Collects and returns any validation error messages.
+     * Collects and returns any validation error messages, one message per constraint.
      *
      * @param sheet   the sheet to validate
      * @param bpSheet the BPSheet annotation containing metadata for the sheet
@@ -47,15 +61,131 @@ public class RowValidatorManager implements ValidatorManager {
      */
     @Override
     public List<String> validate(Sheet sheet, BPSheet bpSheet) {
-        final List<String> violations = new ArrayList<>();
-        final Class<? extends RowConstraint>[] validators = bpSheet.rowValidators();
-        for (Class<? extends RowConstraint> validatorClass : validators) {
-            final RowConstraint validator = ConstraintFactory.getInstance(messageSourceService).getRowConstraint(validatorClass);
-            final Map<Integer, String> rowViolations = validator.validate(sheet, bpSheet);
-            if (!rowViolations.isEmpty()) {
-                violations.add(getErrorMessage(rowViolations));
+        return Violation.renderMessages(getViolations(sheet, bpSheet));
+    }
+
+    /**
+     * Runs all row validators on the specified sheet.
+     * Collects and returns any violations, without rendering their messages.
+     *
+     * @param sheet   the sheet to validate
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return a list of violations, if any
+     */
+    public List<Violation> getViolations(Sheet sheet, BPSheet bpSheet) {
+        return getViolations(sheet, bpSheet, null);
+    }
+
+    /**
+     * Runs all row validators on the specified sheet, in declaration order. The row constraints implementing
+     * {@link ChunkedConstraint} merge the results of the chunks the sheet was scanned in, instead of validating
+     * the whole sheet.
+     *
+     * @param sheet        the sheet to validate
+     * @param bpSheet      the BPSheet annotation containing metadata for the sheet
+     * @param chunkResults gives the chunk results of a constraint, in row order, or null to validate the whole
+     *                     sheet with every constraint
+     * @return a list of violations, if any
+     */
+    public List<Violation> getViolations(Sheet sheet, BPSheet bpSheet,
+                                         Function<ChunkedConstraint<?>, List<?>> chunkResults) {
+        final List<Violation> violations = new ArrayList<>();
+        for (RowConstraint validator : validatorRegistry.getRowConstraints(bpSheet)) {
+            final Map<Integer, String> rowViolations;
+            if (chunkResults != null && validator instanceof ChunkedConstraint) {
+                final ChunkedConstraint<?> constraint = (ChunkedConstraint<?>) validator;
+                rowViolations = merge(constraint, sheet, chunkResults.apply(constraint), bpSheet);
+            } else {
+                rowViolations = validator.validate(sheet, bpSheet);
+            }
+            addViolations(violations, validator, rowViolations, bpSheet);
+        }
+        return violations;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <P> Map<Integer, String> merge(ChunkedConstraint<P> constraint, Sheet sheet, List<?> chunks,
+                                                  BPSheet bpSheet) {
+        return constraint.merge(sheet, (List<P>) chunks, bpSheet);
+    }
+
+    /**
+     * Retrieves the row constraints of the sheet that can validate it in chunks scanned at the same time.
+     *
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return the row constraints implementing {@link ChunkedConstraint}, in declaration order
+     */
+    public List<ChunkedConstraint<?>> getChunkedConstraints(BPSheet bpSheet) {
+        final List<ChunkedConstraint<?>> constraints = new ArrayList<>();
+        for (RowConstraint validator : validatorRegistry.getRowConstraints(bpSheet)) {
+            if (validator instanceof ChunkedConstraint) {
+                constraints.add((ChunkedConstraint<?>) validator);
+            }
+        }
+        return constraints;
+    }
+
+    /**
+     * Starts the validation of a sheet read one row at a time by the row constraints implementing
+     * {@link IncrementalConstraint}. Other row constraints need the whole sheet and are skipped.
+     *
+     * @param headerRow the header row of the sheet
+     * @param bpSheet   the BPSheet annotation containing metadata for the sheet
+     */
+    public void onHeader(Row headerRow, BPSheet bpSheet) {
+        for (RowConstraint validator : validatorRegistry.getRowConstraints(bpSheet)) {
+            if (validator instanceof IncrementalConstraint) {
+                ((IncrementalConstraint) validator).onHeader(headerRow, bpSheet);
+            }
+        }
+    }
+
+    /**
+     * Passes a row following the header row to the incremental row constraints of the sheet.
+     *
+     * @param row     the row, valid only during the call
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     */
+    public void onRow(Row row, BPSheet bpSheet) {
+        for (RowConstraint validator : validatorRegistry.getRowConstraints(bpSheet)) {
+            if (validator instanceof IncrementalConstraint) {
+                ((IncrementalConstraint) validator).onRow(row, bpSheet);
+            }
+        }
+    }
+
+    /**
+     * Completes the validation of a sheet by the incremental row constraints.
+     * Collects and returns any violations, without rendering their messages.
+     *
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return a list of violations, if any
+     */
+    public List<Violation> onComplete(BPSheet bpSheet) {
+        final List<Violation> violations = new ArrayList<>();
+        for (RowConstraint validator : validatorRegistry.getRowConstraints(bpSheet)) {
+            if (validator instanceof IncrementalConstraint) {
+                addViolations(violations, validator, ((IncrementalConstraint) validator).onComplete(bpSheet), bpSheet);
             }
         }
         return violations;
     }
+
+    /**
+     * Records the violations reported by one constraint, rendered as a single message.
+     *
+     * @param violations    the list receiving the violations
+     * @param validator     the constraint that reported the violations
+     * @param rowViolations the map of row numbers to error messages
+     * @param bpSheet       the BPSheet annotation containing metadata for the sheet
+     */
+    private void addViolations(List<Violation> violations, RowConstraint validator, Map<Integer, String> rowViolations,
+                               BPSheet bpSheet) {
+        boolean joined = false;
+        for (Map.Entry<Integer, String> entry : rowViolations.entrySet()) {
+            violations.add(Violation.ofRow(bpSheet.sheetName(), entry.getKey(), validator, entry.getValue(), joined,
+                    messageSourceService));
+            joined = true;
+        }
+    }
 }
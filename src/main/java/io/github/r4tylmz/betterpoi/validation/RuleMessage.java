@@ -0,0 +1,97 @@
+package io.github.r4tylmz.betterpoi.validation;
+
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Message reported by a validation rule: the key of a localized message and its arguments, rendered only when the
+ * text of the error is requested. Rules building their messages themselves report the text as is.
+ * Two rule messages are equal when they have the same key and arguments, or the same text.
+ */
+public final class RuleMessage {
+    private final String key;
+    private final Object[] arguments;
+    private final String text;
+
+    private RuleMessage(String key, Object[] arguments, String text) {
+        this.key = key;
+        this.arguments = arguments;
+        this.text = text;
+    }
+
+    /**
+     * Creates the message with the given key, rendered with the message source of the validation.
+     *
+     * @param key       the key of the message
+     * @param arguments the arguments of the message
+     * @return the rule message
+     */
+    public static RuleMessage of(String key, Object... arguments) {
+        if (key == null) {
+            throw new IllegalArgumentException("Message key cannot be null");
+        }
+        return new RuleMessage(key, arguments != null ? arguments.clone() : new Object[0], null);
+    }
+
+    /**
+     * Creates the message with the given text, already rendered by the rule.
+     *
+     * @param text the text of the message
+     * @return the rule message
+     */
+    public static RuleMessage text(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Message text cannot be null");
+        }
+        return new RuleMessage(null, new Object[0], text);
+    }
+
+    /**
+     * @return the key of the message, or null if the rule reported the text of the message
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return a copy of the arguments of the message, empty if the rule reported the text of the message
+     */
+    public Object[] getArguments() {
+        return arguments.clone();
+    }
+
+    /**
+     * Renders the text of the message.
+     *
+     * @param messageSourceService the service resolving the key of the message
+     * @return the text of the message
+     */
+    public String render(MessageSourceService messageSourceService) {
+        return key != null ? messageSourceService.getMessage(key, arguments) : text;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RuleMessage)) {
+            return false;
+        }
+        final RuleMessage other = (RuleMessage) o;
+        return Objects.equals(key, other.key) && Arrays.equals(arguments, other.arguments)
+                && Objects.equals(text, other.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(key, text) + Arrays.hashCode(arguments);
+    }
+
+    @Override
+    public String toString() {
+        return key != null ? key + Arrays.toString(arguments) : text;
+    }
+}
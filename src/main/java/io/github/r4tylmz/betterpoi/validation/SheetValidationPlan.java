@@ -0,0 +1,162 @@
+package io.github.r4tylmz.betterpoi.validation;
+
+import io.github.r4tylmz.betterpoi.annotation.BPColumn;
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.utils.ColUtil;
+import io.github.r4tylmz.betterpoi.utils.PatternCache;
+import io.github.r4tylmz.betterpoi.validation.cell.CellValidator;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Immutable validation plan of a single sheet.
+ * The plan resolves everything the cell validation of a sheet needs once, when it is compiled: the validators,
+ * the header title, the bean field and the compiled pattern of each column. It is then reused for every row.
+ */
+public final class SheetValidationPlan {
+    private final BPSheet bpSheet;
+    private final List<ColumnPlan> columns;
+
+    private SheetValidationPlan(BPSheet bpSheet, List<ColumnPlan> columns) {
+        this.bpSheet = bpSheet;
+        this.columns = Collections.unmodifiableList(columns);
+    }
+
+    /**
+     * Compiles the validation plan of the given sheet.
+     *
+     * @param bpSheet              the BPSheet annotation containing metadata for the sheet
+     * @param messageSourceService the service for retrieving localized messages
+     * @return the compiled validation plan
+     */
+    public static SheetValidationPlan compile(BPSheet bpSheet, MessageSourceService messageSourceService) {
+        return compile(bpSheet, new ValidatorRegistry(messageSourceService));
+    }
+
+    /**
+     * Compiles the validation plan of the given sheet, resolving the validators through the given registry.
+     *
+     * @param bpSheet           the BPSheet annotation containing metadata for the sheet
+     * @param validatorRegistry the registry resolving the validators of each column
+     * @return the compiled validation plan
+     */
+    public static SheetValidationPlan compile(BPSheet bpSheet, ValidatorRegistry validatorRegistry) {
+        final MessageSourceService messageSourceService = validatorRegistry.getMessageSourceService();
+        final BPColumn[] bpColumns = bpSheet.columns();
+        final List<ColumnPlan> columns = new ArrayList<>(bpColumns.length);
+        for (int index = 0; index < bpColumns.length; index++) {
+            final BPColumn bpColumn = bpColumns[index];
+            final List<CellValidator> validators = validatorRegistry.getCellValidators(bpColumn);
+            columns.add(new ColumnPlan(bpSheet.sheetName(), index, bpColumn, ColUtil.getHeaderTitle(bpColumn, messageSourceService),
+                    findField(bpSheet.type(), bpColumn.fieldName()), compilePattern(bpColumn.pattern()), validators));
+        }
+        return new SheetValidationPlan(bpSheet, columns);
+    }
+
+    /**
+     * Compiles the pattern of a column.
+     * Invalid patterns are left to the {@link io.github.r4tylmz.betterpoi.validation.cell.PatternValidator}, which reports them when a value is validated.
+     *
+     * @param pattern the pattern of the column
+     * @return the compiled pattern, or null if the column has no valid pattern
+     */
+    private static Pattern compilePattern(String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            return null;
+        }
+        try {
+            return PatternCache.shared().get(pattern, Pattern.CASE_INSENSITIVE);
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    private static Field findField(Class<?> beanClass, String fieldName) {
+        try {
+            return beanClass.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    public BPSheet getBpSheet() {
+        return bpSheet;
+    }
+
+    /**
+     * Retrieves the plans of the columns, in column order.
+     *
+     * @return an unmodifiable list of column plans
+     */
+    public List<ColumnPlan> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Resolved validation metadata of a single column.
+     */
+    public static final class ColumnPlan {
+        private final String sheetName;
+        private final int index;
+        private final BPColumn bpColumn;
+        private final String headerTitle;
+        private final Field field;
+        private final Pattern pattern;
+        private final List<CellValidator> validators;
+
+        private ColumnPlan(String sheetName, int index, BPColumn bpColumn, String headerTitle, Field field,
+                           Pattern pattern, List<CellValidator> validators) {
+            this.sheetName = sheetName;
+            this.index = index;
+            this.bpColumn = bpColumn;
+            this.headerTitle = headerTitle;
+            this.field = field;
+            this.pattern = pattern;
+            this.validators = validators;
+        }
+
+        public String getSheetName() {
+            return sheetName;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public BPColumn getBpColumn() {
+            return bpColumn;
+        }
+
+        public String getHeaderTitle() {
+            return headerTitle;
+        }
+
+        /**
+         * Retrieves the bean field mapped to the column.
+         *
+         * @return the field, or null if the bean type has no field with the column's field name
+         */
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * Retrieves the compiled pattern of the column.
+         *
+         * @return the pattern, or null if the column has no valid pattern
+         */
+        public Pattern getPattern() {
+            return pattern;
+        }
+
+        public List<CellValidator> getValidators() {
+            return validators;
+        }
+    }
+}
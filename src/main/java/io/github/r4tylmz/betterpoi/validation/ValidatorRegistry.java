@@ -0,0 +1,101 @@
+package io.github.r4tylmz.betterpoi.validation;
+
+import io.github.r4tylmz.betterpoi.annotation.BPColumn;
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.constraint.ColConstraint;
+import io.github.r4tylmz.betterpoi.constraint.ConstraintFactory;
+import io.github.r4tylmz.betterpoi.constraint.RowConstraint;
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.validation.cell.CellValidator;
+import io.github.r4tylmz.betterpoi.validation.cell.PatternValidator;
+import io.github.r4tylmz.betterpoi.validation.cell.RequiredValidator;
+import io.github.r4tylmz.betterpoi.validation.col.ColHeaderMismatchConstraint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the validator instances used to validate a workbook.
+ * The validators declared by a {@link BPColumn} or a {@link BPSheet} are instantiated exactly once, on first use,
+ * and the same instances are returned for every cell, column and sheet validated afterwards.
+ * All instances are created with the registry's {@link MessageSourceService}.
+ */
+public class ValidatorRegistry {
+    private final MessageSourceService messageSourceService;
+    private final ConstraintFactory constraintFactory;
+    private final Map<BPColumn, List<CellValidator>> cellValidators = new ConcurrentHashMap<>();
+    private final Map<BPSheet, List<ColConstraint>> colConstraints = new ConcurrentHashMap<>();
+    private final Map<BPSheet, List<RowConstraint>> rowConstraints = new ConcurrentHashMap<>();
+    private final RequiredValidator requiredValidator;
+    private final PatternValidator patternValidator;
+    private final ColHeaderMismatchConstraint colHeaderMismatchConstraint;
+
+    /**
+     * Constructs a registry creating its validators with the given message source service.
+     *
+     * @param messageSourceService the service for retrieving localized messages
+     */
+    public ValidatorRegistry(MessageSourceService messageSourceService) {
+        this.messageSourceService = messageSourceService;
+        this.constraintFactory = ConstraintFactory.create(messageSourceService);
+        this.requiredValidator = new RequiredValidator(messageSourceService);
+        this.patternValidator = new PatternValidator(messageSourceService);
+        this.colHeaderMismatchConstraint = new ColHeaderMismatchConstraint(messageSourceService);
+    }
+
+    public MessageSourceService getMessageSourceService() {
+        return messageSourceService;
+    }
+
+    /**
+     * Retrieves the validators applied to the cells of the given column:
+     * the built-in required and pattern validators followed by the column's own validators.
+     *
+     * @param bpColumn the BPColumn annotation containing metadata for the column
+     * @return an unmodifiable list of cell validators
+     */
+    public List<CellValidator> getCellValidators(BPColumn bpColumn) {
+        return cellValidators.computeIfAbsent(bpColumn, column -> {
+            final List<CellValidator> validators = new ArrayList<>();
+            validators.add(requiredValidator);
+            validators.add(patternValidator);
+            validators.addAll(constraintFactory.getCellValidators(column.cellValidators()));
+            return Collections.unmodifiableList(validators);
+        });
+    }
+
+    /**
+     * Retrieves the constraints applied to the columns of the given sheet:
+     * the built-in header mismatch constraint followed by the sheet's own column constraints.
+     *
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return an unmodifiable list of column constraints
+     */
+    public List<ColConstraint> getColConstraints(BPSheet bpSheet) {
+        return colConstraints.computeIfAbsent(bpSheet, sheet -> {
+            final List<ColConstraint> constraints = new ArrayList<>();
+            constraints.add(colHeaderMismatchConstraint);
+            constraints.addAll(constraintFactory.getColumnConstraints(sheet.colValidators()));
+            return Collections.unmodifiableList(constraints);
+        });
+    }
+
+    /**
+     * Retrieves the constraints applied to the rows of the given sheet.
+     *
+     * @param bpSheet the BPSheet annotation containing metadata for the sheet
+     * @return an unmodifiable list of row constraints
+     */
+    public List<RowConstraint> getRowConstraints(BPSheet bpSheet) {
+        return rowConstraints.computeIfAbsent(bpSheet, sheet -> {
+            final List<RowConstraint> constraints = new ArrayList<>();
+            for (Class<? extends RowConstraint> constraintClass : sheet.rowValidators()) {
+                constraints.add(constraintFactory.getRowConstraint(constraintClass));
+            }
+            return Collections.unmodifiableList(constraints);
+        });
+    }
+}
@@ -0,0 +1,290 @@
+package io.github.r4tylmz.betterpoi.validation;
+
+import io.github.r4tylmz.betterpoi.exception.BPValidationException;
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validation error recorded while a sheet is validated.
+ * A violation keeps the coordinates of the error, the rule that reported it and the key and arguments of the
+ * message of that rule, and renders its localized text only when it is requested, so that files with many errors
+ * do not format messages that are only counted.
+ */
+public final class Violation {
+    private final Kind kind;
+    private final String sheetName;
+    private final int rowIndex;
+    private final int columnIndex;
+    private final String columnTitle;
+    private final String fieldName;
+    private final String rule;
+    private final RuleMessage message;
+    private final boolean joined;
+    private final MessageSourceService messageSourceService;
+
+    private Violation(Kind kind, String sheetName, int rowIndex, int columnIndex, String columnTitle,
+                      String fieldName, String rule, RuleMessage message, boolean joined,
+                      MessageSourceService messageSourceService) {
+        this.kind = kind;
+        this.sheetName = sheetName;
+        this.rowIndex = rowIndex;
+        this.columnIndex = columnIndex;
+        this.columnTitle = columnTitle;
+        this.fieldName = fieldName;
+        this.rule = rule;
+        this.message = message;
+        this.joined = joined;
+        this.messageSourceService = messageSourceService;
+    }
+
+    /**
+     * Creates the violation of a cell validator.
+     *
+     * @param sheetName            the name of the sheet
+     * @param rowIndex             the 0-based index of the row
+     * @param columnIndex          the 0-based index of the column
+     * @param columnTitle          the localized header title of the column
+     * @param fieldName            the name of the bean field mapped to the column
+     * @param rule                 the validator that reported the error
+     * @param message              the message of the validator
+     * @param messageSourceService the service rendering the violation
+     * @return the violation
+     */
+    public static Violation ofCell(String sheetName, int rowIndex, int columnIndex, String columnTitle,
+                                   String fieldName, Object rule, String message,
+                                   MessageSourceService messageSourceService) {
+        return ofCell(sheetName, rowIndex, columnIndex, columnTitle, fieldName, rule, RuleMessage.text(message),
+                messageSourceService);
+    }
+
+    /**
+     * Creates the violation of a cell validator, with the message the validator {@linkplain
+     * io.github.r4tylmz.betterpoi.validation.cell.CellValidator#check checked}.
+     *
+     * @param sheetName            the name of the sheet
+     * @param rowIndex             the 0-based index of the row
+     * @param columnIndex          the 0-based index of the column
+     * @param columnTitle          the localized header title of the column
+     * @param fieldName            the name of the bean field mapped to the column
+     * @param rule                 the validator that reported the error
+     * @param message              the message of the validator, rendered when the violation is rendered
+     * @param messageSourceService the service rendering the violation
+     * @return the violation
+     */
+    public static Violation ofCell(String sheetName, int rowIndex, int columnIndex, String columnTitle,
+                                   String fieldName, Object rule, RuleMessage message,
+                                   MessageSourceService messageSourceService) {
+        return new Violation(Kind.CELL, sheetName, rowIndex, columnIndex, columnTitle, fieldName, ruleOf(rule),
+                message, false, messageSourceService);
+    }
+
+    /**
+     * Creates the violation of a row constraint.
+     *
+     * @param sheetName            the name of the sheet
+     * @param rowIndex             the 0-based index of the row
+     * @param rule                 the constraint that reported the error
+     * @param message              the message of the constraint
+     * @param joined               true if the violation is rendered in the same error message as the previous one
+     * @param messageSourceService the service rendering the violation
+     * @return the violation
+     */
+    static Violation ofRow(String sheetName, int rowIndex, Object rule, String message, boolean joined,
+                           MessageSourceService messageSourceService) {
+        return new Violation(Kind.ROW, sheetName, rowIndex, -1, null, null, ruleOf(rule), RuleMessage.text(message),
+                joined, messageSourceService);
+    }
+
+    /**
+     * Creates the violation of a column constraint.
+     *
+     * @param sheetName            the name of the sheet
+     * @param columnIndex          the 0-based index of the column
+     * @param rule                 the constraint that reported the error
+     * @param message              the message of the constraint
+     * @param joined               true if the violation is rendered in the same error message as the previous one
+     * @param messageSourceService the service rendering the violation
+     * @return the violation
+     */
+    static Violation ofColumn(String sheetName, int columnIndex, Object rule, String message, boolean joined,
+                              MessageSourceService messageSourceService) {
+        return new Violation(Kind.COLUMN, sheetName, -1, columnIndex, null, null, ruleOf(rule),
+                RuleMessage.text(message), joined, messageSourceService);
+    }
+
+    /**
+     * Creates the violation of a sheet that cannot be validated.
+     *
+     * @param sheetName            the name of the sheet
+     * @param messageKey           the key of the message, formatted with the sheet name
+     * @param messageSourceService the service rendering the violation
+     * @return the violation
+     */
+    public static Violation ofSheet(String sheetName, String messageKey, MessageSourceService messageSourceService) {
+        return new Violation(Kind.SHEET, sheetName, -1, -1, null, null, messageKey,
+                RuleMessage.of(messageKey, sheetName), false, messageSourceService);
+    }
+
+    static String ruleOf(Object rule) {
+        return rule instanceof Class ? ((Class<?>) rule).getName() : rule.getClass().getName();
+    }
+
+    /**
+     * Renders the error messages of the given violations. The violations reported by one row or column
+     * constraint on one sheet are rendered as a single message, as the constraint managers do.
+     *
+     * @param violations the violations, in the order they were found
+     * @return the localized error messages
+     */
+    public static List<String> renderMessages(List<Violation> violations) {
+        final List<String> messages = new ArrayList<>(violations.size());
+        StringBuilder joinedMessage = null;
+        for (Violation violation : violations) {
+            if (violation.joined && joinedMessage != null) {
+                joinedMessage.append(violation.getMessage());
+                continue;
+            }
+            if (joinedMessage != null) {
+                messages.add(joinedMessage.toString());
+                joinedMessage = null;
+            }
+            if (violation.kind == Kind.CELL || violation.kind == Kind.SHEET) {
+                messages.add(violation.getMessage());
+            } else {
+                joinedMessage = new StringBuilder(violation.getMessage());
+            }
+        }
+        if (joinedMessage != null) {
+            messages.add(joinedMessage.toString());
+        }
+        return messages;
+    }
+
+    /**
+     * Renders the localized text of this violation.
+     *
+     * @return the error message
+     */
+    public String getMessage() {
+        switch (kind) {
+            case CELL:
+                return messageSourceService.getMessage("error.row.column.violation", rowIndex + 1, columnTitle,
+                        getRuleMessage());
+            case ROW:
+                return messageSourceService.getMessage("error.row.violation", rowIndex + 1, getRuleMessage());
+            case SHEET:
+                return getRuleMessage();
+            default:
+                return messageSourceService.getMessage("error.column.violation", columnIndex + 1, getRuleMessage())
+                        + "\n";
+        }
+    }
+
+    /**
+     * Creates the validation error of this violation, with its text rendered.
+     *
+     * @return the validation error
+     */
+    public BPValidationException.ValidationError toValidationError() {
+        return new BPValidationException.ValidationError(sheetName,
+                rowIndex >= 0 ? rowIndex + 1 : null, columnIndex >= 0 ? columnIndex + 1 : null,
+                fieldName, getMessage(), rule);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    /**
+     * @return the 0-based index of the row, or -1 for a column or sheet violation
+     */
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    /**
+     * @return the 0-based index of the column, or -1 for a row or sheet violation
+     */
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    /**
+     * @return the name of the bean field mapped to the column, or null if the violation is not a cell violation
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @return the fully qualified class name of the validator or constraint that reported the error, or the message
+     * key of a sheet violation
+     */
+    public String getRule() {
+        return rule;
+    }
+
+    /**
+     * Renders the message of the validator or constraint, without the coordinates of the error.
+     *
+     * @return the message of the rule
+     */
+    public String getRuleMessage() {
+        return message.render(messageSourceService);
+    }
+
+    /**
+     * @return the key of the message of the rule, or null if the rule reported the text of its message
+     */
+    public String getMessageKey() {
+        return message.getKey();
+    }
+
+    /**
+     * @return a copy of the arguments of the message of the rule, empty if the rule reported the text of its
+     * message
+     */
+    public Object[] getMessageArguments() {
+        return message.getArguments();
+    }
+
+    RuleMessage ruleMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+
+    /**
+     * Scope of a violation.
+     */
+    public enum Kind {
+        /**
+         * Error reported by a cell validator on a single cell.
+         */
+        CELL,
+
+        /**
+         * Error reported by a row constraint on a row.
+         */
+        ROW,
+
+        /**
+         * Error reported by a column constraint on a column.
+         */
+        COLUMN,
+
+        /**
+         * Error reported on a whole sheet, such as a missing sheet.
+         */
+        SHEET
+    }
+}
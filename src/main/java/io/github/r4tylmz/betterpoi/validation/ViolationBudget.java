@@ -0,0 +1,144 @@
+package io.github.r4tylmz.betterpoi.validation;
+
+import io.github.r4tylmz.betterpoi.BPOptions;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Limits on the number of violations recorded by a validator.
+ * A budget counts the violations it accepts in total, per sheet and per rule, and tells the readers when the
+ * remaining rows or sheets no longer need to be read. The violation reaching a limit is accepted, and the following
+ * ones falling under that limit are rejected. A budget is confined to the thread of its validator.
+ */
+public final class ViolationBudget {
+    private static final ViolationBudget UNLIMITED = new ViolationBudget(0, 0, 0);
+    private final int maxViolations;
+    private final int maxViolationsPerSheet;
+    private final int maxViolationsPerRule;
+    private final Map<String, Integer> sheetCounts = new HashMap<>();
+    private final Map<String, Integer> ruleCounts = new HashMap<>();
+    private final Set<String> exhaustedSheets = new HashSet<>();
+    private final Set<String> exhaustedRules = new HashSet<>();
+    private int count;
+    private boolean exhausted;
+
+    private ViolationBudget(int maxViolations, int maxViolationsPerSheet, int maxViolationsPerRule) {
+        this.maxViolations = maxViolations;
+        this.maxViolationsPerSheet = maxViolationsPerSheet;
+        this.maxViolationsPerRule = maxViolationsPerRule;
+    }
+
+    /**
+     * Returns the budget accepting every violation. It keeps no state and can be shared.
+     *
+     * @return the unlimited budget
+     */
+    public static ViolationBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Creates a budget with the limits of the given options. Fail-fast options allow a single violation.
+     *
+     * @param options the options holding the limits
+     * @return a new budget, or the unlimited budget if the options set no limit
+     */
+    public static ViolationBudget of(BPOptions options) {
+        final int maxViolations = options.isFailFast() ? 1 : options.getMaxViolations();
+        return of(maxViolations, options.getMaxViolationsPerSheet(), options.getMaxViolationsPerRule());
+    }
+
+    private static ViolationBudget of(int maxViolations, int maxViolationsPerSheet, int maxViolationsPerRule) {
+        if (maxViolations == 0 && maxViolationsPerSheet == 0 && maxViolationsPerRule == 0) {
+            return UNLIMITED;
+        }
+        return new ViolationBudget(maxViolations, maxViolationsPerSheet, maxViolationsPerRule);
+    }
+
+    /**
+     * Creates a budget with the same limits as this one and nothing counted yet.
+     *
+     * @return a new budget, or the unlimited budget if this one is unlimited
+     */
+    public ViolationBudget newBudget() {
+        return of(maxViolations, maxViolationsPerSheet, maxViolationsPerRule);
+    }
+
+    /**
+     * @return true if this budget sets no limit
+     */
+    public boolean isUnlimited() {
+        return this == UNLIMITED;
+    }
+
+    /**
+     * Counts the given violation if the limits allow it.
+     *
+     * @param violation the violation to record
+     * @return true if the violation is to be recorded, false if a limit was already reached
+     */
+    public boolean accept(Violation violation) {
+        if (this == UNLIMITED) {
+            return true;
+        }
+        final String sheetName = violation.getSheetName();
+        final String rule = violation.getRule();
+        if (exhausted || exhaustedSheets.contains(sheetName) || exhaustedRules.contains(rule)) {
+            return false;
+        }
+        if (maxViolations > 0 && ++count >= maxViolations) {
+            exhausted = true;
+        }
+        if (maxViolationsPerSheet > 0 && increment(sheetCounts, sheetName) >= maxViolationsPerSheet) {
+            exhaustedSheets.add(sheetName);
+        }
+        if (maxViolationsPerRule > 0 && increment(ruleCounts, rule) >= maxViolationsPerRule) {
+            exhaustedRules.add(rule);
+        }
+        return true;
+    }
+
+    private static int increment(Map<String, Integer> counts, String key) {
+        final Integer count = counts.get(key);
+        final int incremented = count == null ? 1 : count + 1;
+        counts.put(key, incremented);
+        return incremented;
+    }
+
+    /**
+     * @return true if the total limit is reached and no more rows or sheets need to be read
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * Checks whether the remaining rows of the given sheet need to be read.
+     *
+     * @param sheetName the name of the sheet
+     * @return true if the total limit or the limit of the sheet is reached
+     */
+    public boolean isSheetExhausted(String sheetName) {
+        return exhausted || (!exhaustedSheets.isEmpty() && exhaustedSheets.contains(sheetName));
+    }
+
+    /**
+     * Checks whether the given validator or constraint still needs to be applied.
+     *
+     * @param rule the validator or constraint
+     * @return true if the limit of the rule is reached
+     */
+    public boolean isRuleExhausted(Object rule) {
+        return !exhaustedRules.isEmpty() && exhaustedRules.contains(Violation.ruleOf(rule));
+    }
+
+    /**
+     * @return true if any limit was reached, so that violations may have been dropped
+     */
+    public boolean isAnyLimitReached() {
+        return exhausted || !exhaustedSheets.isEmpty() || !exhaustedRules.isEmpty();
+    }
+}
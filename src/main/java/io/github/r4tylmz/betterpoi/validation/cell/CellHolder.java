@@ -4,6 +4,7 @@ import io.github.r4tylmz.betterpoi.annotation.BPColumn;
 import org.apache.poi.ss.usermodel.Cell;
 
 import java.lang.reflect.Field;
+import java.util.regex.Pattern;
 
 
 /**
@@ -15,6 +16,8 @@ public class CellHolder {
     private String cellValue;
     private Field field;
     private BPColumn bpColumn;
+    private Pattern pattern;
+    private String headerTitle;
 
     public CellHolder() {
     }
@@ -22,7 +25,7 @@ public class CellHolder {
     /**
      * Parameterized constructor to initialize all fields.
      *
-     * @param cell      the Excel cell
+     * @param cell      the Excel cell, or null if the row has no cell in the column
      * @param cellValue the value of the cell as a string
      * @param field     the field in the class corresponding to the cell
      * @param bpColumn  the BPColumn annotation containing metadata for the cell
@@ -34,6 +37,43 @@ public class CellHolder {
         this.bpColumn = bpColumn;
     }
 
+    /**
+     * Parameterized constructor to initialize all fields, including the precompiled pattern of the column.
+     *
+     * @param cell      the Excel cell, or null if the row has no cell in the column
+     * @param cellValue the value of the cell as a string
+     * @param field     the field in the class corresponding to the cell
+     * @param bpColumn  the BPColumn annotation containing metadata for the cell
+     * @param pattern   the compiled pattern of the BPColumn annotation, may be null
+     */
+    public CellHolder(Cell cell, String cellValue, Field field, BPColumn bpColumn, Pattern pattern) {
+        this(cell, cellValue, field, bpColumn);
+        this.pattern = pattern;
+    }
+
+    /**
+     * Parameterized constructor to initialize all fields, including the precompiled pattern and the localized
+     * header title of the column.
+     *
+     * @param cell        the Excel cell, or null if the row has no cell in the column
+     * @param cellValue   the value of the cell as a string
+     * @param field       the field in the class corresponding to the cell
+     * @param bpColumn    the BPColumn annotation containing metadata for the cell
+     * @param pattern     the compiled pattern of the BPColumn annotation, may be null
+     * @param headerTitle the localized header title of the column, may be null
+     */
+    public CellHolder(Cell cell, String cellValue, Field field, BPColumn bpColumn, Pattern pattern,
+                      String headerTitle) {
+        this(cell, cellValue, field, bpColumn, pattern);
+        this.headerTitle = headerTitle;
+    }
+
+    /**
+     * Retrieves the validated cell. A row without a cell in the column is validated as a blank cell, without
+     * adding one to the row: the cell is then null and the value is empty.
+     *
+     * @return the cell, or null if the row has no cell in the column
+     */
     public Cell getCell() {
         return cell;
     }
@@ -65,4 +105,30 @@ public class CellHolder {
     public void setBpColumn(BPColumn bpColumn) {
         this.bpColumn = bpColumn;
     }
+
+    /**
+     * Retrieves the compiled pattern of the BPColumn annotation.
+     *
+     * @return the compiled pattern, or null if it has not been compiled in advance
+     */
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    public void setPattern(Pattern pattern) {
+        this.pattern = pattern;
+    }
+
+    /**
+     * Retrieves the localized header title of the column, resolved once for the whole column.
+     *
+     * @return the header title, or null if it has not been resolved in advance
+     */
+    public String getHeaderTitle() {
+        return headerTitle;
+    }
+
+    public void setHeaderTitle(String headerTitle) {
+        this.headerTitle = headerTitle;
+    }
 }
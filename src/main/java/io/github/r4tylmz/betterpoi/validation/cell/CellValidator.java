@@ -1,9 +1,12 @@
 package io.github.r4tylmz.betterpoi.validation.cell;
 
+import io.github.r4tylmz.betterpoi.validation.RuleMessage;
 
 /**
  * Interface for cell validation.
  * Implementations of this interface should provide logic to validate a cell based on its value and metadata.
+ * Validators can override {@link #check(CellHolder)} to report the key and arguments of their message, which is
+ * then only rendered when the error message is requested.
  */
 public interface CellValidator {
 
@@ -14,4 +17,16 @@ public interface CellValidator {
      * @return a validation error message if the cell is invalid, otherwise null
      */
     String validate(CellHolder cellHolder);
+
+    /**
+     * Validates the given cell holder without rendering the error message. The default implementation reports
+     * the message of {@link #validate(CellHolder)} as is.
+     *
+     * @param cellHolder the cell holder containing the cell and its metadata
+     * @return the message of the validation error if the cell is invalid, otherwise null
+     */
+    default RuleMessage check(CellHolder cellHolder) {
+        final String errorMessage = validate(cellHolder);
+        return errorMessage != null ? RuleMessage.text(errorMessage) : null;
+    }
 }
\ No newline at end of file
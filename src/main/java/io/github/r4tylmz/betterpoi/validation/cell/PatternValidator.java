@@ -1,6 +1,8 @@
 package io.github.r4tylmz.betterpoi.validation.cell;
 
 import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.utils.PatternCache;
+import io.github.r4tylmz.betterpoi.validation.RuleMessage;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -23,21 +25,37 @@ public class PatternValidator implements CellValidator {
     /**
      * Validates the given cell holder.
      * Checks if the cell value matches the pattern specified in the BPColumn annotation.
+     * The precompiled pattern of the cell holder is used when present.
      *
      * @param cellHolder the cell holder containing the cell and its metadata
      * @return a validation error message if the cell value does not match the pattern, otherwise null
      */
     @Override
     public String validate(CellHolder cellHolder) {
+        final RuleMessage errorMessage = check(cellHolder);
+        return errorMessage != null ? errorMessage.render(messageSourceService) : null;
+    }
+
+    /**
+     * Checks if the cell value matches the pattern specified in the BPColumn annotation.
+     * The precompiled pattern of the cell holder is used when present.
+     *
+     * @param cellHolder the cell holder containing the cell and its metadata
+     * @return the pattern error message with the value and the pattern if they do not match, otherwise null
+     */
+    @Override
+    public RuleMessage check(CellHolder cellHolder) {
         final String cellValue = cellHolder.getCellValue();
         final String pattern = cellHolder.getBpColumn().pattern();
         if (cellValue == null || pattern == null || pattern.isEmpty()) {
             return null;
         }
-        final Pattern validatorPattern = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
+        final Pattern validatorPattern = cellHolder.getPattern() != null
+                ? cellHolder.getPattern()
+                : PatternCache.shared().get(pattern, Pattern.CASE_INSENSITIVE);
         final Matcher matcher = validatorPattern.matcher(cellValue);
         if (!matcher.find()) {
-            return messageSourceService.getMessage("pattern.validation.error", cellValue, pattern);
+            return RuleMessage.of("pattern.validation.error", cellValue, pattern);
         }
         return null;
     }
@@ -2,6 +2,7 @@ package io.github.r4tylmz.betterpoi.validation.cell;
 
 import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
 import io.github.r4tylmz.betterpoi.utils.ColUtil;
+import io.github.r4tylmz.betterpoi.validation.RuleMessage;
 
 /**
  * Validator implementation that checks if a cell value is required.
@@ -27,9 +28,25 @@ public class RequiredValidator implements CellValidator {
      */
     @Override
     public String validate(CellHolder cellHolder) {
+        final RuleMessage errorMessage = check(cellHolder);
+        return errorMessage != null ? errorMessage.render(messageSourceService) : null;
+    }
+
+    /**
+     * Checks if the cell value is not null or empty if the BPColumn annotation specifies it as required.
+     * The header title of the cell holder is used when present.
+     *
+     * @param cellHolder the cell holder containing the cell and its metadata
+     * @return the required error message with the header title if the cell value is missing, otherwise null
+     */
+    @Override
+    public RuleMessage check(CellHolder cellHolder) {
         String cellValue = cellHolder.getCellValue();
         if (!cellHolder.getBpColumn().required()) return null;
         if (cellValue != null && !cellValue.isEmpty()) return null;
-        return messageSourceService.getMessage("required.validation.error", ColUtil.getHeaderTitle(cellHolder.getBpColumn(), messageSourceService));
+        final String headerTitle = cellHolder.getHeaderTitle() != null
+                ? cellHolder.getHeaderTitle()
+                : ColUtil.getHeaderTitle(cellHolder.getBpColumn(), messageSourceService);
+        return RuleMessage.of("required.validation.error", headerTitle);
     }
 }
\ No newline at end of file
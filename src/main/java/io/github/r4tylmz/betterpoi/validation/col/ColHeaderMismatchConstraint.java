@@ -3,6 +3,7 @@ package io.github.r4tylmz.betterpoi.validation.col;
 import io.github.r4tylmz.betterpoi.annotation.BPColumn;
 import io.github.r4tylmz.betterpoi.annotation.BPSheet;
 import io.github.r4tylmz.betterpoi.constraint.ColConstraint;
+import io.github.r4tylmz.betterpoi.constraint.IncrementalConstraint;
 import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
 import io.github.r4tylmz.betterpoi.utils.ColUtil;
 import org.apache.poi.ss.usermodel.Cell;
@@ -15,33 +16,24 @@ import java.util.*;
 /**
  * Constraint implementation that checks for header mismatches in columns.
  * This class validates that the headers in an Excel sheet match the expected headers defined in the BPSheet annotation.
+ * Only the header row is read, so the constraint is also applied by the streaming import.
  */
-public class ColHeaderMismatchConstraint implements ColConstraint {
-    private final List<String> colHeaders = new ArrayList<>();
+public class ColHeaderMismatchConstraint implements ColConstraint, IncrementalConstraint {
     private final DataFormatter dataFormatter = new DataFormatter();
     private MessageSourceService messageSourceService;
+    private List<String> colHeaders;
 
     public ColHeaderMismatchConstraint(MessageSourceService messageSourceService) {
         this.messageSourceService = messageSourceService;
     }
     /**
-     * Retrieves the column headers from the given sheet.
-     * If the headers have already been retrieved, it returns the cached headers.
+     * Retrieves the column headers from the given header row.
      *
-     * @param sheet the Excel sheet from which to retrieve the headers
+     * @param headerRow the header row of the sheet
      * @return an unmodifiable list of column headers
-     * @throws IllegalArgumentException if the sheet has no header row
      */
-    private List<String> getColHeaders(Sheet sheet) {
-        if (!colHeaders.isEmpty()) {
-            return Collections.unmodifiableList(colHeaders);
-        }
-
-        final Row headerRow = sheet.getRow(0);
-        if (headerRow == null) {
-            throw new IllegalArgumentException("Sheet has no header row.");
-        }
-
+    private List<String> getColHeaders(Row headerRow) {
+        final List<String> colHeaders = new ArrayList<>();
         for (int i = 0; i < headerRow.getLastCellNum(); i++) {
             Cell cell = headerRow.getCell(i);
             if (cell != null) {
@@ -68,11 +60,45 @@ public class ColHeaderMismatchConstraint implements ColConstraint {
      */
     @Override
     public Map<Integer, String> validate(Sheet sheet, BPSheet bpSheet) {
-        final List<String> colHeaders = getColHeaders(sheet);
-        Row headerRow = sheet.getRow(0);
+        final Row headerRow = sheet.getRow(0);
         if (headerRow == null) {
             throw new IllegalArgumentException("Sheet has no header row.");
         }
+        onHeader(headerRow, bpSheet);
+        return onComplete(bpSheet);
+    }
+
+    /**
+     * Reads the headers of a sheet. Headers are read again for every sheet, so one instance can validate
+     * several sheets.
+     *
+     * @param headerRow the header row of the sheet
+     * @param bpSheet   the BPSheet annotation containing validation rules
+     */
+    @Override
+    public void onHeader(Row headerRow, BPSheet bpSheet) {
+        colHeaders = getColHeaders(headerRow);
+    }
+
+    @Override
+    public void onRow(Row row, BPSheet bpSheet) {
+    }
+
+    /**
+     * Checks if the headers read by {@link #onHeader(Row, BPSheet)} match the expected headers defined in the
+     * BPSheet annotation.
+     *
+     * @param bpSheet the BPSheet annotation containing validation rules
+     * @return a map where the key is the column index and the value is the validation error message
+     * @throws IllegalArgumentException if the sheet had no header row
+     */
+    @Override
+    public Map<Integer, String> onComplete(BPSheet bpSheet) {
+        final List<String> colHeaders = this.colHeaders;
+        if (colHeaders == null) {
+            throw new IllegalArgumentException("Sheet has no header row.");
+        }
+        this.colHeaders = null;
 
         Map<Integer, String> violationMap = new HashMap<>();
 
@@ -87,4 +113,4 @@ public class ColHeaderMismatchConstraint implements ColConstraint {
         }
         return violationMap;
     }
-}
\ No newline at end of file
+}
@@ -1,54 +1,288 @@
 package io.github.r4tylmz.betterpoi.validation.row;
 
 import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.constraint.ChunkedConstraint;
+import io.github.r4tylmz.betterpoi.constraint.IncrementalConstraint;
 import io.github.r4tylmz.betterpoi.constraint.RowConstraint;
 import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
 import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
-public class DuplicateRowConstraint implements RowConstraint {
+/**
+ * Row constraint reporting every row whose cells are equal to the cells of an earlier row.
+ *
+ * <p>Cells are compared by their typed values, position by position: text by its characters, numbers and dates
+ * by their numeric value, formulas by their cached result. Blank and missing cells are equal. Each row is hashed
+ * once into a 128-bit fingerprint kept in a primitive hash set, and rows with the same fingerprint are compared
+ * cell by cell, so a fingerprint collision never reports a row as duplicate.</p>
+ *
+ * <p>When the rows are validated one at a time, as in the streaming import, earlier rows cannot be read again:
+ * only their fingerprints are kept, so memory usage depends on the number of rows instead of their width, and
+ * rows with equal fingerprints are reported as duplicate without being compared.</p>
+ *
+ * <p>When the rows are read in chunks, each chunk computes the fingerprints of its rows on its own thread, and the
+ * fingerprints are then added to a single set in row order, so the reported rows are the same as when the sheet is
+ * validated in one pass. A chunk result holds three longs per row: the row index and the two halves of its
+ * fingerprint.</p>
+ */
+public class DuplicateRowConstraint implements RowConstraint, IncrementalConstraint, ChunkedConstraint<long[]> {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
     private MessageSourceService messageSourceService;
-
-    DataFormatter dataFormatter = new DataFormatter();
+    private final boolean verifyFingerprints;
+    private RowFingerprintSet incrementalFingerprints;
+    private Map<Integer, String> incrementalViolations;
+    private String incrementalMessage;
+    private final Fingerprint fingerprint = new Fingerprint();
 
     public DuplicateRowConstraint() {
+        this(null);
     }
 
     public DuplicateRowConstraint(MessageSourceService messageSourceService) {
+        this(messageSourceService, true);
+    }
+
+    /**
+     * Constructs a constraint that can skip the comparison of rows with equal fingerprints.
+     * Subclasses can pass false to trust fingerprints alone: a collision, which has a probability of about
+     * 2<sup>-128</sup> per pair of rows, would then report a row as duplicate.
+     *
+     * @param messageSourceService the service for retrieving localized messages
+     * @param verifyFingerprints   true to compare rows with equal fingerprints cell by cell
+     */
+    protected DuplicateRowConstraint(MessageSourceService messageSourceService, boolean verifyFingerprints) {
         this.messageSourceService = messageSourceService;
+        this.verifyFingerprints = verifyFingerprints;
     }
 
-    private String hashRow(Row row, int colSize) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < colSize; i++) {
-            Cell cell = row.getCell(i);
-            if (cell != null) {
-                sb.append(dataFormatter.formatCellValue(cell));
-                sb.append("###;###");
+    @Override
+    public Map<Integer, String> validate(Sheet sheet, BPSheet bpSheet) {
+        return merge(sheet, Collections.singletonList(scan(sheet, 1, sheet.getLastRowNum(), bpSheet)), bpSheet);
+    }
+
+    @Override
+    public long[] scan(Sheet sheet, int firstRow, int lastRow, BPSheet bpSheet) {
+        final int colSize = bpSheet.columns().length;
+        final Fingerprint rowFingerprint = new Fingerprint();
+        final long[] fingerprints = new long[Math.max(lastRow - firstRow + 1, 0) * 3];
+        int size = 0;
+        for (int i = firstRow; i <= lastRow; i++) {
+            final Row row = sheet.getRow(i);
+            if (row == null) {
+                continue;
             }
+            rowFingerprint.compute(row, colSize);
+            fingerprints[size++] = i;
+            fingerprints[size++] = rowFingerprint.high;
+            fingerprints[size++] = rowFingerprint.low;
         }
-        return sb.toString();
+        return size == fingerprints.length ? fingerprints : Arrays.copyOf(fingerprints, size);
     }
 
     @Override
-    public Map<Integer, String> validate(Sheet sheet, BPSheet bpSheet) {
-        Set<String> rowSet = new HashSet<>();
-        Map<Integer, String> rowViolationMap = new HashMap<>();
-        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-            Row row = sheet.getRow(i);
-            if (row != null && rowSet.contains(hashRow(row, bpSheet.columns().length))) {
-                rowViolationMap.put(i, messageSourceService.getMessage("duplicate.row.error"));
-            } else {
-                rowSet.add(hashRow(row, bpSheet.columns().length));
+    public Map<Integer, String> merge(Sheet sheet, List<long[]> chunks, BPSheet bpSheet) {
+        final int colSize = bpSheet.columns().length;
+        int rows = 0;
+        for (long[] chunk : chunks) {
+            rows += chunk.length / 3;
+        }
+        final RowFingerprintSet fingerprints = new RowFingerprintSet(rows);
+        final Map<Integer, String> rowViolationMap = new HashMap<>();
+        String message = null;
+        for (long[] chunk : chunks) {
+            for (int k = 0; k < chunk.length; k += 3) {
+                final int rowIndex = (int) chunk[k];
+                final int duplicateOf = fingerprints.addIfAbsent(chunk[k + 1], chunk[k + 2], rowIndex,
+                        verifyFingerprints
+                                ? other -> isSameRow(sheet.getRow(other), sheet.getRow(rowIndex), colSize) : null);
+                if (duplicateOf >= 0) {
+                    if (message == null) {
+                        message = messageSourceService.getMessage("duplicate.row.error");
+                    }
+                    rowViolationMap.put(rowIndex, message);
+                }
             }
         }
         return rowViolationMap;
     }
+
+    @Override
+    public void onHeader(Row headerRow, BPSheet bpSheet) {
+        incrementalFingerprints = new RowFingerprintSet(0);
+        incrementalViolations = new HashMap<>();
+        incrementalMessage = null;
+    }
+
+    @Override
+    public void onRow(Row row, BPSheet bpSheet) {
+        if (incrementalFingerprints == null) {
+            onHeader(null, bpSheet);
+        }
+        fingerprint.compute(row, bpSheet.columns().length);
+        if (incrementalFingerprints.addIfAbsent(fingerprint.high, fingerprint.low, row.getRowNum(), null) >= 0) {
+            if (incrementalMessage == null) {
+                incrementalMessage = messageSourceService.getMessage("duplicate.row.error");
+            }
+            incrementalViolations.put(row.getRowNum(), incrementalMessage);
+        }
+    }
+
+    @Override
+    public Map<Integer, String> onComplete(BPSheet bpSheet) {
+        final Map<Integer, String> rowViolationMap = incrementalViolations;
+        incrementalFingerprints = null;
+        incrementalViolations = null;
+        return rowViolationMap != null ? rowViolationMap : new HashMap<>();
+    }
+
+    /**
+     * Compares the first cells of two rows by their typed values.
+     *
+     * @param first   a row of the sheet
+     * @param second  another row of the sheet
+     * @param colSize the number of cells to compare
+     * @return true if all the compared cells are equal
+     */
+    private static boolean isSameRow(Row first, Row second, int colSize) {
+        for (int i = 0; i < colSize; i++) {
+            if (!isSameValue(first.getCell(i), second.getCell(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSameValue(Cell first, Cell second) {
+        final CellType type = getValueType(first);
+        if (type != getValueType(second)) {
+            return false;
+        }
+        switch (type) {
+            case STRING:
+                return first.getStringCellValue().equals(second.getStringCellValue());
+            case NUMERIC:
+                return Double.doubleToLongBits(first.getNumericCellValue() + 0.0)
+                        == Double.doubleToLongBits(second.getNumericCellValue() + 0.0);
+            case BOOLEAN:
+                return first.getBooleanCellValue() == second.getBooleanCellValue();
+            case ERROR:
+                return first.getErrorCellValue() == second.getErrorCellValue();
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Retrieves the type of the value of a cell: the cached result type for formulas, and
+     * {@link CellType#BLANK} for missing cells and empty text.
+     *
+     * @param cell the cell, or null
+     * @return the type of the value
+     */
+    private static CellType getValueType(Cell cell) {
+        final CellType type = getResultType(cell);
+        if (type == CellType.STRING && cell.getStringCellValue().isEmpty()) {
+            return CellType.BLANK;
+        }
+        return type;
+    }
+
+    private static CellType getResultType(Cell cell) {
+        if (cell == null) {
+            return CellType.BLANK;
+        }
+        return cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : cell.getCellType();
+    }
+
+    /**
+     * 128-bit fingerprint of a row, reused for the rows hashed by one thread.
+     */
+    private static final class Fingerprint {
+        private long high;
+        private long low;
+        private int words;
+
+        /**
+         * Computes the fingerprint of the first cells of a row into {@link #high} and {@link #low}.
+         * Blank cells are skipped, and every other cell is mixed in with its column index and type.
+         *
+         * @param row     the row to hash
+         * @param colSize the number of cells to hash
+         */
+        private void compute(Row row, int colSize) {
+            high = 0x9e3779b97f4a7c15L;
+            low = 0xc2b2ae3d27d4eb4fL;
+            words = 0;
+            for (int i = 0; i < colSize; i++) {
+                final Cell cell = row.getCell(i);
+                final CellType type = getResultType(cell);
+                final String value = type == CellType.STRING ? cell.getStringCellValue() : null;
+                if (type == CellType.BLANK || value != null && value.isEmpty()) {
+                    continue;
+                }
+                mix(((long) i << 8) | type.ordinal());
+                switch (type) {
+                    case STRING:
+                        mix(value.length());
+                        for (int c = 0; c < value.length(); c += 4) {
+                            long packed = 0;
+                            for (int j = c; j < Math.min(c + 4, value.length()); j++) {
+                                packed = (packed << 16) | value.charAt(j);
+                            }
+                            mix(packed);
+                        }
+                        break;
+                    case NUMERIC:
+                        mix(Double.doubleToLongBits(cell.getNumericCellValue() + 0.0));
+                        break;
+                    case BOOLEAN:
+                        mix(cell.getBooleanCellValue() ? 1 : 0);
+                        break;
+                    case ERROR:
+                        mix(cell.getErrorCellValue());
+                        break;
+                    default:
+                        break;
+                }
+            }
+            finish();
+        }
+
+        private void mix(long word) {
+            high ^= Long.rotateLeft(word * C1, 31) * C2;
+            high = Long.rotateLeft(high, 27) * 5 + 0x52dce729;
+            low ^= Long.rotateLeft(word * C2, 33) * C1;
+            low = Long.rotateLeft(low, 31) * 5 + 0x38495ab5;
+            words++;
+        }
+
+        private void finish() {
+            high ^= words;
+            low ^= words;
+            high += low;
+            low += high;
+            high = avalanche(high);
+            low = avalanche(low);
+            high += low;
+            low += high;
+        }
+
+        private static long avalanche(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package io.github.r4tylmz.betterpoi.validation.row;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Open addressing hash set of 128-bit row fingerprints, each stored with the index of the row it was computed
+ * from. Fingerprints are kept in primitive arrays, so a set costs about 40 bytes per row whatever the width of
+ * the rows.
+ */
+final class RowFingerprintSet {
+    private static final int MINIMUM_CAPACITY = 16;
+    private long[] fingerprints;
+    private int[] rowIndexes;
+    private int mask;
+    private int size;
+
+    /**
+     * Constructs a set sized for the given number of rows.
+     *
+     * @param expectedRows the expected number of rows, used to avoid resizing
+     */
+    RowFingerprintSet(int expectedRows) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < expectedRows * 2L && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Adds a row fingerprint unless an equal row has already been added.
+     *
+     * @param high      the high 64 bits of the fingerprint
+     * @param low       the low 64 bits of the fingerprint
+     * @param rowIndex  the index of the row, greater than 0
+     * @param sameRow   tells whether the row with the given index is equal to the added row, called only for rows
+     *                  with the same fingerprint, or null to trust fingerprints
+     * @return the index of the equal row already in the set, or -1 if the row was added
+     */
+    int addIfAbsent(long high, long low, int rowIndex, IntPredicate sameRow) {
+        if (size * 2 >= rowIndexes.length) {
+            grow();
+        }
+        int slot = (int) high & mask;
+        while (rowIndexes[slot] != 0) {
+            if (fingerprints[2 * slot] == high && fingerprints[2 * slot + 1] == low
+                    && (sameRow == null || sameRow.test(rowIndexes[slot]))) {
+                return rowIndexes[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        insert(slot, high, low, rowIndex);
+        size++;
+        return -1;
+    }
+
+    /**
+     * @return the number of fingerprints in the set
+     */
+    int size() {
+        return size;
+    }
+
+    private void allocate(int capacity) {
+        fingerprints = new long[capacity * 2];
+        rowIndexes = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private void insert(int slot, long high, long low, int rowIndex) {
+        fingerprints[2 * slot] = high;
+        fingerprints[2 * slot + 1] = low;
+        rowIndexes[slot] = rowIndex;
+    }
+
+    private void grow() {
+        final long[] oldFingerprints = fingerprints;
+        final int[] oldRowIndexes = rowIndexes;
+        allocate(oldRowIndexes.length * 2);
+        for (int i = 0; i < oldRowIndexes.length; i++) {
+            if (oldRowIndexes[i] != 0) {
+                int slot = (int) oldFingerprints[2 * i] & mask;
+                while (rowIndexes[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                insert(slot, oldFingerprints[2 * i], oldFingerprints[2 * i + 1], oldRowIndexes[i]);
+            }
+        }
+    }
+}
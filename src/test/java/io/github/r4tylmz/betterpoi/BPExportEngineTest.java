@@ -0,0 +1,294 @@
+package io.github.r4tylmz.betterpoi;
+
+import io.github.r4tylmz.betterpoi.BPExporterTest.TestData;
+import io.github.r4tylmz.betterpoi.BPExporterTest.TestWorkbook;
+import io.github.r4tylmz.betterpoi.BPImportEngineTest.Entry;
+import io.github.r4tylmz.betterpoi.BPImportEngineTest.MonthlyWorkbook;
+import io.github.r4tylmz.betterpoi.enums.ExcelType;
+import io.github.r4tylmz.betterpoi.enums.ExportMode;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.Assert.*;
+
+public class BPExportEngineTest {
+
+    private static TestWorkbook workbook(int rows) {
+        List<TestData> dataList = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            TestData data = new TestData();
+            data.setStringField("Row " + i);
+            data.setIntField(i);
+            dataList.add(data);
+        }
+        TestWorkbook workbook = new TestWorkbook();
+        workbook.setData(dataList);
+        return workbook;
+    }
+
+    @Test
+    public void reportsRowCountsPerSheet() {
+        BPExportResult result = new BPExportEngine(BPOptions.createDefault())
+                .exportExcel(workbook(3), new ByteArrayOutputStream());
+        assertEquals(1, result.getRowCounts().size());
+        assertEquals(3, result.getTotalRowCount());
+        assertEquals(3, result.getRowCount(result.getRowCounts().keySet().iterator().next()));
+    }
+
+    @Test
+    public void stylesArePooledAcrossRows() throws Exception {
+        TestWorkbook workbook = workbook(500);
+        for (TestData data : workbook.getData()) {
+            data.setDateField(new Date());
+            data.setLocalDateField(LocalDate.now());
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        BPExportResult result = new BPExportEngine(BPOptions.createDefault()).exportExcel(workbook, outputStream);
+
+        // default, error, header and the date style shared by the date columns
+        assertEquals(4, result.getStyleCount());
+        try (Workbook exported = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(result.getStyleCount() + 1, exported.getNumCellStyles());
+            Sheet sheet = exported.getSheetAt(0);
+            assertEquals(sheet.getRow(0).getCell(0).getCellStyle().getIndex(),
+                    sheet.getRow(0).getCell(7).getCellStyle().getIndex());
+        }
+    }
+
+    @Test
+    public void sharedEngineServesConcurrentExports() throws Exception {
+        assertConcurrentExports(new BPExportEngine(BPOptions.createDefault()));
+        assertConcurrentExports(new BPExportEngine(BPOptions.builder()
+                .withExcelType(ExcelType.XLSX)
+                .withExportMode(ExportMode.STREAMING)
+                .withRowAccessWindowSize(10)
+                .build()));
+    }
+
+    @Test
+    public void parallelSheetsMatchSequentialExport() throws Exception {
+        MonthlyWorkbook workbook = new MonthlyWorkbook();
+        workbook.setJanuary(entries("JAN", 120));
+        workbook.setFebruary(entries("FEB", 80));
+        workbook.setMarch(entries("MAR", 0));
+        workbook.setApril(entries("APR", 200));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+            new BPExportEngine(BPOptions.createDefault()).exportExcel(workbook, sequential);
+            ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+            BPExportResult result = new BPExportEngine(BPOptions.builder()
+                    .withExcelType(ExcelType.XLSX)
+                    .withExecutor(executor)
+                    .build()).exportExcel(workbook, parallel);
+
+            assertEquals(400, result.getTotalRowCount());
+            Map<String, byte[]> sequentialParts = readParts(sequential.toByteArray());
+            Map<String, byte[]> parallelParts = readParts(parallel.toByteArray());
+            assertEquals(sequentialParts.keySet(), parallelParts.keySet());
+            for (Map.Entry<String, byte[]> part : sequentialParts.entrySet()) {
+                // the core properties hold the creation time of the workbook
+                if (!part.getKey().equals("docProps/core.xml")) {
+                    assertTrue(part.getKey(), Arrays.equals(part.getValue(), parallelParts.get(part.getKey())));
+                }
+            }
+            try (Workbook exported = new XSSFWorkbook(new ByteArrayInputStream(parallel.toByteArray()))) {
+                assertEquals("April", exported.getSheetAt(3).getSheetName());
+                assertEquals("APR-199", exported.getSheet("April").getRow(200).getCell(0).getStringCellValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelDirectExportMatchesSequentialExport() throws Exception {
+        MonthlyWorkbook workbook = new MonthlyWorkbook();
+        workbook.setJanuary(entries("JAN", 3000));
+        workbook.setFebruary(entries("FEB", 10));
+        workbook.setMarch(entries("MAR", 0));
+        workbook.setApril(entries("APR", 2000));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+            new BPExportEngine(BPOptions.builder()
+                    .withExcelType(ExcelType.XLSX)
+                    .withExportMode(ExportMode.DIRECT)
+                    .build()).exportExcel(workbook, sequential);
+            ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+            BPExportResult result = new BPExportEngine(BPOptions.builder()
+                    .withExcelType(ExcelType.XLSX)
+                    .withExportMode(ExportMode.DIRECT)
+                    .withExecutor(executor)
+                    .build()).exportExcel(workbook, parallel);
+
+            assertEquals(5010, result.getTotalRowCount());
+            assertArrayEquals(sequential.toByteArray(), parallel.toByteArray());
+            try (Workbook exported = new XSSFWorkbook(new ByteArrayInputStream(parallel.toByteArray()))) {
+                assertEquals("April", exported.getSheetAt(3).getSheetName());
+                assertEquals("JAN-2999", exported.getSheet("January").getRow(3000).getCell(0).getStringCellValue());
+                assertEquals("APR-1999", exported.getSheet("April").getRow(2000).getCell(0).getStringCellValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void directExportMatchesDomExport() throws Exception {
+        TestWorkbook workbook = workbook(20);
+        for (int i = 0; i < workbook.getData().size(); i++) {
+            TestData data = workbook.getData().get(i);
+            data.setDateField(new Date(1600000000000L + i * 86400000L));
+            data.setLocalDateField(LocalDate.of(2024, 1, 1).plusDays(i));
+            data.setLocalDateTimeField(LocalDateTime.of(2024, 1, 1, 12, 30).plusHours(i));
+            data.setBigDecimalField(new BigDecimal("1234.5").add(BigDecimal.valueOf(i)));
+            data.setDoubleField(i == 3 ? null : i / 7.0);
+            data.setFloatField(0.1f * i);
+        }
+        workbook.getData().get(1).setStringField(" <a & \"b\">\n\tc ");
+
+        ByteArrayOutputStream dom = new ByteArrayOutputStream();
+        new BPExportEngine(BPOptions.createDefault()).exportExcel(workbook, dom);
+        ByteArrayOutputStream direct = new ByteArrayOutputStream();
+        BPExportResult result = new BPExportEngine(BPOptions.builder()
+                .withExcelType(ExcelType.XLSX)
+                .withExportMode(ExportMode.DIRECT)
+                .build()).exportExcel(workbook, direct);
+
+        assertEquals(20, result.getTotalRowCount());
+        DataFormatter formatter = new DataFormatter();
+        try (Workbook expected = new XSSFWorkbook(new ByteArrayInputStream(dom.toByteArray()));
+             Workbook actual = new XSSFWorkbook(new ByteArrayInputStream(direct.toByteArray()))) {
+            Sheet expectedSheet = expected.getSheetAt(0);
+            Sheet actualSheet = actual.getSheetAt(0);
+            assertEquals("Test Sheet", actualSheet.getSheetName());
+            assertEquals(expectedSheet.getLastRowNum(), actualSheet.getLastRowNum());
+            assertTrue(actual.getFontAt(actualSheet.getRow(0).getCell(0).getCellStyle().getFontIndex()).getBold());
+            for (int r = 0; r <= expectedSheet.getLastRowNum(); r++) {
+                for (int c = 0; c < 8; c++) {
+                    Cell expectedCell = expectedSheet.getRow(r).getCell(c);
+                    Cell actualCell = actualSheet.getRow(r).getCell(c);
+                    String position = r + ":" + c;
+                    if (expectedCell == null || expectedCell.getCellType() == CellType.BLANK) {
+                        assertTrue(position, actualCell == null || actualCell.getCellType() == CellType.BLANK);
+                        continue;
+                    }
+                    assertEquals(position, expectedCell.getCellType(), actualCell.getCellType());
+                    assertEquals(position, formatter.formatCellValue(expectedCell), formatter.formatCellValue(actualCell));
+                    assertEquals(position, expectedCell.getCellStyle().getDataFormatString(),
+                            actualCell.getCellStyle().getDataFormatString());
+                    if (expectedCell.getCellType() == CellType.NUMERIC) {
+                        assertEquals(position, expectedCell.getNumericCellValue(), actualCell.getNumericCellValue(), 0);
+                    }
+                }
+            }
+            assertTrue(actualSheet.getColumnWidth(0) > actualSheet.getDefaultColumnWidth() * 256);
+        }
+    }
+
+    @Test
+    public void directExportReplacesOnlyCharactersXmlCannotRepresent() throws Exception {
+        TestWorkbook workbook = workbook(1);
+        workbook.getData().get(0).setStringField("a\u0085b\u0001c\uD83D\uDE00d\uD800e\uFFFF");
+        ByteArrayOutputStream direct = new ByteArrayOutputStream();
+        new BPExportEngine(BPOptions.builder()
+                .withExcelType(ExcelType.XLSX)
+                .withExportMode(ExportMode.DIRECT)
+                .build()).exportExcel(workbook, direct);
+
+        try (Workbook exported = new XSSFWorkbook(new ByteArrayInputStream(direct.toByteArray()))) {
+            assertEquals("a\u0085b?c\uD83D\uDE00d?e?",
+                    exported.getSheetAt(0).getRow(1).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    public void directExportIsDeterministic() {
+        BPExportEngine engine = new BPExportEngine(BPOptions.builder()
+                .withExcelType(ExcelType.XLSX)
+                .withExportMode(ExportMode.DIRECT)
+                .withCompressTempFiles(true)
+                .build());
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        engine.exportExcel(workbook(100), first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        engine.exportExcel(workbook(100), second);
+        assertArrayEquals(first.toByteArray(), second.toByteArray());
+    }
+
+    private static List<Entry> entries(String prefix, int rows) {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Entry entry = new Entry();
+            entry.setCode(prefix + "-" + i);
+            entry.setAmount(i);
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private static Map<String, byte[]> readParts(byte[] xlsx) throws IOException {
+        Map<String, byte[]> parts = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(xlsx))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                for (int read = zip.read(buffer); read > 0; read = zip.read(buffer)) {
+                    content.write(buffer, 0, read);
+                }
+                parts.put(entry.getName(), content.toByteArray());
+            }
+        }
+        return parts;
+    }
+
+    private void assertConcurrentExports(BPExportEngine engine) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<byte[]>> tasks = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                final TestWorkbook workbook = workbook(50 + i);
+                tasks.add(() -> {
+                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                    assertEquals(workbook.getData().size(), engine.exportExcel(workbook, outputStream).getTotalRowCount());
+                    return outputStream.toByteArray();
+                });
+            }
+            List<Future<byte[]>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                try (Workbook exported = new XSSFWorkbook(new ByteArrayInputStream(results.get(i).get()))) {
+                    Sheet sheet = exported.getSheetAt(0);
+                    assertEquals(50 + i, sheet.getLastRowNum());
+                    assertEquals("Row " + (49 + i), sheet.getRow(50 + i).getCell(0).getStringCellValue());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -3,6 +3,8 @@ package io.github.r4tylmz.betterpoi;
 import io.github.r4tylmz.betterpoi.annotation.BPColumn;
 import io.github.r4tylmz.betterpoi.annotation.BPSheet;
 import io.github.r4tylmz.betterpoi.annotation.BPWorkbook;
+import io.github.r4tylmz.betterpoi.enums.ExcelType;
+import io.github.r4tylmz.betterpoi.enums.ExportMode;
 import junit.framework.TestCase;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
@@ -17,8 +19,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class BPExporterTest extends TestCase {
 
@@ -211,6 +217,125 @@ public class BPExporterTest extends TestCase {
         fis.close();
     }
 
+    public void testStreamingExportWritesAllRows() throws Exception {
+        TestWorkbook workbook = new TestWorkbook();
+        List<TestData> dataList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            TestData data = new TestData();
+            data.setStringField("Row " + i);
+            data.setIntField(i);
+            data.setLocalDateField(LocalDate.of(2024, 1, 1).plusDays(i));
+            dataList.add(data);
+        }
+        workbook.setData(dataList);
+
+        BPOptions options = BPOptions.builder()
+                .withExcelType(ExcelType.XLSX)
+                .withExportMode(ExportMode.STREAMING)
+                .withRowAccessWindowSize(10)
+                .withCompressTempFiles(true)
+                .build();
+        bpExporter = new BPExporter(workbook, options);
+        bpExporter.exportExcel(tempFile);
+
+        try (FileInputStream fis = new FileInputStream(tempFile); Workbook wb = new XSSFWorkbook(fis)) {
+            Sheet sheet = wb.getSheetAt(0);
+            assertEquals(1000, sheet.getLastRowNum());
+            assertEquals("String Column", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("Row 999", sheet.getRow(1000).getCell(0).getStringCellValue());
+            assertEquals(999, (int) sheet.getRow(1000).getCell(1).getNumericCellValue());
+            assertEquals(LocalDate.of(2024, 1, 1).plusDays(999),
+                    sheet.getRow(1000).getCell(3).getLocalDateTimeCellValue().toLocalDate());
+            assertTrue("date styles must be shared between rows", wb.getNumCellStyles() < 20);
+            assertEquals(("LocalDateTime Column".length() + 2) * 256, sheet.getColumnWidth(4));
+        }
+    }
+
+    public void testStreamingExportWithInvalidWindowSize() {
+        try {
+            BPOptions.builder().withExcelType(ExcelType.XLSX).withRowAccessWindowSize(0).build();
+            fail("Should throw IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    public void testExportFromStreamClosesStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        SourceWorkbook workbook = new SourceWorkbook();
+        workbook.setData(IntStream.range(0, 5).mapToObj(BPExporterTest::createData).onClose(() -> closed.set(true)));
+
+        new BPExporter(workbook).exportExcel(tempFile);
+
+        assertTrue(closed.get());
+        assertExportedRows(5);
+    }
+
+    public void testExportFromIterator() throws Exception {
+        SourceWorkbook workbook = new SourceWorkbook();
+        workbook.setData(IntStream.range(0, 7).mapToObj(BPExporterTest::createData).iterator());
+
+        new BPExporter(workbook).exportExcel(tempFile);
+
+        assertExportedRows(7);
+    }
+
+    public void testStreamingExportFromPageSupplier() throws Exception {
+        List<Integer> requestedPages = new ArrayList<>();
+        SourceWorkbook workbook = new SourceWorkbook();
+        workbook.setData((BPPageSupplier<TestData>) pageIndex -> {
+            requestedPages.add(pageIndex);
+            if (pageIndex == 3) {
+                return Collections.emptyList();
+            }
+            return IntStream.range(pageIndex * 4, pageIndex * 4 + 4).mapToObj(BPExporterTest::createData)
+                    .collect(Collectors.toList());
+        });
+        BPOptions options = BPOptions.builder()
+                .withExcelType(ExcelType.XLSX)
+                .withExportMode(ExportMode.STREAMING)
+                .build();
+
+        new BPExporter(workbook, options).exportExcel(tempFile);
+
+        assertEquals(Arrays.asList(0, 1, 2, 3), requestedPages);
+        assertExportedRows(12);
+    }
+
+    private static TestData createData(int index) {
+        TestData data = new TestData();
+        data.setStringField("Row " + index);
+        data.setIntField(index);
+        return data;
+    }
+
+    private void assertExportedRows(int expectedRows) throws Exception {
+        try (FileInputStream fis = new FileInputStream(tempFile); Workbook wb = new XSSFWorkbook(fis)) {
+            Sheet sheet = wb.getSheetAt(0);
+            assertEquals(expectedRows, sheet.getLastRowNum());
+            for (int i = 1; i <= expectedRows; i++) {
+                assertEquals("Row " + (i - 1), sheet.getRow(i).getCell(0).getStringCellValue());
+            }
+        }
+    }
+
+    @BPWorkbook
+    public static class SourceWorkbook {
+        @BPSheet(sheetName = "Source Sheet", columns = {
+                @BPColumn(fieldName = "stringField", headerTitle = "String Column"),
+                @BPColumn(fieldName = "intField", headerTitle = "Int Column")
+        }, type = TestData.class)
+        private Object data;
+
+        public Object getData() {
+            return data;
+        }
+
+        public void setData(Object data) {
+            this.data = data;
+        }
+    }
+
     @BPWorkbook
     public static class TestWorkbook {
         @BPSheet(sheetName = "Test Sheet", columns = {
@@ -0,0 +1,454 @@
+package io.github.r4tylmz.betterpoi;
+
+import io.github.r4tylmz.betterpoi.annotation.BPColumn;
+import io.github.r4tylmz.betterpoi.annotation.BPExcelWorkbook;
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.annotation.BPWorkbook;
+import io.github.r4tylmz.betterpoi.enums.ExcelType;
+import io.github.r4tylmz.betterpoi.enums.ImportMode;
+import io.github.r4tylmz.betterpoi.exception.BPConfigurationException;
+import io.github.r4tylmz.betterpoi.exception.BPImportException;
+import io.github.r4tylmz.betterpoi.exception.BPValidationException;
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.test.EmployeeRecord;
+import io.github.r4tylmz.betterpoi.test.EmployeeWorkbook;
+import io.github.r4tylmz.betterpoi.validation.cell.RequiredValidator;
+import io.github.r4tylmz.betterpoi.validation.row.DuplicateRowConstraint;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class BPImportEngineTest {
+    private static final String EMPLOYEE_DATA_XLSX_PATH = "src/test/resources/Fake_Employee_Data.xlsx";
+    private static final String EMPLOYEE_DATA_ERROR_XLSX_PATH = "src/test/resources/Fake_Employee_Data_Error.xlsx";
+
+    private static BPOptions options(ImportMode importMode) {
+        return options(importMode, null);
+    }
+
+    private static BPOptions options(ImportMode importMode, Executor executor) {
+        return BPOptions.builder()
+                .withExcelType(ExcelType.XLSX)
+                .withLocale("tr")
+                .withImportMode(importMode)
+                .withExecutor(executor)
+                .build();
+    }
+
+    private static byte[] monthlyWorkbook(String... sheetNames) throws IOException {
+        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            for (int s = 0; s < sheetNames.length; s++) {
+                Sheet sheet = workbook.createSheet(sheetNames[s]);
+                Row header = sheet.createRow(0);
+                header.createCell(0).setCellValue("Code");
+                header.createCell(1).setCellValue("Amount");
+                for (int i = 1; i <= 200; i++) {
+                    Row row = sheet.createRow(i);
+                    if (i % (50 + s) != 0) {
+                        row.createCell(0).setCellValue(sheetNames[s] + "-" + i);
+                    }
+                    row.createCell(1).setCellValue(i * (s + 1));
+                }
+            }
+            workbook.write(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static byte[] ledgerWorkbook(String amountHeader) throws IOException {
+        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("Ledger");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Code");
+            header.createCell(1).setCellValue(amountHeader);
+            for (int i = 1; i <= 1000; i++) {
+                Row row = sheet.createRow(i);
+                if (i % 97 == 0) {
+                    continue;
+                }
+                if (i % 50 != 0) {
+                    row.createCell(0).setCellValue("C" + i % 400);
+                }
+                row.createCell(1).setCellValue(i % 400);
+            }
+            workbook.write(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    @Test
+    public void importsIntoSeparateResults() {
+        BPImportEngine<EmployeeWorkbook> engine = new BPImportEngine<>(EmployeeWorkbook.class, options(ImportMode.DOM));
+        BPImportResult<EmployeeWorkbook> valid = engine.importExcel(EMPLOYEE_DATA_XLSX_PATH);
+        BPImportResult<EmployeeWorkbook> invalid = engine.importExcel(EMPLOYEE_DATA_ERROR_XLSX_PATH);
+
+        assertEquals(20, valid.getWorkbook().getEmployeeRecordList().size());
+        assertTrue(valid.isValidationSuccessful());
+        assertTrue(valid.getErrorMessages().isEmpty());
+        assertTrue(invalid.hasValidationErrors());
+        assertNotSame(valid.getWorkbook(), invalid.getWorkbook());
+    }
+
+    @Test(expected = BPValidationException.class)
+    public void throwsValidationErrorsOnRequest() {
+        new BPImportEngine<>(EmployeeWorkbook.class, options(ImportMode.DOM))
+                .importExcel(EMPLOYEE_DATA_ERROR_XLSX_PATH)
+                .throwValidationExceptionIfErrors();
+    }
+
+    @Test(expected = BPConfigurationException.class)
+    public void rejectsMissingWorkbookClass() {
+        new BPImportEngine<EmployeeWorkbook>(null, options(ImportMode.DOM));
+    }
+
+    @Test
+    public void sharedEngineServesConcurrentImports() throws Exception {
+        assertConcurrentImports(new BPImportEngine<>(EmployeeWorkbook.class, options(ImportMode.DOM)));
+        assertConcurrentImports(new BPImportEngine<>(EmployeeWorkbook.class, options(ImportMode.STREAMING)));
+    }
+
+    @Test
+    public void parallelSheetsMatchSequentialImport() throws Exception {
+        byte[] file = monthlyWorkbook("January", "February", "March", "April");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (ImportMode importMode : ImportMode.values()) {
+                BPImportResult<MonthlyWorkbook> sequential = new BPImportEngine<>(MonthlyWorkbook.class,
+                        options(importMode)).importExcel(new ByteArrayInputStream(file));
+                BPImportResult<MonthlyWorkbook> parallel = new BPImportEngine<>(MonthlyWorkbook.class,
+                        options(importMode, executor)).importExcel(new ByteArrayInputStream(file));
+
+                assertTrue(sequential.hasValidationErrors());
+                assertEquals(sequential.getErrorMessages(), parallel.getErrorMessages());
+                assertEntriesEqual(sequential.getWorkbook().january, parallel.getWorkbook().january);
+                assertEntriesEqual(sequential.getWorkbook().february, parallel.getWorkbook().february);
+                assertEntriesEqual(sequential.getWorkbook().march, parallel.getWorkbook().march);
+                assertEntriesEqual(sequential.getWorkbook().april, parallel.getWorkbook().april);
+                assertEquals(200, parallel.getWorkbook().april.size());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelImportReportsFirstMissingSheet() throws Exception {
+        byte[] file = monthlyWorkbook("January", "March");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (ImportMode importMode : ImportMode.values()) {
+                try {
+                    new BPImportEngine<>(MonthlyWorkbook.class, options(importMode, executor))
+                            .importExcel(new ByteArrayInputStream(file));
+                    fail("Should throw BPImportException");
+                } catch (BPImportException e) {
+                    assertEquals("February", e.getSheetName());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void rowChunksMatchSequentialImport() throws Exception {
+        byte[] file = ledgerWorkbook("Amount");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BPImportResult<LedgerWorkbook> sequential = new BPImportEngine<>(LedgerWorkbook.class,
+                    options(ImportMode.DOM)).importExcel(new ByteArrayInputStream(file));
+            BPImportResult<LedgerWorkbook> chunked = new BPImportEngine<>(LedgerWorkbook.class,
+                    BPOptions.builder()
+                            .withExcelType(ExcelType.XLSX)
+                            .withLocale("tr")
+                            .withExecutor(executor)
+                            .withRowChunkSize(37)
+                            .build()).importExcel(new ByteArrayInputStream(file));
+
+            assertTrue(sequential.hasValidationErrors());
+            assertEquals(sequential.getErrorMessages(), chunked.getErrorMessages());
+            assertEntriesEqual(sequential.getWorkbook().entries, chunked.getWorkbook().entries);
+            assertEquals(990, chunked.getWorkbook().entries.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void streamingImportAppliesIncrementalConstraints() throws Exception {
+        byte[] file = ledgerWorkbook("Amount");
+        BPImportResult<LedgerWorkbook> dom = new BPImportEngine<>(LedgerWorkbook.class,
+                options(ImportMode.DOM)).importExcel(new ByteArrayInputStream(file));
+        BPImportResult<LedgerWorkbook> streaming = new BPImportEngine<>(LedgerWorkbook.class,
+                options(ImportMode.STREAMING)).importExcel(new ByteArrayInputStream(file));
+
+        assertEquals(dom.getErrorMessages().size(), streaming.getErrorMessages().size());
+        assertEquals(new HashSet<>(dom.getErrorMessages()), new HashSet<>(streaming.getErrorMessages()));
+        String duplicateRowError = new MessageSourceService(options(ImportMode.STREAMING))
+                .getMessage("duplicate.row.error");
+        assertTrue(streaming.getErrorMessages().stream().anyMatch(message -> message.contains(duplicateRowError)));
+        assertEntriesEqual(dom.getWorkbook().entries, streaming.getWorkbook().entries);
+    }
+
+    @Test
+    public void validationErrorsCarryCoordinates() throws Exception {
+        BPImportResult<LedgerWorkbook> result = new BPImportEngine<>(LedgerWorkbook.class,
+                options(ImportMode.DOM)).importExcel(new ByteArrayInputStream(ledgerWorkbook("Amount")));
+        try {
+            result.throwValidationExceptionIfErrors();
+            fail("Should throw BPValidationException");
+        } catch (BPValidationException e) {
+            List<BPValidationException.ValidationError> errors = e.getValidationErrors();
+            assertEquals(result.getViolations().size(), errors.size());
+            BPValidationException.ValidationError required = errors.stream()
+                    .filter(error -> RequiredValidator.class.getName().equals(error.getErrorCode()))
+                    .findFirst().orElseThrow(AssertionError::new);
+            assertEquals("Ledger", required.getSheetName());
+            assertEquals(Integer.valueOf(51), required.getRowNumber());
+            assertEquals(Integer.valueOf(1), required.getColumnNumber());
+            assertEquals("code", required.getFieldName());
+            assertTrue(errors.stream().anyMatch(error -> DuplicateRowConstraint.class.getName().equals(error.getErrorCode())
+                    && Integer.valueOf(402).equals(error.getRowNumber()) && error.getColumnNumber() == null));
+        }
+    }
+
+    @Test
+    public void failFastStopsReadingAtFirstViolation() throws Exception {
+        BPImportResult<LedgerWorkbook> result = new BPImportEngine<>(LedgerWorkbook.class,
+                BPOptions.builder()
+                        .withExcelType(ExcelType.XLSX)
+                        .withLocale("tr")
+                        .withImportMode(ImportMode.STREAMING)
+                        .withFailFast(true)
+                        .build()).importExcel(new ByteArrayInputStream(ledgerWorkbook("Amount")));
+
+        assertTrue(result.isViolationLimitReached());
+        assertEquals(1, result.getViolations().size());
+        assertEquals(RequiredValidator.class.getName(), result.getViolations().get(0).getRule());
+        assertEquals(50, result.getViolations().get(0).getRowIndex());
+        assertEquals(50, result.getWorkbook().entries.size());
+    }
+
+    @Test
+    public void maxViolationsPerSheetAndRuleLimitRecordedViolations() throws Exception {
+        byte[] file = ledgerWorkbook("Amount");
+        BPImportResult<LedgerWorkbook> perSheet = new BPImportEngine<>(LedgerWorkbook.class,
+                BPOptions.builder()
+                        .withExcelType(ExcelType.XLSX)
+                        .withLocale("tr")
+                        .withImportMode(ImportMode.STREAMING)
+                        .withMaxViolationsPerSheet(2)
+                        .build()).importExcel(new ByteArrayInputStream(file));
+        BPImportResult<LedgerWorkbook> perRule = new BPImportEngine<>(LedgerWorkbook.class,
+                BPOptions.builder()
+                        .withExcelType(ExcelType.XLSX)
+                        .withLocale("tr")
+                        .withMaxViolationsPerRule(3)
+                        .build()).importExcel(new ByteArrayInputStream(file));
+
+        assertTrue(perSheet.isViolationLimitReached());
+        assertEquals(2, perSheet.getViolations().size());
+        assertEquals(99, perSheet.getWorkbook().entries.size());
+        assertTrue(perRule.isViolationLimitReached());
+        assertEquals(3, perRule.getViolations().stream()
+                .filter(violation -> DuplicateRowConstraint.class.getName().equals(violation.getRule())).count());
+        assertEquals(3, perRule.getViolations().stream()
+                .filter(violation -> RequiredValidator.class.getName().equals(violation.getRule())).count());
+        assertEquals(990, perRule.getWorkbook().entries.size());
+    }
+
+    @Test
+    public void maxViolationsIgnoresRowChunks() throws Exception {
+        byte[] file = ledgerWorkbook("Amount");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BPImportResult<LedgerWorkbook> sequential = new BPImportEngine<>(LedgerWorkbook.class,
+                    BPOptions.builder()
+                            .withExcelType(ExcelType.XLSX)
+                            .withLocale("tr")
+                            .withMaxViolations(5)
+                            .build()).importExcel(new ByteArrayInputStream(file));
+            BPImportResult<LedgerWorkbook> chunked = new BPImportEngine<>(LedgerWorkbook.class,
+                    BPOptions.builder()
+                            .withExcelType(ExcelType.XLSX)
+                            .withLocale("tr")
+                            .withExecutor(executor)
+                            .withRowChunkSize(37)
+                            .withMaxViolations(5)
+                            .build()).importExcel(new ByteArrayInputStream(file));
+
+            assertTrue(sequential.isViolationLimitReached());
+            assertEquals(5, sequential.getViolations().size());
+            assertEquals(sequential.getErrorMessages(), chunked.getErrorMessages());
+            assertEntriesEqual(sequential.getWorkbook().entries, chunked.getWorkbook().entries);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeMaxViolations() {
+        BPOptions.builder().withExcelType(ExcelType.XLSX).withMaxViolations(-1).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeRowChunkSize() {
+        BPOptions.builder().withExcelType(ExcelType.XLSX).withRowChunkSize(-1).build();
+    }
+
+    private void assertEntriesEqual(List<Entry> expected, List<Entry> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getCode(), actual.get(i).getCode());
+            assertEquals(expected.get(i).getAmount(), actual.get(i).getAmount());
+        }
+    }
+
+    private void assertConcurrentImports(BPImportEngine<EmployeeWorkbook> engine) throws Exception {
+        final byte[] valid = Files.readAllBytes(Paths.get(EMPLOYEE_DATA_XLSX_PATH));
+        final byte[] invalid = Files.readAllBytes(Paths.get(EMPLOYEE_DATA_ERROR_XLSX_PATH));
+        final BPImportResult<EmployeeWorkbook> expectedValid = engine.importExcel(new ByteArrayInputStream(valid));
+        final BPImportResult<EmployeeWorkbook> expectedInvalid = engine.importExcel(new ByteArrayInputStream(invalid));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<BPImportResult<EmployeeWorkbook>>> tasks = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                final byte[] file = i % 2 == 0 ? valid : invalid;
+                tasks.add(() -> engine.importExcel(new ByteArrayInputStream(file)));
+            }
+            List<Future<BPImportResult<EmployeeWorkbook>>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                BPImportResult<EmployeeWorkbook> expected = i % 2 == 0 ? expectedValid : expectedInvalid;
+                BPImportResult<EmployeeWorkbook> actual = results.get(i).get();
+                assertEquals(expected.getErrorMessages(), actual.getErrorMessages());
+                assertRecordsEqual(expected.getWorkbook().getEmployeeRecordList(),
+                        actual.getWorkbook().getEmployeeRecordList());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void assertRecordsEqual(List<EmployeeRecord> expected, List<EmployeeRecord> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getEmployeeId(), actual.get(i).getEmployeeId());
+            assertEquals(expected.get(i).getEmployeeName(), actual.get(i).getEmployeeName());
+            assertEquals(expected.get(i).getSalary(), actual.get(i).getSalary());
+            assertEquals(expected.get(i).getHireDate(), actual.get(i).getHireDate());
+        }
+    }
+
+    @BPWorkbook
+    public static class MonthlyWorkbook implements BPExcelWorkbook {
+        @BPSheet(sheetName = "January", type = Entry.class, columns = {
+                @BPColumn(fieldName = "code", headerTitle = "Code", required = true),
+                @BPColumn(fieldName = "amount", headerTitle = "Amount")
+        })
+        private List<Entry> january;
+        @BPSheet(sheetName = "February", type = Entry.class, columns = {
+                @BPColumn(fieldName = "code", headerTitle = "Code", required = true),
+                @BPColumn(fieldName = "amount", headerTitle = "Amount")
+        })
+        private List<Entry> february;
+        @BPSheet(sheetName = "March", type = Entry.class, columns = {
+                @BPColumn(fieldName = "code", headerTitle = "Code", required = true),
+                @BPColumn(fieldName = "amount", headerTitle = "Amount")
+        })
+        private List<Entry> march;
+        @BPSheet(sheetName = "April", type = Entry.class, columns = {
+                @BPColumn(fieldName = "code", headerTitle = "Code", required = true),
+                @BPColumn(fieldName = "amount", headerTitle = "Amount")
+        })
+        private List<Entry> april;
+
+        public List<Entry> getJanuary() {
+            return january;
+        }
+
+        public void setJanuary(List<Entry> january) {
+            this.january = january;
+        }
+
+        public List<Entry> getFebruary() {
+            return february;
+        }
+
+        public void setFebruary(List<Entry> february) {
+            this.february = february;
+        }
+
+        public List<Entry> getMarch() {
+            return march;
+        }
+
+        public void setMarch(List<Entry> march) {
+            this.march = march;
+        }
+
+        public List<Entry> getApril() {
+            return april;
+        }
+
+        public void setApril(List<Entry> april) {
+            this.april = april;
+        }
+    }
+
+    public static class Entry {
+        private String code;
+        private Integer amount;
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public Integer getAmount() {
+            return amount;
+        }
+
+        public void setAmount(Integer amount) {
+            this.amount = amount;
+        }
+    }
+
+    @BPWorkbook
+    public static class LedgerWorkbook implements BPExcelWorkbook {
+        @BPSheet(sheetName = "Ledger", type = Entry.class, rowValidators = DuplicateRowConstraint.class, columns = {
+                @BPColumn(fieldName = "code", headerTitle = "Code", required = true),
+                @BPColumn(fieldName = "amount", headerTitle = "Amount")
+        })
+        private List<Entry> entries;
+
+        public List<Entry> getEntries() {
+            return entries;
+        }
+
+        public void setEntries(List<Entry> entries) {
+            this.entries = entries;
+        }
+    }
+}
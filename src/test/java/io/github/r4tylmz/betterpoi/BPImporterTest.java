@@ -1,11 +1,15 @@
 package io.github.r4tylmz.betterpoi;
 
 import io.github.r4tylmz.betterpoi.enums.ExcelType;
+import io.github.r4tylmz.betterpoi.enums.ImportMode;
 import io.github.r4tylmz.betterpoi.exception.BPConfigurationException;
 import io.github.r4tylmz.betterpoi.exception.BPImportException;
 import io.github.r4tylmz.betterpoi.exception.BPValidationException;
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
 import io.github.r4tylmz.betterpoi.test.ConvertWorkbook;
+import io.github.r4tylmz.betterpoi.test.EmployeeRecord;
 import io.github.r4tylmz.betterpoi.test.EmployeeWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -18,6 +22,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
@@ -312,4 +318,142 @@ public class BPImporterTest {
         assertEquals(expectedDate.getDayOfMonth(), actualLocalDate.getDayOfMonth());
     }
     
-}
\ No newline at end of file
+
+    private BPImporter<EmployeeWorkbook> createStreamingImporter() {
+        BPOptions options = BPOptions
+                .builder()
+                .withExcelType(ExcelType.XLSX)
+                .withBundleName("bp_messages")
+                .withLocale("tr")
+                .withImportMode(ImportMode.STREAMING)
+                .build();
+        return new BPImporter<>(EmployeeWorkbook.class, options);
+    }
+
+    @Test
+    public void testStreamingImportMatchesInMemoryImport() {
+        EmployeeWorkbook expected = bpImporter.importExcel(EMPLOYEE_DATA_XLSX_PATH);
+        BPImporter<EmployeeWorkbook> streamingImporter = createStreamingImporter();
+        EmployeeWorkbook actual = streamingImporter.importExcel(EMPLOYEE_DATA_XLSX_PATH);
+
+        assertEquals(20, actual.getEmployeeRecordList().size());
+        for (int i = 0; i < expected.getEmployeeRecordList().size(); i++) {
+            EmployeeRecord expectedRecord = expected.getEmployeeRecordList().get(i);
+            EmployeeRecord actualRecord = actual.getEmployeeRecordList().get(i);
+            assertEquals(expectedRecord.getEmployeeId(), actualRecord.getEmployeeId());
+            assertEquals(expectedRecord.getEmployeeName(), actualRecord.getEmployeeName());
+            assertEquals(expectedRecord.getSalary(), actualRecord.getSalary());
+            assertEquals(expectedRecord.getDepartment(), actualRecord.getDepartment());
+            assertEquals(expectedRecord.getYearsOfService(), actualRecord.getYearsOfService());
+            assertEquals(expectedRecord.getHireDate(), actualRecord.getHireDate());
+        }
+        assertTrue(streamingImporter.isValidationSuccessful());
+    }
+
+    @Test
+    public void testStreamingImportWithError() throws IOException {
+        BPImporter<EmployeeWorkbook> streamingImporter = createStreamingImporter();
+        try (InputStream inputStream = getInputStream(FAKE_EMPLOYEE_DATA_ERROR_XLSX)) {
+            EmployeeWorkbook employeeWorkbook = streamingImporter.importExcel(inputStream);
+            assertNotNull(employeeWorkbook);
+            assertTrue(streamingImporter.hasValidationErrors());
+            assertFalse(streamingImporter.getErrorMessageList().isEmpty());
+        }
+    }
+
+    @Test
+    public void testStreamingImportWithConvertRecord() {
+        BPOptions bpOptions = BPOptions.builder()
+                .withExcelType(ExcelType.XLSX)
+                .withImportMode(ImportMode.STREAMING)
+                .build();
+        BPImporter<ConvertWorkbook> convertImporter = new BPImporter<>(ConvertWorkbook.class, bpOptions);
+        ConvertWorkbook convertWorkbook = convertImporter.importExcel(new File(CONVERT_DATA_XLSX_PATH));
+
+        assertEquals(2, convertWorkbook.getConvertRecords().size());
+        assertNull(convertWorkbook.getConvertRecords().get(0).getBd());
+        assertEquals("Deneme", convertWorkbook.getConvertRecords().get(0).getStr());
+        assertEquals(new BigDecimal("123.45"), convertWorkbook.getConvertRecords().get(1).getBd());
+        assertEquals(123.45, convertWorkbook.getConvertRecords().get(1).getD(), 0.001);
+        assertNotNull(convertWorkbook.getConvertRecords().get(1).getDate());
+    }
+
+    @Test
+    public void testStreamingImportWithMissingSheet() {
+        BPOptions bpOptions = BPOptions.builder()
+                .withExcelType(ExcelType.XLSX)
+                .withImportMode(ImportMode.STREAMING)
+                .build();
+        BPImporter<ConvertWorkbook> convertImporter = new BPImporter<>(ConvertWorkbook.class, bpOptions);
+        try {
+            convertImporter.importExcel(EMPLOYEE_DATA_XLSX_PATH);
+            fail("Expected BPImportException");
+        } catch (BPImportException e) {
+            assertTrue(e.getMessage().startsWith("Sheet not found"));
+        }
+    }
+
+    @Test
+    public void testImportWithRowConsumer() throws IOException {
+        List<Object> records = new ArrayList<>();
+        try (InputStream inputStream = getInputStream(RESOURCE_FAKE_EMPLOYEE_DATA_XLSX)) {
+            bpImporter.importExcel(inputStream, (bpSheet, bean) -> {
+                assertEquals(EmployeeRecord.class, bpSheet.type());
+                records.add(bean);
+            });
+        }
+        assertEquals(20, records.size());
+        assertTrue(bpImporter.isValidationSuccessful());
+    }
+
+    @Test
+    public void testStreamingImportWithRowConsumerKeepsRowOrder() throws IOException {
+        EmployeeWorkbook expected = bpImporter.importExcel(EMPLOYEE_DATA_XLSX_PATH);
+        List<Object> records = new ArrayList<>();
+        try (InputStream inputStream = getInputStream(RESOURCE_FAKE_EMPLOYEE_DATA_XLSX)) {
+            createStreamingImporter().importExcel(inputStream, (bpSheet, bean) -> records.add(bean));
+        }
+        assertEquals(expected.getEmployeeRecordList().size(), records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(expected.getEmployeeRecordList().get(i).getEmployeeId(),
+                    ((EmployeeRecord) records.get(i)).getEmployeeId());
+        }
+    }
+
+    @Test
+    public void testStreamingImportWithBatchConsumer() throws IOException {
+        List<Integer> batchSizes = new ArrayList<>();
+        try (InputStream inputStream = getInputStream(RESOURCE_FAKE_EMPLOYEE_DATA_XLSX)) {
+            createStreamingImporter().importExcel(inputStream, 8, (bpSheet, batch) -> batchSizes.add(batch.size()));
+        }
+        assertEquals(Arrays.asList(8, 8, 4), batchSizes);
+    }
+
+    @Test(expected = BPImportException.class)
+    public void testImportWithInvalidBatchSize() throws IOException {
+        try (InputStream inputStream = getInputStream(RESOURCE_FAKE_EMPLOYEE_DATA_XLSX)) {
+            bpImporter.importExcel(inputStream, 0, (bpSheet, batch) -> fail("No batch expected"));
+        }
+    }
+
+    @Test
+    public void testImportReportsSameViolationsAsStandaloneValidation() throws IOException {
+        BPOptions options = BPOptions.builder()
+                .withExcelType(ExcelType.XLSX)
+                .withBundleName("bp_messages")
+                .withLocale("tr")
+                .build();
+        List<String> expected;
+        try (InputStream inputStream = getInputStream(FAKE_EMPLOYEE_DATA_ERROR_XLSX);
+             XSSFWorkbook workbook = new XSSFWorkbook(inputStream)) {
+            BPValidator validator = new BPValidator(new EmployeeWorkbook(), new MessageSourceService(options));
+            validator.validate(workbook, new MessageSourceService(options));
+            expected = new ArrayList<>(validator.getErrorMessages());
+        }
+        try (InputStream inputStream = getInputStream(FAKE_EMPLOYEE_DATA_ERROR_XLSX)) {
+            bpImporter.importExcel(inputStream);
+        }
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, bpImporter.getErrorMessageList());
+    }
+}
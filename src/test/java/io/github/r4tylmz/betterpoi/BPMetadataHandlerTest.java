@@ -234,6 +234,18 @@ public class BPMetadataHandlerTest extends TestCase {
         }
     }
 
+    public void testGetValueIteratorWithInvalidType() {
+        BPMetadataHandler handler = new BPMetadataHandler(InvalidTypeWorkbook.class);
+        InvalidTypeWorkbook workbook = new InvalidTypeWorkbook();
+
+        try {
+            handler.getValueIterator(workbook, handler.getSheets().get(0));
+            fail("Should throw IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().endsWith("got " + String.class.getCanonicalName()));
+        }
+    }
+
     // Invalid Field Test
     public void testInvalidFieldPattern() {
         when(mockColumn.fieldName()).thenReturn("nonexistentField");
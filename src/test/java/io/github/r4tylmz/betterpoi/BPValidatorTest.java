@@ -18,6 +18,8 @@ import java.io.InputStream;
 import java.util.List;
 import java.util.Set;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class BPValidatorTest {
@@ -52,6 +54,49 @@ public class BPValidatorTest {
         }
     }
 
+    @Test
+    public void testValidateSheetDoesNotGrowStyleCount() throws IOException {
+        BPOptions options = BPOptions.builder().withExcelType(ExcelType.XLSX).build();
+        BPValidator validator = new BPValidator(new TestValidationWorkbook(), new MessageSourceService(options));
+        BPSheet bpSheet = new BPMetadataHandler(TestValidationWorkbook.class).getSheets().get(0);
+
+        assertEquals(getStyleCountAfterValidation(validator, bpSheet, 10),
+                getStyleCountAfterValidation(validator, bpSheet, 2000));
+    }
+
+    @Test
+    public void missingCellsAreValidatedWithoutChangingTheRow() throws IOException {
+        BPOptions options = BPOptions.builder().withExcelType(ExcelType.XLSX).build();
+        BPValidator validator = new BPValidator(new BPImportEngineTest.LedgerWorkbook(),
+                new MessageSourceService(options));
+        BPSheet bpSheet = new BPMetadataHandler(BPImportEngineTest.LedgerWorkbook.class).getSheets().get(0);
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("Ledger");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Code");
+            header.createCell(1).setCellValue("Amount");
+            Row row = sheet.createRow(1);
+            row.createCell(1).setCellValue(10);
+
+            assertEquals(1, validator.validateSheet(sheet, bpSheet).size());
+            assertNull(row.getCell(0));
+            assertEquals(1, row.getPhysicalNumberOfCells());
+        }
+    }
+
+    private int getStyleCountAfterValidation(BPValidator validator, BPSheet bpSheet, int rowCount) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("Visible Sheet");
+            sheet.createRow(0).createCell(0).setCellValue("Name");
+            for (int i = 1; i <= rowCount; i++) {
+                sheet.createRow(i).createCell(0).setCellValue("Name " + i);
+            }
+            List<String> violations = validator.validateSheet(sheet, bpSheet);
+            assertTrue(violations.isEmpty());
+            return workbook.getNumCellStyles();
+        }
+    }
+
     @BPWorkbook
     public static class TestValidationWorkbook implements BPExcelWorkbook {
 
@@ -0,0 +1,154 @@
+package io.github.r4tylmz.betterpoi.accessor;
+
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class BeanAccessorTest {
+
+    @Test
+    public void ofReturnsSameInstanceForClass() {
+        assertSame(BeanAccessor.of(Person.class), BeanAccessor.of(Person.class));
+        assertSame(BeanAccessor.of(Person.class).getProperty("name"),
+                BeanAccessor.of(Person.class).getProperty("name"));
+    }
+
+    @Test
+    public void getAndSetObjectProperty() throws Exception {
+        Person person = new Person();
+        PropertyAccessor name = BeanAccessor.of(Person.class).getProperty("name");
+        name.set(person, "Alice");
+
+        assertEquals("Alice", person.getName());
+        assertEquals("Alice", name.get(person));
+        assertEquals(String.class, name.getType());
+    }
+
+    @Test
+    public void getAndSetPrimitiveProperty() throws Exception {
+        Person person = new Person();
+        BeanAccessor beanAccessor = BeanAccessor.of(Person.class);
+        beanAccessor.set(person, "age", 42);
+        assertEquals(42, person.getAge());
+
+        beanAccessor.getProperty("age").setInt(person, 43);
+        beanAccessor.getProperty("salary").setDouble(person, 1.5);
+        beanAccessor.getProperty("id").setLong(person, 7L);
+        assertEquals(43, beanAccessor.get(person, "age"));
+        assertEquals(1.5, (Double) beanAccessor.get(person, "salary"), 0.0);
+        assertEquals(7L, beanAccessor.get(person, "id"));
+        assertEquals(Boolean.TRUE, beanAccessor.get(person, "active"));
+    }
+
+    @Test
+    public void primitiveSetterBoxesForObjectProperty() throws Exception {
+        Person person = new Person();
+        BeanAccessor.of(Person.class).getProperty("score").setInt(person, 5);
+        assertEquals(Integer.valueOf(5), person.getScore());
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void setReadOnlyPropertyFails() throws Exception {
+        BeanAccessor.of(Person.class).set(new Person(), "active", false);
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void unknownPropertyFails() throws Exception {
+        BeanAccessor.of(Person.class).get(new Person(), "unknown");
+    }
+
+    @Test
+    public void setterExceptionIsWrapped() {
+        try {
+            BeanAccessor.of(Person.class).set(new Person(), "name", "");
+            fail("Expected InvocationTargetException");
+        } catch (ReflectiveOperationException e) {
+            assertTrue(e instanceof InvocationTargetException);
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    @Test
+    public void mapBeanDelegatesToPropertyUtils() throws Exception {
+        Map<String, Object> map = new HashMap<>();
+        BeanAccessor.of(HashMap.class).set(map, "empty", "value");
+        assertEquals("value", map.get("empty"));
+        assertEquals("value", BeanAccessor.of(HashMap.class).get(map, "empty"));
+    }
+
+    @Test
+    public void nestedPropertyDelegatesToPropertyUtils() throws Exception {
+        Person person = new Person();
+        person.setManager(new Person());
+        BeanAccessor.of(Person.class).set(person, "manager.name", "Bob");
+        assertEquals("Bob", person.getManager().getName());
+    }
+
+    public static class Person {
+        private String name;
+        private int age;
+        private long id;
+        private double salary;
+        private Integer score;
+        private Person manager;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("name cannot be empty");
+            }
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public double getSalary() {
+            return salary;
+        }
+
+        public void setSalary(double salary) {
+            this.salary = salary;
+        }
+
+        public Integer getScore() {
+            return score;
+        }
+
+        public void setScore(Integer score) {
+            this.score = score;
+        }
+
+        public boolean isActive() {
+            return true;
+        }
+
+        public Person getManager() {
+            return manager;
+        }
+
+        public void setManager(Person manager) {
+            this.manager = manager;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package io.github.r4tylmz.betterpoi.decoder;
+
+import io.github.r4tylmz.betterpoi.accessor.BeanAccessor;
+import io.github.r4tylmz.betterpoi.utils.DateParser;
+import io.github.r4tylmz.betterpoi.utils.NumberParser;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class CellDecodersTest {
+    private Workbook workbook;
+    private Row row;
+    private int column;
+
+    private static CellDecoder decoder(Class<?> type) {
+        return CellDecoders.forType(type, DateParser.forPattern(null, Locale.US), NumberParser.forLocale(Locale.US));
+    }
+
+    @Before
+    public void setUp() {
+        workbook = new XSSFWorkbook();
+        row = workbook.createSheet().createRow(0);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        workbook.close();
+    }
+
+    private Cell cell() {
+        return row.createCell(column++);
+    }
+
+    private Cell cell(double value) {
+        final Cell cell = cell();
+        cell.setCellValue(value);
+        return cell;
+    }
+
+    private Cell cell(String value) {
+        final Cell cell = cell();
+        cell.setCellValue(value);
+        return cell;
+    }
+
+    private Cell cell(boolean value) {
+        final Cell cell = cell();
+        cell.setCellValue(value);
+        return cell;
+    }
+
+    private Cell dateCell(LocalDateTime value) {
+        final CellStyle style = workbook.createCellStyle();
+        style.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm"));
+        final Cell cell = cell();
+        cell.setCellValue(value);
+        cell.setCellStyle(style);
+        return cell;
+    }
+
+    @Test
+    public void decodesNumbersAndPrimitives() {
+        assertEquals(42, decoder(int.class).decode(cell(42.7)));
+        assertEquals(42L, decoder(Long.class).decode(cell("42")));
+        assertEquals(1.5, decoder(double.class).decode(cell("1,500e-3")));
+        assertEquals((short) 7, decoder(short.class).decode(cell(7)));
+        assertNull(decoder(byte.class).decode(cell("300")));
+        assertEquals(BigInteger.TEN, decoder(BigInteger.class).decode(cell("10.9")));
+        assertEquals(new BigDecimal("0.10"), decoder(BigDecimal.class).decode(cell("0.10")));
+        assertEquals(1, decoder(Integer.class).decode(cell(true)));
+        assertNull(decoder(Integer.class).decode(cell("abc")));
+    }
+
+    @Test
+    public void decodesBooleans() {
+        assertEquals(true, decoder(boolean.class).decode(cell(true)));
+        assertEquals(true, decoder(Boolean.class).decode(cell("TRUE")));
+        assertEquals(true, decoder(boolean.class).decode(cell(1)));
+        assertEquals(false, decoder(boolean.class).decode(cell(0)));
+    }
+
+    @Test
+    public void decodesEnumsByNameOrStringForm() {
+        assertEquals(Level.HIGH, decoder(Level.class).decode(cell("HIGH")));
+        assertEquals(Level.HIGH, decoder(Level.class).decode(cell("High priority")));
+        assertEquals(Level.LOW, decoder(Level.class).decode(cell(" LOW ")));
+        assertNull(decoder(Level.class).decode(cell("MEDIUM")));
+        assertNull(decoder(Level.class).decode(cell(1)));
+    }
+
+    @Test
+    public void decodesDatesFromNumbersAndText() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 15, 10, 30);
+        assertEquals(dateTime.toLocalDate(), decoder(LocalDate.class).decode(dateCell(dateTime)));
+        assertEquals(dateTime, decoder(LocalDateTime.class).decode(dateCell(dateTime)));
+        assertEquals(LocalTime.of(10, 30), decoder(LocalTime.class).decode(dateCell(dateTime)));
+        assertEquals(dateTime.atZone(ZoneId.systemDefault()).toInstant(), decoder(Instant.class).decode(dateCell(dateTime)));
+        assertEquals(LocalTime.of(14, 30), decoder(LocalTime.class).decode(cell("2:30 PM")));
+        assertEquals(LocalDate.of(2024, 3, 15), decoder(LocalDate.class).decode(cell("15.03.2024")));
+        assertNull(decoder(Instant.class).decode(cell("not a date")));
+    }
+
+    @Test
+    public void unparseableDatesHaveNoValue() {
+        assertNull(decoder(java.util.Date.class).decode(cell("not a date")));
+        assertNull(decoder(java.sql.Date.class).decode(cell("not a date")));
+        assertNull(decoder(LocalDate.class).decode(cell("31.02.2024")));
+        assertNull(decoder(LocalDateTime.class).decode(cell("not a date")));
+    }
+
+    @Test
+    public void decodesStrings() {
+        assertEquals("text", decoder(String.class).decode(cell("text")));
+        assertEquals("", decoder(String.class).decode(cell()));
+        assertEquals("TRUE", decoder(String.class).decode(cell(true)));
+    }
+
+    @Test
+    public void blankCellsHaveNoValue() {
+        assertNull(decoder(int.class).decode(cell()));
+        assertNull(decoder(LocalDate.class).decode(cell()));
+        assertNull(decoder(Level.class).decode(null));
+    }
+
+    @Test
+    public void otherTypesAreConverted() {
+        assertEquals('a', decoder(Character.class).decode(cell("abc")));
+    }
+
+    @Test
+    public void decodeIntoBindsPrimitivesAndSkipsMissingValues() throws Exception {
+        Bean bean = new Bean();
+        bean.setCount(5);
+        BeanAccessor accessor = BeanAccessor.of(Bean.class);
+        decoder(int.class).decodeInto(cell(), bean, accessor.getProperty("count"));
+        assertEquals(5, bean.getCount());
+        decoder(int.class).decodeInto(cell(12), bean, accessor.getProperty("count"));
+        assertEquals(12, bean.getCount());
+        decoder(int.class).decodeInto(cell("13"), bean, accessor.getProperty("count"));
+        assertEquals(13, bean.getCount());
+        decoder(Level.class).decodeInto(cell("LOW"), bean, accessor.getProperty("level"));
+        assertEquals(Level.LOW, bean.getLevel());
+    }
+
+    public enum Level {
+        LOW, HIGH;
+
+        @Override
+        public String toString() {
+            return this == HIGH ? "High priority" : super.toString();
+        }
+    }
+
+    public static class Bean {
+        private int count;
+        private Level level;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public Level getLevel() {
+            return level;
+        }
+
+        public void setLevel(Level level) {
+            this.level = level;
+        }
+    }
+}
@@ -6,7 +6,13 @@ import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class MessageSourceServiceTest {
 
@@ -184,4 +190,51 @@ public class MessageSourceServiceTest {
         assertEquals(new Locale("tr"), service.getLocale());
         assertEquals(1, service.getBundleCount()); // Only library bundle
     }
+
+    @Test
+    public void testUserPatternOverridesLibraryPattern() {
+        MessageSourceService service = new MessageSourceService(Locale.ENGLISH, "test");
+
+        assertEquals("Field Name is mandatory and cannot be empty",
+                service.getMessage("required.validation.error", "Name"));
+        assertEquals("Duplicate entry detected in the data", service.getMessage("duplicate.row.error"));
+        assertTrue(service.hasMessage("custom.business.rule"));
+        assertTrue(service.hasMessage("sheet.not.found.error"));
+    }
+
+    @Test
+    public void testKeysWithoutPatternAreFormattedAsBefore() {
+        MessageSourceService service = new MessageSourceService(Locale.ENGLISH);
+
+        assertEquals("Employee Name", service.getMessage("Employee Name"));
+        assertEquals(MessageFormat.format("Employee's {0}", "Id"), service.getMessage("Employee's {0}", "Id"));
+    }
+
+    @Test
+    public void testCachedPatternsAreSafeToShare() throws Exception {
+        MessageSourceService service = new MessageSourceService(Locale.ENGLISH);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        String value = thread + "-" + i;
+                        String expected = "Cell value [" + value + "] is not valid. "
+                                + "Cell value must match with the pattern: p";
+                        if (!expected.equals(service.getMessage("pattern.validation.error", value, "p"))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package io.github.r4tylmz.betterpoi.metadata;
+
+import io.github.r4tylmz.betterpoi.annotation.BPColumn;
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.annotation.BPWorkbook;
+import io.github.r4tylmz.betterpoi.exception.BPConfigurationException;
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.test.EmployeeRecord;
+import io.github.r4tylmz.betterpoi.test.EmployeeWorkbook;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class WorkbookMetadataTest {
+
+    @Test
+    public void metadataIsSharedPerClass() {
+        assertSame(WorkbookMetadata.of(EmployeeWorkbook.class), WorkbookMetadata.of(EmployeeWorkbook.class));
+    }
+
+    @Test
+    public void metadataIsSharedAcrossThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Callable<WorkbookMetadata> task = () -> WorkbookMetadata.of(LocalizedWorkbook.class);
+            List<Future<WorkbookMetadata>> results = executor.invokeAll(Arrays.asList(task, task, task, task));
+            for (Future<WorkbookMetadata> result : results) {
+                assertSame(WorkbookMetadata.of(LocalizedWorkbook.class), result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void resolvesSheetsAndColumns() throws Exception {
+        WorkbookMetadata metadata = WorkbookMetadata.of(EmployeeWorkbook.class);
+        assertEquals(1, metadata.getSheets().size());
+        SheetMetadata sheet = metadata.getSheets().get(0);
+        assertSame(sheet, metadata.getSheet(sheet.getBpSheet()));
+        assertEquals(EmployeeWorkbook.class.getDeclaredField("employeeRecordList"), sheet.getField());
+        assertEquals(EmployeeRecord.class, sheet.getBeanClass());
+        assertEquals(6, sheet.getColumns().size());
+        ColumnMetadata column = sheet.getColumns().get(2);
+        assertEquals(2, column.getIndex());
+        assertEquals("salary", column.getFieldName());
+        assertEquals(EmployeeRecord.class.getDeclaredField("salary"), column.getField());
+        assertEquals("salary", column.getAccessor().getName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsClassesWithoutWorkbookAnnotation() {
+        WorkbookMetadata.of(EmployeeRecord.class);
+    }
+
+    @Test
+    public void headerTitlesAreLocalizedPerMessageSource() {
+        ColumnMetadata column = WorkbookMetadata.of(LocalizedWorkbook.class).getSheets().get(0).getColumns().get(0);
+        assertEquals("Name", column.getHeaderTitle(new MessageSourceService(Locale.ENGLISH, "test")));
+        assertEquals("İsim", column.getHeaderTitle(new MessageSourceService(new Locale("tr"), "test")));
+        assertEquals("header.name", column.getHeaderTitle(null));
+        assertEquals("Name", column.getHeaderTitle(new MessageSourceService(Locale.ENGLISH, "test")));
+    }
+
+    @Test
+    public void decodersAreCachedPerLocale() {
+        ColumnMetadata column = WorkbookMetadata.of(LocalizedWorkbook.class).getSheets().get(0).getColumns().get(1);
+        assertSame(column.getDecoder(Locale.US), column.getDecoder(Locale.US));
+        assertNotSame(column.getDecoder(Locale.US), column.getDecoder(Locale.FRANCE));
+    }
+
+    @Test(expected = BPConfigurationException.class)
+    public void columnsWithoutDeclaredFieldHaveNoDecoder() {
+        ColumnMetadata column = WorkbookMetadata.of(LocalizedWorkbook.class).getSheets().get(0).getColumns().get(2);
+        assertNull(column.getField());
+        column.getDecoder(Locale.US);
+    }
+
+    @BPWorkbook
+    public static class LocalizedWorkbook {
+        @BPSheet(sheetName = "People", type = Person.class, columns = {
+                @BPColumn(fieldName = "name", headerTitle = "header.name"),
+                @BPColumn(fieldName = "age"),
+                @BPColumn(fieldName = "address.city")
+        })
+        private List<Person> people;
+    }
+
+    public static class Person {
+        private String name;
+        private Integer age;
+    }
+}
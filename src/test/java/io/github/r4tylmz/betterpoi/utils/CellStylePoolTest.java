@@ -0,0 +1,60 @@
+package io.github.r4tylmz.betterpoi.utils;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class CellStylePoolTest {
+
+    @Test
+    public void equalAttributesShareOneStyle() throws IOException {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            CellStylePool pool = new CellStylePool(workbook);
+            int initialStyles = workbook.getNumCellStyles();
+            CellStyle first = pool.getStyle(CellStylePool.Key.DEFAULT.withBold(true).withDataFormat("yyyy-MM-dd"));
+            for (int i = 0; i < 1000; i++) {
+                assertSame(first, pool.getStyle(CellStylePool.Key.DEFAULT.withDataFormat("yyyy-MM-dd").withBold(true)));
+            }
+            assertEquals(1, pool.size());
+            assertEquals(initialStyles + 1, workbook.getNumCellStyles());
+            assertEquals("yyyy-MM-dd", first.getDataFormatString());
+            assertTrue(workbook.getFontAt(first.getFontIndex()).getBold());
+        }
+    }
+
+    @Test
+    public void differentAttributesCreateDifferentStyles() throws IOException {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            CellStylePool pool = new CellStylePool(workbook);
+            CellStyle plain = pool.getStyle(CellStylePool.Key.DEFAULT);
+            CellStyle centered = pool.getStyle(CellStylePool.Key.DEFAULT.withAlignment(HorizontalAlignment.CENTER));
+            CellStyle filled = pool.getStyle(CellStylePool.Key.DEFAULT.withFillColor(IndexedColors.RED));
+
+            assertNotSame(plain, centered);
+            assertNotSame(centered, filled);
+            assertEquals(3, pool.size());
+            assertEquals(HorizontalAlignment.CENTER, centered.getAlignment());
+            assertEquals(IndexedColors.RED.getIndex(), filled.getFillForegroundColor());
+        }
+    }
+
+    @Test
+    public void fontsAreSharedByStylesWithTheSameFont() throws IOException {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            CellStylePool pool = new CellStylePool(workbook);
+            CellStyle bold = pool.getStyle(CellStylePool.Key.DEFAULT.withBold(true));
+            CellStyle boldDate = pool.getStyle(CellStylePool.Key.DEFAULT.withBold(true).withDataFormat("dd.MM.yyyy"));
+            pool.getStyle(CellStylePool.Key.DEFAULT.withFontColor(IndexedColors.WHITE));
+
+            assertEquals(bold.getFontIndex(), boldDate.getFontIndex());
+            assertEquals(2, pool.getFontCount());
+        }
+    }
+}
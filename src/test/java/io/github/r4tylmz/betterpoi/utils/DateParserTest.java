@@ -0,0 +1,119 @@
+package io.github.r4tylmz.betterpoi.utils;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class DateParserTest {
+
+    @Test
+    public void parsesDefaultPatterns() {
+        DateParser parser = DateParser.forPattern(null, Locale.US);
+        assertEquals(LocalDate.of(2024, 3, 15), parser.parse("15.03.2024", LocalDate.class));
+        assertEquals(LocalDate.of(2024, 3, 15), parser.parse("2024-03-15", LocalDate.class));
+        assertEquals(LocalDate.of(2024, 3, 15), parser.parse("03/15/2024", LocalDate.class));
+        assertEquals(LocalDate.of(2024, 3, 15), parser.parse("15-03-2024", LocalDate.class));
+        assertEquals(LocalDateTime.of(1970, 1, 1, 14, 30), parser.parse("2:30 PM", LocalDateTime.class));
+    }
+
+    @Test
+    public void parsesOneDigitDayAndMonth() {
+        DateParser parser = DateParser.forPattern(null, Locale.US);
+        assertEquals(LocalDate.of(2024, 2, 1), parser.parse("1.2.2024", LocalDate.class));
+        assertEquals(LocalDate.of(2024, 5, 3), parser.parse("5/3/2024", LocalDate.class));
+        assertEquals(LocalDate.of(2024, 1, 5), parser.parse("2024-1-5", LocalDate.class));
+        assertEquals(LocalDateTime.of(2024, 1, 5, 0, 0), parser.parse("5-1-2024", LocalDateTime.class));
+    }
+
+    @Test
+    public void keepsFixedWidthForAbuttingFields() {
+        DateParser parser = DateParser.forPattern("yyyyMMdd", Locale.US);
+        assertEquals(LocalDate.of(2024, 3, 15), parser.parse("20240315", LocalDate.class));
+    }
+
+    @Test
+    public void convertsToEveryDateType() {
+        DateParser parser = DateParser.forPattern(null, Locale.US);
+        Date expected = Date.from(LocalDate.of(2024, 3, 15).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        assertEquals(expected, parser.parse("2024-03-15", Date.class));
+        assertEquals(new java.sql.Date(expected.getTime()), parser.parse("2024-03-15", java.sql.Date.class));
+        assertEquals(LocalDateTime.of(2024, 3, 15, 0, 0), parser.parse("2024-03-15", LocalDateTime.class));
+    }
+
+    @Test
+    public void convertsOffsetToSystemZone() {
+        DateParser parser = DateParser.forPattern(null, Locale.US);
+        Date parsed = (Date) parser.parse("2024-03-15T10:15:30.000+02:00", Date.class);
+        assertEquals(java.time.OffsetDateTime.parse("2024-03-15T10:15:30+02:00").toInstant(), parsed.toInstant());
+    }
+
+    @Test
+    public void rejectsInvalidValues() {
+        DateParser parser = DateParser.forPattern(null, Locale.US);
+        assertNull(parser.parse("31.02.2024", LocalDate.class));
+        assertNull(parser.parse("not a date", LocalDate.class));
+        assertNull(parser.parse("", LocalDate.class));
+        assertNull(parser.parse("2024-03-15", String.class));
+    }
+
+    @Test
+    public void acceptsTrailingTextWhenNothingMatchesInFull() {
+        DateParser parser = DateParser.forPattern(null, Locale.US);
+        assertEquals(LocalDate.of(2000, 2, 2), parser.parse("2000-02-02 00:00:00", LocalDate.class));
+    }
+
+    @Test
+    public void prefersFullMatchOverPrefixMatch() {
+        DateParser parser = DateParser.forPattern(null, Locale.US);
+        LocalDateTime expected = LocalDateTime.of(2024, 3, 15, 10, 15, 30);
+        String offset = ZoneId.systemDefault().getRules().getOffset(expected).toString();
+        assertEquals(expected, parser.parse("2024-03-15T10:15:30.000" + offset, LocalDateTime.class));
+        assertEquals("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", parser.getLastPattern());
+    }
+
+    @Test
+    public void remembersLastMatchingPattern() {
+        DateParser parser = DateParser.forPattern(null, Locale.US);
+        parser.parse("15-03-2024", LocalDate.class);
+        assertEquals("dd-MM-yyyy", parser.getLastPattern());
+        assertEquals(LocalDate.of(2024, 4, 1), parser.parse("01-04-2024", LocalDate.class));
+        assertEquals("dd-MM-yyyy", parser.getLastPattern());
+    }
+
+    @Test
+    public void columnPatternIsTriedFirst() {
+        DateParser parser = DateParser.forPattern("dd/MM/yyyy", Locale.US);
+        // also matches MM/dd/yyyy, which comes first in the default patterns
+        assertEquals(LocalDate.of(2024, 4, 3), parser.parse("03/04/2024", LocalDate.class));
+        assertEquals(LocalDate.of(2024, 3, 4), DateParser.forPattern(null, Locale.US).parse("03/04/2024", LocalDate.class));
+    }
+
+    @Test
+    public void columnPatternNotInDefaults() {
+        DateParser parser = DateParser.forPattern("yyyyMMdd HHmm", Locale.US);
+        assertEquals(LocalDateTime.of(2024, 3, 15, 9, 45), parser.parse("20240315 0945", LocalDateTime.class));
+    }
+
+    @Test
+    public void invalidColumnPatternIsIgnored() {
+        DateParser parser = DateParser.forPattern("[invalid", Locale.US);
+        assertEquals(LocalDate.of(2024, 3, 15), parser.parse("2024-03-15", LocalDate.class));
+    }
+
+    @Test
+    public void monthNamesUseLocale() {
+        DateParser parser = DateParser.forPattern("d MMMM yyyy", new Locale("tr"));
+        assertEquals(LocalDate.of(2024, 3, 15), parser.parse("15 Mart 2024", LocalDate.class));
+    }
+
+    @Test
+    public void cellUtilUsesParser() {
+        assertEquals(LocalDate.of(2024, 3, 15), CellUtil.parseDate("15.03.2024", LocalDate.class));
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.r4tylmz.betterpoi.utils;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class NumberParserTest {
+    private static final Locale TURKISH = new Locale("tr", "TR");
+
+    @Test
+    public void parsesJavaSyntax() {
+        NumberParser parser = NumberParser.forLocale(Locale.US);
+        assertEquals(1.5, parser.parse("1.5", Double.class));
+        assertEquals(-42, parser.parse("-42", Integer.class));
+        assertEquals(42L, parser.parse("+42", Long.class));
+        assertEquals(1.5f, parser.parse(" 1.5 ", Float.class));
+        assertEquals(new BigDecimal("12.50"), parser.parse("12.50", BigDecimal.class));
+    }
+
+    @Test
+    public void parsesLocaleSeparators() {
+        assertEquals(1234.5, NumberParser.forLocale(Locale.US).parse("1,234.5", Double.class));
+        assertEquals(1234.5, NumberParser.forLocale(TURKISH).parse("1.234,5", Double.class));
+        assertEquals(-1234.5, NumberParser.forLocale(TURKISH).parse("-1.234,5", Double.class));
+    }
+
+    @Test
+    public void javaSyntaxComesFirst() {
+        NumberParser parser = NumberParser.forLocale(TURKISH);
+        assertEquals(1.5, parser.parse("1.5", Double.class));
+        // integers have no decimal separator in Java syntax, so the dot groups thousands
+        assertEquals(1234, parser.parse("1.234", Integer.class));
+    }
+
+    @Test
+    public void acceptsSpacesForNoBreakSpaceGrouping() {
+        NumberParser parser = NumberParser.forLocale(Locale.FRANCE);
+        assertEquals(1234567.5, parser.parse("1 234 567,5", Double.class));
+        assertEquals(1234567.5, parser.parse("1 234 567,5", Double.class));
+    }
+
+    @Test
+    public void parsesExponent() {
+        NumberParser parser = NumberParser.forLocale(Locale.US);
+        assertEquals(1.5e3, parser.parse("1.5e3", Double.class));
+        assertEquals(1.5e-3, parser.parse("1.5E-3", Double.class));
+        assertEquals(1500L, parser.parse("1.5e3", Long.class));
+    }
+
+    @Test
+    public void keepsDigitsBeyondLongPrecision() {
+        NumberParser parser = NumberParser.forLocale(Locale.US);
+        assertEquals(new BigDecimal("12345678901234567890.123456789"),
+                parser.parse("12345678901234567890.123456789", BigDecimal.class));
+        assertEquals(new BigDecimal("-12345678901234567890"),
+                parser.parse("-12,345,678,901,234,567,890", BigDecimal.class));
+    }
+
+    @Test
+    public void truncatesFractionForIntegralTypes() {
+        NumberParser parser = NumberParser.forLocale(Locale.US);
+        assertEquals(12, parser.parse("12.7", Integer.class));
+        assertEquals(-12L, parser.parse("-12.7", Long.class));
+    }
+
+    @Test
+    public void rejectsValuesThatDoNotFit() {
+        NumberParser parser = NumberParser.forLocale(Locale.US);
+        assertNull(parser.parse("2147483648", Integer.class));
+        assertEquals(2147483648L, parser.parse("2147483648", Long.class));
+        assertNull(parser.parse("9223372036854775808", Long.class));
+    }
+
+    @Test
+    public void reportsWhereTheNumberEnds() {
+        NumberParser parser = NumberParser.forLocale(Locale.US);
+        NumberParseResult result = parser.parse("12abc");
+        assertEquals(NumberParseResult.Status.INVALID, result.getStatus());
+        assertEquals(2, result.getErrorIndex());
+        assertNull(parser.parse("12abc", Integer.class));
+        assertNull(parser.parse("1,,234", Double.class));
+        assertNull(parser.parse("1e", Double.class));
+        assertNull(parser.parse("-", Double.class));
+    }
+
+    @Test
+    public void reportsEmptyText() {
+        NumberParser parser = NumberParser.forLocale(Locale.US);
+        assertEquals(NumberParseResult.Status.EMPTY, parser.parse("  ").getStatus());
+        assertEquals(NumberParseResult.Status.EMPTY, parser.parse(null).getStatus());
+        assertNull(parser.parse("", Double.class));
+    }
+
+    @Test
+    public void cellUtilUsesParser() {
+        assertEquals(Integer.valueOf(42), CellUtil.parseInteger("42"));
+        assertNull(CellUtil.parseDouble("abc"));
+    }
+}
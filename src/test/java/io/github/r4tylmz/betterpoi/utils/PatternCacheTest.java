@@ -0,0 +1,78 @@
+package io.github.r4tylmz.betterpoi.utils;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.junit.Assert.*;
+
+public class PatternCacheTest {
+
+    @Test
+    public void getReturnsSameInstanceAndCountsHits() {
+        PatternCache cache = new PatternCache(8);
+        Pattern first = cache.get("^[A-Z]+$", Pattern.CASE_INSENSITIVE);
+        Pattern second = cache.get("^[A-Z]+$", Pattern.CASE_INSENSITIVE);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void flagsArePartOfTheKey() {
+        PatternCache cache = new PatternCache(8);
+        Pattern insensitive = cache.get("abc", Pattern.CASE_INSENSITIVE);
+        Pattern sensitive = cache.get("abc", 0);
+
+        assertNotSame(insensitive, sensitive);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        PatternCache cache = new PatternCache(4);
+        for (int i = 0; i < 20; i++) {
+            cache.get("value" + i, 0);
+        }
+        assertEquals(4, cache.size());
+        assertEquals(20, cache.getMissCount());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedPattern() {
+        PatternCache cache = new PatternCache(2);
+        Pattern hot = cache.get("hot", 0);
+        cache.get("first", 0);
+        cache.get("hot", 0);
+        cache.get("second", 0);
+
+        assertSame(hot, cache.get("hot", 0));
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void invalidPatternIsNotCached() {
+        PatternCache cache = new PatternCache(4);
+        try {
+            cache.get("[invalid", 0);
+            fail("Expected PatternSyntaxException");
+        } catch (PatternSyntaxException e) {
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Test
+    public void clearResetsCounters() {
+        PatternCache cache = new PatternCache(4);
+        cache.get("abc", 0);
+        cache.get("abc", 0);
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+}
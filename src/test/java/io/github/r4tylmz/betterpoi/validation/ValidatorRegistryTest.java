@@ -0,0 +1,106 @@
+package io.github.r4tylmz.betterpoi.validation;
+
+import io.github.r4tylmz.betterpoi.BPOptions;
+import io.github.r4tylmz.betterpoi.annotation.BPColumn;
+import io.github.r4tylmz.betterpoi.annotation.BPSheet;
+import io.github.r4tylmz.betterpoi.constraint.DefaultConstraint;
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.test.EmployeeWorkbookTest;
+import io.github.r4tylmz.betterpoi.validation.cell.CellHolder;
+import io.github.r4tylmz.betterpoi.validation.cell.CellValidator;
+import io.github.r4tylmz.betterpoi.validation.col.ColHeaderMismatchConstraint;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ValidatorRegistryTest extends EmployeeWorkbookTest {
+    private static final AtomicInteger invocations = new AtomicInteger();
+    private MessageSourceService messageSourceService;
+    private ValidatorRegistry validatorRegistry;
+
+    @Before
+    public void createRegistry() {
+        invocations.set(0);
+        messageSourceService = new MessageSourceService(BPOptions.createDefault());
+        validatorRegistry = new ValidatorRegistry(messageSourceService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private BPColumn mockColumn(Class<? extends CellValidator> validator) {
+        BPColumn bpColumn = Mockito.mock(BPColumn.class);
+        Mockito.when(bpColumn.headerTitle()).thenReturn("Name");
+        Mockito.when(bpColumn.pattern()).thenReturn("");
+        Mockito.when(bpColumn.cellValidators()).thenReturn(new Class[]{validator});
+        return bpColumn;
+    }
+
+    @Test
+    public void testCellValidatorsAreResolvedOnce() {
+        BPColumn bpColumn = mockColumn(CountingValidator.class);
+        List<CellValidator> first = validatorRegistry.getCellValidators(bpColumn);
+        List<CellValidator> second = validatorRegistry.getCellValidators(bpColumn);
+
+        assertSame(first, second);
+        assertEquals(3, first.size());
+        Mockito.verify(bpColumn, Mockito.times(1)).cellValidators();
+    }
+
+    @Test
+    public void testCellValidatorManagerDoesNotAccumulateValidators() {
+        BPColumn bpColumn = mockColumn(CountingValidator.class);
+        CellValidatorManager manager = new CellValidatorManager(null, validatorRegistry);
+        Cell cell = getCell("value");
+
+        for (int i = 0; i < 5; i++) {
+            manager.validate(cell, bpColumn, null);
+        }
+
+        assertEquals(5, invocations.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testColConstraintsAreResolvedOnce() {
+        BPSheet bpSheet = Mockito.mock(BPSheet.class);
+        Mockito.when(bpSheet.colValidators()).thenReturn(new Class[]{DefaultConstraint.class});
+
+        assertSame(validatorRegistry.getColConstraints(bpSheet), validatorRegistry.getColConstraints(bpSheet));
+        assertTrue(validatorRegistry.getColConstraints(bpSheet).get(0) instanceof ColHeaderMismatchConstraint);
+        assertEquals(2, validatorRegistry.getColConstraints(bpSheet).size());
+    }
+
+    @Test
+    public void testColHeaderMismatchConstraintReadsHeadersOfEachSheet() {
+        ColHeaderMismatchConstraint constraint = new ColHeaderMismatchConstraint(messageSourceService);
+        BPSheet bpSheet = Mockito.mock(BPSheet.class);
+        BPColumn bpColumn = mockColumn(DefaultConstraint.class);
+        Mockito.when(bpSheet.columns()).thenReturn(new BPColumn[]{bpColumn});
+
+        Sheet matching = workbook.createSheet("matching");
+        matching.createRow(0).createCell(0).setCellValue("Name");
+        Sheet mismatching = workbook.createSheet("mismatching");
+        mismatching.createRow(0).createCell(0).setCellValue("Other");
+
+        assertTrue(constraint.validate(matching, bpSheet).isEmpty());
+        assertEquals(1, constraint.validate(mismatching, bpSheet).size());
+    }
+
+    public static class CountingValidator implements CellValidator {
+
+        public CountingValidator(MessageSourceService messageSourceService) {
+        }
+
+        @Override
+        public String validate(CellHolder cellHolder) {
+            invocations.incrementAndGet();
+            return null;
+        }
+    }
+}
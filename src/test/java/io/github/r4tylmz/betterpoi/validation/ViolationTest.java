@@ -0,0 +1,74 @@
+package io.github.r4tylmz.betterpoi.validation;
+
+import io.github.r4tylmz.betterpoi.exception.BPValidationException;
+import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.validation.cell.RequiredValidator;
+import io.github.r4tylmz.betterpoi.validation.row.DuplicateRowConstraint;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ViolationTest {
+    private MessageSourceService messageSourceService;
+
+    @Before
+    public void createMessageSource() {
+        messageSourceService = new MessageSourceService(Locale.ENGLISH);
+    }
+
+    @Test
+    public void rendersConstraintViolationsAsOneMessage() {
+        List<Violation> violations = Arrays.asList(
+                Violation.ofCell("Ledger", 4, 0, "Code", "code", RequiredValidator.class, "required", messageSourceService),
+                Violation.ofRow("Ledger", 7, DuplicateRowConstraint.class, "duplicate", false, messageSourceService),
+                Violation.ofRow("Ledger", 9, DuplicateRowConstraint.class, "duplicate", true, messageSourceService),
+                Violation.ofColumn("Ledger", 1, DuplicateRowConstraint.class, "header", false, messageSourceService));
+
+        assertEquals(Arrays.asList(
+                "Row: 5 | Column: Code | ERROR: required",
+                "Row: 8 | ERROR: duplicateRow: 10 | ERROR: duplicate",
+                "Column: 2 | ERROR: header\n"), Violation.renderMessages(violations));
+    }
+
+    @Test
+    public void rendersMessageKeyOfRuleWhenRequested() {
+        Violation violation = Violation.ofCell("Ledger", 4, 0, "Code", "code", RequiredValidator.class,
+                RuleMessage.of("required.validation.error", "Code"), messageSourceService);
+        assertEquals("required.validation.error", violation.getMessageKey());
+        assertArrayEquals(new Object[]{"Code"}, violation.getMessageArguments());
+        assertEquals(messageSourceService.getMessage("required.validation.error", "Code"), violation.getRuleMessage());
+        assertEquals("Row: 5 | Column: Code | ERROR: "
+                + messageSourceService.getMessage("required.validation.error", "Code"), violation.getMessage());
+
+        Violation textViolation = Violation.ofCell("Ledger", 4, 0, "Code", "code", RequiredValidator.class,
+                "required", messageSourceService);
+        assertNull(textViolation.getMessageKey());
+        assertEquals(0, textViolation.getMessageArguments().length);
+        assertEquals("required", textViolation.getRuleMessage());
+    }
+
+    @Test
+    public void createsValidationErrorWithCoordinates() {
+        BPValidationException.ValidationError cellError = Violation.ofCell("Ledger", 4, 0, "Code", "code",
+                RequiredValidator.class, "required", messageSourceService).toValidationError();
+        assertEquals("Ledger", cellError.getSheetName());
+        assertEquals(Integer.valueOf(5), cellError.getRowNumber());
+        assertEquals(Integer.valueOf(1), cellError.getColumnNumber());
+        assertEquals("code", cellError.getFieldName());
+        assertEquals(RequiredValidator.class.getName(), cellError.getErrorCode());
+        assertEquals("Row: 5 | Column: Code | ERROR: required", cellError.getErrorMessage());
+
+        BPValidationException.ValidationError sheetError = Violation.ofSheet("Ledger", "sheet.not.found.error",
+                messageSourceService).toValidationError();
+        assertNull(sheetError.getRowNumber());
+        assertNull(sheetError.getColumnNumber());
+        assertEquals(messageSourceService.getMessage("sheet.not.found.error", "Ledger"), sheetError.getErrorMessage());
+    }
+}
@@ -3,6 +3,7 @@ package io.github.r4tylmz.betterpoi.validation.cell;
 import io.github.r4tylmz.betterpoi.BPOptions;
 import io.github.r4tylmz.betterpoi.annotation.BPColumn;
 import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.validation.RuleMessage;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -35,6 +36,14 @@ public class PatternValidatorTest {
         assertNull(msg);
     }
 
+    @Test
+    public void testCheck_notMatch() {
+        final RuleMessage msg = patternValidator.check(getCellHolder("test value", "xxxx"));
+        assertEquals("pattern.validation.error", msg.getKey());
+        assertArrayEquals(new Object[]{"test value", "xxxx"}, msg.getArguments());
+        assertNull(patternValidator.check(getCellHolder("123456", "[0-9]*")));
+    }
+
     @Test
     public void testValidate_emptyPattern() {
         CellHolder cellHolder = getCellHolder("test value", "");
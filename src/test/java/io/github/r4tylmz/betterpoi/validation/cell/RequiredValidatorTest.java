@@ -3,6 +3,7 @@ package io.github.r4tylmz.betterpoi.validation.cell;
 import io.github.r4tylmz.betterpoi.BPOptions;
 import io.github.r4tylmz.betterpoi.annotation.BPColumn;
 import io.github.r4tylmz.betterpoi.i18n.MessageSourceService;
+import io.github.r4tylmz.betterpoi.validation.RuleMessage;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -36,6 +37,18 @@ public class RequiredValidatorTest {
         assertEquals(messageSourceService.getMessage("required.validation.error", cellHolder.getBpColumn().headerTitle()), msg);
     }
 
+    @Test
+    public void testCheck_usesHeaderTitleOfHolder() {
+        CellHolder cellHolder = getCellHolder("", true);
+        cellHolder.setHeaderTitle("Resolved title");
+        final RuleMessage msg = requiredValidator.check(cellHolder);
+        assertEquals("required.validation.error", msg.getKey());
+        assertArrayEquals(new Object[]{"Resolved title"}, msg.getArguments());
+        assertEquals(messageSourceService.getMessage("required.validation.error", "Resolved title"),
+                msg.render(messageSourceService));
+        assertNull(requiredValidator.check(getCellHolder("value", true)));
+    }
+
     @Test
     public void testValidate_notRequired() {
         CellHolder cellHolder = getCellHolder("test value", false);
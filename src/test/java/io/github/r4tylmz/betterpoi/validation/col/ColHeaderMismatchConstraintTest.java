@@ -14,6 +14,7 @@ import org.mockito.Mockito;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class ColHeaderMismatchConstraintTest extends EmployeeWorkbookTest {
     public MessageSourceService messageSourceService;
@@ -107,4 +108,28 @@ public class ColHeaderMismatchConstraintTest extends EmployeeWorkbookTest {
         System.out.println(errorMap);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testOnComplete_reportsMissingHeaderOfIncrementalSheet() {
+        String[] headers = {"header1", "header2"};
+        Sheet sheet = getSheetWithHeaders(headers);
+        BPSheet bpSheet = Mockito.mock(BPSheet.class);
+        BPColumn bpColumn1 = Mockito.mock(BPColumn.class);
+        Mockito.when(bpColumn1.headerTitle()).thenReturn("header1");
+        BPColumn bpColumn2 = Mockito.mock(BPColumn.class);
+        Mockito.when(bpColumn2.headerTitle()).thenReturn("header3");
+        BPColumn[] bpColumns = {bpColumn1, bpColumn2};
+        Mockito.when(bpSheet.columns()).thenReturn(bpColumns);
+
+        colHeaderMismatchConstraint.onHeader(sheet.getRow(0), bpSheet);
+        sheet.getRow(0).getCell(1).setCellValue("header3");
+        colHeaderMismatchConstraint.onRow(sheet.createRow(1), bpSheet);
+        Map<Integer, String> errorMap = colHeaderMismatchConstraint.onComplete(bpSheet);
+        assertEquals(1, errorMap.size());
+        assertTrue(errorMap.containsKey(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOnComplete_rejectsSheetWithoutHeader() {
+        colHeaderMismatchConstraint.onComplete(Mockito.mock(BPSheet.class));
+    }
+}
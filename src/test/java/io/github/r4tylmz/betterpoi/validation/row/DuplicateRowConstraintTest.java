@@ -12,9 +12,13 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class DuplicateRowConstraintTest extends EmployeeWorkbookTest {
     public MessageSourceService messageSourceService;
@@ -141,4 +145,114 @@ public class DuplicateRowConstraintTest extends EmployeeWorkbookTest {
         Map<Integer, String> errorMap = duplicateRowConstraint.validate(sheet, bpSheet);
         assertEquals(0, errorMap.size());
     }
-}
\ No newline at end of file
+
+    private BPSheet mockSheet(int colSize) {
+        BPSheet bpSheet = Mockito.mock(BPSheet.class);
+        BPColumn[] bpColumns = new BPColumn[colSize];
+        for (int i = 0; i < colSize; i++) {
+            bpColumns[i] = Mockito.mock(BPColumn.class);
+        }
+        Mockito.when(bpSheet.columns()).thenReturn(bpColumns);
+        return bpSheet;
+    }
+
+    @Test
+    public void validate_reportsEveryRepeatedRowOfALargeSheet() {
+        Sheet sheet = getSheetWithHeaders(new String[]{"code", "amount"});
+        for (int i = 1; i <= 5000; i++) {
+            Row row = sheet.createRow(i);
+            row.createCell(0).setCellValue("code " + i % 1000);
+            row.createCell(1).setCellValue(i % 1000);
+        }
+
+        Map<Integer, String> errorMap = duplicateRowConstraint.validate(sheet, mockSheet(2));
+        assertEquals(4000, errorMap.size());
+        assertFalse(errorMap.containsKey(999));
+        assertTrue(errorMap.containsKey(1001));
+    }
+
+    @Test
+    public void validate_comparesTypedValuesByPosition() {
+        Sheet sheet = getSheetWithHeaders(new String[]{"first", "second"});
+        Row text = sheet.createRow(1);
+        text.createCell(0).setCellValue("1");
+        Row number = sheet.createRow(2);
+        number.createCell(0).setCellValue(1);
+        Row shifted = sheet.createRow(3);
+        shifted.createCell(1).setCellValue(1);
+        Row withBlank = sheet.createRow(4);
+        withBlank.createCell(0).setCellValue(1);
+        withBlank.createCell(1).setBlank();
+
+        Map<Integer, String> errorMap = duplicateRowConstraint.validate(sheet, mockSheet(2));
+        assertEquals(1, errorMap.size());
+        assertTrue(errorMap.containsKey(4));
+    }
+
+    @Test
+    public void validate_skipsMissingRows() {
+        Sheet sheet = getSheetWithHeaders(new String[]{"header1"});
+        sheet.createRow(1).createCell(0).setCellValue("value");
+        sheet.createRow(5).createCell(0).setCellValue("value");
+
+        Map<Integer, String> errorMap = duplicateRowConstraint.validate(sheet, mockSheet(1));
+        assertEquals(1, errorMap.size());
+        assertTrue(errorMap.containsKey(5));
+    }
+
+    @Test
+    public void merge_reportsRowsRepeatedAcrossChunks() {
+        Sheet sheet = getSheetWithHeaders(new String[]{"code", "amount"});
+        for (int i = 1; i <= 2000; i++) {
+            if (i % 97 == 0) continue;
+            Row row = sheet.createRow(i);
+            row.createCell(0).setCellValue("code " + i % 300);
+            row.createCell(1).setCellValue(i % 300);
+        }
+        BPSheet bpSheet = mockSheet(2);
+        List<long[]> chunks = new ArrayList<>();
+        for (int first = 1; first <= sheet.getLastRowNum(); first += 128) {
+            chunks.add(duplicateRowConstraint.scan(sheet, first, Math.min(sheet.getLastRowNum(), first + 127), bpSheet));
+        }
+
+        Map<Integer, String> errorMap = duplicateRowConstraint.merge(sheet, chunks, bpSheet);
+        assertEquals(duplicateRowConstraint.validate(sheet, bpSheet), errorMap);
+        assertFalse(errorMap.containsKey(299));
+        assertTrue(errorMap.containsKey(301));
+    }
+
+    @Test
+    public void onRow_reportsRepeatedRowsOfIncrementalSheet() {
+        Sheet sheet = getSheetWithHeaders(new String[]{"code", "amount"});
+        BPSheet bpSheet = mockSheet(2);
+        duplicateRowConstraint.onHeader(sheet.getRow(0), bpSheet);
+        Row row = sheet.createRow(1);
+        for (int i = 1; i <= 3000; i++) {
+            row.setRowNum(i);
+            row.createCell(0).setCellValue("code " + i % 1000);
+            row.createCell(1).setCellValue(i % 1000);
+            duplicateRowConstraint.onRow(row, bpSheet);
+        }
+
+        Map<Integer, String> errorMap = duplicateRowConstraint.onComplete(bpSheet);
+        assertEquals(2000, errorMap.size());
+        assertFalse(errorMap.containsKey(1000));
+        assertTrue(errorMap.containsKey(1001));
+        assertEquals(messageSourceService.getMessage("duplicate.row.error"), errorMap.get(3000));
+    }
+
+    @Test
+    public void onHeader_resetsRowsOfPreviousSheet() {
+        Sheet sheet = getSheetWithHeaders(new String[]{"header1"});
+        BPSheet bpSheet = mockSheet(1);
+        Row row = sheet.createRow(1);
+        row.createCell(0).setCellValue("value");
+        duplicateRowConstraint.onHeader(sheet.getRow(0), bpSheet);
+        duplicateRowConstraint.onRow(row, bpSheet);
+        assertTrue(duplicateRowConstraint.onComplete(bpSheet).isEmpty());
+
+        duplicateRowConstraint.onHeader(sheet.getRow(0), bpSheet);
+        duplicateRowConstraint.onRow(row, bpSheet);
+        assertTrue(duplicateRowConstraint.onComplete(bpSheet).isEmpty());
+    }
+}
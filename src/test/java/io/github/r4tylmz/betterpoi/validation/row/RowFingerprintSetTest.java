@@ -0,0 +1,30 @@
+package io.github.r4tylmz.betterpoi.validation.row;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class RowFingerprintSetTest {
+
+    @Test
+    public void returnsTheFirstRowWithAnEqualFingerprint() {
+        RowFingerprintSet set = new RowFingerprintSet(0);
+        for (int i = 1; i <= 10000; i++) {
+            assertEquals(-1, set.addIfAbsent(i * 0x9e3779b97f4a7c15L, i, i, null));
+        }
+        assertEquals(10000, set.size());
+        for (int i = 1; i <= 10000; i++) {
+            assertEquals(i, set.addIfAbsent(i * 0x9e3779b97f4a7c15L, i, 20000 + i, null));
+        }
+        assertEquals(10000, set.size());
+    }
+
+    @Test
+    public void keepsRowsWhoseFingerprintsCollide() {
+        RowFingerprintSet set = new RowFingerprintSet(4);
+        assertEquals(-1, set.addIfAbsent(42, 7, 1, other -> false));
+        assertEquals(-1, set.addIfAbsent(42, 7, 2, other -> false));
+        assertEquals(2, set.addIfAbsent(42, 7, 3, other -> other == 2));
+        assertEquals(2, set.size());
+    }
+}